@@ -0,0 +1,88 @@
+/*
+ * AdaptiveOrderStress.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZZZ_Result;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+
+@JCStressTest
+@Description("Scanning IP ranges in adaptive order while hits are recorded and the order is recomputed")
+@Outcome(id = "true, false, true, true", expect = Expect.ACCEPTABLE, desc = "Both scans find the right result, and the hot IP range ends up first")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A scan sees an incomplete order, or the order is corrupted")
+@State
+@SuppressWarnings({ "javadoc", "nls" })
+public class AdaptiveOrderStress {
+
+    private static final List<IPv4Range> IP_RANGES = Arrays.asList(
+            IPv4Subnet.valueOf("10.0.0.0/8"),
+            IPv4Subnet.valueOf("172.16.0.0/12"),
+            IPv4Subnet.valueOf("192.168.0.0/16"));
+
+    private static final int HOT_RANGE = 2;
+
+    private static final int ADDRESS_1 = IPv4Address.valueOf("10.0.0.1").toInt();
+    private static final int ADDRESS_2 = IPv4Address.valueOf("172.32.0.0").toInt();
+    private static final int ADDRESS_3 = IPv4Address.valueOf("192.168.1.1").toInt();
+
+    private final IPv4RangeIndex index;
+
+    public AdaptiveOrderStress() {
+        index = IPv4RangeIndex.of(IP_RANGES, Integer.MAX_VALUE, Integer.MAX_VALUE, IP_RANGES.size());
+        // hits are sampled, so record enough of them to be sure that some are counted
+        for (int i = 0; i < 4096; i++) {
+            index.adaptiveOrder().recordHit(HOT_RANGE);
+        }
+    }
+
+    @Actor
+    public void reorderer() {
+        AdaptiveOrder adaptiveOrder = index.adaptiveOrder();
+        adaptiveOrder.recordHit(HOT_RANGE);
+        adaptiveOrder.reorder();
+    }
+
+    @Actor
+    public void scanner1(ZZZZ_Result r) {
+        r.r1 = index.contains(ADDRESS_1);
+        r.r2 = index.contains(ADDRESS_2);
+    }
+
+    @Actor
+    public void scanner2(ZZZZ_Result r) {
+        r.r3 = index.contains(ADDRESS_3);
+    }
+
+    @Arbiter
+    public void arbiter(ZZZZ_Result r) {
+        int[] order = index.adaptiveOrder().order();
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+        r.r4 = Arrays.equals(new int[] { 0, 1, 2 }, sorted) && order[0] == HOT_RANGE;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * CompiledConstraintCacheStress.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZZ_Result;
+import com.github.robtimus.net.ip.validation.IPv4Address;
+
+@JCStressTest
+@Description("Concurrent initialization of validators for equal constraint annotations through a shared cache")
+@Outcome(id = "true, true, true", expect = Expect.ACCEPTABLE, desc = "Both validators share the same compiled constraint")
+@Outcome(expect = Expect.FORBIDDEN, desc = "The constraint annotation was compiled more than once, or a validator is broken")
+@State
+@SuppressWarnings({ "javadoc", "nls" })
+public class CompiledConstraintCacheStress {
+
+    private final CompiledConstraintCache cache = new CompiledConstraintCache(false);
+    private final IPv4Address constraintAnnotation = StressConstraints.ipv4();
+
+    private CompiledConstraintHolder holder1;
+    private CompiledConstraintHolder holder2;
+
+    @Actor
+    public void actor1(ZZZ_Result r) {
+        CharSequenceIPv4AddressValidator validator = new CharSequenceIPv4AddressValidator(cache);
+        validator.initialize(constraintAnnotation);
+        r.r1 = validator.isValid("192.168.0.1", null);
+        holder1 = cache.get(constraintAnnotation, IPv4AddressValidator::compile);
+    }
+
+    @Actor
+    public void actor2(ZZZ_Result r) {
+        IPAddressIPv4AddressValidator validator = new IPAddressIPv4AddressValidator(cache);
+        validator.initialize(constraintAnnotation);
+        r.r2 = validator.isValid(com.github.robtimus.net.ip.IPv4Address.valueOf("10.0.0.1"), null);
+        holder2 = cache.get(constraintAnnotation, IPv4AddressValidator::compile);
+    }
+
+    @Arbiter
+    public void arbiter(ZZZ_Result r) {
+        r.r3 = holder1 == holder2 && cache.size() == 1;
+    }
+}
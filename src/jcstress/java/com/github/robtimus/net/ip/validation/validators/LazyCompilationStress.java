@@ -0,0 +1,54 @@
+/*
+ * LazyCompilationStress.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZZZ_Result;
+
+@JCStressTest
+@Description("Concurrent first validations of a freshly initialized validator with lazily compiled IP ranges")
+@Outcome(id = "true, false, true, false", expect = Expect.ACCEPTABLE, desc = "Both threads see fully compiled IP ranges")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A thread sees partially compiled IP ranges")
+@State
+@SuppressWarnings({ "javadoc", "nls" })
+public class LazyCompilationStress {
+
+    private final CharSequenceIPv4AddressValidator validator;
+
+    public LazyCompilationStress() {
+        validator = new CharSequenceIPv4AddressValidator(new CompiledConstraintCache(true));
+        validator.initialize(StressConstraints.ipv4());
+    }
+
+    @Actor
+    public void actor1(ZZZZ_Result r) {
+        r.r1 = validator.isValid("192.168.0.1", null);
+        r.r2 = validator.isValid("192.168.0.129", null);
+    }
+
+    @Actor
+    public void actor2(ZZZZ_Result r) {
+        r.r3 = validator.isValid("10.0.0.1", null);
+        r.r4 = validator.isValid("10.0.0.2", null);
+    }
+}
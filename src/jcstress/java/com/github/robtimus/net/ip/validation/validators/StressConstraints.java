@@ -0,0 +1,49 @@
+/*
+ * StressConstraints.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.lang.annotation.Annotation;
+import com.github.robtimus.net.ip.validation.IPv4Address;
+
+/**
+ * Constraint annotations for stress tests.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+final class StressConstraints {
+
+    // use a custom message, so validators don't need a context to report violations
+    @IPv4Address(ipRanges = { "192.168.0.0/24", "10.0.0.1/32" }, excludedIPRanges = "192.168.0.128/25", message = "invalid")
+    private CharSequence ipv4;
+
+    private StressConstraints() {
+    }
+
+    static IPv4Address ipv4() {
+        return annotation("ipv4", IPv4Address.class);
+    }
+
+    private static <A extends Annotation> A annotation(String fieldName, Class<A> annotationType) {
+        try {
+            return StressConstraints.class.getDeclaredField(fieldName).getAnnotation(annotationType);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
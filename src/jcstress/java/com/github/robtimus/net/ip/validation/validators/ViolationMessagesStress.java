@@ -0,0 +1,64 @@
+/*
+ * ViolationMessagesStress.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Map;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZZ_Result;
+
+@JCStressTest
+@Description("Concurrent resolution of the same precomputed violation message")
+@Outcome(id = "true, true, true", expect = Expect.ACCEPTABLE, desc = "Both threads see the same fully interpolated message")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A thread sees a partially interpolated message, or the message was cached more than once")
+@State
+@SuppressWarnings({ "javadoc", "nls" })
+public class ViolationMessagesStress {
+
+    private static final String DEFAULT_MESSAGE = "{com.github.robtimus.net.ip.validation.IPv4Address.message}";
+    private static final String MESSAGE_TEMPLATE = "{com.github.robtimus.net.ip.validation.IPv4Address.message.withIPRanges}";
+    private static final String EXPECTED_MESSAGE = "must be an IPv4 address in one of [192.168.0.0/24]";
+
+    private final ViolationMessages messages = ViolationMessages.of(DEFAULT_MESSAGE, DEFAULT_MESSAGE,
+            Map.of("ipRanges", new String[] { "192.168.0.0/24" }), true);
+
+    private String message1;
+    private String message2;
+
+    @Actor
+    public void actor1(ZZZ_Result r) {
+        message1 = messages.message(MESSAGE_TEMPLATE);
+        r.r1 = EXPECTED_MESSAGE.equals(message1);
+    }
+
+    @Actor
+    public void actor2(ZZZ_Result r) {
+        message2 = messages.message(MESSAGE_TEMPLATE);
+        r.r2 = EXPECTED_MESSAGE.equals(message2);
+    }
+
+    @Arbiter
+    public void arbiter(ZZZ_Result r) {
+        r.r3 = message1 == message2;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * BenchmarkBeans.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import java.util.List;
+
+/**
+ * Beans for benchmarks.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+final class BenchmarkBeans {
+
+    /** The number of violations of {@link #invalidConfig()}. */
+    static final int INVALID_VIOLATIONS = 7;
+
+    private BenchmarkBeans() {
+    }
+
+    static NetworkConfig validConfig() {
+        return new NetworkConfig("0.0.0.0", "10.0.0.1", "2001:db8::1", List.of("10.0.0.53", "10.0.1.53"), "10.0.0.123, 2001:db8::123",
+                "10.1.0.1", com.github.robtimus.net.ip.IPv4Address.valueOf("10.0.0.10"));
+    }
+
+    static NetworkConfig invalidConfig() {
+        return new NetworkConfig("localhost", "10.255.255.1", "fe80::1", List.of("10.0.0.53", "8.8.8.8"), "10.0.0.123;10.0.1.123",
+                "10.0.0.1", com.github.robtimus.net.ip.IPv4Address.valueOf("192.168.0.10"));
+    }
+
+    /**
+     * A DTO as it could be received by a REST API, with IP address constraints of each kind, on lists and repeated.
+     */
+    static final class NetworkConfig {
+
+        @IPAddress
+        private final String bindAddress;
+
+        @IPv4Address(ipRanges = { "10.0.0.0/8", "192.168.0.0/16" }, excludedIPRanges = "10.255.255.0/24")
+        private final String gateway;
+
+        @IPv6Address(ipRanges = "2001:db8::/32")
+        private final String ipv6Gateway;
+
+        private final List<@IPv4Address(ipRanges = "10.0.0.0/8") String> dnsServers;
+
+        @IPAddressList(maxElements = 4)
+        private final String ntpServers;
+
+        @IPAddress(ipRanges = "10.0.0.0/8")
+        @IPAddress(excludedIPRanges = "10.0.0.0/24")
+        private final String managementAddress;
+
+        @IPv4Address(ipRanges = "10.0.0.0/8")
+        private final com.github.robtimus.net.ip.IPv4Address loadBalancer;
+
+        private NetworkConfig(String bindAddress, String gateway, String ipv6Gateway, List<String> dnsServers, String ntpServers,
+                String managementAddress, com.github.robtimus.net.ip.IPv4Address loadBalancer) {
+
+            this.bindAddress = bindAddress;
+            this.gateway = gateway;
+            this.ipv6Gateway = ipv6Gateway;
+            this.dnsServers = dnsServers;
+            this.ntpServers = ntpServers;
+            this.managementAddress = managementAddress;
+            this.loadBalancer = loadBalancer;
+        }
+    }
+}
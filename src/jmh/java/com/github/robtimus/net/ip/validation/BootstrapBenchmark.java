@@ -0,0 +1,78 @@
+/*
+ * BootstrapBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import java.util.concurrent.TimeUnit;
+import jakarta.validation.Configuration;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.net.ip.validation.validators.IPConstraintMappingContributor;
+import com.github.robtimus.net.ip.validation.validators.IPConstraintValidatorFactory;
+
+/**
+ * Measures the cold start of validation through Hibernate Validator: creating a validator factory and validating the first bean, in a
+ * fresh JVM. Each fork performs a single operation without any warm-up, so the result includes class loading, metadata discovery and
+ * the compilation of constraints, like the first request of a serverless function.
+ * <p>
+ * This benchmark is not run by {@link ScalingBenchmarkRunner}, as a single cold start does not scale across threads.
+ *
+ * @author Rob Spoor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@Threads(1)
+@SuppressWarnings({ "javadoc", "nls" })
+public class BootstrapBenchmark {
+
+    /**
+     * {@code DEFAULT} uses the default setup, {@code FACTORY} adds an {@link IPConstraintValidatorFactory}, and {@code CONTRIBUTOR} adds an
+     * {@link IPConstraintValidatorFactory} and an {@link IPConstraintMappingContributor}.
+     */
+    @Param({ "DEFAULT", "FACTORY", "CONTRIBUTOR" })
+    public String setup;
+
+    @Benchmark
+    public int bootstrapAndValidate() {
+        Configuration<?> configuration = ValidatorFactories.configuration();
+        if (!"DEFAULT".equals(setup)) {
+            configuration.constraintValidatorFactory(new IPConstraintValidatorFactory(configuration.getDefaultConstraintValidatorFactory()));
+        }
+        if ("CONTRIBUTOR".equals(setup)) {
+            configuration.addProperty(HibernateValidatorConfiguration.CONSTRAINT_MAPPING_CONTRIBUTORS,
+                    IPConstraintMappingContributor.class.getName());
+        }
+        try (ValidatorFactory validatorFactory = configuration.buildValidatorFactory()) {
+            return validatorFactory.getValidator().validate(BenchmarkBeans.validConfig()).size();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * ScalingBenchmarkRunner.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks once for each of a number of thread counts, and reports how throughput scales with the number of threads.
+ * <p>
+ * The arguments are, in order and all optional:
+ * <ol>
+ *   <li>A regular expression to select the benchmarks to run. The default is to run all benchmarks.</li>
+ *   <li>The thread counts, separated by commas. The default is {@code 1,2,4,8,16,32,64}.</li>
+ *   <li>The directory to write the JMH results and the scaling report to. The default is {@code target/jmh-results}.</li>
+ * </ol>
+ * For each benchmark and combination of parameters, the report contains the total throughput, the scaling efficiency compared to the
+ * lowest thread count, and the number of bytes allocated per operation. Thread counts up to the number of available processors where
+ * the efficiency drops below {@value #CONTENTION_THRESHOLD} are flagged as possible contention points. Beyond the number of available
+ * processors throughput is not expected to increase, so these thread counts are never flagged.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings({ "javadoc", "nls" })
+public final class ScalingBenchmarkRunner {
+
+    private static final double CONTENTION_THRESHOLD = 0.5;
+
+    private static final int[] DEFAULT_THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    private static final String ALLOCATION_PER_OPERATION = "gc.alloc.rate.norm";
+
+    private ScalingBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = args.length > 0 ? args[0] : ".*";
+        int[] threadCounts = args.length > 1 ? Arrays.stream(args[1].split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray()
+                : DEFAULT_THREADS;
+        Path resultDirectory = Paths.get(args.length > 2 ? args[2] : "target/jmh-results");
+        Files.createDirectories(resultDirectory);
+
+        // benchmark + parameters -> thread count -> result
+        Map<String, Map<Integer, RunResult>> results = new TreeMap<>();
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .exclude(BootstrapBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultDirectory.resolve("threads-" + threads + ".json").toString())
+                    .build();
+            for (RunResult result : new Runner(options).run()) {
+                results.computeIfAbsent(key(result.getParams()), k -> new TreeMap<>()).put(threads, result);
+            }
+        }
+
+        String report = report(results);
+        System.out.println(report);
+        Files.write(resultDirectory.resolve("scaling.txt"), report.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String key(BenchmarkParams params) {
+        StringJoiner joiner = new StringJoiner(", ", " (", ")");
+        joiner.setEmptyValue("");
+        for (String param : params.getParamsKeys()) {
+            joiner.add(param + "=" + params.getParam(param));
+        }
+        return params.getBenchmark() + joiner;
+    }
+
+    private static String report(Map<String, Map<Integer, RunResult>> results) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        StringWriter output = new StringWriter();
+        PrintWriter writer = new PrintWriter(output);
+        writer.printf("Scaling report, %d available processors%n", processors);
+        boolean contention = false;
+        for (Map.Entry<String, Map<Integer, RunResult>> entry : results.entrySet()) {
+            writer.printf("%n%s%n", entry.getKey());
+            writer.printf("%8s %16s %10s %12s%n", "threads", "ops/s", "efficiency", "B/op");
+
+            double baselinePerThread = Double.NaN;
+            for (Map.Entry<Integer, RunResult> threadResult : entry.getValue().entrySet()) {
+                int threads = threadResult.getKey();
+                RunResult result = threadResult.getValue();
+
+                double score = result.getPrimaryResult().getScore();
+                if (Double.isNaN(baselinePerThread)) {
+                    baselinePerThread = score / threads;
+                }
+                double efficiency = score / threads / baselinePerThread;
+                Result allocation = result.getSecondaryResults().get(ALLOCATION_PER_OPERATION);
+                double bytesPerOperation = allocation != null ? allocation.getScore() : Double.NaN;
+
+                boolean flagged = threads <= processors && efficiency < CONTENTION_THRESHOLD;
+                contention |= flagged;
+                writer.printf("%8d %16.0f %10.2f %12.1f%s%n", threads, score, efficiency, bytesPerOperation,
+                        flagged ? "  <-- possible contention" : "");
+            }
+        }
+        if (contention) {
+            writer.printf("%nRun the flagged configurations with -prof stack, or with Java Flight Recorder, to find where threads wait.%n");
+        }
+        writer.flush();
+        return output.toString();
+    }
+}
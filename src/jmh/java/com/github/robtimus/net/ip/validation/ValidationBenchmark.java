@@ -0,0 +1,110 @@
+/*
+ * ValidationBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.net.ip.validation.BenchmarkBeans.NetworkConfig;
+
+/**
+ * Validates entire beans through Hibernate Validator, like applications do. All threads share the same validator and beans,
+ * so any state that is shared between validations shows up as reduced scaling when the number of threads increases.
+ * <p>
+ * Each benchmark operation validates exactly one bean, so the normalized allocation rate reported by the GC profiler is the allocation
+ * per bean.
+ *
+ * @author Rob Spoor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({ "javadoc", "nls" })
+public class ValidationBenchmark {
+
+    private static final String SETTINGS_PREFIX = "com.github.robtimus.net.ip.validation.";
+
+    @Param({ "false", "true" })
+    public boolean lazyCompilation;
+
+    @Param({ "false", "true" })
+    public boolean precomputedMessages;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private NetworkConfig validConfig;
+    private NetworkConfig invalidConfig;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // settings are read once per JVM, when the first constraint is initialized; each trial runs in its own fork
+        System.setProperty(SETTINGS_PREFIX + "lazyCompilation", Boolean.toString(lazyCompilation));
+        System.setProperty(SETTINGS_PREFIX + "precomputedMessages", Boolean.toString(precomputedMessages));
+
+        // the same setup as the tests use
+        validatorFactory = ValidatorFactories.validatorFactory();
+        validator = validatorFactory.getValidator();
+
+        validConfig = BenchmarkBeans.validConfig();
+        invalidConfig = BenchmarkBeans.invalidConfig();
+
+        int validViolations = validator.validate(validConfig).size();
+        if (validViolations != 0) {
+            throw new IllegalStateException("expected no violations for the valid bean, got " + validViolations);
+        }
+        int invalidViolations = validator.validate(invalidConfig).size();
+        if (invalidViolations != BenchmarkBeans.INVALID_VIOLATIONS) {
+            throw new IllegalStateException("expected " + BenchmarkBeans.INVALID_VIOLATIONS + " violations for the invalid bean, got "
+                    + invalidViolations);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<NetworkConfig>> validateValidBean() {
+        return validator.validate(validConfig);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<NetworkConfig>> validateInvalidBean() {
+        return validator.validate(invalidConfig);
+    }
+}
@@ -37,8 +37,11 @@ import com.github.robtimus.net.ip.validation.validators.IPAddressIPAddressValida
 /**
  * Validates the annotated {@link CharSequence} is an IP address.
  * <p>
- * The {@link #ipRanges()} parameter allows filtering on IP ranges. For this reason, this annotation can also be applied to
- * {@link com.github.robtimus.net.ip.IPAddress IPAddresses}. If it is left empty, any IP address will be considered valid.
+ * The {@link #ipRanges()} and {@link #namedIPRanges()} parameters allow filtering on IP ranges. For this reason, this annotation can also be
+ * applied to {@link com.github.robtimus.net.ip.IPAddress IPAddresses}. If both are left empty, any IP address will be considered valid.
+ * <p>
+ * The {@link #excludedIPRanges()} and {@link #excludedNamedIPRanges()} parameters allow excluding IP ranges.
+ * An IP address that is contained in any of these is not valid, regardless of the other parameters.
  *
  * @author Rob Spoor
  */
@@ -72,6 +75,29 @@ public @interface IPAddress {
      */
     String[] ipRanges() default {};
 
+    /**
+     * The optional names of IP ranges to filter on. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * If both {@link #ipRanges()} and this parameter are given, an IP address is valid if it is contained in at least one of the IP ranges
+     * of either of the two.
+     * A name for which no IP ranges are registered contains no IP addresses.
+     */
+    String[] namedIPRanges() default {};
+
+    /**
+     * The optional IP ranges to exclude. An IP address that is contained in any of these IP ranges is not valid,
+     * even if it is contained in any of the IP ranges of {@link #ipRanges()} or {@link #namedIPRanges()}.
+     * The same format as for {@link #ipRanges()} applies.
+     */
+    String[] excludedIPRanges() default {};
+
+    /**
+     * The optional names of IP ranges to exclude. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * An IP address that is contained in any of these IP ranges is not valid.
+     */
+    String[] excludedNamedIPRanges() default {};
+
     /**
      * Defines several {@link IPAddress} annotations on the same element.
      */
@@ -0,0 +1,147 @@
+/*
+ * IPAddressList.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import com.github.robtimus.net.ip.validation.IPAddressList.List;
+import com.github.robtimus.net.ip.validation.validators.CharSequenceIPAddressListValidator;
+
+/**
+ * Validates the annotated {@link CharSequence} is a list of IP addresses, separated by {@link #separator()}.
+ * Whitespace around the IP addresses is ignored. This can be used for values like the {@code X-Forwarded-For} HTTP header.
+ * Each element must be a valid IP address, and the list may not contain more than {@link #maxElements()} elements.
+ * <p>
+ * The {@link #ipRanges()} and {@link #namedIPRanges()} parameters allow filtering on IP ranges. If both are left empty, any IP address will
+ * be considered valid. Which IP addresses are filtered is determined by {@link #elements()}.
+ * <p>
+ * The {@link #excludedIPRanges()} and {@link #excludedNamedIPRanges()} parameters allow excluding IP ranges.
+ * If any of the filtered IP addresses is contained in any of these, the list is not valid, regardless of the other parameters.
+ *
+ * @author Rob Spoor
+ */
+@Documented
+@Constraint(validatedBy = CharSequenceIPAddressListValidator.class)
+@Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+@Retention(RUNTIME)
+@Repeatable(List.class)
+public @interface IPAddressList {
+
+    /**
+     * The error message.
+     */
+    String message() default "{com.github.robtimus.net.ip.validation.IPAddressList.message}";
+
+    /**
+     * The validation groups.
+     */
+    Class<?>[] groups() default { };
+
+    /**
+     * The payload.
+     */
+    Class<? extends Payload>[] payload() default { };
+
+    /**
+     * The optional IP ranges to filter on.
+     * These must be valid CIDR notations (which can be defined for both IPv4 and IPv6), or these must be in format {@code [<from>...<to>]},
+     * where {@code <from>} and {@code <to>} must either both be valid IPv4 addresses or both be valid IPv6 addresses.
+     * It is an error to mix IPv4 and IPv6 addresses.
+     */
+    String[] ipRanges() default {};
+
+    /**
+     * The optional names of IP ranges to filter on. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * If both {@link #ipRanges()} and this parameter are given, an IP address is valid if it is contained in at least one of the IP ranges
+     * of either of the two.
+     * A name for which no IP ranges are registered contains no IP addresses.
+     */
+    String[] namedIPRanges() default {};
+
+    /**
+     * The optional IP ranges to exclude. An IP address that is contained in any of these IP ranges is not valid,
+     * even if it is contained in any of the IP ranges of {@link #ipRanges()} or {@link #namedIPRanges()}.
+     * The same format as for {@link #ipRanges()} applies.
+     */
+    String[] excludedIPRanges() default {};
+
+    /**
+     * The optional names of IP ranges to exclude. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * An IP address that is contained in any of these IP ranges is not valid.
+     */
+    String[] excludedNamedIPRanges() default {};
+
+    /**
+     * The separator between the IP addresses.
+     */
+    char separator() default ',';
+
+    /**
+     * Which IP addresses are filtered using {@link #ipRanges()}, {@link #namedIPRanges()}, {@link #excludedIPRanges()} and
+     * {@link #excludedNamedIPRanges()}. All IP addresses must always be valid.
+     */
+    Elements elements() default Elements.ALL;
+
+    /**
+     * The maximum number of IP addresses.
+     */
+    int maxElements() default Integer.MAX_VALUE;
+
+    /**
+     * Defines several {@link IPAddressList} annotations on the same element.
+     */
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    @Documented
+    @interface List {
+
+        /**
+         * The {@link IPAddressList} annotations.
+         */
+        IPAddressList[] value();
+    }
+
+    /**
+     * The possible IP addresses in a list to filter.
+     *
+     * @author Rob Spoor
+     */
+    enum Elements {
+        /** Only filter the first IP address. For {@code X-Forwarded-For} this is the originating client. */
+        FIRST,
+
+        /** Only filter the last IP address. For {@code X-Forwarded-For} this is the last proxy before the server. */
+        LAST,
+
+        /** Filter all IP addresses. */
+        ALL
+    }
+}
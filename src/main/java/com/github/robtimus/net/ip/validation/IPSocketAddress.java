@@ -0,0 +1,125 @@
+/*
+ * IPSocketAddress.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import com.github.robtimus.net.ip.validation.IPSocketAddress.List;
+import com.github.robtimus.net.ip.validation.validators.CharSequenceIPSocketAddressValidator;
+
+/**
+ * Validates the annotated {@link CharSequence} is an IP socket address: an IPv4 address or an IPv6 address enclosed in {@code []},
+ * followed by a colon and a port. For instance, {@code 192.168.0.1:8080} or {@code [::1]:8080}.
+ * The port must be between {@link #minPort()} and {@link #maxPort()}.
+ * <p>
+ * The {@link #ipRanges()} and {@link #namedIPRanges()} parameters allow filtering on IP ranges. If both are left empty, any IP address will
+ * be considered valid.
+ * <p>
+ * The {@link #excludedIPRanges()} and {@link #excludedNamedIPRanges()} parameters allow excluding IP ranges.
+ * An IP socket address with an IP address in any of these is not valid, regardless of the other parameters.
+ *
+ * @author Rob Spoor
+ */
+@Documented
+@Constraint(validatedBy = CharSequenceIPSocketAddressValidator.class)
+@Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+@Retention(RUNTIME)
+@Repeatable(List.class)
+public @interface IPSocketAddress {
+
+    /**
+     * The error message.
+     */
+    String message() default "{com.github.robtimus.net.ip.validation.IPSocketAddress.message}";
+
+    /**
+     * The validation groups.
+     */
+    Class<?>[] groups() default { };
+
+    /**
+     * The payload.
+     */
+    Class<? extends Payload>[] payload() default { };
+
+    /**
+     * The optional IP ranges to filter on. An IP socket address is valid if its IP address is contained in one of these IP ranges.
+     * These must be valid CIDR notations (which can be defined for both IPv4 and IPv6), or these must be in format {@code [<from>...<to>]},
+     * where {@code <from>} and {@code <to>} must either both be valid IPv4 addresses or both be valid IPv6 addresses.
+     * It is an error to mix IPv4 and IPv6 addresses.
+     */
+    String[] ipRanges() default {};
+
+    /**
+     * The optional names of IP ranges to filter on. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * If both {@link #ipRanges()} and this parameter are given, an IP socket address is valid if its IP address is contained in one of the
+     * IP ranges of {@link #ipRanges()}, or in one of the IP ranges registered under one of the names.
+     * A name for which no IP ranges are registered contains no IP addresses.
+     */
+    String[] namedIPRanges() default {};
+
+    /**
+     * The optional IP ranges to exclude. An IP socket address with an IP address in any of these IP ranges is not valid,
+     * even if the IP address is contained in the IP ranges of {@link #ipRanges()} or {@link #namedIPRanges()}.
+     * The same format as for {@link #ipRanges()} applies.
+     */
+    String[] excludedIPRanges() default {};
+
+    /**
+     * The optional names of IP ranges to exclude. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * An IP socket address with an IP address in any of these IP ranges is not valid.
+     */
+    String[] excludedNamedIPRanges() default {};
+
+    /**
+     * The minimum port, inclusive. This must be between 0 and 65535, and may not be larger than {@link #maxPort()}.
+     */
+    int minPort() default 0;
+
+    /**
+     * The maximum port, inclusive. This must be between 0 and 65535, and may not be smaller than {@link #minPort()}.
+     */
+    int maxPort() default 65535;
+
+    /**
+     * Defines several {@link IPSocketAddress} annotations on the same element.
+     */
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    @Documented
+    @interface List {
+
+        /**
+         * The {@link IPSocketAddress} annotations.
+         */
+        IPSocketAddress[] value();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * IPSubnet.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import com.github.robtimus.net.ip.validation.IPSubnet.List;
+import com.github.robtimus.net.ip.validation.validators.CharSequenceIPSubnetValidator;
+import com.github.robtimus.net.ip.validation.validators.SubnetIPSubnetValidator;
+
+/**
+ * Validates the annotated {@link CharSequence} is an IPv4 or IPv6 subnet in CIDR notation, like {@code 10.20.0.0/16}.
+ * The routing prefix may not have any bits set beyond the prefix length.
+ * <p>
+ * The {@link #ipRanges()} and {@link #namedIPRanges()} parameters allow filtering on IP ranges. For this reason, this annotation can also be
+ * applied to {@link com.github.robtimus.net.ip.Subnet Subnets}. If both are left empty, any subnet will be considered valid.
+ * <p>
+ * The {@link #excludedIPRanges()} and {@link #excludedNamedIPRanges()} parameters allow excluding IP ranges.
+ * A subnet that overlaps with any of these is not valid, regardless of the other parameters.
+ *
+ * @author Rob Spoor
+ */
+@Documented
+@Constraint(validatedBy = { CharSequenceIPSubnetValidator.class, SubnetIPSubnetValidator.class })
+@Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+@Retention(RUNTIME)
+@Repeatable(List.class)
+public @interface IPSubnet {
+
+    /**
+     * The error message.
+     */
+    String message() default "{com.github.robtimus.net.ip.validation.IPSubnet.message}";
+
+    /**
+     * The validation groups.
+     */
+    Class<?>[] groups() default { };
+
+    /**
+     * The payload.
+     */
+    Class<? extends Payload>[] payload() default { };
+
+    /**
+     * The optional IP ranges to filter on. A subnet is valid if each of its IP addresses is contained in these IP ranges.
+     * The subnet does not need to be contained in a single IP range; it may span several overlapping or adjacent IP ranges.
+     * These must be valid CIDR notations (which can be defined for both IPv4 and IPv6), or these must be in format {@code [<from>...<to>]},
+     * where {@code <from>} and {@code <to>} must either both be valid IPv4 addresses or both be valid IPv6 addresses.
+     * It is an error to mix IPv4 and IPv6 addresses.
+     */
+    String[] ipRanges() default {};
+
+    /**
+     * The optional names of IP ranges to filter on. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * If both {@link #ipRanges()} and this parameter are given, a subnet is valid if it is completely contained in the IP ranges of
+     * {@link #ipRanges()}, or in the IP ranges registered under one of the names.
+     * A name for which no IP ranges are registered contains no IP addresses.
+     */
+    String[] namedIPRanges() default {};
+
+    /**
+     * The optional IP ranges to exclude. A subnet that overlaps with any of these IP ranges is not valid,
+     * even if it is contained in the IP ranges of {@link #ipRanges()} or {@link #namedIPRanges()}.
+     * The same format as for {@link #ipRanges()} applies.
+     */
+    String[] excludedIPRanges() default {};
+
+    /**
+     * The optional names of IP ranges to exclude. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * A subnet that overlaps with any of these IP ranges is not valid.
+     */
+    String[] excludedNamedIPRanges() default {};
+
+    /**
+     * Defines several {@link IPSubnet} annotations on the same element.
+     */
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    @Documented
+    @interface List {
+
+        /**
+         * The {@link IPSubnet} annotations.
+         */
+        IPSubnet[] value();
+    }
+}
@@ -38,7 +38,14 @@ import com.github.robtimus.net.ip.validation.validators.IPAddressIPv4AddressVali
 /**
  * Validates the annotated {@link CharSequence} or {@link IPAddress} is an IPv4 address.
  * <p>
- * The {@link #ipRanges()} parameter allows filtering on IP ranges. If it is left empty, any IPv4 address will be considered valid.
+ * The {@link #ipRanges()} and {@link #namedIPRanges()} parameters allow filtering on IP ranges.
+ * If both are left empty, any IPv4 address will be considered valid.
+ * <p>
+ * The {@link #excludedIPRanges()} and {@link #excludedNamedIPRanges()} parameters allow excluding IP ranges.
+ * An IPv4 address that is contained in any of these is not valid, regardless of the other parameters.
+ * <p>
+ * By default IPv6 addresses are never valid. The {@link #allowIPv4Mapped()} and {@link #allowNAT64()} parameters allow IPv6 addresses
+ * that embed an IPv4 address, like {@code ::ffff:10.1.2.3}. The embedded IPv4 address is then validated like any other IPv4 address.
  *
  * @author Rob Spoor
  */
@@ -71,6 +78,44 @@ public @interface IPv4Address {
      */
     String[] ipRanges() default {};
 
+    /**
+     * The optional names of IP ranges to filter on. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * Only the IPv4 ranges that are registered under these names are used.
+     * If both {@link #ipRanges()} and this parameter are given, an IPv4 address is valid if it is contained in at least one of the IP ranges
+     * of either of the two.
+     * A name for which no IP ranges are registered contains no IP addresses.
+     */
+    String[] namedIPRanges() default {};
+
+    /**
+     * The optional IP ranges to exclude. An IPv4 address that is contained in any of these IP ranges is not valid,
+     * even if it is contained in any of the IP ranges of {@link #ipRanges()} or {@link #namedIPRanges()}.
+     * These must be valid IPv4 CIDR notations, or these must be in format {@code [<from>...<to>]},
+     * where {@code <from>} and {@code <to>} must both be valid IPv4 addresses.
+     */
+    String[] excludedIPRanges() default {};
+
+    /**
+     * The optional names of IP ranges to exclude. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * Only the IPv4 ranges that are registered under these names are used.
+     * An IPv4 address that is contained in any of these IP ranges is not valid.
+     */
+    String[] excludedNamedIPRanges() default {};
+
+    /**
+     * Whether or not IPv4-mapped IPv6 addresses ({@code ::ffff:0:0/96}) are allowed, like the ones reported for IPv4 clients of dual-stack
+     * sockets. If {@code true}, the IPv4 address in the lowest 32 bits of these IPv6 addresses is validated instead.
+     */
+    boolean allowIPv4Mapped() default false;
+
+    /**
+     * Whether or not IPv6 addresses in the well-known NAT64 prefix ({@code 64:ff9b::/96}) are allowed.
+     * If {@code true}, the IPv4 address in the lowest 32 bits of these IPv6 addresses is validated instead.
+     */
+    boolean allowNAT64() default false;
+
     /**
      * Defines several {@link IPv4Address} annotations on the same element.
      */
@@ -38,7 +38,11 @@ import com.github.robtimus.net.ip.validation.validators.IPAddressIPv6AddressVali
 /**
  * Validates the annotated {@link CharSequence} or {@link IPAddress} is an IPv6 address.
  * <p>
- * The {@link #ipRanges()} parameter allows filtering on IP ranges. If it is left empty, any IPv6 address will be considered valid.
+ * The {@link #ipRanges()} and {@link #namedIPRanges()} parameters allow filtering on IP ranges.
+ * If both are left empty, any IPv6 address will be considered valid.
+ * <p>
+ * The {@link #excludedIPRanges()} and {@link #excludedNamedIPRanges()} parameters allow excluding IP ranges.
+ * An IPv6 address that is contained in any of these is not valid, regardless of the other parameters.
  *
  * @author Rob Spoor
  */
@@ -71,6 +75,32 @@ public @interface IPv6Address {
      */
     String[] ipRanges() default {};
 
+    /**
+     * The optional names of IP ranges to filter on. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * Only the IPv6 ranges that are registered under these names are used.
+     * If both {@link #ipRanges()} and this parameter are given, an IPv6 address is valid if it is contained in at least one of the IP ranges
+     * of either of the two.
+     * A name for which no IP ranges are registered contains no IP addresses.
+     */
+    String[] namedIPRanges() default {};
+
+    /**
+     * The optional IP ranges to exclude. An IPv6 address that is contained in any of these IP ranges is not valid,
+     * even if it is contained in any of the IP ranges of {@link #ipRanges()} or {@link #namedIPRanges()}.
+     * These must be valid IPv6 CIDR notations, or these must be in format {@code [<from>...<to>]},
+     * where {@code <from>} and {@code <to>} must both be valid IPv6 addresses.
+     */
+    String[] excludedIPRanges() default {};
+
+    /**
+     * The optional names of IP ranges to exclude. The IP ranges for these names are registered using
+     * {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}, and can be replaced at runtime.
+     * Only the IPv6 ranges that are registered under these names are used.
+     * An IPv6 address that is contained in any of these IP ranges is not valid.
+     */
+    String[] excludedNamedIPRanges() default {};
+
     /**
      * Defines several {@link IPv6Address} annotations on the same element.
      */
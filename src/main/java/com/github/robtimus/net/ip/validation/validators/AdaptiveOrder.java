@@ -0,0 +1,107 @@
+/*
+ * AdaptiveOrder.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The order in which a small list of IP ranges is scanned, with the IP ranges that most often contain validated IP addresses first.
+ * <p>
+ * Only one in {@value #SAMPLE_RATE} hits is counted, using a {@link LongAdder} per IP range so threads that count hits for the same IP range
+ * do not contend. One in {@value #REORDER_RATE} counted hits causes the order to be recomputed, after halving the previous counts so the
+ * order follows changes in traffic. The new order is published with a single volatile write; threads that are scanning the IP ranges
+ * concurrently keep using the order they have already read. Because any order finds the same result, this is always safe.
+ *
+ * @author Rob Spoor
+ */
+final class AdaptiveOrder {
+
+    private static final int SAMPLE_RATE = 64;
+    private static final int REORDER_RATE = 256;
+
+    // the estimated size of an uncontended LongAdder, plus the reference to it
+    private static final int HIT_COUNTER_BYTES = 36;
+
+    private final LongAdder[] hits;
+    // only accessed while reordering
+    private final long[] decayedHits;
+    private final AtomicBoolean reordering = new AtomicBoolean();
+
+    private volatile int[] order;
+
+    AdaptiveOrder(int size) {
+        hits = new LongAdder[size];
+        Arrays.setAll(hits, i -> new LongAdder());
+        decayedHits = new long[size];
+        order = new int[size];
+        Arrays.setAll(order, i -> i);
+    }
+
+    /**
+     * Returns the indexes of the IP ranges, most hit first. The returned array must not be modified.
+     *
+     * @return The indexes of the IP ranges, most hit first.
+     */
+    int[] order() {
+        return order;
+    }
+
+    /**
+     * Records that an IP range contained a validated IP address.
+     *
+     * @param index The index of the IP range.
+     */
+    void recordHit(int index) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextInt(SAMPLE_RATE) == 0) {
+            hits[index].increment();
+            if (random.nextInt(REORDER_RATE) == 0) {
+                reorder();
+            }
+        }
+    }
+
+    long byteSize() {
+        return (long) hits.length * HIT_COUNTER_BYTES + (long) decayedHits.length * Long.BYTES + (long) order.length * Integer.BYTES;
+    }
+
+    void reorder() {
+        // if another thread is already reordering, its result will be good enough
+        if (!reordering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Integer[] indexes = new Integer[hits.length];
+            for (int i = 0; i < hits.length; i++) {
+                decayedHits[i] = decayedHits[i] / 2 + hits[i].sumThenReset();
+                indexes[i] = i;
+            }
+            // a stable sort, so IP ranges with the same number of hits remain in declaration order
+            Arrays.sort(indexes, (i, j) -> Long.compare(decayedHits[j], decayedHits[i]));
+            int[] newOrder = Arrays.stream(indexes).mapToInt(Integer::intValue).toArray();
+            if (!Arrays.equals(newOrder, order)) {
+                order = newOrder;
+            }
+        } finally {
+            reordering.set(false);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * AsciiIPv4Parser.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Parses IPv4 addresses in dotted decimal notation from ASCII bytes, without decoding them to characters and without creating any objects.
+ * <p>
+ * An IPv4 address is at most 15 bytes long, so it is read as two little-endian 8-byte words. All bytes of a word are classified as digits
+ * or dots at once, using SWAR (SIMD within a register) arithmetic. Only the at most 12 digits are then combined into octets one by one.
+ *
+ * @author Rob Spoor
+ */
+final class AsciiIPv4Parser {
+
+    private static final VarHandle ARRAY_WORDS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final int MIN_LENGTH = 7;
+    private static final int MAX_LENGTH = 15;
+    private static final int WORDS_LENGTH = 2 * Long.BYTES;
+
+    private static final long HIGH_BITS = 0x8080_8080_8080_8080L;
+    private static final long LOW_BITS = 0x7F7F_7F7F_7F7F_7F7FL;
+    private static final long DOTS = 0x2E2E_2E2E_2E2E_2E2EL;
+    private static final long ZEROES = 0x3030_3030_3030_3030L;
+    // '9' with the high bit set
+    private static final long NINES = 0xB9B9_B9B9_B9B9_B9B9L;
+
+    private AsciiIPv4Parser() {
+        throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
+    }
+
+    /**
+     * Parses an IPv4 address from part of a byte array.
+     *
+     * @param value The byte array containing the IPv4 address.
+     * @param start The index of the first byte of the IPv4 address.
+     * @param end The index after the last byte of the IPv4 address.
+     * @return The parsed IPv4 address as returned by {@code IPv4Address.toInt()} but converted to a non-negative {@code long},
+     *         or {@code -1} if the given part of the array is not a valid IPv4 address.
+     */
+    static long parseIPv4Address(byte[] value, int start, int end) {
+        int length = end - start;
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return -1;
+        }
+        long low;
+        long high;
+        if (value.length - start >= WORDS_LENGTH) {
+            low = (long) ARRAY_WORDS.get(value, start);
+            high = (long) ARRAY_WORDS.get(value, start + Long.BYTES);
+        } else {
+            // too close to the end of the array to read whole words
+            low = 0L;
+            high = 0L;
+            for (int i = end - 1; i >= start; i--) {
+                high = high << Byte.SIZE | low >>> (Long.SIZE - Byte.SIZE);
+                low = low << Byte.SIZE | value[i] & 0xFF;
+            }
+        }
+        return parseIPv4Address(low, high, length);
+    }
+
+    /**
+     * Parses an IPv4 address from part of a byte buffer. The position and limit of the byte buffer are not used or modified.
+     *
+     * @param value The byte buffer containing the IPv4 address.
+     * @param start The absolute index of the first byte of the IPv4 address.
+     * @param end The absolute index after the last byte of the IPv4 address.
+     * @return The parsed IPv4 address as returned by {@code IPv4Address.toInt()} but converted to a non-negative {@code long},
+     *         or {@code -1} if the given part of the byte buffer is not a valid IPv4 address.
+     */
+    static long parseIPv4Address(ByteBuffer value, int start, int end) {
+        int length = end - start;
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return -1;
+        }
+        long low;
+        long high;
+        if (value.limit() - start >= WORDS_LENGTH) {
+            low = (long) BUFFER_WORDS.get(value, start);
+            high = (long) BUFFER_WORDS.get(value, start + Long.BYTES);
+        } else {
+            // too close to the limit of the buffer to read whole words
+            low = 0L;
+            high = 0L;
+            for (int i = end - 1; i >= start; i--) {
+                high = high << Byte.SIZE | low >>> (Long.SIZE - Byte.SIZE);
+                low = low << Byte.SIZE | value.get(i) & 0xFF;
+            }
+        }
+        return parseIPv4Address(low, high, length);
+    }
+
+    /**
+     * Parses an IPv4 address from two little-endian words.
+     *
+     * @param low The first 8 bytes.
+     * @param high The next 8 bytes.
+     * @param length The number of bytes of the IPv4 address; bytes after this are ignored.
+     * @return The parsed IPv4 address, or {@code -1} if the bytes are not a valid IPv4 address.
+     */
+    static long parseIPv4Address(long low, long high, int length) {
+        // the high bit of each byte that is part of the IPv4 address
+        long lowMask = length >= Long.BYTES ? HIGH_BITS : HIGH_BITS >>> (Byte.SIZE * (Long.BYTES - length));
+        long highMask = length > Long.BYTES ? HIGH_BITS >>> (Byte.SIZE * (WORDS_LENGTH - length)) : 0L;
+
+        long lowDots = zeroBytes(low ^ DOTS) & lowMask;
+        long highDots = zeroBytes(high ^ DOTS) & highMask;
+        long lowDigits = digits(low) & lowMask;
+        long highDigits = digits(high) & highMask;
+        if ((lowDots | lowDigits) != lowMask || (highDots | highDigits) != highMask
+                || Long.bitCount(lowDots) + Long.bitCount(highDots) != 3) {
+            return -1;
+        }
+
+        long address = 0;
+        int octetStart = 0;
+        for (int i = 0; i < 4; i++) {
+            int octetEnd;
+            if (i == 3) {
+                octetEnd = length;
+            } else if (lowDots != 0) {
+                octetEnd = Long.numberOfTrailingZeros(lowDots) / Byte.SIZE;
+                lowDots &= lowDots - 1;
+            } else {
+                octetEnd = Long.BYTES + Long.numberOfTrailingZeros(highDots) / Byte.SIZE;
+                highDots &= highDots - 1;
+            }
+            int digitCount = octetEnd - octetStart;
+            if (digitCount == 0 || digitCount > 3) {
+                return -1;
+            }
+            int octet = 0;
+            for (int j = octetStart; j < octetEnd; j++) {
+                long word = j < Long.BYTES ? low : high;
+                // digits are 0x30 to 0x39, so XOR with 0x30 gives the digit value without any borrowing
+                octet = octet * 10 + (int) ((word >>> (Byte.SIZE * (j & (Long.BYTES - 1)))) & 0xFF ^ 0x30);
+            }
+            if (octet > 255) {
+                return -1;
+            }
+            address = address << Byte.SIZE | octet;
+            octetStart = octetEnd + 1;
+        }
+        return address;
+    }
+
+    /**
+     * Returns the high bit of each byte that is zero. Unlike the well-known {@code (x - 0x01..) & ~x & 0x80..} this has no false positives.
+     */
+    private static long zeroBytes(long word) {
+        return ~((word & LOW_BITS) + LOW_BITS | word | LOW_BITS);
+    }
+
+    /**
+     * Returns the high bit of each byte that is an ASCII digit.
+     */
+    private static long digits(long word) {
+        // for bytes without the high bit set, neither subtraction borrows from the next byte
+        long atLeastZero = (word | HIGH_BITS) - ZEROES;
+        long atMostNine = NINES - (word & LOW_BITS);
+        return atLeastZero & atMostNine & ~word & HIGH_BITS;
+    }
+}
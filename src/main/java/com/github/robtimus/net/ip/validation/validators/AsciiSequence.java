@@ -0,0 +1,122 @@
+/*
+ * AsciiSequence.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link CharSequence} view over ASCII bytes in a byte array or byte buffer. Bytes are not decoded but widened to characters,
+ * so bytes that are not ASCII become characters that are never valid in IP addresses.
+ * <p>
+ * Instances are reused per thread. A view must be {@linkplain #release() released} after use, and must not be passed to other threads.
+ *
+ * @author Rob Spoor
+ */
+final class AsciiSequence implements CharSequence {
+
+    private static final ThreadLocal<AsciiSequence> INSTANCES = ThreadLocal.withInitial(AsciiSequence::new);
+
+    private byte[] array;
+    private ByteBuffer buffer;
+    private int length;
+
+    private AsciiSequence() {
+    }
+
+    /**
+     * Returns a view over a byte array for the current thread.
+     *
+     * @param array The byte array to view.
+     * @return A view over the given byte array.
+     */
+    static AsciiSequence of(byte[] array) {
+        AsciiSequence sequence = INSTANCES.get();
+        sequence.array = array;
+        sequence.length = array.length;
+        return sequence;
+    }
+
+    /**
+     * Returns a view over a byte buffer for the current thread. The view uses absolute indexes, up to the limit of the byte buffer.
+     * The position and limit of the byte buffer are not modified.
+     *
+     * @param buffer The byte buffer to view.
+     * @return A view over the given byte buffer.
+     */
+    static AsciiSequence of(ByteBuffer buffer) {
+        AsciiSequence sequence = INSTANCES.get();
+        sequence.buffer = buffer;
+        sequence.length = buffer.limit();
+        return sequence;
+    }
+
+    /**
+     * Releases this view, so it no longer references the viewed bytes.
+     */
+    void release() {
+        array = null;
+        buffer = null;
+        length = 0;
+    }
+
+    /**
+     * Parses an IPv4 address in dotted decimal notation without decoding the viewed bytes.
+     *
+     * @param start The index of the first byte of the IPv4 address.
+     * @param end The index after the last byte of the IPv4 address.
+     * @return The parsed IPv4 address, or {@code -1} if the given part of this view is not a valid IPv4 address.
+     * @see IPRangeParser#parseIPv4Address(CharSequence, int, int)
+     */
+    long parseIPv4Address(int start, int end) {
+        return array != null
+                ? AsciiIPv4Parser.parseIPv4Address(array, start, end)
+                : AsciiIPv4Parser.parseIPv4Address(buffer, start, end);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) ((array != null ? array[index] : buffer.get(index)) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return toString(0, length);
+    }
+
+    private String toString(int start, int end) {
+        if (array != null) {
+            return new String(array, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        byte[] bytes = new byte[end - start];
+        for (int i = start; i < end; i++) {
+            bytes[i - start] = buffer.get(i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
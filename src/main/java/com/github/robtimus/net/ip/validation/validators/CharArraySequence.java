@@ -0,0 +1,74 @@
+/*
+ * CharArraySequence.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.robtimus.net.ip.validation.validators;
+
+/**
+ * A {@link CharSequence} view over a char array. Unlike {@link java.nio.CharBuffer#wrap(char[])}, this does not create a new object for
+ * each array.
+ * <p>
+ * Instances are reused per thread. A view must be {@linkplain #release() released} after use, and must not be passed to other threads.
+ *
+ * @author Rob Spoor
+ */
+final class CharArraySequence implements CharSequence {
+
+    private static final ThreadLocal<CharArraySequence> INSTANCES = ThreadLocal.withInitial(CharArraySequence::new);
+
+    private char[] array;
+
+    private CharArraySequence() {
+    }
+
+    /**
+     * Returns a view over a char array for the current thread.
+     *
+     * @param array The char array to view.
+     * @return A view over the given char array.
+     */
+    static CharArraySequence of(char[] array) {
+        CharArraySequence sequence = INSTANCES.get();
+        sequence.array = array;
+        return sequence;
+    }
+
+    /**
+     * Releases this view, so it no longer references the viewed characters.
+     */
+    void release() {
+        array = null;
+    }
+
+    @Override
+    public int length() {
+        return array.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return array[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(array, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(array);
+    }
+}
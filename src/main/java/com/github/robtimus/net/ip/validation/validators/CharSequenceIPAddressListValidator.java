@@ -0,0 +1,63 @@
+/*
+ * CharSequenceIPAddressListValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static com.github.robtimus.net.ip.validation.validators.IPAddressListValidator.isValidIPAddressList;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.net.ip.validation.IPAddressList;
+import com.github.robtimus.net.ip.validation.IPAddressList.Elements;
+
+/**
+ * An {@link IPAddressList} constraint validator for {@link CharSequence}.
+ *
+ * @author Rob Spoor
+ */
+public class CharSequenceIPAddressListValidator implements ConstraintValidator<IPAddressList, CharSequence> {
+
+    private final CompiledConstraintCache cache;
+
+    private CompiledConstraintHolder constraint;
+    private char separator;
+    private Elements elements;
+    private int maxElements;
+
+    /**
+     * Creates a new validator.
+     */
+    public CharSequenceIPAddressListValidator() {
+        this(CompiledConstraintCache.NONE);
+    }
+
+    CharSequenceIPAddressListValidator(CompiledConstraintCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void initialize(IPAddressList constraintAnnotation) {
+        constraint = cache.get(constraintAnnotation, IPAddressListValidator::compile);
+        separator = constraintAnnotation.separator();
+        elements = constraintAnnotation.elements();
+        maxElements = constraintAnnotation.maxElements();
+    }
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || constraint.record(isValidIPAddressList(value, separator, elements, maxElements, constraint.get(), context));
+    }
+}
@@ -18,12 +18,10 @@
 package com.github.robtimus.net.ip.validation.validators;
 
 import static com.github.robtimus.net.ip.validation.validators.IPAddressValidator.isValidIPAddress;
-import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPRanges;
-import java.util.Collection;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import com.github.robtimus.net.ip.IPAddressFormatter;
-import com.github.robtimus.net.ip.IPRange;
 import com.github.robtimus.net.ip.validation.IPAddress;
 
 /**
@@ -33,13 +31,24 @@ import com.github.robtimus.net.ip.validation.IPAddress;
  */
 public class CharSequenceIPAddressValidator implements ConstraintValidator<IPAddress, CharSequence> {
 
-    private String message;
-    private Collection<IPRange<?>> ipRanges;
+    private final CompiledConstraintCache cache;
+
+    private CompiledConstraintHolder constraint;
+
+    /**
+     * Creates a new validator.
+     */
+    public CharSequenceIPAddressValidator() {
+        this(CompiledConstraintCache.NONE);
+    }
+
+    CharSequenceIPAddressValidator(CompiledConstraintCache cache) {
+        this.cache = cache;
+    }
 
     @Override
     public void initialize(IPAddress constraintAnnotation) {
-        message = constraintAnnotation.message();
-        ipRanges = parseIPRanges(constraintAnnotation);
+        constraint = cache.get(constraintAnnotation, IPAddressValidator::compile);
     }
 
     @Override
@@ -47,11 +56,109 @@ public class CharSequenceIPAddressValidator implements ConstraintValidator<IPAdd
         if (value == null) {
             return true;
         }
-        if (ipRanges.isEmpty()) {
-            return com.github.robtimus.net.ip.IPAddress.isIPAddress(value);
+        CompiledConstraint compiled = constraint.get();
+        if (compiled.allowsAll()) {
+            return constraint.record(com.github.robtimus.net.ip.IPAddress.isIPAddress(value));
+        }
+        return constraint.record(ParseMemo.tryParse(value, ParseMemo.Format.ANY_VERSION, constraint.statistics())
+                .map(ip -> isValidIPAddress(ip, compiled, context))
+                .orElse(false));
+    }
+
+    /**
+     * Validates part of a {@link CharSequence}, without copying it. This allows validating IP addresses in larger buffers,
+     * without the need to call {@link CharSequence#subSequence(int, int)} or {@link CharSequence#toString()} first.
+     * <p>
+     * This validator must have been initialized first. The given part of the value is validated against the same constraint as
+     * {@link #isValid(CharSequence, ConstraintValidatorContext)}, but no violations are reported.
+     *
+     * @param value The {@code CharSequence} containing the IP address to validate.
+     * @param start The index of the first character of the IP address, inclusive.
+     * @param end The index of the last character of the IP address, exclusive.
+     * @return {@code true} if the given part of the value is a valid IP address, or {@code false} otherwise.
+     * @throws NullPointerException If the given value is {@code null}.
+     * @throws IndexOutOfBoundsException If the given start index is negative, the given end index is larger than the length of the value,
+     *                                       or the given start index is larger than the given end index.
+     */
+    public boolean isValid(CharSequence value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length());
+        return constraint.record(isValidIPAddress(value, start, end, constraint.get(), null));
+    }
+
+    /**
+     * Validates part of a {@code char} array, without copying it. This allows validating IP addresses in larger buffers,
+     * without the need to create a {@link String} first.
+     * <p>
+     * This validator must have been initialized first. The given part of the value is validated against the same constraint as
+     * {@link #isValid(CharSequence, ConstraintValidatorContext)}, but no violations are reported.
+     *
+     * @param value The {@code char} array containing the IP address to validate.
+     * @param start The index of the first character of the IP address, inclusive.
+     * @param end The index of the last character of the IP address, exclusive.
+     * @return {@code true} if the given part of the value is a valid IP address, or {@code false} otherwise.
+     * @throws NullPointerException If the given value is {@code null}.
+     * @throws IndexOutOfBoundsException If the given start index is negative, the given end index is larger than the length of the value,
+     *                                       or the given start index is larger than the given end index.
+     */
+    public boolean isValid(char[] value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length);
+        CharArraySequence sequence = CharArraySequence.of(value);
+        try {
+            return constraint.record(isValidIPAddress(sequence, start, end, constraint.get(), null));
+        } finally {
+            sequence.release();
+        }
+    }
+
+    /**
+     * Validates part of a {@code byte} array containing ASCII characters, without copying or decoding it.
+     * This allows validating IP addresses in network or file buffers, without the need to create a {@link String} first.
+     * <p>
+     * This validator must have been initialized first. The given part of the value is validated against the same constraint as
+     * {@link #isValid(CharSequence, ConstraintValidatorContext)}, but no violations are reported.
+     *
+     * @param value The {@code byte} array containing the IP address to validate.
+     * @param start The index of the first byte of the IP address, inclusive.
+     * @param end The index of the last byte of the IP address, exclusive.
+     * @return {@code true} if the given part of the value is a valid IP address, or {@code false} otherwise.
+     * @throws NullPointerException If the given value is {@code null}.
+     * @throws IndexOutOfBoundsException If the given start index is negative, the given end index is larger than the length of the value,
+     *                                       or the given start index is larger than the given end index.
+     */
+    public boolean isValid(byte[] value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length);
+        AsciiSequence sequence = AsciiSequence.of(value);
+        try {
+            return constraint.record(isValidIPAddress(sequence, start, end, constraint.get(), null));
+        } finally {
+            sequence.release();
+        }
+    }
+
+    /**
+     * Validates part of a {@link ByteBuffer} containing ASCII characters, without copying or decoding it.
+     * This allows validating IP addresses in network or file buffers, without the need to create a {@link String} first.
+     * <p>
+     * The given indexes are absolute; the position and limit of the byte buffer are not modified.
+     * <p>
+     * This validator must have been initialized first. The given part of the value is validated against the same constraint as
+     * {@link #isValid(CharSequence, ConstraintValidatorContext)}, but no violations are reported.
+     *
+     * @param value The {@code ByteBuffer} containing the IP address to validate.
+     * @param start The index of the first byte of the IP address, inclusive.
+     * @param end The index of the last byte of the IP address, exclusive.
+     * @return {@code true} if the given part of the value is a valid IP address, or {@code false} otherwise.
+     * @throws NullPointerException If the given value is {@code null}.
+     * @throws IndexOutOfBoundsException If the given start index is negative, the given end index is larger than the limit of the value,
+     *                                       or the given start index is larger than the given end index.
+     */
+    public boolean isValid(ByteBuffer value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.limit());
+        AsciiSequence sequence = AsciiSequence.of(value);
+        try {
+            return constraint.record(isValidIPAddress(sequence, start, end, constraint.get(), null));
+        } finally {
+            sequence.release();
         }
-        return IPAddressFormatter.anyVersionWithDefaults().tryParse(value)
-                .map(ip -> isValidIPAddress(ip, ipRanges, message, context))
-                .orElse(false);
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * CharSequenceIPSocketAddressValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static com.github.robtimus.net.ip.validation.validators.IPSocketAddressValidator.isValidSocketAddress;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.net.ip.validation.IPSocketAddress;
+
+/**
+ * An {@link IPSocketAddress} constraint validator for {@link CharSequence}.
+ *
+ * @author Rob Spoor
+ */
+public class CharSequenceIPSocketAddressValidator implements ConstraintValidator<IPSocketAddress, CharSequence> {
+
+    private final CompiledConstraintCache cache;
+
+    private CompiledConstraintHolder constraint;
+    private int minPort;
+    private int maxPort;
+
+    /**
+     * Creates a new validator.
+     */
+    public CharSequenceIPSocketAddressValidator() {
+        this(CompiledConstraintCache.NONE);
+    }
+
+    CharSequenceIPSocketAddressValidator(CompiledConstraintCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void initialize(IPSocketAddress constraintAnnotation) {
+        constraint = cache.get(constraintAnnotation, IPSocketAddressValidator::compile);
+        minPort = constraintAnnotation.minPort();
+        maxPort = constraintAnnotation.maxPort();
+    }
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || constraint.record(isValidSocketAddress(value, minPort, maxPort, constraint.get(), context));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * CharSequenceIPSubnetValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static com.github.robtimus.net.ip.validation.validators.IPSubnetValidator.isValidSubnet;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.net.ip.validation.IPSubnet;
+
+/**
+ * An {@link IPSubnet} constraint validator for {@link CharSequence}.
+ *
+ * @author Rob Spoor
+ */
+public class CharSequenceIPSubnetValidator implements ConstraintValidator<IPSubnet, CharSequence> {
+
+    private final CompiledConstraintCache cache;
+
+    private CompiledConstraintHolder constraint;
+
+    /**
+     * Creates a new validator.
+     */
+    public CharSequenceIPSubnetValidator() {
+        this(CompiledConstraintCache.NONE);
+    }
+
+    CharSequenceIPSubnetValidator(CompiledConstraintCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void initialize(IPSubnet constraintAnnotation) {
+        constraint = cache.get(constraintAnnotation, IPSubnetValidator::compile);
+    }
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || constraint.record(isValidSubnet(value, constraint.get(), context));
+    }
+}
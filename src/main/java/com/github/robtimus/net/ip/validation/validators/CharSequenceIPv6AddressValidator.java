@@ -17,13 +17,11 @@
 
 package com.github.robtimus.net.ip.validation.validators;
 
-import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPv6Ranges;
 import static com.github.robtimus.net.ip.validation.validators.IPv6AddressValidator.isValidIPv6Address;
-import java.util.Collection;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import com.github.robtimus.net.ip.IPAddressFormatter;
-import com.github.robtimus.net.ip.IPv6Range;
 import com.github.robtimus.net.ip.validation.IPv6Address;
 
 /**
@@ -33,13 +31,24 @@ import com.github.robtimus.net.ip.validation.IPv6Address;
  */
 public class CharSequenceIPv6AddressValidator implements ConstraintValidator<IPv6Address, CharSequence> {
 
-    private String message;
-    private Collection<IPv6Range> ipRanges;
+    private final CompiledConstraintCache cache;
+
+    private CompiledConstraintHolder constraint;
+
+    /**
+     * Creates a new validator.
+     */
+    public CharSequenceIPv6AddressValidator() {
+        this(CompiledConstraintCache.NONE);
+    }
+
+    CharSequenceIPv6AddressValidator(CompiledConstraintCache cache) {
+        this.cache = cache;
+    }
 
     @Override
     public void initialize(IPv6Address constraintAnnotation) {
-        message = constraintAnnotation.message();
-        ipRanges = parseIPv6Ranges(constraintAnnotation);
+        constraint = cache.get(constraintAnnotation, IPv6AddressValidator::compile);
     }
 
     @Override
@@ -47,11 +56,109 @@ public class CharSequenceIPv6AddressValidator implements ConstraintValidator<IPv
         if (value == null) {
             return true;
         }
-        if (ipRanges.isEmpty()) {
-            return com.github.robtimus.net.ip.IPv6Address.isIPv6Address(value);
+        CompiledConstraint compiled = constraint.get();
+        if (compiled.allowsAll()) {
+            return constraint.record(com.github.robtimus.net.ip.IPv6Address.isIPv6Address(value));
+        }
+        return constraint.record(ParseMemo.tryParse(value, ParseMemo.Format.IPV6, constraint.statistics())
+                .map(ip -> isValidIPv6Address(ip, compiled, context))
+                .orElse(false));
+    }
+
+    /**
+     * Validates part of a {@link CharSequence}, without copying it. This allows validating IPv6 addresses in larger buffers,
+     * without the need to call {@link CharSequence#subSequence(int, int)} or {@link CharSequence#toString()} first.
+     * <p>
+     * This validator must have been initialized first. The given part of the value is validated against the same constraint as
+     * {@link #isValid(CharSequence, ConstraintValidatorContext)}, but no violations are reported.
+     *
+     * @param value The {@code CharSequence} containing the IPv6 address to validate.
+     * @param start The index of the first character of the IPv6 address, inclusive.
+     * @param end The index of the last character of the IPv6 address, exclusive.
+     * @return {@code true} if the given part of the value is a valid IPv6 address, or {@code false} otherwise.
+     * @throws NullPointerException If the given value is {@code null}.
+     * @throws IndexOutOfBoundsException If the given start index is negative, the given end index is larger than the length of the value,
+     *                                       or the given start index is larger than the given end index.
+     */
+    public boolean isValid(CharSequence value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length());
+        return constraint.record(isValidIPv6Address(value, start, end, constraint.get(), null));
+    }
+
+    /**
+     * Validates part of a {@code char} array, without copying it. This allows validating IPv6 addresses in larger buffers,
+     * without the need to create a {@link String} first.
+     * <p>
+     * This validator must have been initialized first. The given part of the value is validated against the same constraint as
+     * {@link #isValid(CharSequence, ConstraintValidatorContext)}, but no violations are reported.
+     *
+     * @param value The {@code char} array containing the IPv6 address to validate.
+     * @param start The index of the first character of the IPv6 address, inclusive.
+     * @param end The index of the last character of the IPv6 address, exclusive.
+     * @return {@code true} if the given part of the value is a valid IPv6 address, or {@code false} otherwise.
+     * @throws NullPointerException If the given value is {@code null}.
+     * @throws IndexOutOfBoundsException If the given start index is negative, the given end index is larger than the length of the value,
+     *                                       or the given start index is larger than the given end index.
+     */
+    public boolean isValid(char[] value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length);
+        CharArraySequence sequence = CharArraySequence.of(value);
+        try {
+            return constraint.record(isValidIPv6Address(sequence, start, end, constraint.get(), null));
+        } finally {
+            sequence.release();
+        }
+    }
+
+    /**
+     * Validates part of a {@code byte} array containing ASCII characters, without copying or decoding it.
+     * This allows validating IPv6 addresses in network or file buffers, without the need to create a {@link String} first.
+     * <p>
+     * This validator must have been initialized first. The given part of the value is validated against the same constraint as
+     * {@link #isValid(CharSequence, ConstraintValidatorContext)}, but no violations are reported.
+     *
+     * @param value The {@code byte} array containing the IPv6 address to validate.
+     * @param start The index of the first byte of the IPv6 address, inclusive.
+     * @param end The index of the last byte of the IPv6 address, exclusive.
+     * @return {@code true} if the given part of the value is a valid IPv6 address, or {@code false} otherwise.
+     * @throws NullPointerException If the given value is {@code null}.
+     * @throws IndexOutOfBoundsException If the given start index is negative, the given end index is larger than the length of the value,
+     *                                       or the given start index is larger than the given end index.
+     */
+    public boolean isValid(byte[] value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length);
+        AsciiSequence sequence = AsciiSequence.of(value);
+        try {
+            return constraint.record(isValidIPv6Address(sequence, start, end, constraint.get(), null));
+        } finally {
+            sequence.release();
+        }
+    }
+
+    /**
+     * Validates part of a {@link ByteBuffer} containing ASCII characters, without copying or decoding it.
+     * This allows validating IPv6 addresses in network or file buffers, without the need to create a {@link String} first.
+     * <p>
+     * The given indexes are absolute; the position and limit of the byte buffer are not modified.
+     * <p>
+     * This validator must have been initialized first. The given part of the value is validated against the same constraint as
+     * {@link #isValid(CharSequence, ConstraintValidatorContext)}, but no violations are reported.
+     *
+     * @param value The {@code ByteBuffer} containing the IPv6 address to validate.
+     * @param start The index of the first byte of the IPv6 address, inclusive.
+     * @param end The index of the last byte of the IPv6 address, exclusive.
+     * @return {@code true} if the given part of the value is a valid IPv6 address, or {@code false} otherwise.
+     * @throws NullPointerException If the given value is {@code null}.
+     * @throws IndexOutOfBoundsException If the given start index is negative, the given end index is larger than the limit of the value,
+     *                                       or the given start index is larger than the given end index.
+     */
+    public boolean isValid(ByteBuffer value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.limit());
+        AsciiSequence sequence = AsciiSequence.of(value);
+        try {
+            return constraint.record(isValidIPv6Address(sequence, start, end, constraint.get(), null));
+        } finally {
+            sequence.release();
         }
-        return IPAddressFormatter.ipv6WithDefaults().tryParse(value)
-                .map(ip -> isValidIPv6Address(ip, ipRanges, message, context))
-                .orElse(false);
     }
 }
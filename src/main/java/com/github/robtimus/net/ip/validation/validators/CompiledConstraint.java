@@ -0,0 +1,259 @@
+/*
+ * CompiledConstraint.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.HashMap;
+import java.util.Map;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.net.ip.IPAddress;
+
+/**
+ * The immutable, compiled state of a single constraint. Because it only depends on the constraint annotation,
+ * it can be shared between all validators for equal constraint annotations.
+ * <p>
+ * All constraints filter on {@code ipRanges}, {@code namedIPRanges}, {@code excludedIPRanges} and {@code excludedNamedIPRanges} the same
+ * way, and report violations with message templates that only differ in the name of the constraint. These are selected once when the
+ * constraint is compiled, and the {@code allows} methods check IP addresses and ranges of IP addresses against the IP ranges and report
+ * violations using these message templates.
+ *
+ * @author Rob Spoor
+ */
+final class CompiledConstraint {
+
+    private static final String MESSAGE_PREFIX = "{com.github.robtimus.net.ip.validation."; //$NON-NLS-1$
+
+    private final IPRanges ipRanges;
+    private final IPRanges excludedIPRanges;
+    private final ViolationMessages messages;
+    private final int embeddedIPv4;
+
+    // null if there are no IP ranges or excluded IP ranges respectively
+    private final String messageWithIPRanges;
+    private final String messageWithExcludedIPRanges;
+
+    /**
+     * Creates a new compiled constraint.
+     *
+     * @param constraintName The simple name of the constraint annotation, used for its message templates.
+     * @param message The message of the constraint annotation.
+     * @param ipRanges The compiled {@code ipRanges} and {@code namedIPRanges} of the constraint annotation.
+     * @param excludedIPRanges The compiled {@code excludedIPRanges} and {@code excludedNamedIPRanges} of the constraint annotation.
+     * @param parameters The constraint attributes that can be used in message templates.
+     *                       This should include the attributes returned by {@link #parameters(String[], String[], String[], String[])}.
+     * @param embeddedIPv4 Which kinds of IPv6 addresses with embedded IPv4 addresses are allowed, as a combination of {@link EmbeddedIPv4}
+     *                         flags.
+     */
+    CompiledConstraint(String constraintName, String message, IPRanges ipRanges, IPRanges excludedIPRanges, Map<String, ?> parameters,
+            int embeddedIPv4) {
+
+        this.ipRanges = ipRanges;
+        this.excludedIPRanges = excludedIPRanges;
+        this.messages = ViolationMessages.of(message, messageTemplate(constraintName, ""), parameters, //$NON-NLS-1$
+                Settings.PRECOMPUTED_MESSAGES);
+        this.embeddedIPv4 = embeddedIPv4;
+
+        this.messageWithIPRanges = ipRanges.isEmpty()
+                ? null
+                : messageTemplate(constraintName, withIPRanges(ipRanges, "IPRanges", "NamedIPRanges")); //$NON-NLS-1$ //$NON-NLS-2$
+        this.messageWithExcludedIPRanges = excludedIPRanges.isEmpty()
+                ? null
+                : messageTemplate(constraintName,
+                        withIPRanges(excludedIPRanges, "ExcludedIPRanges", "ExcludedNamedIPRanges")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        if (messageWithIPRanges != null) {
+            messages.prepare(messageWithIPRanges);
+        }
+        if (messageWithExcludedIPRanges != null) {
+            messages.prepare(messageWithExcludedIPRanges);
+        }
+    }
+
+    /**
+     * Returns a message template of a constraint.
+     *
+     * @param constraintName The simple name of the constraint annotation.
+     * @param suffix The suffix of the message template, for instance {@code ".withIPRanges"}, or the empty string for the default message.
+     * @return The message template.
+     */
+    static String messageTemplate(String constraintName, String suffix) {
+        return MESSAGE_PREFIX + constraintName + ".message" + suffix + "}"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private static String withIPRanges(IPRanges ranges, String ipRangesName, String namedIPRangesName) {
+        if (!ranges.hasNamedIPRanges()) {
+            return ".with" + ipRangesName; //$NON-NLS-1$
+        }
+        return ranges.hasIPRanges()
+                ? ".with" + ipRangesName + "And" + namedIPRangesName //$NON-NLS-1$ //$NON-NLS-2$
+                : ".with" + namedIPRangesName; //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the constraint attributes for the IP ranges that can be used in message templates.
+     *
+     * @param ipRanges The {@code ipRanges} of the constraint annotation.
+     * @param namedIPRanges The {@code namedIPRanges} of the constraint annotation.
+     * @param excludedIPRanges The {@code excludedIPRanges} of the constraint annotation.
+     * @param excludedNamedIPRanges The {@code excludedNamedIPRanges} of the constraint annotation.
+     * @return A mutable map with the given attributes, to which other attributes can be added.
+     */
+    static Map<String, Object> parameters(String[] ipRanges, String[] namedIPRanges, String[] excludedIPRanges, String[] excludedNamedIPRanges) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ipRanges", ipRanges); //$NON-NLS-1$
+        parameters.put("namedIPRanges", namedIPRanges); //$NON-NLS-1$
+        parameters.put("excludedIPRanges", excludedIPRanges); //$NON-NLS-1$
+        parameters.put("excludedNamedIPRanges", excludedNamedIPRanges); //$NON-NLS-1$
+        return parameters;
+    }
+
+    IPRanges ipRanges() {
+        return ipRanges;
+    }
+
+    IPRanges excludedIPRanges() {
+        return excludedIPRanges;
+    }
+
+    ViolationMessages messages() {
+        return messages;
+    }
+
+    /**
+     * Returns which kinds of IPv6 addresses with embedded IPv4 addresses are allowed.
+     *
+     * @return A combination of {@link EmbeddedIPv4} flags.
+     */
+    int embeddedIPv4() {
+        return embeddedIPv4;
+    }
+
+    MemoryFootprint memoryFootprint() {
+        return ipRanges.memoryFootprint().plus(excludedIPRanges.memoryFootprint());
+    }
+
+    /**
+     * Returns whether or not any IP address is allowed, as long as it is of the right version.
+     *
+     * @return {@code true} if there are neither IP ranges nor excluded IP ranges to filter on, or {@code false} otherwise.
+     */
+    boolean allowsAll() {
+        return ipRanges.isEmpty() && excludedIPRanges.isEmpty();
+    }
+
+    /**
+     * Returns whether or not an IPv4 address is contained in the IP ranges, and not in the excluded IP ranges.
+     *
+     * @param ipAddress The IPv4 address to check, as returned by {@code IPv4Address.toInt()}.
+     * @param context The context to report violations to, or {@code null} if violations are not reported.
+     * @return {@code true} if the IPv4 address is allowed, or {@code false} otherwise.
+     */
+    boolean allowsIPv4Address(int ipAddress, ConstraintValidatorContext context) {
+        if (messageWithIPRanges != null && !ipRanges.contains(ipAddress)) {
+            messages.addViolation(messageWithIPRanges, context);
+            return false;
+        }
+        if (messageWithExcludedIPRanges != null && excludedIPRanges.contains(ipAddress)) {
+            messages.addViolation(messageWithExcludedIPRanges, context);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether or not an IPv6 address is contained in the IP ranges, and not in the excluded IP ranges.
+     *
+     * @param highAddress The 64 highest order bits of the IPv6 address to check.
+     * @param lowAddress The 64 lowest order bits of the IPv6 address to check.
+     * @param context The context to report violations to, or {@code null} if violations are not reported.
+     * @return {@code true} if the IPv6 address is allowed, or {@code false} otherwise.
+     */
+    boolean allowsIPv6Address(long highAddress, long lowAddress, ConstraintValidatorContext context) {
+        if (messageWithIPRanges != null && !ipRanges.contains(highAddress, lowAddress)) {
+            messages.addViolation(messageWithIPRanges, context);
+            return false;
+        }
+        if (messageWithExcludedIPRanges != null && excludedIPRanges.contains(highAddress, lowAddress)) {
+            messages.addViolation(messageWithExcludedIPRanges, context);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether or not an IP address is contained in the IP ranges, and not in the excluded IP ranges.
+     *
+     * @param ipAddress The IP address to check.
+     * @param context The context to report violations to, or {@code null} if violations are not reported.
+     * @return {@code true} if the IP address is allowed, or {@code false} otherwise.
+     */
+    boolean allowsIPAddress(IPAddress<?> ipAddress, ConstraintValidatorContext context) {
+        if (messageWithIPRanges != null && !ipRanges.contains(ipAddress)) {
+            messages.addViolation(messageWithIPRanges, context);
+            return false;
+        }
+        if (messageWithExcludedIPRanges != null && excludedIPRanges.contains(ipAddress)) {
+            messages.addViolation(messageWithExcludedIPRanges, context);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether or not a range of IPv4 addresses is completely contained in the IP ranges, and does not overlap with the excluded
+     * IP ranges.
+     *
+     * @param from The first IPv4 address of the range, as returned by {@code IPv4Address.toInt()}.
+     * @param to The last IPv4 address of the range, as returned by {@code IPv4Address.toInt()}.
+     * @param context The context to report violations to, or {@code null} if violations are not reported.
+     * @return {@code true} if the range of IPv4 addresses is allowed, or {@code false} otherwise.
+     */
+    boolean allowsIPv4Range(int from, int to, ConstraintValidatorContext context) {
+        if (messageWithIPRanges != null && !ipRanges.containsAll(from, to)) {
+            messages.addViolation(messageWithIPRanges, context);
+            return false;
+        }
+        if (messageWithExcludedIPRanges != null && excludedIPRanges.overlaps(from, to)) {
+            messages.addViolation(messageWithExcludedIPRanges, context);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether or not a range of IPv6 addresses is completely contained in the IP ranges, and does not overlap with the excluded
+     * IP ranges.
+     *
+     * @param fromHigh The 64 highest order bits of the first IPv6 address of the range.
+     * @param fromLow The 64 lowest order bits of the first IPv6 address of the range.
+     * @param toHigh The 64 highest order bits of the last IPv6 address of the range.
+     * @param toLow The 64 lowest order bits of the last IPv6 address of the range.
+     * @param context The context to report violations to, or {@code null} if violations are not reported.
+     * @return {@code true} if the range of IPv6 addresses is allowed, or {@code false} otherwise.
+     */
+    boolean allowsIPv6Range(long fromHigh, long fromLow, long toHigh, long toLow, ConstraintValidatorContext context) {
+        if (messageWithIPRanges != null && !ipRanges.containsAll(fromHigh, fromLow, toHigh, toLow)) {
+            messages.addViolation(messageWithIPRanges, context);
+            return false;
+        }
+        if (messageWithExcludedIPRanges != null && excludedIPRanges.overlaps(fromHigh, fromLow, toHigh, toLow)) {
+            messages.addViolation(messageWithExcludedIPRanges, context);
+            return false;
+        }
+        return true;
+    }
+}
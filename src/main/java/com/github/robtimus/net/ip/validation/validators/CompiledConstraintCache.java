@@ -0,0 +1,141 @@
+/*
+ * CompiledConstraintCache.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.lang.annotation.Annotation;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A cache for {@link CompiledConstraintHolder} instances, keyed by constraint annotation.
+ * Annotations with the same attribute values are equal, so the same IP ranges are parsed and compiled only once.
+ * <p>
+ * If {@link Settings#LAZY_COMPILATION} is enabled, constraint annotations are not compiled until they are first needed.
+ * <p>
+ * The cache holds at most {@link Settings#CACHE_MAX_SIZE} constraint annotations. If it is full, an arbitrary entry is dropped before a new
+ * one is added. Validators that already obtained the holder of a dropped entry keep using it; it is just no longer shared with validators
+ * that are initialized afterwards. The holders of dropped entries are released, so their statistics are unregistered if no other cache
+ * shares them.
+ *
+ * @author Rob Spoor
+ */
+final class CompiledConstraintCache {
+
+    /** A cache that does not cache anything, but compiles each constraint annotation separately. */
+    static final CompiledConstraintCache NONE = new CompiledConstraintCache(null, Settings.LAZY_COMPILATION, 0, null);
+
+    private final ConcurrentMap<Annotation, CompiledConstraintHolder> cache;
+    private final boolean lazy;
+    private final int maxSize;
+    // the cache to take compiled constraints from; only set for warm-up caches
+    private final CompiledConstraintCache source;
+
+    private CompiledConstraintCache(ConcurrentMap<Annotation, CompiledConstraintHolder> cache, boolean lazy, int maxSize,
+            CompiledConstraintCache source) {
+
+        this.cache = cache;
+        this.lazy = lazy;
+        this.maxSize = maxSize;
+        this.source = source;
+    }
+
+    CompiledConstraintCache() {
+        this(Settings.LAZY_COMPILATION);
+    }
+
+    CompiledConstraintCache(boolean lazy) {
+        this(lazy, Settings.CACHE_MAX_SIZE);
+    }
+
+    CompiledConstraintCache(boolean lazy, int maxSize) {
+        this(new ConcurrentHashMap<>(), lazy, Math.max(1, maxSize), null);
+    }
+
+    /**
+     * Returns a cache for warming up validators. The returned cache does not cache anything, and the holders it returns never collect
+     * statistics. If a constraint annotation is compiled in this cache, the returned holder shares the compiled constraint; otherwise
+     * the constraint annotation is compiled again.
+     *
+     * @return A cache for warming up validators.
+     */
+    CompiledConstraintCache forWarmUp() {
+        return new CompiledConstraintCache(null, false, 0, this);
+    }
+
+    @SuppressWarnings("unchecked")
+    <A extends Annotation> CompiledConstraintHolder get(A constraintAnnotation, Function<? super A, CompiledConstraint> compiler) {
+        if (cache == null) {
+            return source != null
+                    ? source.warmUpHolder(constraintAnnotation, compiler)
+                    : CompiledConstraintHolder.of(constraintAnnotation, compiler, lazy);
+        }
+        CompiledConstraintHolder holder = cache.get(constraintAnnotation);
+        if (holder != null) {
+            return holder;
+        }
+        evictIfFull();
+        // the key is the constraint annotation, so it's safe to cast it back to A
+        return cache.computeIfAbsent(constraintAnnotation, a -> CompiledConstraintHolder.of((A) a, compiler, lazy));
+    }
+
+    private <A extends Annotation> CompiledConstraintHolder warmUpHolder(A constraintAnnotation,
+            Function<? super A, CompiledConstraint> compiler) {
+
+        CompiledConstraintHolder holder = cache != null ? cache.get(constraintAnnotation) : null;
+        CompiledConstraint compiled = holder != null ? holder.getIfCompiled() : null;
+        return compiled != null
+                ? CompiledConstraintHolder.of(constraintAnnotation, a -> compiled, false, null)
+                : CompiledConstraintHolder.of(constraintAnnotation, compiler, false, null);
+    }
+
+    private void evictIfFull() {
+        // concurrent additions may make the cache exceed its maximum size by at most the number of adding threads
+        Iterator<Map.Entry<Annotation, CompiledConstraintHolder>> iterator = cache.entrySet().iterator();
+        while (cache.size() >= maxSize && iterator.hasNext()) {
+            Map.Entry<Annotation, CompiledConstraintHolder> entry = iterator.next();
+            remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void remove(Annotation constraintAnnotation, CompiledConstraintHolder holder) {
+        // only the thread that actually removes the entry releases the holder
+        if (cache.remove(constraintAnnotation, holder)) {
+            holder.release();
+        }
+    }
+
+    void forEach(BiConsumer<? super Annotation, ? super CompiledConstraintHolder> action) {
+        if (cache != null) {
+            cache.forEach(action);
+        }
+    }
+
+    int size() {
+        return cache == null ? 0 : cache.size();
+    }
+
+    void clear() {
+        if (cache != null) {
+            cache.forEach(this::remove);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * CompiledConstraintHolder.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.SoftReference;
+import java.util.function.Function;
+
+/**
+ * A holder for the {@link CompiledConstraint} of a single constraint annotation.
+ * <p>
+ * Eager holders compile the constraint annotation when they are created. Lazy holders compile it the first time it is needed, and only keep
+ * a soft reference to the result so it can be reclaimed under memory pressure; it is then compiled again when it is needed again.
+ * Lazy holders don't use any locking. If multiple threads need the compiled constraint at the same time, each may compile it, but because
+ * compiled constraints are immutable and equivalent, it doesn't matter which of the results is kept.
+ * <p>
+ * Note that if a constraint annotation contains invalid IP ranges, lazy holders will not fail until the compiled constraint is first needed.
+ *
+ * @author Rob Spoor
+ */
+final class CompiledConstraintHolder {
+
+    // null for lazy holders
+    private final CompiledConstraint compiled;
+
+    // null for eager holders
+    private final Annotation constraintAnnotation;
+    private final Function<Annotation, CompiledConstraint> compiler;
+    private volatile SoftReference<CompiledConstraint> reference;
+
+    // null if statistics are not collected
+    private final ConstraintStatistics statistics;
+
+    private CompiledConstraintHolder(CompiledConstraint compiled, Annotation constraintAnnotation,
+            Function<Annotation, CompiledConstraint> compiler, ConstraintStatistics statistics) {
+
+        this.compiled = compiled;
+        this.constraintAnnotation = constraintAnnotation;
+        this.compiler = compiler;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Creates a holder for a constraint annotation.
+     *
+     * @param <A> The type of constraint annotation.
+     * @param constraintAnnotation The constraint annotation.
+     * @param compiler The function to use to compile the constraint annotation.
+     * @param lazy {@code true} to compile the constraint annotation when it's first needed, or {@code false} to compile it immediately.
+     * @return The created holder.
+     */
+    static <A extends Annotation> CompiledConstraintHolder of(A constraintAnnotation, Function<? super A, CompiledConstraint> compiler,
+            boolean lazy) {
+
+        ConstraintStatistics statistics = Settings.JMX ? ConstraintStatistics.forConstraint(constraintAnnotation) : null;
+        return of(constraintAnnotation, compiler, lazy, statistics);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A extends Annotation> CompiledConstraintHolder of(A constraintAnnotation, Function<? super A, CompiledConstraint> compiler,
+            boolean lazy, ConstraintStatistics statistics) {
+
+        CompiledConstraintHolder holder = lazy
+                // the compiler is only ever called with the constraint annotation, so it's safe to cast it back to A
+                ? new CompiledConstraintHolder(null, constraintAnnotation, a -> compiler.apply((A) a), statistics)
+                : new CompiledConstraintHolder(compiler.apply(constraintAnnotation), null, null, statistics);
+        if (statistics != null) {
+            statistics.holder(holder);
+        }
+        return holder;
+    }
+
+    boolean isLazy() {
+        return compiled == null;
+    }
+
+    /**
+     * Returns the compiled constraint, compiling it if needed.
+     *
+     * @return The compiled constraint.
+     */
+    CompiledConstraint get() {
+        if (compiled != null) {
+            return compiled;
+        }
+        SoftReference<CompiledConstraint> currentReference = reference;
+        CompiledConstraint result = currentReference != null ? currentReference.get() : null;
+        if (result == null) {
+            // benign race: concurrent threads may each compile the constraint annotation, and the last one to finish wins
+            result = compiler.apply(constraintAnnotation);
+            reference = new SoftReference<>(result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the statistics of the constraint annotation.
+     *
+     * @return The statistics of the constraint annotation, or {@code null} if statistics are not collected.
+     */
+    ConstraintStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Releases this holder, once it is no longer shared. This releases its statistics, if any.
+     * Validators that still use this holder can keep using it, but their statistics may no longer be visible.
+     */
+    void release() {
+        if (statistics != null) {
+            statistics.release();
+        }
+    }
+
+    /**
+     * Records the result of validating a value, if statistics are collected.
+     *
+     * @param valid {@code true} if the value was valid, or {@code false} otherwise.
+     * @return The given result.
+     */
+    boolean record(boolean valid) {
+        if (statistics != null) {
+            statistics.record(valid);
+        }
+        return valid;
+    }
+
+    /**
+     * Returns the compiled constraint if it is available, without compiling it.
+     *
+     * @return The compiled constraint, or {@code null} if it has not been compiled yet, or if it has been reclaimed.
+     */
+    CompiledConstraint getIfCompiled() {
+        if (compiled != null) {
+            return compiled;
+        }
+        SoftReference<CompiledConstraint> currentReference = reference;
+        return currentReference != null ? currentReference.get() : null;
+    }
+}
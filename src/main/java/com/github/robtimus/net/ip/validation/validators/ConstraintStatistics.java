@@ -0,0 +1,237 @@
+/*
+ * ConstraintStatistics.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * The statistics of a single constraint annotation, exposed as an MXBean.
+ * <p>
+ * Statistics are only collected if {@link Settings#JMX} is enabled. Otherwise, {@link CompiledConstraintHolder} instances have no
+ * statistics, and validators only check for that before returning their result. Because {@link Settings#JMX} is never enabled if the
+ * {@code java.management} module is not available, this class is then never loaded.
+ * <p>
+ * Statistics are shared by all holders for equal constraint annotations. They are registered when the first of these holders is created,
+ * and unregistered when the last of these holders is released. Failing to register or unregister statistics is logged but otherwise
+ * ignored; validating values does not depend on it. This can for instance happen if several copies of this library are loaded by different
+ * class loaders, which then all try to register statistics with the same object name.
+ *
+ * @author Rob Spoor
+ */
+final class ConstraintStatistics implements ConstraintStatisticsMXBean {
+
+    private static final String DOMAIN = "com.github.robtimus.net.ip.validation"; //$NON-NLS-1$
+
+    private static final ConcurrentMap<Annotation, ConstraintStatistics> STATISTICS = new ConcurrentHashMap<>();
+
+    private static final Logger LOGGER = System.getLogger(ConstraintStatistics.class.getName());
+
+    private final Annotation constraintAnnotation;
+    private final String constraint;
+
+    // the number of holders that use these statistics; only updated while holding the lock of the STATISTICS entry
+    private int holderCount;
+    // the name with which these statistics were registered, or null if they are not registered
+    private ObjectName registeredName;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder parseNanos = new LongAdder();
+
+    // the holder that was most recently created for the constraint annotation
+    private volatile CompiledConstraintHolder holder;
+
+    ConstraintStatistics(Annotation constraintAnnotation) {
+        this.constraintAnnotation = constraintAnnotation;
+        this.constraint = constraintAnnotation.toString();
+    }
+
+    /**
+     * Returns the statistics for a constraint annotation, creating and registering them if needed.
+     * Each call must be followed by a call to {@link #release()} once the returned statistics are no longer used.
+     *
+     * @param constraintAnnotation The constraint annotation.
+     * @return The statistics for the given constraint annotation.
+     */
+    static ConstraintStatistics forConstraint(Annotation constraintAnnotation) {
+        return STATISTICS.compute(constraintAnnotation, (a, existing) -> {
+            ConstraintStatistics statistics = existing != null ? existing : new ConstraintStatistics(a).register();
+            statistics.holderCount++;
+            return statistics;
+        });
+    }
+
+    /**
+     * Releases these statistics. If they were returned by {@link #forConstraint(Annotation)} and are no longer used by any holder,
+     * they are unregistered.
+     */
+    void release() {
+        STATISTICS.computeIfPresent(constraintAnnotation, (a, existing) -> {
+            if (existing != this || --holderCount > 0) {
+                return existing;
+            }
+            unregister();
+            return null;
+        });
+    }
+
+    /**
+     * Registers these statistics in the platform MBean server. If that fails, these statistics are not registered.
+     *
+     * @return These statistics.
+     */
+    ConstraintStatistics register() {
+        try {
+            ObjectName objectName = objectName();
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            registeredName = objectName;
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, Messages.ConstraintStatistics.registrationFailed(constraint), e);
+        }
+        return this;
+    }
+
+    /**
+     * Unregisters these statistics from the platform MBean server, if they were registered.
+     */
+    void unregister() {
+        ObjectName objectName = registeredName;
+        if (objectName != null) {
+            registeredName = null;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOGGER.log(Level.WARNING, Messages.ConstraintStatistics.unregistrationFailed(constraint), e);
+            }
+        }
+    }
+
+    boolean isRegistered() {
+        return registeredName != null;
+    }
+
+    ObjectName objectName() throws JMException {
+        return new ObjectName(DOMAIN + ":type=Constraint,name=" + ObjectName.quote(constraint)); //$NON-NLS-1$
+    }
+
+    void holder(CompiledConstraintHolder newHolder) {
+        holder = newHolder;
+    }
+
+    /**
+     * Records the result of validating a value.
+     *
+     * @param valid {@code true} if the value was valid, or {@code false} otherwise.
+     */
+    void record(boolean valid) {
+        if (valid) {
+            hits.increment();
+        } else {
+            rejections.increment();
+        }
+    }
+
+    /**
+     * Records the time it took to parse a value.
+     *
+     * @param nanos The time it took to parse the value, in nanoseconds.
+     */
+    void recordParse(long nanos) {
+        parses.increment();
+        parseNanos.add(nanos);
+    }
+
+    @Override
+    public String getConstraint() {
+        return constraint;
+    }
+
+    @Override
+    public int getRangeCount() {
+        return memoryFootprint().rangeCount();
+    }
+
+    @Override
+    public long getHeapBytes() {
+        return memoryFootprint().heapBytes();
+    }
+
+    @Override
+    public long getOffHeapBytes() {
+        return memoryFootprint().offHeapBytes();
+    }
+
+    private MemoryFootprint memoryFootprint() {
+        CompiledConstraintHolder currentHolder = holder;
+        CompiledConstraint compiled = currentHolder != null ? currentHolder.getIfCompiled() : null;
+        return compiled != null ? compiled.memoryFootprint() : MemoryFootprint.EMPTY;
+    }
+
+    @Override
+    public long getLookupCount() {
+        return hits.sum() + rejections.sum();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        return rate(hits.sum(), rejections.sum());
+    }
+
+    @Override
+    public double getRejectionRate() {
+        return rate(rejections.sum(), hits.sum());
+    }
+
+    private static double rate(long count, long otherCount) {
+        long total = count + otherCount;
+        return total == 0 ? 0 : (double) count / total;
+    }
+
+    @Override
+    public double getAverageParseTimeNanos() {
+        long count = parses.sum();
+        return count == 0 ? 0 : (double) parseNanos.sum() / count;
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        rejections.reset();
+        parses.reset();
+        parseNanos.reset();
+    }
+}
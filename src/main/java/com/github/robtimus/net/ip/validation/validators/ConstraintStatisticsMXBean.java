@@ -0,0 +1,118 @@
+/*
+ * ConstraintStatisticsMXBean.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+/**
+ * The management interface for the statistics of a single IP address constraint.
+ * <p>
+ * If the {@code com.github.robtimus.net.ip.validation.jmx} system property is {@code true}, an MXBean with this interface is registered
+ * in the platform MBean server for each distinct constraint annotation of this library that supports IP ranges. Its object name is
+ * {@code com.github.robtimus.net.ip.validation:type=Constraint,name=<constraint>}, where {@code <constraint>} is the quoted string
+ * representation of the constraint annotation. Lookup, hit and rejection counts and parse times are only collected for the
+ * {@link com.github.robtimus.net.ip.validation.IPAddress IPAddress}, {@link com.github.robtimus.net.ip.validation.IPv4Address IPv4Address}
+ * and {@link com.github.robtimus.net.ip.validation.IPv6Address IPv6Address} constraints.
+ * <p>
+ * Validators for equal constraint annotations share the same statistics, even if they are created by different validator factories.
+ * Statistics are collected with counters that threads can update without contention, and they are not updated atomically together;
+ * while values are being validated, the rates that are derived from them are approximations.
+ *
+ * @author Rob Spoor
+ */
+public interface ConstraintStatisticsMXBean {
+
+    /**
+     * Returns the string representation of the constraint annotation.
+     *
+     * @return The string representation of the constraint annotation.
+     */
+    String getConstraint();
+
+    /**
+     * Returns the number of compiled IP ranges of the constraint, including its excluded IP ranges.
+     * IP ranges registered under one of the constraint's {@code namedIPRanges} are not included.
+     *
+     * @return The number of compiled IP ranges of the constraint, or {@code 0} if the constraint is not currently compiled.
+     */
+    int getRangeCount();
+
+    /**
+     * Returns the estimated number of bytes the compiled IP ranges of the constraint take on the Java heap.
+     *
+     * @return The estimated number of bytes on the Java heap, or {@code 0} if the constraint is not currently compiled.
+     * @see MemoryFootprint#heapBytes()
+     */
+    long getHeapBytes();
+
+    /**
+     * Returns the estimated number of bytes the compiled IP ranges of the constraint take outside of the Java heap.
+     *
+     * @return The estimated number of bytes outside of the Java heap, or {@code 0} if the constraint is not currently compiled.
+     * @see MemoryFootprint#offHeapBytes()
+     */
+    long getOffHeapBytes();
+
+    /**
+     * Returns the number of non-{@code null} values that have been validated since the statistics were last reset.
+     *
+     * @return The number of non-{@code null} values that have been validated.
+     */
+    long getLookupCount();
+
+    /**
+     * Returns the number of values that were valid since the statistics were last reset.
+     *
+     * @return The number of values that were valid.
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of values that were not valid since the statistics were last reset.
+     *
+     * @return The number of values that were not valid.
+     */
+    long getRejectionCount();
+
+    /**
+     * Returns the fraction of validated values that were valid.
+     *
+     * @return The fraction of validated values that were valid, or {@code 0} if no values have been validated.
+     */
+    double getHitRate();
+
+    /**
+     * Returns the fraction of validated values that were not valid.
+     *
+     * @return The fraction of validated values that were not valid, or {@code 0} if no values have been validated.
+     */
+    double getRejectionRate();
+
+    /**
+     * Returns the average time it took to parse a {@link CharSequence} into an IP address, in nanoseconds.
+     * Values that are validated against a constraint without any IP ranges are only checked to be IP addresses, and values that are
+     * validated as part of a larger buffer are parsed without creating IP addresses; these are not included.
+     *
+     * @return The average time it took to parse a {@code CharSequence} into an IP address, in nanoseconds,
+     *         or {@code 0} if no values have been parsed.
+     */
+    double getAverageParseTimeNanos();
+
+    /**
+     * Resets the lookup, hit and rejection counts, and the average parse time.
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,116 @@
+/*
+ * EmbeddedIPv4.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import com.github.robtimus.net.ip.IPv6Address;
+
+/**
+ * Utility class for IPv4 addresses that are embedded in IPv6 addresses.
+ * <p>
+ * The embedded IPv4 address is extracted from the bits of the IPv6 address directly, without creating any {@code IPv4Address},
+ * so it can be checked against compiled {@link IPv4RangeIndex IPv4 ranges} directly. IPv6 addresses in text form are parsed without
+ * creating any objects.
+ *
+ * @author Rob Spoor
+ */
+final class EmbeddedIPv4 {
+
+    /** No IPv6 addresses with embedded IPv4 addresses are allowed. */
+    static final int NONE = 0;
+    /** IPv4-mapped IPv6 addresses ({@code ::ffff:0:0/96}) are allowed. */
+    static final int IPV4_MAPPED = 1;
+    /** IPv6 addresses in the well-known NAT64 prefix ({@code 64:ff9b::/96}) are allowed. */
+    static final int NAT64 = 2;
+
+    /** Returned by {@link #extract(IPv6Address, int)} if an IPv6 address does not contain an allowed embedded IPv4 address. */
+    static final long NOT_EMBEDDED = -1L;
+
+    private static final long IPV4_MAPPED_HIGH = 0L;
+    private static final long IPV4_MAPPED_LOW_PREFIX = 0x0000_FFFFL;
+
+    private static final long NAT64_HIGH = 0x0064_FF9B_0000_0000L;
+    private static final long NAT64_LOW_PREFIX = 0L;
+
+    private static final long IPV4_MASK = 0xFFFF_FFFFL;
+
+    // IPv6Address has no accessors for its bits, so these bounds are used to rule out IPv6 addresses without copying their bits
+    private static final IPv6Address IPV4_MAPPED_FROM = IPv6Address.valueOf(IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW_PREFIX << Integer.SIZE);
+    private static final IPv6Address IPV4_MAPPED_TO = IPv6Address.valueOf(IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW_PREFIX << Integer.SIZE | IPV4_MASK);
+    private static final IPv6Address NAT64_FROM = IPv6Address.valueOf(NAT64_HIGH, NAT64_LOW_PREFIX << Integer.SIZE);
+    private static final IPv6Address NAT64_TO = IPv6Address.valueOf(NAT64_HIGH, NAT64_LOW_PREFIX << Integer.SIZE | IPV4_MASK);
+
+    private EmbeddedIPv4() {
+        throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
+    }
+
+    static int flags(boolean allowIPv4Mapped, boolean allowNAT64) {
+        return (allowIPv4Mapped ? IPV4_MAPPED : NONE) | (allowNAT64 ? NAT64 : NONE);
+    }
+
+    /**
+     * Extracts an embedded IPv4 address from an IPv6 address.
+     *
+     * @param address The IPv6 address to extract the IPv4 address from.
+     * @param flags The allowed kinds of embedded IPv4 addresses.
+     * @return The embedded IPv4 address as returned by {@code IPv4Address.toInt()} but converted to a non-negative {@code long},
+     *         or {@link #NOT_EMBEDDED} if the IPv6 address does not contain an allowed embedded IPv4 address.
+     */
+    static long extract(IPv6Address address, int flags) {
+        boolean embedded = (flags & IPV4_MAPPED) != 0 && isBetween(address, IPV4_MAPPED_FROM, IPV4_MAPPED_TO)
+                || (flags & NAT64) != 0 && isBetween(address, NAT64_FROM, NAT64_TO);
+        if (!embedded) {
+            return NOT_EMBEDDED;
+        }
+        // only IPv6 addresses with an allowed embedded IPv4 address get here, and only their bits are copied
+        byte[] bytes = address.toByteArray();
+        return IPv6RangeIndex.low(bytes) & IPV4_MASK;
+    }
+
+    private static boolean isBetween(IPv6Address address, IPv6Address from, IPv6Address to) {
+        return address.compareTo(from) >= 0 && address.compareTo(to) <= 0;
+    }
+
+    /**
+     * Extracts an embedded IPv4 address from an IPv6 address in text form, without creating any objects.
+     * The IPv6 address may be enclosed in {@code []}.
+     *
+     * @param value The value containing the IPv6 address.
+     * @param start The index of the first character of the IPv6 address, or its opening bracket.
+     * @param end The index after the last character of the IPv6 address, or its closing bracket.
+     * @param flags The allowed kinds of embedded IPv4 addresses.
+     * @return The embedded IPv4 address as returned by {@code IPv4Address.toInt()} but converted to a non-negative {@code long},
+     *         or {@link #NOT_EMBEDDED} if the given part of the value is not a valid IPv6 address,
+     *         or if it does not contain an allowed embedded IPv4 address.
+     */
+    static long extract(CharSequence value, int start, int end, int flags) {
+        if (flags == NONE) {
+            return NOT_EMBEDDED;
+        }
+        long[] address = IPRangeParser.ipv6Addresses();
+        return IPRangeParser.parseOptionallyBracketedIPv6Address(value, start, end, address, 0)
+                ? extract(address[0], address[1], flags)
+                : NOT_EMBEDDED;
+    }
+
+    static long extract(long highAddress, long lowAddress, int flags) {
+        long lowPrefix = lowAddress >>> Integer.SIZE;
+        boolean embedded = (flags & IPV4_MAPPED) != 0 && highAddress == IPV4_MAPPED_HIGH && lowPrefix == IPV4_MAPPED_LOW_PREFIX
+                || (flags & NAT64) != 0 && highAddress == NAT64_HIGH && lowPrefix == NAT64_LOW_PREFIX;
+        return embedded ? lowAddress & IPV4_MASK : NOT_EMBEDDED;
+    }
+}
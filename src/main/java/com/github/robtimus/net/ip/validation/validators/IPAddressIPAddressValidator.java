@@ -18,12 +18,9 @@
 package com.github.robtimus.net.ip.validation.validators;
 
 import static com.github.robtimus.net.ip.validation.validators.IPAddressValidator.isValidIPAddress;
-import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPRanges;
-import java.util.Collection;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import com.github.robtimus.net.ip.IPAddress;
-import com.github.robtimus.net.ip.IPRange;
 
 /**
  * An {@link com.github.robtimus.net.ip.validation.IPAddress IPAddress} constraint validator for {@link com.github.robtimus.net.ip.IPAddress}.
@@ -32,17 +29,28 @@ import com.github.robtimus.net.ip.IPRange;
  */
 public class IPAddressIPAddressValidator implements ConstraintValidator<com.github.robtimus.net.ip.validation.IPAddress, IPAddress<?>> {
 
-    private String message;
-    private Collection<IPRange<?>> ipRanges;
+    private final CompiledConstraintCache cache;
+
+    private CompiledConstraintHolder constraint;
+
+    /**
+     * Creates a new validator.
+     */
+    public IPAddressIPAddressValidator() {
+        this(CompiledConstraintCache.NONE);
+    }
+
+    IPAddressIPAddressValidator(CompiledConstraintCache cache) {
+        this.cache = cache;
+    }
 
     @Override
     public void initialize(com.github.robtimus.net.ip.validation.IPAddress constraintAnnotation) {
-        message = constraintAnnotation.message();
-        ipRanges = parseIPRanges(constraintAnnotation);
+        constraint = cache.get(constraintAnnotation, IPAddressValidator::compile);
     }
 
     @Override
     public boolean isValid(IPAddress<?> value, ConstraintValidatorContext context) {
-        return value == null || isValidIPAddress(value, ipRanges, message, context);
+        return value == null || constraint.record(isValidIPAddress(value, constraint.get(), context));
     }
 }
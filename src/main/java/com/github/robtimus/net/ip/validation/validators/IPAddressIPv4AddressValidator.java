@@ -17,13 +17,10 @@
 
 package com.github.robtimus.net.ip.validation.validators;
 
-import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPv4Ranges;
 import static com.github.robtimus.net.ip.validation.validators.IPv4AddressValidator.isValidIPv4Address;
-import java.util.Collection;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import com.github.robtimus.net.ip.IPAddress;
-import com.github.robtimus.net.ip.IPv4Range;
 import com.github.robtimus.net.ip.validation.IPv4Address;
 
 /**
@@ -33,17 +30,28 @@ import com.github.robtimus.net.ip.validation.IPv4Address;
  */
 public class IPAddressIPv4AddressValidator implements ConstraintValidator<IPv4Address, IPAddress<?>> {
 
-    private String message;
-    private Collection<IPv4Range> ipRanges;
+    private final CompiledConstraintCache cache;
+
+    private CompiledConstraintHolder constraint;
+
+    /**
+     * Creates a new validator.
+     */
+    public IPAddressIPv4AddressValidator() {
+        this(CompiledConstraintCache.NONE);
+    }
+
+    IPAddressIPv4AddressValidator(CompiledConstraintCache cache) {
+        this.cache = cache;
+    }
 
     @Override
     public void initialize(IPv4Address constraintAnnotation) {
-        message = constraintAnnotation.message();
-        ipRanges = parseIPv4Ranges(constraintAnnotation);
+        constraint = cache.get(constraintAnnotation, IPv4AddressValidator::compile);
     }
 
     @Override
     public boolean isValid(IPAddress<?> value, ConstraintValidatorContext context) {
-        return value == null || isValidIPv4Address(value, ipRanges, message, context);
+        return value == null || constraint.record(isValidIPv4Address(value, constraint.get(), context));
     }
 }
@@ -17,13 +17,10 @@
 
 package com.github.robtimus.net.ip.validation.validators;
 
-import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPv6Ranges;
 import static com.github.robtimus.net.ip.validation.validators.IPv6AddressValidator.isValidIPv6Address;
-import java.util.Collection;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import com.github.robtimus.net.ip.IPAddress;
-import com.github.robtimus.net.ip.IPv6Range;
 import com.github.robtimus.net.ip.validation.IPv6Address;
 
 /**
@@ -33,17 +30,28 @@ import com.github.robtimus.net.ip.validation.IPv6Address;
  */
 public class IPAddressIPv6AddressValidator implements ConstraintValidator<IPv6Address, IPAddress<?>> {
 
-    private String message;
-    private Collection<IPv6Range> ipRanges;
+    private final CompiledConstraintCache cache;
+
+    private CompiledConstraintHolder constraint;
+
+    /**
+     * Creates a new validator.
+     */
+    public IPAddressIPv6AddressValidator() {
+        this(CompiledConstraintCache.NONE);
+    }
+
+    IPAddressIPv6AddressValidator(CompiledConstraintCache cache) {
+        this.cache = cache;
+    }
 
     @Override
     public void initialize(IPv6Address constraintAnnotation) {
-        message = constraintAnnotation.message();
-        ipRanges = parseIPv6Ranges(constraintAnnotation);
+        constraint = cache.get(constraintAnnotation, IPv6AddressValidator::compile);
     }
 
     @Override
     public boolean isValid(IPAddress<?> value, ConstraintValidatorContext context) {
-        return value == null || isValidIPv6Address(value, ipRanges, message, context);
+        return value == null || constraint.record(isValidIPv6Address(value, constraint.get(), context));
     }
 }
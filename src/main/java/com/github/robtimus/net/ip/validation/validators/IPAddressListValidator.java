@@ -0,0 +1,128 @@
+/*
+ * IPAddressListValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPRanges;
+import java.util.Map;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.net.ip.validation.IPAddressList;
+import com.github.robtimus.net.ip.validation.IPAddressList.Elements;
+
+final class IPAddressListValidator {
+
+    private static final String CONSTRAINT_NAME = "IPAddressList"; //$NON-NLS-1$
+    private static final String MESSAGE_WITH_MAX_ELEMENTS
+            = "{com.github.robtimus.net.ip.validation.IPAddressList.message.withMaxElements}"; //$NON-NLS-1$
+
+    private IPAddressListValidator() {
+        throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
+    }
+
+    static CompiledConstraint compile(IPAddressList constraintAnnotation) {
+        char separator = constraintAnnotation.separator();
+        if (separator == '.' || separator == ':' || Character.digit(separator, 16) != -1 || isWhitespace(separator)) {
+            throw new IllegalArgumentException(Messages.IPAddressList.invalidSeparator(separator));
+        }
+        if (constraintAnnotation.maxElements() < 1) {
+            throw new IllegalArgumentException(Messages.IPAddressList.invalidMaxElements(constraintAnnotation.maxElements()));
+        }
+        IPRanges ipRanges = IPRanges.of(parseIPRanges(constraintAnnotation.ipRanges()), constraintAnnotation.namedIPRanges());
+        IPRanges excludedIPRanges = IPRanges.of(parseIPRanges(constraintAnnotation.excludedIPRanges()),
+                constraintAnnotation.excludedNamedIPRanges());
+        Map<String, Object> parameters = CompiledConstraint.parameters(constraintAnnotation.ipRanges(), constraintAnnotation.namedIPRanges(),
+                constraintAnnotation.excludedIPRanges(), constraintAnnotation.excludedNamedIPRanges());
+        parameters.put("maxElements", constraintAnnotation.maxElements()); //$NON-NLS-1$
+        CompiledConstraint constraint = new CompiledConstraint(CONSTRAINT_NAME, constraintAnnotation.message(), ipRanges, excludedIPRanges,
+                parameters, EmbeddedIPv4.NONE);
+        if (constraintAnnotation.maxElements() < Integer.MAX_VALUE) {
+            constraint.messages().prepare(MESSAGE_WITH_MAX_ELEMENTS);
+        }
+        return constraint;
+    }
+
+    /**
+     * Validates a list of IP addresses. The list is walked in place, without creating any objects.
+     *
+     * @param value The value to validate.
+     * @param separator The separator between the IP addresses.
+     * @param elements Which IP addresses to filter.
+     * @param maxElements The maximum number of IP addresses.
+     * @param constraint The compiled constraint to validate against.
+     * @param context The context to report violations to.
+     * @return {@code true} if the value is a valid list of IP addresses, or {@code false} otherwise.
+     */
+    static boolean isValidIPAddressList(CharSequence value, char separator, Elements elements, int maxElements, CompiledConstraint constraint,
+            ConstraintValidatorContext context) {
+
+        boolean allowsAll = constraint.allowsAll();
+        int length = value.length();
+        int count = 0;
+        int start = 0;
+        while (true) {
+            int end = start;
+            boolean ipv6 = false;
+            for (; end < length; end++) {
+                char c = value.charAt(end);
+                if (c == separator) {
+                    break;
+                }
+                ipv6 |= c == ':';
+            }
+            count++;
+            if (count > maxElements) {
+                constraint.messages().addViolation(MESSAGE_WITH_MAX_ELEMENTS, context);
+                return false;
+            }
+            boolean last = end == length;
+            boolean filter = !allowsAll
+                    && (elements == Elements.ALL || elements == Elements.FIRST && count == 1 || elements == Elements.LAST && last);
+            if (!isValidIPAddress(value, start, end, ipv6, filter, constraint, context)) {
+                return false;
+            }
+            if (last) {
+                return true;
+            }
+            start = end + 1;
+        }
+    }
+
+    private static boolean isValidIPAddress(CharSequence value, int start, int end, boolean ipv6, boolean filter, CompiledConstraint constraint,
+            ConstraintValidatorContext context) {
+
+        int from = start;
+        int to = end;
+        while (from < to && isWhitespace(value.charAt(from))) {
+            from++;
+        }
+        while (to > from && isWhitespace(value.charAt(to - 1))) {
+            to--;
+        }
+        if (ipv6) {
+            long[] address = IPRangeParser.ipv6Addresses();
+            return IPRangeParser.parseIPv6Address(value, from, to, address, 0)
+                    && (!filter || constraint.allowsIPv6Address(address[0], address[1], context));
+        }
+        long address = IPRangeParser.parseIPv4Address(value, from, to);
+        return address != -1
+                && (!filter || constraint.allowsIPv4Address((int) address, context));
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+}
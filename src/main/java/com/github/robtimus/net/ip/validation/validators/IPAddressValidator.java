@@ -17,38 +17,49 @@
 
 package com.github.robtimus.net.ip.validation.validators;
 
-import java.util.Collection;
+import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPRanges;
+import java.util.Map;
 import jakarta.validation.ConstraintValidatorContext;
 import com.github.robtimus.net.ip.IPAddress;
-import com.github.robtimus.net.ip.IPRange;
 
 final class IPAddressValidator {
 
-    private static final String DEFAULT_MESSAGE = "{com.github.robtimus.net.ip.validation.IPAddress.message}"; //$NON-NLS-1$
-    private static final String MESSAGE_WITH_IP_RANGES = "{com.github.robtimus.net.ip.validation.IPAddress.message.withIPRanges}"; //$NON-NLS-1$
+    private static final String CONSTRAINT_NAME = "IPAddress"; //$NON-NLS-1$
 
     private IPAddressValidator() {
         throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
     }
 
-    static boolean isValidIPAddress(IPAddress<?> ipAddress, Collection<IPRange<?>> ipRanges, String message, ConstraintValidatorContext context) {
-        if (ipRanges.isEmpty() || ipRangesContainIPAddress(ipRanges, ipAddress)) {
-            return true;
-        }
-        if (DEFAULT_MESSAGE.equals(message)) {
-            context.disableDefaultConstraintViolation();
-            context.buildConstraintViolationWithTemplate(MESSAGE_WITH_IP_RANGES)
-                    .addConstraintViolation();
-        }
-        return false;
+    static CompiledConstraint compile(com.github.robtimus.net.ip.validation.IPAddress constraintAnnotation) {
+        IPRanges ipRanges = IPRanges.of(parseIPRanges(constraintAnnotation), constraintAnnotation.namedIPRanges());
+        IPRanges excludedIPRanges = IPRanges.of(parseIPRanges(constraintAnnotation.excludedIPRanges()),
+                constraintAnnotation.excludedNamedIPRanges());
+        Map<String, Object> parameters = CompiledConstraint.parameters(constraintAnnotation.ipRanges(), constraintAnnotation.namedIPRanges(),
+                constraintAnnotation.excludedIPRanges(), constraintAnnotation.excludedNamedIPRanges());
+        return new CompiledConstraint(CONSTRAINT_NAME, constraintAnnotation.message(), ipRanges, excludedIPRanges, parameters, EmbeddedIPv4.NONE);
     }
 
-    private static boolean ipRangesContainIPAddress(Collection<IPRange<?>> ipRanges, IPAddress<?> ipAddress) {
-        for (IPRange<?> ipRange : ipRanges) {
-            if (ipRange.contains(ipAddress)) {
-                return true;
-            }
+    /**
+     * Validates part of a value, without copying it or creating any objects.
+     *
+     * @param value The value containing the IP address to validate.
+     * @param start The index of the first character of the IP address.
+     * @param end The index after the last character of the IP address.
+     * @param constraint The compiled constraint to validate against.
+     * @param context The context to report violations to, or {@code null} if violations are not reported.
+     * @return {@code true} if the given part of the value is a valid IP address, or {@code false} otherwise.
+     */
+    static boolean isValidIPAddress(CharSequence value, int start, int end, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        if (IPRangeParser.containsColon(value, start, end)) {
+            long[] address = IPRangeParser.ipv6Addresses();
+            return IPRangeParser.parseOptionallyBracketedIPv6Address(value, start, end, address, 0)
+                    && constraint.allowsIPv6Address(address[0], address[1], context);
         }
-        return false;
+        long address = IPRangeParser.parseIPv4Address(value, start, end);
+        return address != -1 && constraint.allowsIPv4Address((int) address, context);
+    }
+
+    static boolean isValidIPAddress(IPAddress<?> ipAddress, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        return constraint.allowsIPAddress(ipAddress, context);
     }
 }
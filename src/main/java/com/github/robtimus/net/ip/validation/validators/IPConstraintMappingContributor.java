@@ -0,0 +1,107 @@
+/*
+ * IPConstraintMappingContributor.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
+import com.github.robtimus.net.ip.validation.IPAddress;
+import com.github.robtimus.net.ip.validation.IPAddressList;
+import com.github.robtimus.net.ip.validation.IPRange;
+import com.github.robtimus.net.ip.validation.IPSocketAddress;
+import com.github.robtimus.net.ip.validation.IPSubnet;
+import com.github.robtimus.net.ip.validation.IPv4Address;
+import com.github.robtimus.net.ip.validation.IPv6Address;
+
+/**
+ * A Hibernate Validator {@link ConstraintMappingContributor} that registers the validators of all constraints of this library up front.
+ * <p>
+ * Without this class, Hibernate Validator finds the validators of a constraint by reading the {@link jakarta.validation.Constraint#validatedBy()
+ * validatedBy} attribute of its {@link jakarta.validation.Constraint Constraint} annotation when the constraint is first used.
+ * With this class, the validators are part of the programmatic constraint mapping that Hibernate Validator builds when the validator factory
+ * is created, and the validators of the {@code validatedBy} attributes are not included.
+ * <p>
+ * This class is best combined with an {@link IPConstraintValidatorFactory}, so validators for equal constraint annotations share their
+ * compiled IP ranges. Validator instances themselves cannot be shared, as validation providers initialize each instance for a single
+ * constraint annotation; what they share is the immutable compiled constraint that they are initialized with.
+ * <pre><code>
+ * HibernateValidatorConfiguration configuration = Validation.byProvider(HibernateValidator.class).configure();
+ * IPConstraintMappingContributor.register(configuration);
+ * ValidatorFactory validatorFactory = configuration
+ *         .constraintValidatorFactory(new IPConstraintValidatorFactory(configuration.getDefaultConstraintValidatorFactory()))
+ *         .buildValidatorFactory();
+ * </code></pre>
+ * Alternatively, set configuration property {@value HibernateValidatorConfiguration#CONSTRAINT_MAPPING_CONTRIBUTORS} to the fully
+ * qualified name of this class, for instance in {@code META-INF/validation.xml}.
+ * <p>
+ * This class can only be used if Hibernate Validator is available; it is an optional dependency of this library.
+ *
+ * @author Rob Spoor
+ */
+public final class IPConstraintMappingContributor implements ConstraintMappingContributor {
+
+    @Override
+    public void createConstraintMappings(ConstraintMappingBuilder builder) {
+        ConstraintMapping mapping = builder.addConstraintMapping();
+
+        mapping.constraintDefinition(IPAddress.class)
+                .includeExistingValidators(false)
+                .validatedBy(CharSequenceIPAddressValidator.class)
+                .validatedBy(IPAddressIPAddressValidator.class);
+        mapping.constraintDefinition(IPv4Address.class)
+                .includeExistingValidators(false)
+                .validatedBy(CharSequenceIPv4AddressValidator.class)
+                .validatedBy(IPAddressIPv4AddressValidator.class);
+        mapping.constraintDefinition(IPv6Address.class)
+                .includeExistingValidators(false)
+                .validatedBy(CharSequenceIPv6AddressValidator.class)
+                .validatedBy(IPAddressIPv6AddressValidator.class);
+        mapping.constraintDefinition(IPSubnet.class)
+                .includeExistingValidators(false)
+                .validatedBy(CharSequenceIPSubnetValidator.class)
+                .validatedBy(SubnetIPSubnetValidator.class);
+        mapping.constraintDefinition(IPRange.class)
+                .includeExistingValidators(false)
+                .validatedBy(CharSequenceIPRangeValidator.class)
+                .validatedBy(IPRangeIPRangeValidator.class);
+        mapping.constraintDefinition(IPSocketAddress.class)
+                .includeExistingValidators(false)
+                .validatedBy(CharSequenceIPSocketAddressValidator.class);
+        mapping.constraintDefinition(IPAddressList.class)
+                .includeExistingValidators(false)
+                .validatedBy(CharSequenceIPAddressListValidator.class);
+    }
+
+    /**
+     * Registers the validators of all constraints of this library with a Hibernate Validator configuration.
+     * This has the same effect as registering an instance of this class using configuration property
+     * {@value HibernateValidatorConfiguration#CONSTRAINT_MAPPING_CONTRIBUTORS}, without the need to create it using reflection.
+     *
+     * @param configuration The configuration to register the validators with.
+     * @return The given configuration.
+     * @throws NullPointerException If the given configuration is {@code null}.
+     */
+    public static HibernateValidatorConfiguration register(HibernateValidatorConfiguration configuration) {
+        new IPConstraintMappingContributor().createConstraintMappings(() -> {
+            ConstraintMapping mapping = configuration.createConstraintMapping();
+            configuration.addMapping(mapping);
+            return mapping;
+        });
+        return configuration;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * IPConstraintValidatorFactory.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static java.util.Map.entry;
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+
+/**
+ * A {@link ConstraintValidatorFactory} for the validators of this library.
+ * <p>
+ * Validators for equal constraint annotations, for instance {@code @IPv4Address(ipRanges = "10.0.0.0/8")} on several properties, share
+ * the same compiled IP ranges; these are parsed and compiled only once for each instance of this class, instead of once for each
+ * constrained element. This saves time and memory when the same constraint is used on many elements, and especially when it has many IP
+ * ranges. Validators for all other constraints are created by a delegate factory.
+ * <p>
+ * This class does not change how the validation provider finds the validators of constraints. With Hibernate Validator, use an
+ * {@link IPConstraintMappingContributor} to register the validators of this library up front.
+ * <p>
+ * At most 1024 distinct constraint annotations are shared; this can be changed using system property
+ * {@code com.github.robtimus.net.ip.validation.cache.maxSize}. If more distinct constraint annotations are used, validators for some of
+ * them get their own compiled IP ranges instead.
+ * <p>
+ * To use this class, configure it when creating a {@link jakarta.validation.ValidatorFactory ValidatorFactory}:
+ * <pre><code>
+ * Configuration&lt;?&gt; configuration = Validation.byDefaultProvider().configure();
+ * ConstraintValidatorFactory constraintValidatorFactory = new IPConstraintValidatorFactory(
+ *         configuration.getDefaultConstraintValidatorFactory());
+ * ValidatorFactory validatorFactory = configuration
+ *         .constraintValidatorFactory(constraintValidatorFactory)
+ *         .buildValidatorFactory();
+ * </code></pre>
+ *
+ * @author Rob Spoor
+ */
+public final class IPConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+    private static final Map<Class<?>, Function<CompiledConstraintCache, ConstraintValidator<?, ?>>> VALIDATORS = Map.ofEntries(
+            entry(CharSequenceIPAddressValidator.class, CharSequenceIPAddressValidator::new),
+            entry(CharSequenceIPv4AddressValidator.class, CharSequenceIPv4AddressValidator::new),
+            entry(CharSequenceIPv6AddressValidator.class, CharSequenceIPv6AddressValidator::new),
+            entry(IPAddressIPAddressValidator.class, IPAddressIPAddressValidator::new),
+            entry(IPAddressIPv4AddressValidator.class, IPAddressIPv4AddressValidator::new),
+            entry(IPAddressIPv6AddressValidator.class, IPAddressIPv6AddressValidator::new),
+            entry(CharSequenceIPSubnetValidator.class, CharSequenceIPSubnetValidator::new),
+            entry(SubnetIPSubnetValidator.class, SubnetIPSubnetValidator::new),
+            entry(CharSequenceIPRangeValidator.class, CharSequenceIPRangeValidator::new),
+            entry(IPRangeIPRangeValidator.class, IPRangeIPRangeValidator::new),
+            entry(CharSequenceIPSocketAddressValidator.class, CharSequenceIPSocketAddressValidator::new),
+            entry(CharSequenceIPAddressListValidator.class, CharSequenceIPAddressListValidator::new));
+
+    private final ConstraintValidatorFactory delegate;
+    private final CompiledConstraintCache cache;
+
+    /**
+     * Creates a new constraint validator factory.
+     *
+     * @param delegate The factory to use for all validators that are not part of this library.
+     * @throws NullPointerException If the given factory is {@code null}.
+     */
+    public IPConstraintValidatorFactory(ConstraintValidatorFactory delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = new CompiledConstraintCache();
+    }
+
+    @Override
+    public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+        Function<CompiledConstraintCache, ConstraintValidator<?, ?>> constructor = VALIDATORS.get(key);
+        return constructor != null
+                ? key.cast(constructor.apply(cache))
+                : delegate.getInstance(key);
+    }
+
+    @Override
+    public void releaseInstance(ConstraintValidator<?, ?> instance) {
+        if (!VALIDATORS.containsKey(instance.getClass())) {
+            delegate.releaseInstance(instance);
+        }
+    }
+
+    /**
+     * Returns the memory footprints of the compiled IP ranges of the constraints of this factory. Each constraint annotation is included
+     * only if it is currently compiled; with lazy compilation, constraint annotations that have not been validated yet or that have been
+     * reclaimed are not included. The IP ranges registered under one of the {@code namedIPRanges} of a constraint are not included, as these
+     * are shared between constraints; use {@link IPRangeRegistry#getMemoryFootprint(String)} for those.
+     *
+     * @return An unmodifiable map with the memory footprint of the compiled {@code ipRanges} and {@code excludedIPRanges} of each constraint
+     *         annotation.
+     */
+    public Map<Annotation, MemoryFootprint> getMemoryFootprints() {
+        Map<Annotation, MemoryFootprint> footprints = new HashMap<>();
+        cache.forEach((constraintAnnotation, holder) -> {
+            CompiledConstraint compiled = holder.getIfCompiled();
+            if (compiled != null) {
+                footprints.put(constraintAnnotation, compiled.memoryFootprint());
+            }
+        });
+        return Collections.unmodifiableMap(footprints);
+    }
+
+    CompiledConstraintCache cache() {
+        return cache;
+    }
+}
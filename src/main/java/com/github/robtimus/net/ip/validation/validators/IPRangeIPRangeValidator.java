@@ -0,0 +1,56 @@
+/*
+ * IPRangeIPRangeValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static com.github.robtimus.net.ip.validation.validators.IPRangeValidator.isValidIPRange;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.net.ip.IPRange;
+
+/**
+ * An {@link com.github.robtimus.net.ip.validation.IPRange IPRange} constraint validator for {@link com.github.robtimus.net.ip.IPRange}.
+ *
+ * @author Rob Spoor
+ */
+public class IPRangeIPRangeValidator implements ConstraintValidator<com.github.robtimus.net.ip.validation.IPRange, IPRange<?>> {
+
+    private final CompiledConstraintCache cache;
+
+    private CompiledConstraintHolder constraint;
+
+    /**
+     * Creates a new validator.
+     */
+    public IPRangeIPRangeValidator() {
+        this(CompiledConstraintCache.NONE);
+    }
+
+    IPRangeIPRangeValidator(CompiledConstraintCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void initialize(com.github.robtimus.net.ip.validation.IPRange constraintAnnotation) {
+        constraint = cache.get(constraintAnnotation, IPRangeValidator::compile);
+    }
+
+    @Override
+    public boolean isValid(IPRange<?> value, ConstraintValidatorContext context) {
+        return value == null || constraint.record(isValidIPRange(value, constraint.get(), context));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * IPRangeIndex.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+
+/**
+ * An immutable, compiled representation of a list of IP ranges of any version.
+ *
+ * @author Rob Spoor
+ */
+final class IPRangeIndex {
+
+    static final IPRangeIndex EMPTY = new IPRangeIndex(IPv4RangeIndex.EMPTY, IPv6RangeIndex.EMPTY);
+
+    // Weak references to all non-empty indexes. This is only used to report the total memory footprint.
+    // A concurrent set is used instead of a synchronized WeakHashMap, so creating indexes from several threads never contends on a single lock.
+    // References to indexes that have been garbage collected are removed each time an index is added.
+    private static final Set<Reference<IPRangeIndex>> INDEXES = ConcurrentHashMap.newKeySet();
+    private static final ReferenceQueue<IPRangeIndex> COLLECTED_INDEXES = new ReferenceQueue<>();
+
+    private final IPv4RangeIndex ipv4;
+    private final IPv6RangeIndex ipv6;
+
+    private IPRangeIndex(IPv4RangeIndex ipv4, IPv6RangeIndex ipv6) {
+        this.ipv4 = ipv4;
+        this.ipv6 = ipv6;
+    }
+
+    static IPRangeIndex of(Collection<? extends IPRange<?>> ipRanges) {
+        if (ipRanges.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<IPv4Range> ipv4Ranges = new ArrayList<>();
+        List<IPv6Range> ipv6Ranges = new ArrayList<>();
+        for (IPRange<?> ipRange : ipRanges) {
+            if (ipRange instanceof IPv4Range) {
+                ipv4Ranges.add((IPv4Range) ipRange);
+            } else {
+                ipv6Ranges.add((IPv6Range) ipRange);
+            }
+        }
+        IPRangeIndex index = new IPRangeIndex(IPv4RangeIndex.of(ipv4Ranges), IPv6RangeIndex.of(ipv6Ranges));
+        register(index);
+        return index;
+    }
+
+    private static void register(IPRangeIndex index) {
+        for (Reference<?> collected = COLLECTED_INDEXES.poll(); collected != null; collected = COLLECTED_INDEXES.poll()) {
+            INDEXES.remove(collected);
+        }
+        INDEXES.add(new WeakReference<>(index, COLLECTED_INDEXES));
+    }
+
+    static MemoryFootprint totalMemoryFootprint() {
+        MemoryFootprint result = MemoryFootprint.EMPTY;
+        for (Reference<IPRangeIndex> reference : INDEXES) {
+            IPRangeIndex index = reference.get();
+            if (index != null) {
+                result = result.plus(index.memoryFootprint());
+            }
+        }
+        return result;
+    }
+
+    boolean isEmpty() {
+        return ipv4.isEmpty() && ipv6.isEmpty();
+    }
+
+    /**
+     * Returns the IP ranges of this index. The IPv4 ranges are returned first, followed by the IPv6 ranges.
+     * The list is created on demand, as the IPv6 ranges may not be stored as {@link IPRange} objects.
+     *
+     * @return An unmodifiable list with the IP ranges of this index.
+     */
+    List<IPRange<?>> ranges() {
+        List<IPRange<?>> ranges = new ArrayList<>(ipv4.size() + ipv6.size());
+        for (int i = 0; i < ipv4.size(); i++) {
+            ranges.add(ipv4.get(i));
+        }
+        for (int i = 0; i < ipv6.size(); i++) {
+            ranges.add(ipv6.get(i));
+        }
+        return Collections.unmodifiableList(ranges);
+    }
+
+    MemoryFootprint memoryFootprint() {
+        return ipv4.memoryFootprint().plus(ipv6.memoryFootprint());
+    }
+
+    IPv4RangeIndex ipv4() {
+        return ipv4;
+    }
+
+    IPv6RangeIndex ipv6() {
+        return ipv6;
+    }
+
+    /**
+     * Returns the most specific range that contains an IP address.
+     *
+     * @param address The IP address.
+     * @return The most specific range that contains the given IP address, or {@code null} if no range contains it.
+     */
+    IPRange<?> rangeOf(IPAddress<?> address) {
+        if (address instanceof IPv4Address) {
+            return ipv4.rangeOf(((IPv4Address) address).toInt());
+        }
+        byte[] bytes = ((IPv6Address) address).toByteArray();
+        return ipv6.rangeOf(IPv6RangeIndex.high(bytes), IPv6RangeIndex.low(bytes));
+    }
+
+    boolean contains(IPAddress<?> address) {
+        return address instanceof IPv4Address
+                ? ipv4.contains((IPv4Address) address)
+                : ipv6.contains((IPv6Address) address);
+    }
+}
@@ -21,6 +21,7 @@ import static java.util.stream.Collectors.toList;
 import java.text.ParsePosition;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import com.github.robtimus.net.ip.IPAddress;
@@ -36,12 +37,22 @@ import com.github.robtimus.net.ip.Subnet;
 
 final class IPRangeParser {
 
+    private static final int IPV6_GROUPS = 8;
+    private static final int IPV6_GROUP_DIGITS = 4;
+
+    // reusable per thread, so IPv6 addresses can be parsed from CharSequences without creating any objects
+    private static final ThreadLocal<long[]> IPV6_ADDRESSES = ThreadLocal.withInitial(() -> new long[4]);
+
     private IPRangeParser() {
         throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
     }
 
-    static Collection<IPRange<?>> parseIPRanges(com.github.robtimus.net.ip.validation.IPAddress constraintAnnotation) {
-        return Arrays.stream(constraintAnnotation.ipRanges())
+    static List<IPRange<?>> parseIPRanges(com.github.robtimus.net.ip.validation.IPAddress constraintAnnotation) {
+        return parseIPRanges(constraintAnnotation.ipRanges());
+    }
+
+    static List<IPRange<?>> parseIPRanges(String[] ipRanges) {
+        return Arrays.stream(ipRanges)
                 .map(IPRangeParser::parseIPRange)
                 .collect(toList());
     }
@@ -60,7 +71,11 @@ final class IPRangeParser {
     }
 
     static Collection<IPv4Range> parseIPv4Ranges(com.github.robtimus.net.ip.validation.IPv4Address constraintAnnotation) {
-        return Arrays.stream(constraintAnnotation.ipRanges())
+        return parseIPv4Ranges(constraintAnnotation.ipRanges());
+    }
+
+    static Collection<IPv4Range> parseIPv4Ranges(String[] ipRanges) {
+        return Arrays.stream(ipRanges)
                 .map(IPRangeParser::parseIPv4Range)
                 .collect(toList());
     }
@@ -70,7 +85,11 @@ final class IPRangeParser {
     }
 
     static Collection<IPv6Range> parseIPv6Ranges(com.github.robtimus.net.ip.validation.IPv6Address constraintAnnotation) {
-        return Arrays.stream(constraintAnnotation.ipRanges())
+        return parseIPv6Ranges(constraintAnnotation.ipRanges());
+    }
+
+    static Collection<IPv6Range> parseIPv6Ranges(String[] ipRanges) {
+        return Arrays.stream(ipRanges)
                 .map(IPRangeParser::parseIPv6Range)
                 .collect(toList());
     }
@@ -107,4 +126,233 @@ final class IPRangeParser {
         }
         return ipRangeConstructor.apply(from, to);
     }
+
+    /**
+     * Parses the prefix length of a CIDR notation without creating any objects.
+     *
+     * @param value The value containing the prefix length.
+     * @param start The index of the first digit of the prefix length.
+     * @param maxPrefixLength The maximum prefix length; 32 for IPv4, or 128 for IPv6.
+     * @return The parsed prefix length, or {@code -1} if the remainder of the given value is not a valid prefix length.
+     */
+    static int parsePrefixLength(CharSequence value, int start, int maxPrefixLength) {
+        int end = value.length();
+        // at most 3 digits, to prevent overflow
+        if (start == end || end - start > 3) {
+            return -1;
+        }
+        int prefixLength = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            prefixLength = prefixLength * 10 + c - '0';
+        }
+        return prefixLength <= maxPrefixLength ? prefixLength : -1;
+    }
+
+    /**
+     * Parses an IPv4 address in dotted decimal notation without creating any objects.
+     *
+     * @param value The value containing the IPv4 address.
+     * @param start The index of the first character of the IPv4 address.
+     * @param end The index after the last character of the IPv4 address.
+     * @return The parsed IPv4 address as returned by {@code IPv4Address.toInt()} but converted to a non-negative {@code long},
+     *         or {@code -1} if the given part of the value is not a valid IPv4 address.
+     */
+    static long parseIPv4Address(CharSequence value, int start, int end) {
+        if (value instanceof AsciiSequence) {
+            return ((AsciiSequence) value).parseIPv4Address(start, end);
+        }
+        long address = 0;
+        int octets = 0;
+        int index = start;
+        while (index < end && octets < 4) {
+            int octet = 0;
+            int digits = 0;
+            for (; index < end && digits <= 3; index++, digits++) {
+                char c = value.charAt(index);
+                if (c == '.') {
+                    break;
+                }
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                octet = octet * 10 + c - '0';
+            }
+            if (digits == 0 || digits > 3 || octet > 255) {
+                return -1;
+            }
+            address = address << 8 | octet;
+            octets++;
+            if (octets < 4) {
+                // skip the dot, which must be followed by another octet
+                if (index == end) {
+                    return -1;
+                }
+                index++;
+            }
+        }
+        return octets == 4 && index == end ? address : -1;
+    }
+
+    /**
+     * Returns whether or not part of a value contains a colon. If so, the value can only be an IPv6 address.
+     *
+     * @param value The value to check.
+     * @param start The index of the first character to check.
+     * @param end The index after the last character to check.
+     * @return {@code true} if the given part of the value contains a colon, or {@code false} otherwise.
+     */
+    static boolean containsColon(CharSequence value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (value.charAt(i) == ':') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an array that can be used by the current thread to store the result of {@link #parseIPv6Address}.
+     * The array has room for two IPv6 addresses; it must not be passed to other threads.
+     *
+     * @return An array that can be used by the current thread to store parsed IPv6 addresses.
+     */
+    static long[] ipv6Addresses() {
+        return IPV6_ADDRESSES.get();
+    }
+
+    /**
+     * Parses an IPv6 address without creating any objects. The IPv6 address may use {@code ::} to compress groups of zeroes,
+     * and may end with an embedded IPv4 address in dotted decimal notation. Zone ids and enclosing brackets are not supported.
+     *
+     * @param value The value containing the IPv6 address.
+     * @param start The index of the first character of the IPv6 address.
+     * @param end The index after the last character of the IPv6 address.
+     * @param address The array to store the 64 highest order bits and 64 lowest order bits of the parsed IPv6 address in.
+     * @param offset The index in the array to store the 64 highest order bits at; the 64 lowest order bits are stored at the next index.
+     * @return {@code true} if the given part of the value is a valid IPv6 address, or {@code false} otherwise.
+     *         If {@code false} is returned the content of the array is undefined.
+     */
+    static boolean parseIPv6Address(CharSequence value, int start, int end, long[] address, int offset) {
+        // the groups before ::, if any
+        long prefixHigh = 0L;
+        long prefixLow = 0L;
+        // the groups after :: if there is one, or all groups otherwise
+        long high = 0L;
+        long low = 0L;
+        int groups = 0;
+        int compressedAt = -1;
+        int index = start;
+        if (index < end && value.charAt(index) == ':') {
+            if (index + 1 == end || value.charAt(index + 1) != ':') {
+                return false;
+            }
+            compressedAt = 0;
+            index += 2;
+        }
+        while (index < end) {
+            int groupStart = index;
+            int group = 0;
+            boolean embeddedIPv4 = false;
+            for (; index < end; index++) {
+                char c = value.charAt(index);
+                if (c == ':') {
+                    break;
+                }
+                if (c == '.') {
+                    embeddedIPv4 = true;
+                    break;
+                }
+                int digit = hexDigit(c);
+                if (digit == -1 || index - groupStart == IPV6_GROUP_DIGITS) {
+                    return false;
+                }
+                group = group << 4 | digit;
+            }
+            if (embeddedIPv4) {
+                long ipv4Address = parseIPv4Address(value, groupStart, end);
+                if (ipv4Address == -1 || groups + 2 > IPV6_GROUPS) {
+                    return false;
+                }
+                high = high << Integer.SIZE | low >>> Integer.SIZE;
+                low = low << Integer.SIZE | ipv4Address;
+                groups += 2;
+                break;
+            }
+            if (index == groupStart || groups == IPV6_GROUPS) {
+                return false;
+            }
+            high = high << Character.SIZE | low >>> (Long.SIZE - Character.SIZE);
+            low = low << Character.SIZE | group;
+            groups++;
+            if (index < end) {
+                // skip the colon, which must be followed by another group or a second colon
+                index++;
+                if (index == end) {
+                    return false;
+                }
+                if (value.charAt(index) == ':') {
+                    if (compressedAt != -1) {
+                        return false;
+                    }
+                    compressedAt = groups;
+                    prefixHigh = high;
+                    prefixLow = low;
+                    high = 0L;
+                    low = 0L;
+                    index++;
+                }
+            }
+        }
+        if (compressedAt == -1 ? groups != IPV6_GROUPS : groups == IPV6_GROUPS) {
+            return false;
+        }
+        if (compressedAt > 0) {
+            // move the groups before :: to their final position; this shifts by at least 16 and at most 112 bits
+            int shift = (IPV6_GROUPS - compressedAt) * Character.SIZE;
+            if (shift >= Long.SIZE) {
+                high |= prefixLow << (shift - Long.SIZE);
+            } else {
+                high |= prefixHigh << shift | prefixLow >>> (Long.SIZE - shift);
+                low |= prefixLow << shift;
+            }
+        }
+        address[offset] = high;
+        address[offset + 1] = low;
+        return true;
+    }
+
+    /**
+     * Parses an IPv6 address that is optionally enclosed in {@code []}, without creating any objects.
+     *
+     * @param value The value containing the IPv6 address.
+     * @param start The index of the first character of the IPv6 address, or its opening bracket.
+     * @param end The index after the last character of the IPv6 address, or its closing bracket.
+     * @param address The array to store the 64 highest order bits and 64 lowest order bits of the parsed IPv6 address in.
+     * @param offset The index in the array to store the 64 highest order bits at; the 64 lowest order bits are stored at the next index.
+     * @return {@code true} if the given part of the value is a valid IPv6 address, or {@code false} otherwise.
+     * @see #parseIPv6Address(CharSequence, int, int, long[], int)
+     */
+    static boolean parseOptionallyBracketedIPv6Address(CharSequence value, int start, int end, long[] address, int offset) {
+        if (end - start >= 2 && value.charAt(start) == '[' && value.charAt(end - 1) == ']') {
+            return parseIPv6Address(value, start + 1, end - 1, address, offset);
+        }
+        return parseIPv6Address(value, start, end, address, offset);
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
 }
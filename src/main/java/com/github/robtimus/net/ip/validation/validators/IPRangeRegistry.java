@@ -0,0 +1,153 @@
+/*
+ * IPRangeRegistry.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+
+/**
+ * A registry for named lists of IP ranges. Constraints can refer to these using their {@code namedIPRanges} attribute.
+ * <p>
+ * Unlike the {@code ipRanges} attribute of constraints, the IP ranges registered under a name can be replaced at any time,
+ * without the need to create a new {@link jakarta.validation.ValidatorFactory ValidatorFactory}. Registering IP ranges compiles them in the
+ * calling thread, and then publishes the compiled result with a single volatile write. Validation that runs concurrently will never block,
+ * and will see either the previously registered IP ranges or the new IP ranges, but never a mix of both.
+ * <p>
+ * A name for which no IP ranges are registered is treated as an empty list of IP ranges, which contains no IP addresses.
+ * <p>
+ * Each registration compiles the IP ranges from scratch; nothing is reused from IP ranges that were previously registered under the same
+ * name. For large lists of IPv4 ranges that get a lookup table (see system property
+ * {@code com.github.robtimus.net.ip.validation.ipv4LookupTable.threshold}) this means that each registration allocates a new table of at
+ * least 64MB. Until validations that are in progress finish using the previous table, both tables are in memory.
+ *
+ * @author Rob Spoor
+ */
+public final class IPRangeRegistry {
+
+    private static final ConcurrentMap<String, IPRangeIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private IPRangeRegistry() {
+        throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
+    }
+
+    /**
+     * Registers IP ranges under a name. Any IP ranges that were previously registered under the same name are replaced.
+     *
+     * @param name The name to register the IP ranges under.
+     * @param ipRanges The IP ranges to register. These can be of any IP version.
+     * @throws NullPointerException If the given name or collection of IP ranges is {@code null},
+     *                                  or if the given collection of IP ranges contains a {@code null} element.
+     */
+    public static void register(String name, Collection<? extends IPRange<?>> ipRanges) {
+        Objects.requireNonNull(name);
+        ipRanges.forEach(Objects::requireNonNull);
+
+        IPRangeIndex index = IPRangeIndex.of(ipRanges);
+        INDEXES.put(name, index);
+    }
+
+    /**
+     * Registers IP ranges under a name. Any IP ranges that were previously registered under the same name are replaced.
+     *
+     * @param name The name to register the IP ranges under.
+     * @param ipRanges The IP ranges to register. These must be in the same format as the {@code ipRanges} attribute of
+     *                     {@link com.github.robtimus.net.ip.validation.IPAddress}.
+     * @throws NullPointerException If the given name or array of IP ranges is {@code null},
+     *                                  or if the given array of IP ranges contains a {@code null} element.
+     * @throws IllegalArgumentException If any of the given IP ranges is invalid.
+     */
+    public static void register(String name, String... ipRanges) {
+        Objects.requireNonNull(name);
+
+        List<IPRange<?>> parsed = IPRangeParser.parseIPRanges(ipRanges);
+        register(name, parsed);
+    }
+
+    /**
+     * Removes the IP ranges that are registered under a name.
+     * Afterwards, constraints that refer to the name will treat it as an empty list of IP ranges.
+     *
+     * @param name The name of the IP ranges to remove.
+     * @throws NullPointerException If the given name is {@code null}.
+     */
+    public static void unregister(String name) {
+        INDEXES.remove(Objects.requireNonNull(name));
+    }
+
+    /**
+     * Returns the IP ranges that are currently registered under a name.
+     *
+     * @param name The name of the IP ranges to return.
+     * @return An unmodifiable list with the IP ranges that are currently registered under the given name,
+     *         or an empty list if no IP ranges are registered under the given name.
+     *         IPv4 ranges are returned before IPv6 ranges.
+     * @throws NullPointerException If the given name is {@code null}.
+     */
+    public static List<IPRange<?>> getIPRanges(String name) {
+        return index(Objects.requireNonNull(name)).ranges();
+    }
+
+    /**
+     * Returns the most specific IP range that is currently registered under a name and that contains an IP address.
+     * This can be used to classify IP addresses, like a routing table; for instance, to find out which network an IP address belongs to.
+     * <p>
+     * If several registered IP ranges contain the IP address, the smallest one is returned. If more than one of these have the same size,
+     * the one that was registered first is returned. The lookup uses the same compiled IP ranges as validation, so it is as fast as
+     * checking whether the registered IP ranges contain the IP address. For IPv4 addresses, the only object it creates is the returned
+     * {@link Optional} if an IP range is found.
+     *
+     * @param name The name of the IP ranges to search.
+     * @param address The IP address to find the most specific IP range for.
+     * @return An {@link Optional} with the most specific IP range that is registered under the given name and that contains the given IP
+     *         address, or {@link Optional#empty()} if no such IP range is registered under the given name.
+     * @throws NullPointerException If the given name or IP address is {@code null}.
+     */
+    public static Optional<IPRange<?>> rangeOf(String name, IPAddress<?> address) {
+        Objects.requireNonNull(address);
+        return Optional.ofNullable(index(Objects.requireNonNull(name)).rangeOf(address));
+    }
+
+    /**
+     * Returns the memory footprint of the IP ranges that are currently registered under a name.
+     *
+     * @param name The name of the IP ranges to return the memory footprint of.
+     * @return The memory footprint of the IP ranges that are currently registered under the given name.
+     * @throws NullPointerException If the given name is {@code null}.
+     */
+    public static MemoryFootprint getMemoryFootprint(String name) {
+        return index(Objects.requireNonNull(name)).memoryFootprint();
+    }
+
+    /**
+     * Returns the compiled IP ranges that are currently registered under a name.
+     * Looking up a name never adds it to the registry, so names for which no IP ranges are registered take no memory.
+     *
+     * @param name The name of the IP ranges to return.
+     * @return The compiled IP ranges that are currently registered under the given name,
+     *         or {@link IPRangeIndex#EMPTY} if no IP ranges are registered under the given name.
+     */
+    static IPRangeIndex index(String name) {
+        return INDEXES.getOrDefault(name, IPRangeIndex.EMPTY);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * IPRangeValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPRanges;
+import java.util.Map;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv6Range;
+
+final class IPRangeValidator {
+
+    private static final String CONSTRAINT_NAME = "IPRange"; //$NON-NLS-1$
+
+    private static final int SEPARATOR_LENGTH = 3;
+
+    private IPRangeValidator() {
+        throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
+    }
+
+    static CompiledConstraint compile(com.github.robtimus.net.ip.validation.IPRange constraintAnnotation) {
+        IPRanges ipRanges = IPRanges.of(parseIPRanges(constraintAnnotation.ipRanges()), constraintAnnotation.namedIPRanges());
+        IPRanges excludedIPRanges = IPRanges.of(parseIPRanges(constraintAnnotation.excludedIPRanges()),
+                constraintAnnotation.excludedNamedIPRanges());
+        Map<String, Object> parameters = CompiledConstraint.parameters(constraintAnnotation.ipRanges(), constraintAnnotation.namedIPRanges(),
+                constraintAnnotation.excludedIPRanges(), constraintAnnotation.excludedNamedIPRanges());
+        return new CompiledConstraint(CONSTRAINT_NAME, constraintAnnotation.message(), ipRanges, excludedIPRanges, parameters, EmbeddedIPv4.NONE);
+    }
+
+    /**
+     * Validates an IP range in format {@code [<from>...<to>]}. Both IP addresses are parsed in a single pass without creating any objects.
+     *
+     * @param value The value to validate.
+     * @param constraint The compiled constraint to validate against.
+     * @param context The context to report violations to.
+     * @return {@code true} if the value is a valid IP range, or {@code false} otherwise.
+     */
+    static boolean isValidIPRange(CharSequence value, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        int length = value.length();
+        if (length < 2 || value.charAt(0) != '[' || value.charAt(length - 1) != ']') {
+            return false;
+        }
+        int separator = indexOfSeparator(value, length - 1);
+        if (separator == -1) {
+            return false;
+        }
+        return IPRangeParser.containsColon(value, 1, separator)
+                ? isValidIPv6Range(value, separator, constraint, context)
+                : isValidIPv4Range(value, separator, constraint, context);
+    }
+
+    private static int indexOfSeparator(CharSequence value, int end) {
+        for (int i = 1; i + SEPARATOR_LENGTH <= end; i++) {
+            if (value.charAt(i) == '.' && value.charAt(i + 1) == '.' && value.charAt(i + 2) == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isValidIPv4Range(CharSequence value, int separator, CompiledConstraint constraint,
+            ConstraintValidatorContext context) {
+
+        long from = IPRangeParser.parseIPv4Address(value, 1, separator);
+        if (from == -1) {
+            return false;
+        }
+        long to = IPRangeParser.parseIPv4Address(value, separator + SEPARATOR_LENGTH, value.length() - 1);
+        return to != -1 && from <= to && constraint.allowsIPv4Range((int) from, (int) to, context);
+    }
+
+    private static boolean isValidIPv6Range(CharSequence value, int separator, CompiledConstraint constraint,
+            ConstraintValidatorContext context) {
+
+        long[] addresses = IPRangeParser.ipv6Addresses();
+        if (!IPRangeParser.parseIPv6Address(value, 1, separator, addresses, 0)
+                || !IPRangeParser.parseIPv6Address(value, separator + SEPARATOR_LENGTH, value.length() - 1, addresses, 2)) {
+            return false;
+        }
+        long fromHigh = addresses[0];
+        long fromLow = addresses[1];
+        long toHigh = addresses[2];
+        long toLow = addresses[3];
+        int comparison = Long.compareUnsigned(fromHigh, toHigh);
+        if (comparison > 0 || comparison == 0 && Long.compareUnsigned(fromLow, toLow) > 0) {
+            return false;
+        }
+        return constraint.allowsIPv6Range(fromHigh, fromLow, toHigh, toLow, context);
+    }
+
+    static boolean isValidIPRange(IPRange<?> ipRange, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        if (ipRange instanceof IPv4Range) {
+            IPv4Range ipv4Range = (IPv4Range) ipRange;
+            return constraint.allowsIPv4Range(ipv4Range.from().toInt(), ipv4Range.to().toInt(), context);
+        }
+        IPv6Range ipv6Range = (IPv6Range) ipRange;
+        byte[] from = ipv6Range.from().toByteArray();
+        byte[] to = ipv6Range.to().toByteArray();
+        return constraint.allowsIPv6Range(IPv6RangeIndex.high(from), IPv6RangeIndex.low(from), IPv6RangeIndex.high(to), IPv6RangeIndex.low(to),
+                context);
+    }
+}
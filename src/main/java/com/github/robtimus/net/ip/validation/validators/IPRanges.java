@@ -0,0 +1,185 @@
+/*
+ * IPRanges.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Arrays;
+import java.util.Collection;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+
+/**
+ * The IP ranges of a single constraint; the compiled {@code ipRanges}, combined with any {@code namedIPRanges}.
+ *
+ * @author Rob Spoor
+ */
+final class IPRanges {
+
+    private final IPRangeIndex index;
+    // resolved on each lookup, so IP ranges that are registered or replaced after the constraint was compiled are used as well
+    private final String[] namedIPRanges;
+
+    private IPRanges(IPRangeIndex index, String[] namedIPRanges) {
+        this.index = index;
+        this.namedIPRanges = namedIPRanges;
+    }
+
+    static IPRanges of(Collection<? extends IPRange<?>> ipRanges, String[] namedIPRanges) {
+        String[] names = Arrays.stream(namedIPRanges)
+                .distinct()
+                .toArray(String[]::new);
+        return new IPRanges(IPRangeIndex.of(ipRanges), names);
+    }
+
+    /**
+     * Returns whether or not there are no IP ranges to filter on. If so, all IP addresses are allowed.
+     *
+     * @return {@code true} if there are no IP ranges to filter on, or {@code false} otherwise.
+     */
+    boolean isEmpty() {
+        return index.isEmpty() && namedIPRanges.length == 0;
+    }
+
+    /**
+     * Returns the memory footprint of the compiled {@code ipRanges}.
+     * The IP ranges registered under one of the {@code namedIPRanges} are not included, as these are shared between constraints.
+     *
+     * @return The memory footprint of the compiled {@code ipRanges}.
+     */
+    MemoryFootprint memoryFootprint() {
+        return index.memoryFootprint();
+    }
+
+    /**
+     * Returns the compiled {@code ipRanges}. The IP ranges registered under one of the {@code namedIPRanges} are not included.
+     *
+     * @return The compiled {@code ipRanges}.
+     */
+    IPRangeIndex index() {
+        return index;
+    }
+
+    boolean hasIPRanges() {
+        return !index.isEmpty();
+    }
+
+    boolean hasNamedIPRanges() {
+        return namedIPRanges.length != 0;
+    }
+
+    boolean contains(int ipv4Address) {
+        if (index.ipv4().contains(ipv4Address)) {
+            return true;
+        }
+        for (String name : namedIPRanges) {
+            if (IPRangeRegistry.index(name).ipv4().contains(ipv4Address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean contains(long highAddress, long lowAddress) {
+        if (index.ipv6().contains(highAddress, lowAddress)) {
+            return true;
+        }
+        for (String name : namedIPRanges) {
+            if (IPRangeRegistry.index(name).ipv6().contains(highAddress, lowAddress)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean contains(IPAddress<?> ipAddress) {
+        if (index.contains(ipAddress)) {
+            return true;
+        }
+        for (String name : namedIPRanges) {
+            if (IPRangeRegistry.index(name).contains(ipAddress)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether or not a range of IPv4 addresses is completely contained in the compiled {@code ipRanges},
+     * or in the IP ranges registered under one of the {@code namedIPRanges}.
+     *
+     * @param from The first IPv4 address of the range, as returned by {@code IPv4Address.toInt()}.
+     * @param to The last IPv4 address of the range, as returned by {@code IPv4Address.toInt()}.
+     * @return {@code true} if the range of IPv4 addresses is completely contained in these IP ranges, or {@code false} otherwise.
+     */
+    boolean containsAll(int from, int to) {
+        if (index.ipv4().containsAll(from, to)) {
+            return true;
+        }
+        for (String name : namedIPRanges) {
+            if (IPRangeRegistry.index(name).ipv4().containsAll(from, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether or not a range of IPv6 addresses is completely contained in the compiled {@code ipRanges},
+     * or in the IP ranges registered under one of the {@code namedIPRanges}.
+     *
+     * @param fromHigh The 64 highest order bits of the first IPv6 address of the range.
+     * @param fromLow The 64 lowest order bits of the first IPv6 address of the range.
+     * @param toHigh The 64 highest order bits of the last IPv6 address of the range.
+     * @param toLow The 64 lowest order bits of the last IPv6 address of the range.
+     * @return {@code true} if the range of IPv6 addresses is completely contained in these IP ranges, or {@code false} otherwise.
+     */
+    boolean containsAll(long fromHigh, long fromLow, long toHigh, long toLow) {
+        if (index.ipv6().containsAll(fromHigh, fromLow, toHigh, toLow)) {
+            return true;
+        }
+        for (String name : namedIPRanges) {
+            if (IPRangeRegistry.index(name).ipv6().containsAll(fromHigh, fromLow, toHigh, toLow)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean overlaps(int from, int to) {
+        if (index.ipv4().overlaps(from, to)) {
+            return true;
+        }
+        for (String name : namedIPRanges) {
+            if (IPRangeRegistry.index(name).ipv4().overlaps(from, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean overlaps(long fromHigh, long fromLow, long toHigh, long toLow) {
+        if (index.ipv6().overlaps(fromHigh, fromLow, toHigh, toLow)) {
+            return true;
+        }
+        for (String name : namedIPRanges) {
+            if (IPRangeRegistry.index(name).ipv6().overlaps(fromHigh, fromLow, toHigh, toLow)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * IPSocketAddressValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPRanges;
+import java.util.Map;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.net.ip.validation.IPSocketAddress;
+
+final class IPSocketAddressValidator {
+
+    private static final String CONSTRAINT_NAME = "IPSocketAddress"; //$NON-NLS-1$
+    private static final String MESSAGE_WITH_PORT_RANGE
+            = "{com.github.robtimus.net.ip.validation.IPSocketAddress.message.withPortRange}"; //$NON-NLS-1$
+
+    private static final int MAX_PORT = 65535;
+    private static final int MAX_PORT_DIGITS = 5;
+
+    private IPSocketAddressValidator() {
+        throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
+    }
+
+    static CompiledConstraint compile(IPSocketAddress constraintAnnotation) {
+        int minPort = constraintAnnotation.minPort();
+        int maxPort = constraintAnnotation.maxPort();
+        if (minPort < 0 || maxPort > MAX_PORT || minPort > maxPort) {
+            throw new IllegalArgumentException(Messages.IPSocketAddress.invalidPortRange(minPort, maxPort));
+        }
+        IPRanges ipRanges = IPRanges.of(parseIPRanges(constraintAnnotation.ipRanges()), constraintAnnotation.namedIPRanges());
+        IPRanges excludedIPRanges = IPRanges.of(parseIPRanges(constraintAnnotation.excludedIPRanges()),
+                constraintAnnotation.excludedNamedIPRanges());
+        Map<String, Object> parameters = CompiledConstraint.parameters(constraintAnnotation.ipRanges(), constraintAnnotation.namedIPRanges(),
+                constraintAnnotation.excludedIPRanges(), constraintAnnotation.excludedNamedIPRanges());
+        parameters.put("minPort", minPort); //$NON-NLS-1$
+        parameters.put("maxPort", maxPort); //$NON-NLS-1$
+        CompiledConstraint constraint = new CompiledConstraint(CONSTRAINT_NAME, constraintAnnotation.message(), ipRanges, excludedIPRanges,
+                parameters, EmbeddedIPv4.NONE);
+        if (minPort > 0 || maxPort < MAX_PORT) {
+            constraint.messages().prepare(MESSAGE_WITH_PORT_RANGE);
+        }
+        return constraint;
+    }
+
+    /**
+     * Validates an IP socket address in format {@code <ipv4>:<port>} or {@code [<ipv6>]:<port>}.
+     * The value is scanned only once, without creating any objects.
+     *
+     * @param value The value to validate.
+     * @param minPort The minimum port, inclusive.
+     * @param maxPort The maximum port, inclusive.
+     * @param constraint The compiled constraint to validate against.
+     * @param context The context to report violations to.
+     * @return {@code true} if the value is a valid IP socket address, or {@code false} otherwise.
+     */
+    static boolean isValidSocketAddress(CharSequence value, int minPort, int maxPort, CompiledConstraint constraint,
+            ConstraintValidatorContext context) {
+
+        // the port is at the end of the value, so parse it backwards up to the last colon;
+        // after at most MAX_PORT_DIGITS digits, the loop ends with colon at the index where the colon must be
+        int length = value.length();
+        int port = 0;
+        int multiplier = 1;
+        int colon = length - 1;
+        for (; colon >= 0 && length - colon <= MAX_PORT_DIGITS; colon--) {
+            char c = value.charAt(colon);
+            if (c == ':') {
+                break;
+            }
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            port += (c - '0') * multiplier;
+            multiplier *= 10;
+        }
+        if (colon <= 0 || colon == length - 1 || value.charAt(colon) != ':' || port > MAX_PORT) {
+            return false;
+        }
+
+        if (value.charAt(0) == '[') {
+            if (value.charAt(colon - 1) != ']') {
+                return false;
+            }
+            long[] address = IPRangeParser.ipv6Addresses();
+            return IPRangeParser.parseIPv6Address(value, 1, colon - 1, address, 0)
+                    && isValidPort(port, minPort, maxPort, constraint, context)
+                    && constraint.allowsIPv6Address(address[0], address[1], context);
+        }
+        long address = IPRangeParser.parseIPv4Address(value, 0, colon);
+        return address != -1
+                && isValidPort(port, minPort, maxPort, constraint, context)
+                && constraint.allowsIPv4Address((int) address, context);
+    }
+
+    private static boolean isValidPort(int port, int minPort, int maxPort, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        if (port < minPort || port > maxPort) {
+            constraint.messages().addViolation(MESSAGE_WITH_PORT_RANGE, context);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * IPSubnetValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPRanges;
+import java.util.Map;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import com.github.robtimus.net.ip.Subnet;
+import com.github.robtimus.net.ip.validation.IPSubnet;
+
+final class IPSubnetValidator {
+
+    private static final String CONSTRAINT_NAME = "IPSubnet"; //$NON-NLS-1$
+
+    private static final int IPV4_BITS = 32;
+    private static final int IPV6_BITS = 128;
+
+    private IPSubnetValidator() {
+        throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
+    }
+
+    static CompiledConstraint compile(IPSubnet constraintAnnotation) {
+        IPRanges ipRanges = IPRanges.of(parseIPRanges(constraintAnnotation.ipRanges()), constraintAnnotation.namedIPRanges());
+        IPRanges excludedIPRanges = IPRanges.of(parseIPRanges(constraintAnnotation.excludedIPRanges()),
+                constraintAnnotation.excludedNamedIPRanges());
+        Map<String, Object> parameters = CompiledConstraint.parameters(constraintAnnotation.ipRanges(), constraintAnnotation.namedIPRanges(),
+                constraintAnnotation.excludedIPRanges(), constraintAnnotation.excludedNamedIPRanges());
+        return new CompiledConstraint(CONSTRAINT_NAME, constraintAnnotation.message(), ipRanges, excludedIPRanges, parameters, EmbeddedIPv4.NONE);
+    }
+
+    /**
+     * Validates a subnet in CIDR notation. Both IPv4 and IPv6 subnets are parsed without creating any objects.
+     *
+     * @param value The value to validate.
+     * @param constraint The compiled constraint to validate against.
+     * @param context The context to report violations to.
+     * @return {@code true} if the value is a valid subnet, or {@code false} otherwise.
+     */
+    static boolean isValidSubnet(CharSequence value, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        int slash = indexOf(value, '/');
+        if (slash == -1) {
+            return false;
+        }
+        int colon = indexOf(value, ':');
+        return colon != -1 && colon < slash
+                ? isValidIPv6Subnet(value, slash, constraint, context)
+                : isValidIPv4Subnet(value, slash, constraint, context);
+    }
+
+    private static int indexOf(CharSequence value, char c) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isValidIPv4Subnet(CharSequence value, int slash, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        int prefixLength = IPRangeParser.parsePrefixLength(value, slash + 1, IPV4_BITS);
+        if (prefixLength == -1) {
+            return false;
+        }
+        long address = IPRangeParser.parseIPv4Address(value, 0, slash);
+        if (address == -1) {
+            return false;
+        }
+        int from = (int) address;
+        int hostMask = prefixLength == 0 ? -1 : (int) (0xFFFF_FFFFL >>> prefixLength);
+        return (from & hostMask) == 0 && constraint.allowsIPv4Range(from, from | hostMask, context);
+    }
+
+    private static boolean isValidIPv6Subnet(CharSequence value, int slash, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        int prefixLength = IPRangeParser.parsePrefixLength(value, slash + 1, IPV6_BITS);
+        if (prefixLength == -1) {
+            return false;
+        }
+        long[] address = IPRangeParser.ipv6Addresses();
+        if (!IPRangeParser.parseOptionallyBracketedIPv6Address(value, 0, slash, address, 0)) {
+            return false;
+        }
+        long fromHigh = address[0];
+        long fromLow = address[1];
+        long hostMaskHigh = hostMaskHigh(prefixLength);
+        long hostMaskLow = hostMaskLow(prefixLength);
+        return (fromHigh & hostMaskHigh) == 0 && (fromLow & hostMaskLow) == 0
+                && constraint.allowsIPv6Range(fromHigh, fromLow, fromHigh | hostMaskHigh, fromLow | hostMaskLow, context);
+    }
+
+    private static long hostMaskHigh(int prefixLength) {
+        if (prefixLength >= Long.SIZE) {
+            return 0L;
+        }
+        return prefixLength == 0 ? -1L : -1L >>> prefixLength;
+    }
+
+    private static long hostMaskLow(int prefixLength) {
+        if (prefixLength <= Long.SIZE) {
+            return -1L;
+        }
+        return prefixLength == IPV6_BITS ? 0L : -1L >>> (prefixLength - Long.SIZE);
+    }
+
+    static boolean isValidSubnet(Subnet<?> subnet, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        if (subnet instanceof IPv4Subnet) {
+            IPv4Subnet ipv4Subnet = (IPv4Subnet) subnet;
+            return constraint.allowsIPv4Range(ipv4Subnet.from().toInt(), ipv4Subnet.to().toInt(), context);
+        }
+        IPv6Subnet ipv6Subnet = (IPv6Subnet) subnet;
+        byte[] from = ipv6Subnet.from().toByteArray();
+        byte[] to = ipv6Subnet.to().toByteArray();
+        return constraint.allowsIPv6Range(IPv6RangeIndex.high(from), IPv6RangeIndex.low(from), IPv6RangeIndex.high(to), IPv6RangeIndex.low(to),
+                context);
+    }
+}
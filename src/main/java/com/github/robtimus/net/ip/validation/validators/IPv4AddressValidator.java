@@ -17,43 +17,58 @@
 
 package com.github.robtimus.net.ip.validation.validators;
 
-import java.util.Collection;
+import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPv4Ranges;
+import java.util.Map;
 import jakarta.validation.ConstraintValidatorContext;
 import com.github.robtimus.net.ip.IPAddress;
 import com.github.robtimus.net.ip.IPv4Address;
-import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv6Address;
 
 final class IPv4AddressValidator {
 
-    private static final String DEFAULT_MESSAGE = "{com.github.robtimus.net.ip.validation.IPv4Address.message}"; //$NON-NLS-1$
-    private static final String MESSAGE_WITH_IP_RANGES = "{com.github.robtimus.net.ip.validation.IPv4Address.message.withIPRanges}"; //$NON-NLS-1$
+    private static final String CONSTRAINT_NAME = "IPv4Address"; //$NON-NLS-1$
 
     private IPv4AddressValidator() {
         throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
     }
 
-    static boolean isValidIPv4Address(IPAddress<?> ipAddress, Collection<IPv4Range> ipRanges, String message, ConstraintValidatorContext context) {
-        return ipAddress instanceof IPv4Address && isValidIPv4Address((IPv4Address) ipAddress, ipRanges, message, context);
+    static CompiledConstraint compile(com.github.robtimus.net.ip.validation.IPv4Address constraintAnnotation) {
+        IPRanges ipRanges = IPRanges.of(parseIPv4Ranges(constraintAnnotation), constraintAnnotation.namedIPRanges());
+        IPRanges excludedIPRanges = IPRanges.of(parseIPv4Ranges(constraintAnnotation.excludedIPRanges()),
+                constraintAnnotation.excludedNamedIPRanges());
+        Map<String, Object> parameters = CompiledConstraint.parameters(constraintAnnotation.ipRanges(), constraintAnnotation.namedIPRanges(),
+                constraintAnnotation.excludedIPRanges(), constraintAnnotation.excludedNamedIPRanges());
+        int embeddedIPv4 = EmbeddedIPv4.flags(constraintAnnotation.allowIPv4Mapped(), constraintAnnotation.allowNAT64());
+        return new CompiledConstraint(CONSTRAINT_NAME, constraintAnnotation.message(), ipRanges, excludedIPRanges, parameters, embeddedIPv4);
     }
 
-    static boolean isValidIPv4Address(IPv4Address ipAddress, Collection<IPv4Range> ipRanges, String message, ConstraintValidatorContext context) {
-        if (ipRanges.isEmpty() || ipRangesContainIPv4Address(ipRanges, ipAddress)) {
-            return true;
-        }
-        if (DEFAULT_MESSAGE.equals(message)) {
-            context.disableDefaultConstraintViolation();
-            context.buildConstraintViolationWithTemplate(MESSAGE_WITH_IP_RANGES)
-                    .addConstraintViolation();
+    /**
+     * Validates part of a value, without copying it or creating any objects.
+     * If the compiled constraint allows IPv6 addresses with embedded IPv4 addresses, IPv6 addresses are parsed as well.
+     *
+     * @param value The value containing the IPv4 address to validate.
+     * @param start The index of the first character of the IPv4 address.
+     * @param end The index after the last character of the IPv4 address.
+     * @param constraint The compiled constraint to validate against.
+     * @param context The context to report violations to, or {@code null} if violations are not reported.
+     * @return {@code true} if the given part of the value is a valid IPv4 address, or {@code false} otherwise.
+     */
+    static boolean isValidIPv4Address(CharSequence value, int start, int end, CompiledConstraint constraint,
+            ConstraintValidatorContext context) {
+
+        if (constraint.embeddedIPv4() != EmbeddedIPv4.NONE && IPRangeParser.containsColon(value, start, end)) {
+            long embedded = EmbeddedIPv4.extract(value, start, end, constraint.embeddedIPv4());
+            return embedded != EmbeddedIPv4.NOT_EMBEDDED && constraint.allowsIPv4Address((int) embedded, context);
         }
-        return false;
+        long address = IPRangeParser.parseIPv4Address(value, start, end);
+        return address != -1 && constraint.allowsIPv4Address((int) address, context);
     }
 
-    private static boolean ipRangesContainIPv4Address(Collection<IPv4Range> ipRanges, IPv4Address ipAddress) {
-        for (IPv4Range ipRange : ipRanges) {
-            if (ipRange.contains(ipAddress)) {
-                return true;
-            }
+    static boolean isValidIPv4Address(IPAddress<?> ipAddress, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        if (ipAddress instanceof IPv4Address) {
+            return constraint.allowsIPv4Address(((IPv4Address) ipAddress).toInt(), context);
         }
-        return false;
+        long embedded = EmbeddedIPv4.extract((IPv6Address) ipAddress, constraint.embeddedIPv4());
+        return embedded != EmbeddedIPv4.NOT_EMBEDDED && constraint.allowsIPv4Address((int) embedded, context);
     }
 }
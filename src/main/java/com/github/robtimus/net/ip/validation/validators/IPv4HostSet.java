@@ -0,0 +1,98 @@
+/*
+ * IPv4HostSet.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+/**
+ * An immutable open-addressing hash set of single IPv4 addresses, each mapped to the index of the IPv4 range it came from.
+ * <p>
+ * Each slot is a single {@code long}, with the IPv4 address in the high 32 bits and the range index plus one in the low 32 bits.
+ * Empty slots are {@code 0}. At most half of the slots are in use, and collisions are resolved using linear probing.
+ *
+ * @author Rob Spoor
+ */
+final class IPv4HostSet {
+
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private final long[] slots;
+    private final int shift;
+    private final int mask;
+
+    private IPv4HostSet(int capacity) {
+        this.slots = new long[capacity];
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Creates a host set.
+     *
+     * @param addresses The IPv4 addresses, as returned by {@link com.github.robtimus.net.ip.IPv4Address#toInt()}.
+     * @param indexes The range index for each IPv4 address.
+     * @param count The number of IPv4 addresses to add.
+     * @return The created host set. If an IPv4 address occurs more than once, it is mapped to the first index.
+     */
+    static IPv4HostSet of(int[] addresses, int[] indexes, int count) {
+        IPv4HostSet hosts = new IPv4HostSet(capacity(count));
+        for (int i = 0; i < count; i++) {
+            hosts.add(addresses[i], indexes[i]);
+        }
+        return hosts;
+    }
+
+    static int capacity(int count) {
+        // the smallest power of two that is at least twice the count, but at least 2
+        return Math.max(2, Integer.highestOneBit(Math.max(1, count) * 2 - 1) << 1);
+    }
+
+    private int slot(int address) {
+        // Fibonacci hashing; the multiplication spreads the bits of the address so the highest bits can be used
+        return (address * HASH_MULTIPLIER) >>> shift;
+    }
+
+    private void add(int address, int index) {
+        int slot = slot(address);
+        while (slots[slot] != 0) {
+            if ((int) (slots[slot] >>> Integer.SIZE) == address) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = (long) address << Integer.SIZE | (index + 1);
+    }
+
+    /**
+     * Returns the index of the range an IPv4 address came from.
+     *
+     * @param address The IPv4 address, as returned by {@link com.github.robtimus.net.ip.IPv4Address#toInt()}.
+     * @return The index of the range the given IPv4 address came from, or {@code -1} if the IPv4 address is not contained in this set.
+     */
+    int indexOf(int address) {
+        for (int slot = slot(address); slots[slot] != 0; slot = (slot + 1) & mask) {
+            long value = slots[slot];
+            if ((int) (value >>> Integer.SIZE) == address) {
+                return (int) value - 1;
+            }
+        }
+        return -1;
+    }
+
+    long byteSize() {
+        return (long) slots.length * Long.BYTES;
+    }
+}
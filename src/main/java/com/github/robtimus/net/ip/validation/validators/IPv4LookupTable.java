@@ -0,0 +1,150 @@
+/*
+ * IPv4LookupTable.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+/**
+ * A DIR-24-8 style two-level table that maps each IPv4 address to the index of the most specific IPv4 range that contains it.
+ * <p>
+ * The first level has one entry for each possible value of the first 24 bits of an IPv4 address. If all 256 IPv4 addresses with those
+ * 24 bits map to the same IPv4 range, the entry contains that range's index plus one, or {@code 0} if no range contains them.
+ * Otherwise, the entry contains the bitwise complement of the index of a chunk of 256 entries in the second level, one for each possible
+ * value of the last 8 bits of the IPv4 address, which contain a range index plus one.
+ * That means that looking up an IPv4 address takes at most two memory reads, regardless of the number of IPv4 ranges.
+ * <p>
+ * The first level always takes 64MB, and each chunk in the second level takes another 1KB.
+ *
+ * @author Rob Spoor
+ */
+final class IPv4LookupTable {
+
+    // the first level entry of blocks that need a chunk, while the table is being built
+    private static final int SPLIT = Integer.MIN_VALUE;
+
+    private static final int BLOCK_BITS = 8;
+    private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+    private static final int BLOCK_COUNT = 1 << (Integer.SIZE - BLOCK_BITS);
+
+    // chunk indexes are shifted left by BLOCK_BITS, so they must fit in the remaining bits
+    private static final int MAX_CHUNKS = Integer.MAX_VALUE >> BLOCK_BITS;
+
+    private final int[] level24;
+    private final int[] level8;
+
+    private IPv4LookupTable(int[] level24, int[] level8) {
+        this.level24 = level24;
+        this.level8 = level8;
+    }
+
+    /**
+     * Creates a lookup table.
+     *
+     * @param starts The start addresses of segments that each map to the same range index, with their sign bits flipped.
+     *                   The first segment must start at 0.0.0.0, and the segments must be sorted.
+     * @param owners The range index for each segment, or {@code -1} for segments that are not contained in any range.
+     * @param segmentCount The number of segments.
+     * @param hostAddresses IPv4 addresses that map to a specific range index regardless of the segments,
+     *                          as returned by {@link com.github.robtimus.net.ip.IPv4Address#toInt()}.
+     * @param hostIndexes The range index for each host address. If a host address occurs more than once, it is mapped to the first index.
+     * @param hostCount The number of host addresses.
+     * @return The created lookup table, or {@code null} if the segments and hosts need too many chunks.
+     */
+    static IPv4LookupTable of(int[] starts, int[] owners, int segmentCount, int[] hostAddresses, int[] hostIndexes, int hostCount) {
+        int[] level24 = new int[BLOCK_COUNT];
+
+        // first mark the blocks that do not map to a single range index
+        for (int i = 1; i < segmentCount; i++) {
+            int start = starts[i] ^ Integer.MIN_VALUE;
+            if ((start & BLOCK_MASK) != 0) {
+                level24[start >>> BLOCK_BITS] = SPLIT;
+            }
+        }
+        for (int i = 0; i < hostCount; i++) {
+            level24[hostAddresses[i] >>> BLOCK_BITS] = SPLIT;
+        }
+        int chunkCount = 0;
+        for (int entry : level24) {
+            if (entry == SPLIT) {
+                chunkCount++;
+            }
+        }
+        if (chunkCount > MAX_CHUNKS) {
+            return null;
+        }
+
+        int[] level8 = new int[chunkCount * BLOCK_SIZE];
+        int chunk = 0;
+        int segment = 0;
+        for (int block = 0; block < BLOCK_COUNT; block++) {
+            int blockStart = block << BLOCK_BITS ^ Integer.MIN_VALUE;
+            while (segment + 1 < segmentCount && starts[segment + 1] <= blockStart) {
+                segment++;
+            }
+            if (level24[block] != SPLIT) {
+                level24[block] = owners[segment] + 1;
+                continue;
+            }
+            int offset = chunk * BLOCK_SIZE;
+            int current = segment;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                while (current + 1 < segmentCount && starts[current + 1] <= blockStart + i) {
+                    current++;
+                }
+                level8[offset + i] = owners[current] + 1;
+            }
+            level24[block] = ~chunk;
+            chunk++;
+        }
+
+        // hosts are always the most specific; iterate backwards so the first index of duplicate hosts wins
+        for (int i = hostCount - 1; i >= 0; i--) {
+            int address = hostAddresses[i];
+            int chunkIndex = ~level24[address >>> BLOCK_BITS];
+            level8[chunkIndex << BLOCK_BITS | address & BLOCK_MASK] = hostIndexes[i] + 1;
+        }
+
+        return new IPv4LookupTable(level24, level8);
+    }
+
+    /**
+     * Returns the index of the most specific range that contains an IPv4 address.
+     *
+     * @param address The IPv4 address, as returned by {@link com.github.robtimus.net.ip.IPv4Address#toInt()}.
+     * @return The index of the most specific range that contains the given IPv4 address, or {@code -1} if no range contains it.
+     */
+    int indexOf(int address) {
+        int entry = level24[address >>> BLOCK_BITS];
+        if (entry < 0) {
+            entry = level8[~entry << BLOCK_BITS | address & BLOCK_MASK];
+        }
+        return entry - 1;
+    }
+
+    /**
+     * Returns the number of chunks in the second level.
+     *
+     * @return The number of chunks in the second level.
+     */
+    int chunkCount() {
+        return level8.length / BLOCK_SIZE;
+    }
+
+    long byteSize() {
+        return ((long) level24.length + level8.length) * Integer.BYTES;
+    }
+}
@@ -0,0 +1,425 @@
+/*
+ * IPv4RangeIndex.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+
+/**
+ * An immutable, compiled representation of a list of IPv4 ranges.
+ * <p>
+ * The IPv4 address space is split into segments that each map to the most specific IPv4 range that contains them, or to none.
+ * Looking up an IPv4 address is a binary search over the segment boundaries.
+ * <p>
+ * IPv4 ranges that consist of a single IPv4 address are not part of the segments; these are stored in an {@link IPv4HostSet} instead.
+ * Because such IPv4 ranges are always the most specific, the host set is checked before the segment boundaries are searched.
+ * <p>
+ * Lists with at least {@link Settings#PREFILTER_THRESHOLD} IPv4 ranges get a {@link PrefixFilter}, that rejects most IPv4 addresses that are not
+ * contained in any of the IPv4 ranges before the segment boundaries are searched.
+ * <p>
+ * Lists with at least {@link Settings#LOOKUP_TABLE_THRESHOLD} IPv4 ranges get an {@link IPv4LookupTable} instead, that maps each IPv4
+ * address to the most specific IPv4 range that contains it in at most two memory reads. Such lists do not need a prefix filter, and because
+ * the union can be created from the IPv4 ranges themselves, they do not keep the segments or the host set either.
+ * <p>
+ * Lists with at most {@link Settings#ADAPTIVE_ORDER_MAX_RANGES} IPv4 ranges are scanned linearly when it's only needed to know whether any
+ * IPv4 range contains an IPv4 address, in an {@link AdaptiveOrder} that checks the IPv4 ranges that most often contain IPv4 addresses first.
+ * <p>
+ * To check ranges of IPv4 addresses instead of single IPv4 addresses, the union of all IPv4 ranges is created the first time it's needed.
+ * This merges all overlapping and adjacent IPv4 ranges, so checking a range of IPv4 addresses is a single binary search.
+ *
+ * @author Rob Spoor
+ */
+final class IPv4RangeIndex {
+
+    static final IPv4RangeIndex EMPTY = new IPv4RangeIndex(new IPv4Range[0], new int[] { Integer.MIN_VALUE }, new int[] { -1 }, null, null,
+            null, null, null);
+
+    private static final long MAX_ADDRESS = 0xFFFF_FFFFL;
+
+    // the estimated size of an IPv4Range object with its IPv4Address objects, plus the reference to it
+    private static final int RANGE_OBJECT_BYTES = 60;
+
+    private final IPv4Range[] ranges;
+
+    // The start addresses of the segments, with the sign bit flipped so signed comparison matches unsigned address order.
+    // The first segment always starts at 0.0.0.0, so each address is part of exactly one segment. Null if there is a lookup table.
+    private final int[] starts;
+    // For each segment, the index of the most specific range that contains it, or -1 if no range contains it. Null if there is a lookup table.
+    private final int[] owners;
+    // The IPv4 ranges that consist of a single IPv4 address, or null if there are none or if there is a lookup table.
+    private final IPv4HostSet hosts;
+    // An optional filter that can tell that an address is not contained in any range without searching the segments.
+    private final PrefixFilter filter;
+    // An optional table that replaces the filter, the host set and the segments for looking up addresses.
+    private final IPv4LookupTable table;
+
+    // For lists that are scanned in adaptive order, the from / to addresses of the ranges with the sign bits flipped; null otherwise.
+    private final int[] bounds;
+    private final AdaptiveOrder adaptiveOrder;
+
+    // The union of all ranges as sorted, disjoint and non-adjacent intervals, each stored as a start and end address with the sign bits
+    // flipped like the segment starts. This is only needed to check ranges of addresses, so it's created on demand.
+    private volatile int[] union;
+
+    private IPv4RangeIndex(IPv4Range[] ranges, int[] starts, int[] owners, IPv4HostSet hosts, PrefixFilter filter, IPv4LookupTable table,
+            int[] bounds, AdaptiveOrder adaptiveOrder) {
+
+        this.ranges = ranges;
+        this.starts = starts;
+        this.owners = owners;
+        this.hosts = hosts;
+        this.filter = filter;
+        this.table = table;
+        this.bounds = bounds;
+        this.adaptiveOrder = adaptiveOrder;
+    }
+
+    static IPv4RangeIndex of(Collection<? extends IPv4Range> ipRanges) {
+        return of(ipRanges, Settings.PREFILTER_THRESHOLD, Settings.LOOKUP_TABLE_THRESHOLD);
+    }
+
+    static IPv4RangeIndex of(Collection<? extends IPv4Range> ipRanges, int prefilterThreshold) {
+        return of(ipRanges, prefilterThreshold, Settings.LOOKUP_TABLE_THRESHOLD);
+    }
+
+    static IPv4RangeIndex of(Collection<? extends IPv4Range> ipRanges, int prefilterThreshold, int lookupTableThreshold) {
+        return of(ipRanges, prefilterThreshold, lookupTableThreshold, Settings.ADAPTIVE_ORDER_MAX_RANGES);
+    }
+
+    static IPv4RangeIndex of(Collection<? extends IPv4Range> ipRanges, int prefilterThreshold, int lookupTableThreshold,
+            int adaptiveOrderMaxRanges) {
+
+        if (ipRanges.isEmpty()) {
+            return EMPTY;
+        }
+
+        IPv4Range[] ranges = ipRanges.toArray(new IPv4Range[0]);
+        int count = ranges.length;
+        long[] from = new long[count];
+        long[] to = new long[count];
+        long[] boundaries = new long[2 * count + 1];
+        int boundaryCount = 0;
+        boundaries[boundaryCount++] = 0;
+        Integer[] byFrom = new Integer[count];
+        int rangeCount = 0;
+        int[] hostAddresses = new int[count];
+        int[] hostIndexes = new int[count];
+        int hostCount = 0;
+        for (int i = 0; i < count; i++) {
+            from[i] = unsigned(ranges[i].from());
+            to[i] = unsigned(ranges[i].to());
+            if (from[i] == to[i]) {
+                hostAddresses[hostCount] = (int) from[i];
+                hostIndexes[hostCount] = i;
+                hostCount++;
+                continue;
+            }
+            byFrom[rangeCount++] = i;
+            boundaries[boundaryCount++] = from[i];
+            if (to[i] < MAX_ADDRESS) {
+                boundaries[boundaryCount++] = to[i] + 1;
+            }
+        }
+        Arrays.sort(boundaries, 0, boundaryCount);
+        Arrays.sort(byFrom, 0, rangeCount, Comparator.comparingLong(i -> from[i]));
+
+        // the most specific range is the smallest one; for ranges of the same size the first declared one wins
+        PriorityQueue<Integer> active = new PriorityQueue<>(Comparator.<Integer>comparingLong(i -> to[i] - from[i]).thenComparingInt(i -> i));
+
+        int[] starts = new int[boundaryCount];
+        int[] owners = new int[boundaryCount];
+        int segmentCount = 0;
+        int next = 0;
+        for (int b = 0; b < boundaryCount; b++) {
+            long boundary = boundaries[b];
+            if (b > 0 && boundary == boundaries[b - 1]) {
+                continue;
+            }
+            while (next < rangeCount && from[byFrom[next]] <= boundary) {
+                active.add(byFrom[next++]);
+            }
+            while (!active.isEmpty() && to[active.peek()] < boundary) {
+                active.poll();
+            }
+            int owner = active.isEmpty() ? -1 : active.peek();
+            if (segmentCount == 0 || owners[segmentCount - 1] != owner) {
+                starts[segmentCount] = flip(boundary);
+                owners[segmentCount] = owner;
+                segmentCount++;
+            }
+        }
+
+        IPv4LookupTable table = count >= lookupTableThreshold
+                ? IPv4LookupTable.of(starts, owners, segmentCount, hostAddresses, hostIndexes, hostCount)
+                : null;
+
+        int[] bounds = null;
+        AdaptiveOrder adaptiveOrder = null;
+        if (count <= adaptiveOrderMaxRanges) {
+            bounds = new int[2 * count];
+            for (int i = 0; i < count; i++) {
+                bounds[2 * i] = flip(from[i]);
+                bounds[2 * i + 1] = flip(to[i]);
+            }
+            adaptiveOrder = new AdaptiveOrder(count);
+        }
+
+        if (table != null) {
+            // the table replaces the filter, the host set and the segments, and the union is created from the ranges
+            return new IPv4RangeIndex(ranges, null, null, null, null, table, bounds, adaptiveOrder);
+        }
+
+        IPv4HostSet hosts = hostCount > 0 ? IPv4HostSet.of(hostAddresses, hostIndexes, hostCount) : null;
+
+        PrefixFilter filter = count >= prefilterThreshold
+                ? PrefixFilter.forIPv4(from, to, Settings.PREFILTER_FALSE_POSITIVE_RATE, Settings.PREFILTER_MAX_BYTES)
+                : null;
+
+        return new IPv4RangeIndex(ranges, Arrays.copyOf(starts, segmentCount), Arrays.copyOf(owners, segmentCount), hosts, filter, null,
+                bounds, adaptiveOrder);
+    }
+
+    private static long unsigned(IPv4Address address) {
+        return address.toInt() & MAX_ADDRESS;
+    }
+
+    private static int flip(long address) {
+        return (int) address ^ Integer.MIN_VALUE;
+    }
+
+    boolean hasPrefilter() {
+        return filter != null;
+    }
+
+    boolean hasLookupTable() {
+        return table != null;
+    }
+
+    boolean hasAdaptiveOrder() {
+        return adaptiveOrder != null;
+    }
+
+    AdaptiveOrder adaptiveOrder() {
+        return adaptiveOrder;
+    }
+
+    boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    MemoryFootprint.Structure structure() {
+        if (table != null) {
+            return MemoryFootprint.Structure.LOOKUP_TABLE;
+        }
+        return adaptiveOrder != null ? MemoryFootprint.Structure.ADAPTIVE_ORDER : MemoryFootprint.Structure.SEGMENTS;
+    }
+
+    MemoryFootprint memoryFootprint() {
+        if (ranges.length == 0) {
+            return MemoryFootprint.EMPTY;
+        }
+        long heapBytes = (long) ranges.length * RANGE_OBJECT_BYTES;
+        if (starts != null) {
+            heapBytes += ((long) starts.length + owners.length) * Integer.BYTES;
+        }
+        if (hosts != null) {
+            heapBytes += hosts.byteSize();
+        }
+        if (filter != null) {
+            heapBytes += filter.byteSize();
+        }
+        if (table != null) {
+            heapBytes += table.byteSize();
+        }
+        if (adaptiveOrder != null) {
+            heapBytes += (long) bounds.length * Integer.BYTES + adaptiveOrder.byteSize();
+        }
+        int[] currentUnion = union;
+        if (currentUnion != null) {
+            heapBytes += (long) currentUnion.length * Integer.BYTES;
+        }
+        return MemoryFootprint.of(structure(), ranges.length, heapBytes, 0);
+    }
+
+    int size() {
+        return ranges.length;
+    }
+
+    IPv4Range get(int index) {
+        return ranges[index];
+    }
+
+    boolean contains(IPv4Address address) {
+        return contains(address.toInt());
+    }
+
+    boolean contains(int address) {
+        return adaptiveOrder != null
+                ? containsInAdaptiveOrder(address ^ Integer.MIN_VALUE)
+                : indexOf(address) != -1;
+    }
+
+    private boolean containsInAdaptiveOrder(int key) {
+        for (int index : adaptiveOrder.order()) {
+            if (bounds[2 * index] <= key && key <= bounds[2 * index + 1]) {
+                adaptiveOrder.recordHit(index);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the most specific range that contains an IPv4 address.
+     *
+     * @param address The IPv4 address, as returned by {@link IPv4Address#toInt()}.
+     * @return The index of the most specific range that contains the given IPv4 address, or {@code -1} if no range contains it.
+     */
+    int indexOf(int address) {
+        if (table != null) {
+            return table.indexOf(address);
+        }
+        if (filter != null && !filter.mightContainIPv4(address)) {
+            return -1;
+        }
+        if (hosts != null) {
+            int index = hosts.indexOf(address);
+            if (index != -1) {
+                return index;
+            }
+        }
+        int key = address ^ Integer.MIN_VALUE;
+        int low = 0;
+        int high = starts.length - 1;
+        // find the last segment that starts at or before the key; the first segment always qualifies
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= key) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return owners[low];
+    }
+
+    /**
+     * Returns the most specific range that contains an IPv4 address. This can be used to classify IPv4 addresses, like a routing table.
+     *
+     * @param address The IPv4 address, as returned by {@link IPv4Address#toInt()}.
+     * @return The most specific range that contains the given IPv4 address, or {@code null} if no range contains it.
+     *         If more than one range of the same size contains the IPv4 address, the first one is returned.
+     */
+    IPv4Range rangeOf(int address) {
+        int index = indexOf(address);
+        return index != -1 ? ranges[index] : null;
+    }
+
+    /**
+     * Returns whether or not a range of IPv4 addresses is completely contained in the IPv4 ranges of this index.
+     * The range of IPv4 addresses may span several overlapping or adjacent IPv4 ranges.
+     *
+     * @param from The first IPv4 address of the range, as returned by {@link IPv4Address#toInt()}.
+     * @param to The last IPv4 address of the range, as returned by {@link IPv4Address#toInt()}.
+     * @return {@code true} if each IPv4 address in the given range is contained in at least one IPv4 range, or {@code false} otherwise.
+     */
+    boolean containsAll(int from, int to) {
+        int[] intervals = union();
+        int interval = lastIntervalStartingAtOrBefore(intervals, from ^ Integer.MIN_VALUE);
+        return interval != -1 && intervals[2 * interval + 1] >= (to ^ Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns whether or not a range of IPv4 addresses overlaps with any of the IPv4 ranges of this index.
+     *
+     * @param from The first IPv4 address of the range, as returned by {@link IPv4Address#toInt()}.
+     * @param to The last IPv4 address of the range, as returned by {@link IPv4Address#toInt()}.
+     * @return {@code true} if at least one IPv4 address in the given range is contained in at least one IPv4 range, or {@code false} otherwise.
+     */
+    boolean overlaps(int from, int to) {
+        int[] intervals = union();
+        // intervals are disjoint and sorted, so if any interval overlaps, the last one that starts at or before the range's end does
+        int interval = lastIntervalStartingAtOrBefore(intervals, to ^ Integer.MIN_VALUE);
+        return interval != -1 && intervals[2 * interval + 1] >= (from ^ Integer.MIN_VALUE);
+    }
+
+    private static int lastIntervalStartingAtOrBefore(int[] intervals, int key) {
+        int result = -1;
+        int low = 0;
+        int high = intervals.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (intervals[2 * mid] <= key) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    private int[] union() {
+        int[] result = union;
+        if (result == null) {
+            // benign race: concurrent threads may each create the union, but the results are equal
+            result = createUnion();
+            union = result;
+        }
+        return result;
+    }
+
+    private int[] createUnion() {
+        int count = ranges.length;
+        if (count == 0) {
+            return new int[0];
+        }
+        long[] from = new long[count];
+        long[] to = new long[count];
+        Integer[] byFrom = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            from[i] = unsigned(ranges[i].from());
+            to[i] = unsigned(ranges[i].to());
+            byFrom[i] = i;
+        }
+        Arrays.sort(byFrom, Comparator.comparingLong(i -> from[i]));
+
+        int[] intervals = new int[2 * count];
+        int size = 0;
+        long start = from[byFrom[0]];
+        long end = to[byFrom[0]];
+        for (int i = 1; i < count; i++) {
+            int range = byFrom[i];
+            if (from[range] <= end + 1) {
+                end = Math.max(end, to[range]);
+            } else {
+                intervals[size++] = flip(start);
+                intervals[size++] = flip(end);
+                start = from[range];
+                end = to[range];
+            }
+        }
+        intervals[size++] = flip(start);
+        intervals[size++] = flip(end);
+        return Arrays.copyOf(intervals, size);
+    }
+}
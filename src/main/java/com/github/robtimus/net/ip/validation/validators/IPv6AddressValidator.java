@@ -17,43 +17,52 @@
 
 package com.github.robtimus.net.ip.validation.validators;
 
-import java.util.Collection;
+import static com.github.robtimus.net.ip.validation.validators.IPRangeParser.parseIPv6Ranges;
+import java.util.Map;
 import jakarta.validation.ConstraintValidatorContext;
 import com.github.robtimus.net.ip.IPAddress;
 import com.github.robtimus.net.ip.IPv6Address;
-import com.github.robtimus.net.ip.IPv6Range;
 
 final class IPv6AddressValidator {
 
-    private static final String DEFAULT_MESSAGE = "{com.github.robtimus.net.ip.validation.IPv6Address.message}"; //$NON-NLS-1$
-    private static final String MESSAGE_WITH_IP_RANGES = "{com.github.robtimus.net.ip.validation.IPv6Address.message.withIPRanges}"; //$NON-NLS-1$
+    private static final String CONSTRAINT_NAME = "IPv6Address"; //$NON-NLS-1$
 
     private IPv6AddressValidator() {
         throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
     }
 
-    static boolean isValidIPv6Address(IPAddress<?> ipAddress, Collection<IPv6Range> ipRanges, String message, ConstraintValidatorContext context) {
-        return ipAddress instanceof IPv6Address && isValidIPv6Address((IPv6Address) ipAddress, ipRanges, message, context);
+    static CompiledConstraint compile(com.github.robtimus.net.ip.validation.IPv6Address constraintAnnotation) {
+        IPRanges ipRanges = IPRanges.of(parseIPv6Ranges(constraintAnnotation), constraintAnnotation.namedIPRanges());
+        IPRanges excludedIPRanges = IPRanges.of(parseIPv6Ranges(constraintAnnotation.excludedIPRanges()),
+                constraintAnnotation.excludedNamedIPRanges());
+        Map<String, Object> parameters = CompiledConstraint.parameters(constraintAnnotation.ipRanges(), constraintAnnotation.namedIPRanges(),
+                constraintAnnotation.excludedIPRanges(), constraintAnnotation.excludedNamedIPRanges());
+        return new CompiledConstraint(CONSTRAINT_NAME, constraintAnnotation.message(), ipRanges, excludedIPRanges, parameters, EmbeddedIPv4.NONE);
     }
 
-    static boolean isValidIPv6Address(IPv6Address ipAddress, Collection<IPv6Range> ipRanges, String message, ConstraintValidatorContext context) {
-        if (ipRanges.isEmpty() || ipRangesContainIPv6Address(ipRanges, ipAddress)) {
-            return true;
-        }
-        if (DEFAULT_MESSAGE.equals(message)) {
-            context.disableDefaultConstraintViolation();
-            context.buildConstraintViolationWithTemplate(MESSAGE_WITH_IP_RANGES)
-                    .addConstraintViolation();
-        }
-        return false;
+    /**
+     * Validates part of a value, without copying it or creating any objects.
+     *
+     * @param value The value containing the IPv6 address to validate.
+     * @param start The index of the first character of the IPv6 address.
+     * @param end The index after the last character of the IPv6 address.
+     * @param constraint The compiled constraint to validate against.
+     * @param context The context to report violations to, or {@code null} if violations are not reported.
+     * @return {@code true} if the given part of the value is a valid IPv6 address, or {@code false} otherwise.
+     */
+    static boolean isValidIPv6Address(CharSequence value, int start, int end, CompiledConstraint constraint,
+            ConstraintValidatorContext context) {
+
+        long[] address = IPRangeParser.ipv6Addresses();
+        return IPRangeParser.parseOptionallyBracketedIPv6Address(value, start, end, address, 0)
+                && constraint.allowsIPv6Address(address[0], address[1], context);
+    }
+
+    static boolean isValidIPv6Address(IPAddress<?> ipAddress, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        return ipAddress instanceof IPv6Address && isValidIPv6Address((IPv6Address) ipAddress, constraint, context);
     }
 
-    private static boolean ipRangesContainIPv6Address(Collection<IPv6Range> ipRanges, IPv6Address ipAddress) {
-        for (IPv6Range ipRange : ipRanges) {
-            if (ipRange.contains(ipAddress)) {
-                return true;
-            }
-        }
-        return false;
+    static boolean isValidIPv6Address(IPv6Address ipAddress, CompiledConstraint constraint, ConstraintValidatorContext context) {
+        return constraint.allowsIPAddress(ipAddress, context);
     }
 }
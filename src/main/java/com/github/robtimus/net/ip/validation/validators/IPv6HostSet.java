@@ -0,0 +1,156 @@
+/*
+ * IPv6HostSet.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+/**
+ * An immutable open-addressing hash set of single IPv6 addresses, each mapped to the index of the IPv6 range it came from.
+ * <p>
+ * Each slot is three {@code long}s: the high and low 64 bits of the IPv6 address, and the range index plus one.
+ * Empty slots have a range index of {@code 0}. At most half of the slots are in use, and collisions are resolved using linear probing.
+ * <p>
+ * Like {@link IPv6RangeIndex}, the slots can be stored in {@link OffHeapMemory off-heap memory}.
+ *
+ * @author Rob Spoor
+ */
+final class IPv6HostSet {
+
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private static final int SLOT_LONGS = 3;
+    private static final int SLOT_BYTES = SLOT_LONGS * Long.BYTES;
+
+    private final int shift;
+    private final int mask;
+
+    // on-heap storage; null if the slots are stored off-heap
+    private final long[] slots;
+
+    // off-heap storage; null if the slots are stored on-heap
+    private final OffHeapMemory memory;
+
+    private IPv6HostSet(int capacity, boolean offHeap) {
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        this.mask = capacity - 1;
+        // off-heap memory is zeroed on allocation, just like arrays
+        this.memory = offHeap ? OffHeapMemory.allocate((long) capacity * SLOT_BYTES) : null;
+        this.slots = offHeap ? null : new long[capacity * SLOT_LONGS];
+    }
+
+    /**
+     * Creates a host set.
+     *
+     * @param highAddresses The 64 highest order bits of the IPv6 addresses.
+     * @param lowAddresses The 64 lowest order bits of the IPv6 addresses.
+     * @param indexes The range index for each IPv6 address.
+     * @param count The number of IPv6 addresses to add.
+     * @param offHeap {@code true} to store the host set in off-heap memory if possible, or {@code false} to store it on-heap.
+     * @return The created host set. If an IPv6 address occurs more than once, it is mapped to the first index.
+     */
+    static IPv6HostSet of(long[] highAddresses, long[] lowAddresses, int[] indexes, int count, boolean offHeap) {
+        int capacity = IPv4HostSet.capacity(count);
+        IPv6HostSet hosts = new IPv6HostSet(capacity, offHeap && (long) capacity * SLOT_BYTES <= OffHeapMemory.maxByteSize());
+        for (int i = 0; i < count; i++) {
+            hosts.add(highAddresses[i], lowAddresses[i], indexes[i]);
+        }
+        return hosts;
+    }
+
+    private int slot(long highAddress, long lowAddress) {
+        // Fibonacci hashing on a combination of both halves, so the highest bits can be used
+        long hash = (highAddress * HASH_MULTIPLIER ^ lowAddress) * HASH_MULTIPLIER;
+        return (int) (hash >>> shift);
+    }
+
+    private long get(int slot, int field) {
+        return slots != null
+                ? slots[slot * SLOT_LONGS + field]
+                : memory.getLong((long) slot * SLOT_BYTES + field * Long.BYTES);
+    }
+
+    private void set(int slot, int field, long value) {
+        if (slots != null) {
+            slots[slot * SLOT_LONGS + field] = value;
+        } else {
+            memory.putLong((long) slot * SLOT_BYTES + field * Long.BYTES, value);
+        }
+    }
+
+    private void add(long highAddress, long lowAddress, int index) {
+        int slot = slot(highAddress, lowAddress);
+        while (get(slot, 2) != 0) {
+            if (get(slot, 0) == highAddress && get(slot, 1) == lowAddress) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        set(slot, 0, highAddress);
+        set(slot, 1, lowAddress);
+        set(slot, 2, index + 1L);
+    }
+
+    boolean isOffHeap() {
+        return memory != null;
+    }
+
+    long byteSize() {
+        return memory != null ? memory.byteSize() : (long) slots.length * Long.BYTES;
+    }
+
+    /**
+     * Returns all IPv6 addresses in this set.
+     *
+     * @return The high and low 64 bits of each IPv6 address in this set, in no particular order.
+     */
+    long[] addresses() {
+        int capacity = mask + 1;
+        int count = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (get(slot, 2) != 0) {
+                count++;
+            }
+        }
+        long[] addresses = new long[2 * count];
+        int next = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (get(slot, 2) != 0) {
+                addresses[next++] = get(slot, 0);
+                addresses[next++] = get(slot, 1);
+            }
+        }
+        return addresses;
+    }
+
+    /**
+     * Returns the index of the range an IPv6 address came from.
+     *
+     * @param highAddress The 64 highest order bits of the IPv6 address.
+     * @param lowAddress The 64 lowest order bits of the IPv6 address.
+     * @return The index of the range the given IPv6 address came from, or {@code -1} if the IPv6 address is not contained in this set.
+     */
+    int indexOf(long highAddress, long lowAddress) {
+        for (int slot = slot(highAddress, lowAddress); ; slot = (slot + 1) & mask) {
+            long index = get(slot, 2);
+            if (index == 0) {
+                return -1;
+            }
+            if (get(slot, 0) == highAddress && get(slot, 1) == lowAddress) {
+                return (int) index - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,872 @@
+/*
+ * IPv6RangeIndex.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+
+/**
+ * An immutable, compiled representation of a list of IPv6 ranges.
+ * <p>
+ * The IPv6 address space is split into segments that each map to the most specific IPv6 range that contains them, or to none.
+ * Looking up an IPv6 address is a binary search over the segment boundaries, which are stored as pairs of {@code long}s.
+ * <p>
+ * IPv6 ranges that consist of a single IPv6 address are not part of the segments; these are stored in an {@link IPv6HostSet} instead.
+ * Because such IPv6 ranges are always the most specific, the host set is checked before the segment boundaries are searched.
+ * <p>
+ * Lists with at least {@link Settings#OFF_HEAP_THRESHOLD} IPv6 ranges are stored in {@link OffHeapMemory off-heap memory},
+ * and searched in place. In that case the IPv6 ranges themselves are stored as pairs of boundaries as well, instead of as {@link IPv6Range}
+ * objects, and the host set is stored off-heap as well, so the heap usage does not depend on the number of IPv6 ranges.
+ * <p>
+ * Lists with at least {@link Settings#TRIE_THRESHOLD} IPv6 ranges that are stored on-heap get an {@link IPv6Trie}, that replaces the binary
+ * search over the segment boundaries. This mostly pays off for large lists of IPv6 subnets. The segment boundaries are only needed to build
+ * the trie, so such lists do not keep them.
+ * <p>
+ * Lists with at least {@link Settings#PREFILTER_THRESHOLD} IPv6 ranges get a {@link PrefixFilter}, that rejects most IPv6 addresses that are not
+ * contained in any of the IPv6 ranges before the segment boundaries are searched.
+ * <p>
+ * Lists with at most {@link Settings#ADAPTIVE_ORDER_MAX_RANGES} IPv6 ranges that are stored on-heap are scanned linearly when it's only
+ * needed to know whether any IPv6 range contains an IPv6 address, in an {@link AdaptiveOrder} that checks the IPv6 ranges that most often
+ * contain IPv6 addresses first.
+ * <p>
+ * To check ranges of IPv6 addresses instead of single IPv6 addresses, the union of all IPv6 ranges is created the first time it's needed.
+ * This merges all overlapping and adjacent IPv6 ranges, so checking a range of IPv6 addresses is a single binary search.
+ * The union is created from the segments and host set, without creating any {@link IPv6Range} objects, and is stored in off-heap memory
+ * if the index is.
+ *
+ * @author Rob Spoor
+ */
+final class IPv6RangeIndex {
+
+    static final IPv6RangeIndex EMPTY = new IPv6RangeIndex(new IPv6Range[0], new long[] { Long.MIN_VALUE, Long.MIN_VALUE }, new int[] { -1 },
+            null, null, null, null, null);
+
+    private static final int SEGMENT_START_BYTES = 2 * Long.BYTES;
+    private static final int OWNER_BYTES = Integer.BYTES;
+    private static final int RANGE_BYTES = 4 * Long.BYTES;
+    private static final int HOST_KEY_LONGS = 2;
+    private static final int RANGE_KEY_LONGS = 4;
+
+    // the estimated size of an IPv6Range object with its IPv6Address objects, plus the reference to it
+    private static final int RANGE_OBJECT_BYTES = 92;
+
+    private final int size;
+    private final int segmentCount;
+
+    // on-heap storage; all null if the index is stored off-heap
+
+    private final IPv6Range[] ranges;
+    // The start addresses of the segments as high / low pairs, with the sign bits flipped so signed comparison matches unsigned address order.
+    // The first segment always starts at ::, so each address is part of exactly one segment. Null if there is a trie.
+    private final long[] starts;
+    // For each segment, the index of the most specific range that contains it, or -1 if no range contains it. Null if there is a trie.
+    private final int[] owners;
+
+    // off-heap storage; null if the index is stored on-heap
+    // The layout is the segment starts, followed by the owners, followed by the from / to boundaries of the ranges.
+
+    private final OffHeapMemory memory;
+    private final long ownersOffset;
+    private final long rangesOffset;
+
+    // The IPv6 ranges that consist of a single IPv6 address, or null if there are none.
+    private final IPv6HostSet hosts;
+    // An optional filter that can tell that an address is not contained in any range without searching the segments.
+    private final PrefixFilter filter;
+    // An optional trie that replaces the binary search over the segments; always null if the index is stored off-heap.
+    private final IPv6Trie trie;
+
+    // For lists that are scanned in adaptive order, the from / to addresses of the ranges as high / low pairs with the sign bits flipped;
+    // null otherwise. Always null if the index is stored off-heap.
+    private final long[] bounds;
+    private final AdaptiveOrder adaptiveOrder;
+
+    // The union of all ranges. This is only needed to check ranges of addresses, so it's created on demand.
+    private volatile Union union;
+
+    private IPv6RangeIndex(IPv6Range[] ranges, long[] starts, int[] owners, IPv6HostSet hosts, PrefixFilter filter, IPv6Trie trie,
+            long[] bounds, AdaptiveOrder adaptiveOrder) {
+
+        this.size = ranges.length;
+        this.segmentCount = owners != null ? owners.length : 0;
+        this.ranges = ranges;
+        this.starts = starts;
+        this.owners = owners;
+        this.memory = null;
+        this.ownersOffset = 0;
+        this.rangesOffset = 0;
+        this.hosts = hosts;
+        this.filter = filter;
+        this.trie = trie;
+        this.bounds = bounds;
+        this.adaptiveOrder = adaptiveOrder;
+    }
+
+    private IPv6RangeIndex(int size, int segmentCount, OffHeapMemory memory, IPv6HostSet hosts, PrefixFilter filter) {
+        this.size = size;
+        this.segmentCount = segmentCount;
+        this.ranges = null;
+        this.starts = null;
+        this.owners = null;
+        this.memory = memory;
+        this.ownersOffset = (long) segmentCount * SEGMENT_START_BYTES;
+        this.rangesOffset = ownersOffset + (long) segmentCount * OWNER_BYTES;
+        this.hosts = hosts;
+        this.filter = filter;
+        this.trie = null;
+        this.bounds = null;
+        this.adaptiveOrder = null;
+    }
+
+    static IPv6RangeIndex of(Collection<? extends IPv6Range> ipRanges) {
+        return of(ipRanges, Settings.OFF_HEAP_THRESHOLD, Settings.PREFILTER_THRESHOLD, Settings.TRIE_THRESHOLD);
+    }
+
+    static IPv6RangeIndex of(Collection<? extends IPv6Range> ipRanges, int offHeapThreshold, int prefilterThreshold) {
+        return of(ipRanges, offHeapThreshold, prefilterThreshold, Settings.TRIE_THRESHOLD);
+    }
+
+    static IPv6RangeIndex of(Collection<? extends IPv6Range> ipRanges, int offHeapThreshold, int prefilterThreshold, int trieThreshold) {
+        return of(ipRanges, offHeapThreshold, prefilterThreshold, trieThreshold, Settings.ADAPTIVE_ORDER_MAX_RANGES);
+    }
+
+    static IPv6RangeIndex of(Collection<? extends IPv6Range> ipRanges, int offHeapThreshold, int prefilterThreshold, int trieThreshold,
+            int adaptiveOrderMaxRanges) {
+
+        if (ipRanges.isEmpty()) {
+            return EMPTY;
+        }
+
+        IPv6Range[] ranges = ipRanges.toArray(new IPv6Range[0]);
+        int count = ranges.length;
+        long[] fromHigh = new long[count];
+        long[] fromLow = new long[count];
+        long[] toHigh = new long[count];
+        long[] toLow = new long[count];
+        long[] sizeHigh = new long[count];
+        long[] sizeLow = new long[count];
+        long[] boundaryHigh = new long[2 * count + 1];
+        long[] boundaryLow = new long[2 * count + 1];
+        int boundaryCount = 1;
+        Integer[] byFrom = new Integer[count];
+        int rangeCount = 0;
+        long[] hostHigh = new long[count];
+        long[] hostLow = new long[count];
+        int[] hostIndexes = new int[count];
+        int hostCount = 0;
+        for (int i = 0; i < count; i++) {
+            byte[] from = ranges[i].from().toByteArray();
+            byte[] to = ranges[i].to().toByteArray();
+            fromHigh[i] = high(from);
+            fromLow[i] = low(from);
+            toHigh[i] = high(to);
+            toLow[i] = low(to);
+            sizeLow[i] = toLow[i] - fromLow[i];
+            sizeHigh[i] = toHigh[i] - fromHigh[i] - (Long.compareUnsigned(toLow[i], fromLow[i]) < 0 ? 1 : 0);
+
+            if (sizeHigh[i] == 0 && sizeLow[i] == 0) {
+                hostHigh[hostCount] = fromHigh[i];
+                hostLow[hostCount] = fromLow[i];
+                hostIndexes[hostCount] = i;
+                hostCount++;
+                continue;
+            }
+            byFrom[rangeCount++] = i;
+            boundaryHigh[boundaryCount] = fromHigh[i];
+            boundaryLow[boundaryCount] = fromLow[i];
+            boundaryCount++;
+            if (toHigh[i] != -1L || toLow[i] != -1L) {
+                boundaryHigh[boundaryCount] = toLow[i] == -1L ? toHigh[i] + 1 : toHigh[i];
+                boundaryLow[boundaryCount] = toLow[i] + 1;
+                boundaryCount++;
+            }
+        }
+
+        Integer[] boundaryOrder = new Integer[boundaryCount];
+        Arrays.setAll(boundaryOrder, i -> i);
+        Arrays.sort(boundaryOrder, (i, j) -> compare(boundaryHigh[i], boundaryLow[i], boundaryHigh[j], boundaryLow[j]));
+
+        Arrays.sort(byFrom, 0, rangeCount, (i, j) -> compare(fromHigh[i], fromLow[i], fromHigh[j], fromLow[j]));
+
+        // the most specific range is the smallest one; for ranges of the same size the first declared one wins
+        Comparator<Integer> bySize = (i, j) -> compare(sizeHigh[i], sizeLow[i], sizeHigh[j], sizeLow[j]);
+        PriorityQueue<Integer> active = new PriorityQueue<>(bySize.thenComparingInt(i -> i));
+
+        long[] starts = new long[2 * boundaryCount];
+        int[] owners = new int[boundaryCount];
+        int segmentCount = 0;
+        int next = 0;
+        long previousHigh = 0;
+        long previousLow = 0;
+        for (int b = 0; b < boundaryCount; b++) {
+            long high = boundaryHigh[boundaryOrder[b]];
+            long low = boundaryLow[boundaryOrder[b]];
+            if (b > 0 && high == previousHigh && low == previousLow) {
+                continue;
+            }
+            previousHigh = high;
+            previousLow = low;
+            while (next < rangeCount && compare(fromHigh[byFrom[next]], fromLow[byFrom[next]], high, low) <= 0) {
+                active.add(byFrom[next++]);
+            }
+            while (!active.isEmpty() && compare(toHigh[active.peek()], toLow[active.peek()], high, low) < 0) {
+                active.poll();
+            }
+            int owner = active.isEmpty() ? -1 : active.peek();
+            if (segmentCount == 0 || owners[segmentCount - 1] != owner) {
+                starts[2 * segmentCount] = high ^ Long.MIN_VALUE;
+                starts[2 * segmentCount + 1] = low ^ Long.MIN_VALUE;
+                owners[segmentCount] = owner;
+                segmentCount++;
+            }
+        }
+
+        PrefixFilter filter = count >= prefilterThreshold
+                ? PrefixFilter.forIPv6(fromHigh, fromLow, toHigh, toLow, Settings.PREFILTER_FALSE_POSITIVE_RATE, Settings.PREFILTER_MAX_BYTES)
+                : null;
+
+        IPv6HostSet hosts = hostCount > 0 ? IPv6HostSet.of(hostHigh, hostLow, hostIndexes, hostCount, count >= offHeapThreshold) : null;
+
+        if (count >= offHeapThreshold) {
+            long byteSize = (long) segmentCount * (SEGMENT_START_BYTES + OWNER_BYTES) + (long) count * RANGE_BYTES;
+            if (byteSize <= OffHeapMemory.maxByteSize()) {
+                IPv6RangeIndex index = new IPv6RangeIndex(count, segmentCount, OffHeapMemory.allocate(byteSize), hosts, filter);
+                index.storeSegments(starts, owners);
+                index.storeRanges(fromHigh, fromLow, toHigh, toLow);
+                return index;
+            }
+        }
+        IPv6Trie trie = count >= trieThreshold ? IPv6Trie.of(starts, owners, segmentCount) : null;
+
+        long[] bounds = null;
+        AdaptiveOrder adaptiveOrder = null;
+        if (count <= adaptiveOrderMaxRanges) {
+            bounds = new long[4 * count];
+            for (int i = 0; i < count; i++) {
+                bounds[4 * i] = fromHigh[i] ^ Long.MIN_VALUE;
+                bounds[4 * i + 1] = fromLow[i] ^ Long.MIN_VALUE;
+                bounds[4 * i + 2] = toHigh[i] ^ Long.MIN_VALUE;
+                bounds[4 * i + 3] = toLow[i] ^ Long.MIN_VALUE;
+            }
+            adaptiveOrder = new AdaptiveOrder(count);
+        }
+
+        if (trie != null) {
+            // the trie replaces the segments, and the union can be created from the ranges
+            return new IPv6RangeIndex(ranges, null, null, hosts, filter, trie, bounds, adaptiveOrder);
+        }
+        return new IPv6RangeIndex(ranges, Arrays.copyOf(starts, 2 * segmentCount), Arrays.copyOf(owners, segmentCount), hosts, filter, null,
+                bounds, adaptiveOrder);
+    }
+
+    private void storeSegments(long[] segmentStarts, int[] segmentOwners) {
+        for (int i = 0; i < segmentCount; i++) {
+            memory.putLong((long) i * SEGMENT_START_BYTES, segmentStarts[2 * i]);
+            memory.putLong((long) i * SEGMENT_START_BYTES + Long.BYTES, segmentStarts[2 * i + 1]);
+            memory.putInt(ownersOffset + (long) i * OWNER_BYTES, segmentOwners[i]);
+        }
+    }
+
+    private void storeRanges(long[] fromHigh, long[] fromLow, long[] toHigh, long[] toLow) {
+        for (int i = 0; i < size; i++) {
+            long offset = rangesOffset + (long) i * RANGE_BYTES;
+            memory.putLong(offset, fromHigh[i]);
+            memory.putLong(offset + Long.BYTES, fromLow[i]);
+            memory.putLong(offset + 2 * Long.BYTES, toHigh[i]);
+            memory.putLong(offset + 3 * Long.BYTES, toLow[i]);
+        }
+    }
+
+    private static int compare(long high1, long low1, long high2, long low2) {
+        int result = Long.compareUnsigned(high1, high2);
+        return result != 0 ? result : Long.compareUnsigned(low1, low2);
+    }
+
+    static long high(IPv6Address address) {
+        return high(address.toByteArray());
+    }
+
+    static long low(IPv6Address address) {
+        return low(address.toByteArray());
+    }
+
+    static long high(byte[] address) {
+        return toLong(address, 0);
+    }
+
+    static long low(byte[] address) {
+        return toLong(address, 8);
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long result = 0;
+        for (int i = offset, end = offset + 8; i < end; i++) {
+            result = result << 8 | bytes[i] & 0xFF;
+        }
+        return result;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean hasPrefilter() {
+        return filter != null;
+    }
+
+    boolean hasTrie() {
+        return trie != null;
+    }
+
+    boolean hasAdaptiveOrder() {
+        return adaptiveOrder != null;
+    }
+
+    AdaptiveOrder adaptiveOrder() {
+        return adaptiveOrder;
+    }
+
+    boolean isOffHeap() {
+        return memory != null;
+    }
+
+    MemoryFootprint.Structure structure() {
+        if (memory != null) {
+            return MemoryFootprint.Structure.OFF_HEAP_SEGMENTS;
+        }
+        if (trie != null) {
+            return MemoryFootprint.Structure.TRIE;
+        }
+        return adaptiveOrder != null ? MemoryFootprint.Structure.ADAPTIVE_ORDER : MemoryFootprint.Structure.SEGMENTS;
+    }
+
+    MemoryFootprint memoryFootprint() {
+        if (size == 0) {
+            return MemoryFootprint.EMPTY;
+        }
+        long heapBytes = 0;
+        long offHeapBytes = 0;
+        if (memory != null) {
+            offHeapBytes += memory.byteSize();
+        } else {
+            heapBytes += (long) size * RANGE_OBJECT_BYTES + (long) segmentCount * (SEGMENT_START_BYTES + OWNER_BYTES);
+        }
+        if (hosts != null) {
+            if (hosts.isOffHeap()) {
+                offHeapBytes += hosts.byteSize();
+            } else {
+                heapBytes += hosts.byteSize();
+            }
+        }
+        if (filter != null) {
+            heapBytes += filter.byteSize();
+        }
+        if (trie != null) {
+            heapBytes += trie.byteSize();
+        }
+        if (adaptiveOrder != null) {
+            heapBytes += (long) bounds.length * Long.BYTES + adaptiveOrder.byteSize();
+        }
+        Union currentUnion = union;
+        if (currentUnion != null) {
+            if (currentUnion.isOffHeap()) {
+                offHeapBytes += currentUnion.byteSize();
+            } else {
+                heapBytes += currentUnion.byteSize();
+            }
+        }
+        return MemoryFootprint.of(structure(), size, heapBytes, offHeapBytes);
+    }
+
+    IPv6Range get(int index) {
+        if (ranges != null) {
+            return ranges[index];
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        }
+        long offset = rangesOffset + (long) index * RANGE_BYTES;
+        IPv6Address from = IPv6Address.valueOf(memory.getLong(offset), memory.getLong(offset + Long.BYTES));
+        IPv6Address to = IPv6Address.valueOf(memory.getLong(offset + 2 * Long.BYTES), memory.getLong(offset + 3 * Long.BYTES));
+        return from.to(to);
+    }
+
+    boolean contains(IPv6Address address) {
+        byte[] bytes = address.toByteArray();
+        return contains(high(bytes), low(bytes));
+    }
+
+    boolean contains(long highAddress, long lowAddress) {
+        return adaptiveOrder != null
+                ? containsInAdaptiveOrder(highAddress ^ Long.MIN_VALUE, lowAddress ^ Long.MIN_VALUE)
+                : indexOf(highAddress, lowAddress) != -1;
+    }
+
+    private boolean containsInAdaptiveOrder(long highKey, long lowKey) {
+        for (int index : adaptiveOrder.order()) {
+            int offset = 4 * index;
+            if (compareKeys(bounds[offset], bounds[offset + 1], highKey, lowKey) <= 0
+                    && compareKeys(highKey, lowKey, bounds[offset + 2], bounds[offset + 3]) <= 0) {
+
+                adaptiveOrder.recordHit(index);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the most specific range that contains an IPv6 address. This can be used to classify IPv6 addresses, like a routing table.
+     *
+     * @param highAddress The 64 highest order bits of the IPv6 address.
+     * @param lowAddress The 64 lowest order bits of the IPv6 address.
+     * @return The most specific range that contains the given IPv6 address, or {@code null} if no range contains it.
+     *         If more than one range of the same size contains the IPv6 address, the first one is returned.
+     */
+    IPv6Range rangeOf(long highAddress, long lowAddress) {
+        int index = indexOf(highAddress, lowAddress);
+        return index != -1 ? get(index) : null;
+    }
+
+    /**
+     * Returns the index of the most specific range that contains an IPv6 address.
+     *
+     * @param highAddress The 64 highest order bits of the IPv6 address.
+     * @param lowAddress The 64 lowest order bits of the IPv6 address.
+     * @return The index of the most specific range that contains the given IPv6 address, or {@code -1} if no range contains it.
+     */
+    int indexOf(long highAddress, long lowAddress) {
+        if (filter != null && !filter.mightContainIPv6(highAddress, lowAddress)) {
+            return -1;
+        }
+        if (hosts != null) {
+            int index = hosts.indexOf(highAddress, lowAddress);
+            if (index != -1) {
+                return index;
+            }
+        }
+        if (trie != null) {
+            return trie.indexOf(highAddress, lowAddress);
+        }
+        long highKey = highAddress ^ Long.MIN_VALUE;
+        long lowKey = lowAddress ^ Long.MIN_VALUE;
+        return starts != null
+                ? indexOnHeap(highKey, lowKey)
+                : indexOffHeap(highKey, lowKey);
+    }
+
+    private int indexOnHeap(long highKey, long lowKey) {
+        int low = 0;
+        int high = segmentCount - 1;
+        // find the last segment that starts at or before the key; the first segment always qualifies
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            long startHigh = starts[2 * mid];
+            if (startHigh < highKey || startHigh == highKey && starts[2 * mid + 1] <= lowKey) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return owners[low];
+    }
+
+    private int indexOffHeap(long highKey, long lowKey) {
+        int low = 0;
+        int high = segmentCount - 1;
+        // find the last segment that starts at or before the key; the first segment always qualifies
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            long offset = (long) mid * SEGMENT_START_BYTES;
+            long startHigh = memory.getLong(offset);
+            if (startHigh < highKey || startHigh == highKey && memory.getLong(offset + Long.BYTES) <= lowKey) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return memory.getInt(ownersOffset + (long) low * OWNER_BYTES);
+    }
+
+    /**
+     * Returns whether or not a range of IPv6 addresses is completely contained in the IPv6 ranges of this index.
+     * The range of IPv6 addresses may span several overlapping or adjacent IPv6 ranges.
+     *
+     * @param fromHigh The 64 highest order bits of the first IPv6 address of the range.
+     * @param fromLow The 64 lowest order bits of the first IPv6 address of the range.
+     * @param toHigh The 64 highest order bits of the last IPv6 address of the range.
+     * @param toLow The 64 lowest order bits of the last IPv6 address of the range.
+     * @return {@code true} if each IPv6 address in the given range is contained in at least one IPv6 range, or {@code false} otherwise.
+     */
+    boolean containsAll(long fromHigh, long fromLow, long toHigh, long toLow) {
+        Union intervals = union();
+        int interval = intervals.lastStartingAtOrBefore(fromHigh ^ Long.MIN_VALUE, fromLow ^ Long.MIN_VALUE);
+        return interval != -1
+                && compareKeys(intervals.endHigh(interval), intervals.endLow(interval), toHigh ^ Long.MIN_VALUE, toLow ^ Long.MIN_VALUE) >= 0;
+    }
+
+    /**
+     * Returns whether or not a range of IPv6 addresses overlaps with any of the IPv6 ranges of this index.
+     *
+     * @param fromHigh The 64 highest order bits of the first IPv6 address of the range.
+     * @param fromLow The 64 lowest order bits of the first IPv6 address of the range.
+     * @param toHigh The 64 highest order bits of the last IPv6 address of the range.
+     * @param toLow The 64 lowest order bits of the last IPv6 address of the range.
+     * @return {@code true} if at least one IPv6 address in the given range is contained in at least one IPv6 range, or {@code false} otherwise.
+     */
+    boolean overlaps(long fromHigh, long fromLow, long toHigh, long toLow) {
+        Union intervals = union();
+        // intervals are disjoint and sorted, so if any interval overlaps, the last one that starts at or before the range's end does
+        int interval = intervals.lastStartingAtOrBefore(toHigh ^ Long.MIN_VALUE, toLow ^ Long.MIN_VALUE);
+        return interval != -1
+                && compareKeys(intervals.endHigh(interval), intervals.endLow(interval), fromHigh ^ Long.MIN_VALUE, fromLow ^ Long.MIN_VALUE) >= 0;
+    }
+
+    private static int compareKeys(long highKey1, long lowKey1, long highKey2, long lowKey2) {
+        int result = Long.compare(highKey1, highKey2);
+        return result != 0 ? result : Long.compare(lowKey1, lowKey2);
+    }
+
+    private Union union() {
+        Union result = union;
+        if (result == null) {
+            // benign race: concurrent threads may each create the union, but the results are equal
+            result = createUnion();
+            union = result;
+        }
+        return result;
+    }
+
+    private Union createUnion() {
+        if (trie != null) {
+            long[] rangeKeys = sortedRangeKeys();
+            Union result = Union.allocate(mergeRanges(rangeKeys, null), false);
+            mergeRanges(rangeKeys, result);
+            return result;
+        }
+        long[] hostKeys = sortedHostKeys();
+        // the first pass only counts the intervals, so the second pass can store them without growing any storage
+        Union result = Union.allocate(mergeIntervals(hostKeys, null), memory != null);
+        mergeIntervals(hostKeys, result);
+        return result;
+    }
+
+    private long[] sortedRangeKeys() {
+        long[] keys = new long[RANGE_KEY_LONGS * size];
+        for (int i = 0; i < size; i++) {
+            byte[] from = ranges[i].from().toByteArray();
+            byte[] to = ranges[i].to().toByteArray();
+            keys[RANGE_KEY_LONGS * i] = high(from) ^ Long.MIN_VALUE;
+            keys[RANGE_KEY_LONGS * i + 1] = low(from) ^ Long.MIN_VALUE;
+            keys[RANGE_KEY_LONGS * i + 2] = high(to) ^ Long.MIN_VALUE;
+            keys[RANGE_KEY_LONGS * i + 3] = low(to) ^ Long.MIN_VALUE;
+        }
+        sortKeys(keys, RANGE_KEY_LONGS);
+        return keys;
+    }
+
+    /**
+     * Merges IPv6 ranges into sorted, disjoint and non-adjacent intervals. This is used for indexes that have a trie instead of segments.
+     *
+     * @param rangeKeys The from / to addresses of the IPv6 ranges, as high / low pairs with the sign bits flipped, sorted by from address.
+     * @param target The union to store the intervals in, or {@code null} to only count them.
+     * @return The number of intervals.
+     */
+    private static int mergeRanges(long[] rangeKeys, Union target) {
+        int count = 0;
+        long startHigh = rangeKeys[0];
+        long startLow = rangeKeys[1];
+        long endHigh = rangeKeys[2];
+        long endLow = rangeKeys[3];
+        for (int i = RANGE_KEY_LONGS; i < rangeKeys.length; i += RANGE_KEY_LONGS) {
+            if (isAtMostSuccessor(rangeKeys[i], rangeKeys[i + 1], endHigh, endLow)) {
+                if (compareKeys(rangeKeys[i + 2], rangeKeys[i + 3], endHigh, endLow) > 0) {
+                    endHigh = rangeKeys[i + 2];
+                    endLow = rangeKeys[i + 3];
+                }
+            } else {
+                storeInterval(target, count++, startHigh, startLow, endHigh, endLow);
+                startHigh = rangeKeys[i];
+                startLow = rangeKeys[i + 1];
+                endHigh = rangeKeys[i + 2];
+                endLow = rangeKeys[i + 3];
+            }
+        }
+        storeInterval(target, count++, startHigh, startLow, endHigh, endLow);
+        return count;
+    }
+
+    private long[] sortedHostKeys() {
+        if (hosts == null) {
+            return new long[0];
+        }
+        long[] keys = hosts.addresses();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] ^= Long.MIN_VALUE;
+        }
+        sortKeys(keys, HOST_KEY_LONGS);
+        return keys;
+    }
+
+    /**
+     * Merges the segments that are contained in a range and the IPv6 ranges that consist of a single IPv6 address into sorted, disjoint
+     * and non-adjacent intervals. Because consecutive segments are adjacent, each run of segments that are contained in a range is one
+     * interval, and the segments are already sorted.
+     *
+     * @param hostKeys The sorted IPv6 addresses of the host set, as high / low pairs with the sign bits flipped.
+     * @param target The union to store the intervals in, or {@code null} to only count them.
+     * @return The number of intervals.
+     */
+    private int mergeIntervals(long[] hostKeys, Union target) {
+        int count = 0;
+        boolean open = false;
+        long startHigh = 0;
+        long startLow = 0;
+        long endHigh = 0;
+        long endLow = 0;
+        int segment = 0;
+        int host = 0;
+        int hostCount = hostKeys.length / 2;
+        while (true) {
+            while (segment < segmentCount && segmentOwner(segment) == -1) {
+                segment++;
+            }
+            boolean hasSegment = segment < segmentCount;
+            if (!hasSegment && host >= hostCount) {
+                break;
+            }
+            long nextStartHigh;
+            long nextStartLow;
+            long nextEndHigh;
+            long nextEndLow;
+            if (hasSegment && (host >= hostCount
+                    || compareKeys(segmentStartHigh(segment), segmentStartLow(segment), hostKeys[2 * host], hostKeys[2 * host + 1]) <= 0)) {
+
+                nextStartHigh = segmentStartHigh(segment);
+                nextStartLow = segmentStartLow(segment);
+                int end = segment + 1;
+                while (end < segmentCount && segmentOwner(end) != -1) {
+                    end++;
+                }
+                if (end == segmentCount) {
+                    nextEndHigh = Long.MAX_VALUE;
+                    nextEndLow = Long.MAX_VALUE;
+                } else {
+                    // the run ends just before the next segment starts
+                    long nextSegmentLow = segmentStartLow(end);
+                    nextEndHigh = nextSegmentLow == Long.MIN_VALUE ? segmentStartHigh(end) - 1 : segmentStartHigh(end);
+                    nextEndLow = nextSegmentLow - 1;
+                }
+                segment = end;
+            } else {
+                nextStartHigh = hostKeys[2 * host];
+                nextStartLow = hostKeys[2 * host + 1];
+                nextEndHigh = nextStartHigh;
+                nextEndLow = nextStartLow;
+                host++;
+            }
+            if (open && isAtMostSuccessor(nextStartHigh, nextStartLow, endHigh, endLow)) {
+                if (compareKeys(nextEndHigh, nextEndLow, endHigh, endLow) > 0) {
+                    endHigh = nextEndHigh;
+                    endLow = nextEndLow;
+                }
+            } else {
+                if (open) {
+                    storeInterval(target, count++, startHigh, startLow, endHigh, endLow);
+                }
+                open = true;
+                startHigh = nextStartHigh;
+                startLow = nextStartLow;
+                endHigh = nextEndHigh;
+                endLow = nextEndLow;
+            }
+        }
+        if (open) {
+            storeInterval(target, count++, startHigh, startLow, endHigh, endLow);
+        }
+        return count;
+    }
+
+    private static void storeInterval(Union target, int interval, long startHigh, long startLow, long endHigh, long endLow) {
+        if (target != null) {
+            target.set(interval, startHigh, startLow, endHigh, endLow);
+        }
+    }
+
+    private long segmentStartHigh(int segment) {
+        return starts != null ? starts[2 * segment] : memory.getLong((long) segment * SEGMENT_START_BYTES);
+    }
+
+    private long segmentStartLow(int segment) {
+        return starts != null ? starts[2 * segment + 1] : memory.getLong((long) segment * SEGMENT_START_BYTES + Long.BYTES);
+    }
+
+    private int segmentOwner(int segment) {
+        return owners != null ? owners[segment] : memory.getInt(ownersOffset + (long) segment * OWNER_BYTES);
+    }
+
+    private static boolean isAtMostSuccessor(long highKey, long lowKey, long previousHighKey, long previousLowKey) {
+        if (previousHighKey == Long.MAX_VALUE && previousLowKey == Long.MAX_VALUE) {
+            // the previous address is the maximum IPv6 address
+            return true;
+        }
+        long successorLowKey = previousLowKey + 1;
+        long successorHighKey = previousLowKey == Long.MAX_VALUE ? previousHighKey + 1 : previousHighKey;
+        return compareKeys(highKey, lowKey, successorHighKey, successorLowKey) <= 0;
+    }
+
+    /**
+     * Sorts records of longs that start with a high / low pair with the sign bits flipped, using a heap sort so no extra memory is needed.
+     *
+     * @param keys The records to sort.
+     * @param stride The number of longs per record; records are sorted on their first two longs only.
+     */
+    private static void sortKeys(long[] keys, int stride) {
+        int count = keys.length / stride;
+        for (int i = count / 2 - 1; i >= 0; i--) {
+            siftDown(keys, stride, i, count);
+        }
+        for (int end = count - 1; end > 0; end--) {
+            swap(keys, stride, 0, end);
+            siftDown(keys, stride, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] keys, int stride, int index, int count) {
+        int parent = index;
+        while (true) {
+            int child = 2 * parent + 1;
+            if (child >= count) {
+                return;
+            }
+            int childOffset = stride * child;
+            int siblingOffset = childOffset + stride;
+            if (child + 1 < count && compareKeys(keys[siblingOffset], keys[siblingOffset + 1], keys[childOffset], keys[childOffset + 1]) > 0) {
+                child++;
+                childOffset = siblingOffset;
+            }
+            int parentOffset = stride * parent;
+            if (compareKeys(keys[childOffset], keys[childOffset + 1], keys[parentOffset], keys[parentOffset + 1]) <= 0) {
+                return;
+            }
+            swap(keys, stride, parent, child);
+            parent = child;
+        }
+    }
+
+    private static void swap(long[] keys, int stride, int i, int j) {
+        for (int k = 0; k < stride; k++) {
+            long key = keys[stride * i + k];
+            keys[stride * i + k] = keys[stride * j + k];
+            keys[stride * j + k] = key;
+        }
+    }
+
+    /**
+     * The union of all IPv6 ranges of an index, as sorted, disjoint and non-adjacent intervals.
+     * Each interval is stored as the high / low pairs of its start and end address, with the sign bits flipped like the segment starts.
+     *
+     * @author Rob Spoor
+     */
+    private static final class Union {
+
+        private static final int INTERVAL_LONGS = 4;
+        private static final int INTERVAL_BYTES = INTERVAL_LONGS * Long.BYTES;
+
+        private final int count;
+        // on-heap storage; null if the intervals are stored off-heap
+        private final long[] intervals;
+        // off-heap storage; null if the intervals are stored on-heap
+        private final OffHeapMemory memory;
+
+        private Union(int count, long[] intervals, OffHeapMemory memory) {
+            this.count = count;
+            this.intervals = intervals;
+            this.memory = memory;
+        }
+
+        private static Union allocate(int count, boolean offHeap) {
+            long byteSize = (long) count * INTERVAL_BYTES;
+            return offHeap && count > 0 && byteSize <= OffHeapMemory.maxByteSize()
+                    ? new Union(count, null, OffHeapMemory.allocate(byteSize))
+                    : new Union(count, new long[count * INTERVAL_LONGS], null);
+        }
+
+        private boolean isOffHeap() {
+            return memory != null;
+        }
+
+        private long byteSize() {
+            return memory != null ? memory.byteSize() : (long) intervals.length * Long.BYTES;
+        }
+
+        private long get(int interval, int field) {
+            return intervals != null
+                    ? intervals[interval * INTERVAL_LONGS + field]
+                    : memory.getLong((long) interval * INTERVAL_BYTES + field * Long.BYTES);
+        }
+
+        private void set(int interval, long startHigh, long startLow, long endHigh, long endLow) {
+            if (intervals != null) {
+                int offset = interval * INTERVAL_LONGS;
+                intervals[offset] = startHigh;
+                intervals[offset + 1] = startLow;
+                intervals[offset + 2] = endHigh;
+                intervals[offset + 3] = endLow;
+            } else {
+                long offset = (long) interval * INTERVAL_BYTES;
+                memory.putLong(offset, startHigh);
+                memory.putLong(offset + Long.BYTES, startLow);
+                memory.putLong(offset + 2 * Long.BYTES, endHigh);
+                memory.putLong(offset + 3 * Long.BYTES, endLow);
+            }
+        }
+
+        private long endHigh(int interval) {
+            return get(interval, 2);
+        }
+
+        private long endLow(int interval) {
+            return get(interval, 3);
+        }
+
+        private int lastStartingAtOrBefore(long highKey, long lowKey) {
+            int result = -1;
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (compareKeys(get(mid, 0), get(mid, 1), highKey, lowKey) <= 0) {
+                    result = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return result;
+        }
+    }
+}
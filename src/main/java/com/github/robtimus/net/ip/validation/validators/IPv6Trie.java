@@ -0,0 +1,264 @@
+/*
+ * IPv6Trie.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Arrays;
+
+/**
+ * A compressed multibit trie that maps each IPv6 address to the index of the most specific IPv6 range that contains it.
+ * The layout is based on Poptrie.
+ * <p>
+ * The first 16 bits of an IPv6 address index a direct table. Each following level consumes the next 6 bits, except the last which
+ * consumes the last 4 bits. An entry maps to a range index if all IPv6 addresses with the bits consumed so far map to the same range
+ * index, and to a node otherwise. Lookups therefore visit at most one node per level, which means at most 19 nodes.
+ * <p>
+ * The depth is not constant; it depends on where the boundaries of the IPv6 ranges are. A lookup only descends as deep as needed to
+ * separate the boundaries near the IPv6 address from each other. For IPv6 subnets, a boundary with prefix length {@code p} needs
+ * {@code ceil((p - 16) / 6)} nodes, regardless of the number of IPv6 ranges; for /48 subnets that's at most 6. IPv6 ranges that are not
+ * subnets, like {@code [1234::1...1234::ffff]}, have boundaries that are only separated in the last level, so lookups of IPv6 addresses
+ * near these boundaries visit all 19 levels.
+ * <p>
+ * Each node has two 64-bit vectors, with one bit for each of its children. The first has a bit set for each child that is a node;
+ * these children are stored consecutively, so the index of a child node is the index of the first child node plus the number of bits set
+ * before it. The second has a bit set for each child that is not a node and that maps to a different range index than the previous such
+ * child; the range indexes are stored once per run, so the index of a range index is found the same way. All nodes are packed in primitive
+ * arrays, so looking up an IPv6 address does not create any objects.
+ *
+ * @author Rob Spoor
+ */
+final class IPv6Trie {
+
+    private static final int DIRECT_BITS = 16;
+    private static final int STRIDE = 6;
+    private static final int ADDRESS_BITS = 128;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // For each possible value of the first 16 bits, the range index plus one (or 0 if no range), or the bitwise complement of a node index.
+    private final int[] direct;
+
+    private final long[] nodeVectors;
+    private final long[] leafVectors;
+    private final int[] childBases;
+    private final int[] leafBases;
+    // The range index plus one, or 0 if no range, for each run of leaves.
+    private final int[] leaves;
+
+    private IPv6Trie(int[] direct, long[] nodeVectors, long[] leafVectors, int[] childBases, int[] leafBases, int[] leaves) {
+        this.direct = direct;
+        this.nodeVectors = nodeVectors;
+        this.leafVectors = leafVectors;
+        this.childBases = childBases;
+        this.leafBases = leafBases;
+        this.leaves = leaves;
+    }
+
+    /**
+     * Creates a trie.
+     *
+     * @param starts The start addresses of segments that each map to the same range index, as high / low pairs with their sign bits flipped.
+     *                   The first segment must start at {@code ::}, and the segments must be sorted.
+     * @param owners The range index for each segment, or {@code -1} for segments that are not contained in any range.
+     * @param segmentCount The number of segments.
+     * @return The created trie.
+     */
+    static IPv6Trie of(long[] starts, int[] owners, int segmentCount) {
+        return new Builder(starts, owners, segmentCount).build();
+    }
+
+    /**
+     * Returns the index of the most specific range that contains an IPv6 address.
+     *
+     * @param highAddress The 64 highest order bits of the IPv6 address.
+     * @param lowAddress The 64 lowest order bits of the IPv6 address.
+     * @return The index of the most specific range that contains the given IPv6 address, or {@code -1} if no range contains it.
+     */
+    int indexOf(long highAddress, long lowAddress) {
+        int entry = direct[(int) (highAddress >>> (Long.SIZE - DIRECT_BITS))];
+        int prefixLength = DIRECT_BITS;
+        while (entry < 0) {
+            int node = ~entry;
+            long bit = 1L << child(highAddress, lowAddress, prefixLength);
+            long nodeVector = nodeVectors[node];
+            if ((nodeVector & bit) == 0) {
+                return leaves[leafBases[node] + Long.bitCount(leafVectors[node] & (bit | bit - 1)) - 1] - 1;
+            }
+            entry = ~(childBases[node] + Long.bitCount(nodeVector & (bit - 1)));
+            prefixLength += STRIDE;
+        }
+        return entry - 1;
+    }
+
+    private static int stride(int prefixLength) {
+        return Math.min(STRIDE, ADDRESS_BITS - prefixLength);
+    }
+
+    private static int child(long highAddress, long lowAddress, int prefixLength) {
+        // strides never cross the boundary between the high and low bits, as 64 - 16 is a multiple of 6
+        int stride = stride(prefixLength);
+        int mask = (1 << stride) - 1;
+        return prefixLength < Long.SIZE
+                ? (int) (highAddress >>> (Long.SIZE - prefixLength - stride)) & mask
+                : (int) (lowAddress >>> (ADDRESS_BITS - prefixLength - stride)) & mask;
+    }
+
+    /**
+     * Returns the number of nodes, not including the direct table.
+     *
+     * @return The number of nodes.
+     */
+    int nodeCount() {
+        return nodeVectors.length;
+    }
+
+    long byteSize() {
+        return ((long) direct.length + childBases.length + leafBases.length + leaves.length) * Integer.BYTES
+                + ((long) nodeVectors.length + leafVectors.length) * Long.BYTES;
+    }
+
+    private static final class Builder {
+
+        private final long[] starts;
+        private final int[] owners;
+        private final int segmentCount;
+
+        // Nodes are created in breadth-first order, so the child nodes of each node are consecutive.
+        // For each node that still needs to be processed, these contain the block of addresses it covers and the segment its first address is in.
+        private int[] prefixLengths = new int[INITIAL_CAPACITY];
+        private long[] blockHighs = new long[INITIAL_CAPACITY];
+        private long[] blockLows = new long[INITIAL_CAPACITY];
+        private int[] blockSegments = new int[INITIAL_CAPACITY];
+
+        private long[] nodeVectors = new long[INITIAL_CAPACITY];
+        private long[] leafVectors = new long[INITIAL_CAPACITY];
+        private int[] childBases = new int[INITIAL_CAPACITY];
+        private int[] leafBases = new int[INITIAL_CAPACITY];
+        private int nodeCount = 0;
+
+        private int[] leaves = new int[INITIAL_CAPACITY];
+        private int leafCount = 0;
+
+        private Builder(long[] starts, int[] owners, int segmentCount) {
+            this.starts = starts;
+            this.owners = owners;
+            this.segmentCount = segmentCount;
+        }
+
+        private IPv6Trie build() {
+            int[] direct = new int[1 << DIRECT_BITS];
+            int segment = 0;
+            for (int i = 0; i < direct.length; i++) {
+                long high = (long) i << (Long.SIZE - DIRECT_BITS);
+                segment = advance(segment, high, 0L);
+                direct[i] = entry(DIRECT_BITS, high, 0L, segment);
+            }
+
+            for (int node = 0; node < nodeCount; node++) {
+                int prefixLength = prefixLengths[node];
+                int stride = stride(prefixLength);
+                int childPrefixLength = prefixLength + stride;
+                int hostBits = ADDRESS_BITS - childPrefixLength;
+                long nodeVector = 0L;
+                long leafVector = 0L;
+                int previousLeaf = -1;
+                int childSegment = blockSegments[node];
+                childBases[node] = nodeCount;
+                leafBases[node] = leafCount;
+                for (int child = 0, children = 1 << stride; child < children; child++) {
+                    long high = blockHighs[node];
+                    long low = blockLows[node];
+                    if (hostBits >= Long.SIZE) {
+                        high |= (long) child << (hostBits - Long.SIZE);
+                    } else {
+                        low |= (long) child << hostBits;
+                    }
+                    childSegment = advance(childSegment, high, low);
+                    int entry = entry(childPrefixLength, high, low, childSegment);
+                    if (entry < 0) {
+                        nodeVector |= 1L << child;
+                    } else if (entry != previousLeaf) {
+                        leafVector |= 1L << child;
+                        addLeaf(entry);
+                        previousLeaf = entry;
+                    }
+                }
+                nodeVectors[node] = nodeVector;
+                leafVectors[node] = leafVector;
+            }
+
+            return new IPv6Trie(direct, Arrays.copyOf(nodeVectors, nodeCount), Arrays.copyOf(leafVectors, nodeCount),
+                    Arrays.copyOf(childBases, nodeCount), Arrays.copyOf(leafBases, nodeCount), Arrays.copyOf(leaves, leafCount));
+        }
+
+        /**
+         * Returns the entry for a block of addresses: the range index plus one if all addresses map to the same range index,
+         * or the bitwise complement of a new node that still needs to be processed otherwise.
+         */
+        private int entry(int prefixLength, long high, long low, int segment) {
+            if (segment + 1 == segmentCount) {
+                return owners[segment] + 1;
+            }
+            int hostBits = ADDRESS_BITS - prefixLength;
+            long lastHigh = hostBits > Long.SIZE ? high | -1L >>> prefixLength : high;
+            long lastLow = hostBits >= Long.SIZE ? -1L : low | (hostBits == 0 ? 0L : -1L >>> (Long.SIZE - hostBits));
+            if (compareToStart(segment + 1, lastHigh, lastLow) > 0) {
+                return owners[segment] + 1;
+            }
+            return ~addNode(prefixLength, high, low, segment);
+        }
+
+        private int advance(int segment, long high, long low) {
+            int result = segment;
+            while (result + 1 < segmentCount && compareToStart(result + 1, high, low) <= 0) {
+                result++;
+            }
+            return result;
+        }
+
+        private int compareToStart(int segment, long high, long low) {
+            int result = Long.compare(starts[2 * segment], high ^ Long.MIN_VALUE);
+            return result != 0 ? result : Long.compare(starts[2 * segment + 1], low ^ Long.MIN_VALUE);
+        }
+
+        private int addNode(int prefixLength, long high, long low, int segment) {
+            if (nodeCount == prefixLengths.length) {
+                int capacity = nodeCount * 2;
+                prefixLengths = Arrays.copyOf(prefixLengths, capacity);
+                blockHighs = Arrays.copyOf(blockHighs, capacity);
+                blockLows = Arrays.copyOf(blockLows, capacity);
+                blockSegments = Arrays.copyOf(blockSegments, capacity);
+                nodeVectors = Arrays.copyOf(nodeVectors, capacity);
+                leafVectors = Arrays.copyOf(leafVectors, capacity);
+                childBases = Arrays.copyOf(childBases, capacity);
+                leafBases = Arrays.copyOf(leafBases, capacity);
+            }
+            prefixLengths[nodeCount] = prefixLength;
+            blockHighs[nodeCount] = high;
+            blockLows[nodeCount] = low;
+            blockSegments[nodeCount] = segment;
+            return nodeCount++;
+        }
+
+        private void addLeaf(int entry) {
+            if (leafCount == leaves.length) {
+                leaves = Arrays.copyOf(leaves, leafCount * 2);
+            }
+            leaves[leafCount++] = entry;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * MemoryFootprint.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Arrays;
+
+/**
+ * The estimated memory footprint of one or more compiled lists of IP ranges.
+ * <p>
+ * Footprints are available for the constraints of an {@link IPConstraintValidatorFactory}, using
+ * {@link IPConstraintValidatorFactory#getMemoryFootprints()}, for IP ranges registered under a name, using
+ * {@link IPRangeRegistry#getMemoryFootprint(String)}, and for all compiled lists of IP ranges of the current process, using
+ * {@link #total()}.
+ * <p>
+ * The numbers of bytes are estimates. They include the IP range objects and all structures that are used for looking up IP addresses,
+ * assuming compressed object pointers. IP range objects are estimated to take 60 bytes per IPv4 range and 92 bytes per IPv6 range.
+ * The estimates do not include array headers, or objects that exist only once per list of IP ranges.
+ *
+ * @author Rob Spoor
+ */
+public final class MemoryFootprint {
+
+    /**
+     * The structures in which compiled lists of IP ranges of a single IP version are stored.
+     * <p>
+     * Each structure documents how many bytes per IP range it should take at most. IP ranges that consist of a single IP address are
+     * stored in a hash set instead, that takes at most 32 bytes per IPv4 address or 96 bytes per IPv6 address.
+     * If a list of IP ranges has a bloom filter, that comes on top of that.
+     *
+     * @author Rob Spoor
+     */
+    public enum Structure {
+        /**
+         * Sorted segment boundaries that are searched with a binary search. These take at most 16 bytes per IPv4 range or 40 bytes per
+         * IPv6 range, plus the IP range objects themselves.
+         */
+        SEGMENTS,
+
+        /**
+         * Sorted segment boundaries that are stored outside of the Java heap.
+         * These take at most 72 bytes per IPv6 range outside of the Java heap, and no heap memory per IPv6 range.
+         */
+        OFF_HEAP_SEGMENTS,
+
+        /**
+         * A two-level IPv4 lookup table. This replaces the {@link #SEGMENTS segments} and the hash set of single IPv4 addresses; only the
+         * IP range objects themselves are kept. The table takes 64MB plus at most 2KB per IPv4 range.
+         */
+        LOOKUP_TABLE,
+
+        /**
+         * A compressed multibit IPv6 trie. This replaces the {@link #SEGMENTS segments}; only the IP range objects themselves are kept.
+         * The direct table of the trie takes 256KB. The size of the nodes of the trie depends on the prefix lengths of the IPv6 ranges;
+         * for IPv6 subnets with a prefix length of up to 64 they take at most 256 bytes per IPv6 range.
+         */
+        TRIE,
+
+        /**
+         * A linear scan in adaptive order. This takes at most 56 bytes per IPv4 range or 80 bytes per IPv6 range, on top of the
+         * {@link #SEGMENTS segments}. This assumes that counting hits is not contended.
+         */
+        ADAPTIVE_ORDER,
+    }
+
+    static final MemoryFootprint EMPTY = new MemoryFootprint(new int[Structure.values().length], 0, 0);
+
+    // the IP range count for each structure, by ordinal
+    private final int[] rangeCounts;
+    private final long heapBytes;
+    private final long offHeapBytes;
+
+    private MemoryFootprint(int[] rangeCounts, long heapBytes, long offHeapBytes) {
+        this.rangeCounts = rangeCounts;
+        this.heapBytes = heapBytes;
+        this.offHeapBytes = offHeapBytes;
+    }
+
+    static MemoryFootprint of(Structure structure, int rangeCount, long heapBytes, long offHeapBytes) {
+        int[] rangeCounts = new int[Structure.values().length];
+        rangeCounts[structure.ordinal()] = rangeCount;
+        return new MemoryFootprint(rangeCounts, heapBytes, offHeapBytes);
+    }
+
+    /**
+     * Returns the memory footprint of all compiled lists of IP ranges of the current process. This includes the IP ranges of constraints
+     * for all {@link IPConstraintValidatorFactory} instances, the IP ranges of constraints that are validated without such a factory,
+     * and the IP ranges registered under a name. Compiled lists of IP ranges that are no longer used but have not been garbage collected
+     * yet may be included as well.
+     *
+     * @return The memory footprint of all compiled lists of IP ranges of the current process.
+     */
+    public static MemoryFootprint total() {
+        return IPRangeIndex.totalMemoryFootprint();
+    }
+
+    MemoryFootprint plus(MemoryFootprint other) {
+        int[] counts = rangeCounts.clone();
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.rangeCounts[i];
+        }
+        return new MemoryFootprint(counts, heapBytes + other.heapBytes, offHeapBytes + other.offHeapBytes);
+    }
+
+    /**
+     * Returns the total number of IP ranges.
+     *
+     * @return The total number of IP ranges.
+     */
+    public int rangeCount() {
+        return Arrays.stream(rangeCounts).sum();
+    }
+
+    /**
+     * Returns the number of IP ranges that are stored in a specific structure.
+     *
+     * @param structure The structure to return the number of IP ranges for.
+     * @return The number of IP ranges that are stored in the given structure.
+     * @throws NullPointerException If the given structure is {@code null}.
+     */
+    public int rangeCount(Structure structure) {
+        return rangeCounts[structure.ordinal()];
+    }
+
+    /**
+     * Returns the estimated number of bytes on the Java heap.
+     *
+     * @return The estimated number of bytes on the Java heap.
+     */
+    public long heapBytes() {
+        return heapBytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes outside of the Java heap.
+     *
+     * @return The estimated number of bytes outside of the Java heap.
+     */
+    public long offHeapBytes() {
+        return offHeapBytes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder()
+                .append(getClass().getSimpleName())
+                .append("[rangeCount=").append(rangeCount()); //$NON-NLS-1$
+        for (Structure structure : Structure.values()) {
+            int count = rangeCounts[structure.ordinal()];
+            if (count != 0) {
+                sb.append(", ").append(structure).append('=').append(count); //$NON-NLS-1$
+            }
+        }
+        return sb.append(", heapBytes=").append(heapBytes) //$NON-NLS-1$
+                .append(", offHeapBytes=").append(offHeapBytes) //$NON-NLS-1$
+                .append(']')
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * OffHeapMemory.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A block of memory outside of the Java heap. It is released when the {@code OffHeapMemory} instance is garbage collected.
+ * <p>
+ * This implementation uses a direct {@link ByteBuffer}, which limits its size to 2GB.
+ * On Java 22 and up, an implementation based on {@code java.lang.foreign.MemorySegment} that does not have this limit is used instead.
+ *
+ * @author Rob Spoor
+ */
+final class OffHeapMemory {
+
+    private final ByteBuffer buffer;
+
+    private OffHeapMemory(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    static long maxByteSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    static OffHeapMemory allocate(long byteSize) {
+        if (byteSize > maxByteSize()) {
+            throw new IllegalArgumentException(Messages.OffHeapMemory.tooLarge(byteSize, maxByteSize()));
+        }
+        return new OffHeapMemory(ByteBuffer.allocateDirect((int) byteSize).order(ByteOrder.nativeOrder()));
+    }
+
+    long byteSize() {
+        return buffer.capacity();
+    }
+
+    long getLong(long offset) {
+        return buffer.getLong((int) offset);
+    }
+
+    void putLong(long offset, long value) {
+        buffer.putLong((int) offset, value);
+    }
+
+    int getInt(long offset) {
+        return buffer.getInt((int) offset);
+    }
+
+    void putInt(long offset, int value) {
+        buffer.putInt((int) offset, value);
+    }
+}
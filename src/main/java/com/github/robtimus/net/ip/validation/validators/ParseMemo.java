@@ -0,0 +1,198 @@
+/*
+ * ParseMemo.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Optional;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPAddressFormatter;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+
+/**
+ * A per-thread memo of the last IP address that was parsed from a {@link CharSequence}.
+ * <p>
+ * Repeated constraints on the same property, like {@link com.github.robtimus.net.ip.validation.IPAddress.List} or {@code IPv4Address}
+ * annotations for different groups, are validated by separate validators that all get the same value. The same goes for different
+ * constraints on the same property, like {@code IPAddress} and {@code IPv4Address}, and for beans that contain the same IP address in
+ * several properties. With this memo, only the first of these validators parses the value; the others reuse the parsed IP address, but still
+ * evaluate their own IP ranges and report their own violations.
+ * <p>
+ * Values are matched by identity first. Because strings are immutable, an identical {@link String} always has the same parse result.
+ * Other values, including other strings, are matched by comparing their content to a copy of the content of the last parsed value.
+ * Values that are longer than {@value #MAX_LENGTH} characters are never valid IP addresses. These are rejected without being parsed, and
+ * are not memoized, so a memo never keeps a reference to a large value.
+ * <p>
+ * A parse result for one format can often be reused for another. An IP address parsed with {@link Format#ANY_VERSION} is the result for
+ * {@link Format#IPV4} or {@link Format#IPV6} if it has that version, and otherwise neither format can parse the value. Conversely, an IP address
+ * parsed with {@link Format#IPV4} or {@link Format#IPV6} is also the result for {@link Format#ANY_VERSION}.
+ * <p>
+ * Memos are stored in a {@link ThreadLocal}, not in any shared state, so they need no synchronization. Virtual threads each get their own
+ * memo, like they get their own values for all thread locals; a carrier thread that runs several virtual threads never shares a memo
+ * between them. Because virtual threads are often short-lived, a memo is small, and its buffer for the content of the last parsed value is
+ * only created when it's first needed.
+ *
+ * @author Rob Spoor
+ */
+final class ParseMemo {
+
+    static final int MAX_LENGTH = 64;
+
+    private static final ThreadLocal<ParseMemo> MEMOS = ThreadLocal.withInitial(ParseMemo::new);
+
+    // the last parsed value if it was a string, otherwise null
+    private String string;
+    // the content of the last parsed value; values longer than MAX_LENGTH characters are never stored
+    private char[] content;
+    // the length of the last parsed value, or -1 if there is no last parsed value
+    private int length = -1;
+    // the format of the last parsed value, or null if there is no last parsed value
+    private Format format;
+    private Optional<? extends IPAddress<?>> result;
+
+    private ParseMemo() {
+    }
+
+    /**
+     * Parses a value into an IP address, or returns the result of the previous call if that can be reused.
+     *
+     * @param value The value to parse.
+     * @param format The format to parse the value with.
+     * @return An {@link Optional} describing the parsed IP address, or {@link Optional#empty()} if the value is not a valid IP address.
+     */
+    static Optional<? extends IPAddress<?>> tryParse(CharSequence value, Format format) {
+        if (value.length() > MAX_LENGTH) {
+            return Optional.empty();
+        }
+        ParseMemo memo = MEMOS.get();
+        Optional<? extends IPAddress<?>> result = memo.matches(value) ? memo.reuse(format) : null;
+        if (result == null) {
+            result = format.tryParse(value);
+            memo.store(value, format, result);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a value into an IP address like {@link #tryParse(CharSequence, Format)}, and records the time it took.
+     *
+     * @param value The value to parse.
+     * @param format The format to parse the value with.
+     * @param statistics The statistics to record the time it took to parse the value in, or {@code null} if statistics are not collected.
+     * @return An {@link Optional} describing the parsed IP address, or {@link Optional#empty()} if the value is not a valid IP address.
+     */
+    static Optional<? extends IPAddress<?>> tryParse(CharSequence value, Format format, ConstraintStatistics statistics) {
+        if (statistics == null) {
+            return tryParse(value, format);
+        }
+        long start = System.nanoTime();
+        Optional<? extends IPAddress<?>> result = tryParse(value, format);
+        statistics.recordParse(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Resets the memo of the current thread, so it no longer refers to the last parsed value.
+     */
+    static void reset() {
+        ParseMemo memo = MEMOS.get();
+        memo.string = null;
+        memo.length = -1;
+        memo.format = null;
+        memo.result = null;
+    }
+
+    private boolean matches(CharSequence value) {
+        if (format == null) {
+            return false;
+        }
+        if (value == string) {
+            return true;
+        }
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (content[i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Optional<? extends IPAddress<?>> reuse(Format requestedFormat) {
+        if (requestedFormat == format) {
+            return result;
+        }
+        if (format == Format.ANY_VERSION) {
+            return requestedFormat == Format.IPV4
+                    ? result.filter(IPv4Address.class::isInstance)
+                    : result.filter(IPv6Address.class::isInstance);
+        }
+        // an IPv4 or IPv6 address is the result for any version as well, but a failure to parse one version says nothing about the other
+        return requestedFormat == Format.ANY_VERSION && result.isPresent() ? result : null;
+    }
+
+    private void store(CharSequence value, Format parsedFormat, Optional<? extends IPAddress<?>> parseResult) {
+        // only called for values of at most MAX_LENGTH characters
+        string = value instanceof String ? (String) value : null;
+        int valueLength = value.length();
+        if (content == null) {
+            content = new char[MAX_LENGTH];
+        }
+        for (int i = 0; i < valueLength; i++) {
+            content[i] = value.charAt(i);
+        }
+        length = valueLength;
+        format = parsedFormat;
+        result = parseResult;
+    }
+
+    /**
+     * The supported formats.
+     *
+     * @author Rob Spoor
+     */
+    enum Format {
+        /** IPv4 or IPv6 addresses, as parsed by {@link IPAddressFormatter#anyVersionWithDefaults()}. */
+        ANY_VERSION {
+            @Override
+            Optional<? extends IPAddress<?>> tryParse(CharSequence value) {
+                return IPAddressFormatter.anyVersionWithDefaults().tryParse(value);
+            }
+        },
+
+        /** IPv4 addresses, as parsed by {@link IPAddressFormatter#ipv4()}. */
+        IPV4 {
+            @Override
+            Optional<? extends IPAddress<?>> tryParse(CharSequence value) {
+                return IPAddressFormatter.ipv4().tryParse(value);
+            }
+        },
+
+        /** IPv6 addresses, as parsed by {@link IPAddressFormatter#ipv6WithDefaults()}. */
+        IPV6 {
+            @Override
+            Optional<? extends IPAddress<?>> tryParse(CharSequence value) {
+                return IPAddressFormatter.ipv6WithDefaults().tryParse(value);
+            }
+        },
+        ;
+
+        abstract Optional<? extends IPAddress<?>> tryParse(CharSequence value);
+    }
+}
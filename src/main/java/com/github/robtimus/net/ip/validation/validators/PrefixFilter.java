@@ -0,0 +1,279 @@
+/*
+ * PrefixFilter.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Arrays;
+
+/**
+ * A blocked bloom filter on address prefixes, that can tell that an IP address is definitely not contained in any of a list of IP ranges.
+ * <p>
+ * Each IP range is added as the prefixes of one fixed length that together cover it. The length used is the longest one for which the
+ * IP range is covered by at most {@link #MAX_PREFIXES_PER_RANGE} prefixes. When checking an IP address, its prefix is checked for each
+ * length that has been used.
+ * <p>
+ * All bits for one prefix are located in the same 512-bit block, which is the size of a cache line on most hardware.
+ * That means that checking an IP address touches at most one cache line per prefix length.
+ *
+ * @author Rob Spoor
+ */
+final class PrefixFilter {
+
+    static final int MAX_PREFIXES_PER_RANGE = 16;
+
+    private static final int[] IPV4_PREFIX_LENGTHS = { 32, 24, 16, 8 };
+    private static final int[] IPV6_PREFIX_LENGTHS = { 128, 64, 48, 32, 16 };
+
+    private static final int BLOCK_BITS = 512;
+    private static final int BLOCK_LONGS = BLOCK_BITS / Long.SIZE;
+    private static final int MAX_HASH_COUNT = 16;
+
+    private final long[] bits;
+    private final int blockCount;
+    private final int hashCount;
+    // the prefix lengths that have been used, from long to short
+    private final int[] prefixLengths;
+
+    private PrefixFilter(long[] bits, int hashCount, int[] prefixLengths) {
+        this.bits = bits;
+        this.blockCount = bits.length / BLOCK_LONGS;
+        this.hashCount = hashCount;
+        this.prefixLengths = prefixLengths;
+    }
+
+    /**
+     * Creates a filter for a list of IPv4 ranges.
+     *
+     * @param from The start addresses of the IPv4 ranges, as unsigned values.
+     * @param to The end addresses of the IPv4 ranges, as unsigned values.
+     * @param falsePositiveRate The target false positive rate.
+     * @param maxBytes The maximum number of bytes to use for the filter.
+     * @return The created filter, or {@code null} if any of the IPv4 ranges is too large to be covered by the available prefix lengths.
+     */
+    static PrefixFilter forIPv4(long[] from, long[] to, double falsePositiveRate, long maxBytes) {
+        int count = from.length;
+        int[] lengths = new int[count];
+        long keyCount = 0;
+        for (int i = 0; i < count; i++) {
+            lengths[i] = ipv4PrefixLength(from[i], to[i]);
+            if (lengths[i] == -1) {
+                return null;
+            }
+            keyCount += ipv4PrefixCount(from[i], to[i], lengths[i]);
+        }
+
+        PrefixFilter filter = create(keyCount, falsePositiveRate, maxBytes, IPV4_PREFIX_LENGTHS, lengths);
+        for (int i = 0; i < count; i++) {
+            int shift = Integer.SIZE - lengths[i];
+            for (long prefix = from[i] >>> shift, last = to[i] >>> shift; prefix <= last; prefix++) {
+                filter.add(ipv4Key(prefix, lengths[i]));
+            }
+        }
+        return filter;
+    }
+
+    private static int ipv4PrefixLength(long from, long to) {
+        for (int length : IPV4_PREFIX_LENGTHS) {
+            if (ipv4PrefixCount(from, to, length) <= MAX_PREFIXES_PER_RANGE) {
+                return length;
+            }
+        }
+        return -1;
+    }
+
+    private static long ipv4PrefixCount(long from, long to, int length) {
+        int shift = Integer.SIZE - length;
+        return (to >>> shift) - (from >>> shift) + 1;
+    }
+
+    /**
+     * Creates a filter for a list of IPv6 ranges.
+     *
+     * @param fromHigh The 64 highest order bits of the start addresses of the IPv6 ranges.
+     * @param fromLow The 64 lowest order bits of the start addresses of the IPv6 ranges.
+     * @param toHigh The 64 highest order bits of the end addresses of the IPv6 ranges.
+     * @param toLow The 64 lowest order bits of the end addresses of the IPv6 ranges.
+     * @param falsePositiveRate The target false positive rate.
+     * @param maxBytes The maximum number of bytes to use for the filter.
+     * @return The created filter, or {@code null} if any of the IPv6 ranges is too large to be covered by the available prefix lengths.
+     */
+    static PrefixFilter forIPv6(long[] fromHigh, long[] fromLow, long[] toHigh, long[] toLow, double falsePositiveRate, long maxBytes) {
+        int count = fromHigh.length;
+        int[] lengths = new int[count];
+        long keyCount = 0;
+        for (int i = 0; i < count; i++) {
+            lengths[i] = ipv6PrefixLength(fromHigh[i], fromLow[i], toHigh[i], toLow[i]);
+            if (lengths[i] == -1) {
+                return null;
+            }
+            keyCount += 1 + (lengths[i] == Long.SIZE * 2 ? toLow[i] - fromLow[i] : ipv6PrefixSpan(fromHigh[i], toHigh[i], lengths[i]));
+        }
+
+        PrefixFilter filter = create(keyCount, falsePositiveRate, maxBytes, IPV6_PREFIX_LENGTHS, lengths);
+        for (int i = 0; i < count; i++) {
+            int length = lengths[i];
+            if (length == Long.SIZE * 2) {
+                // the range spans at most MAX_PREFIXES_PER_RANGE addresses, with the same high bits
+                for (long low = fromLow[i], n = toLow[i] - fromLow[i]; n >= 0; low++, n--) {
+                    filter.add(ipv6Key(fromHigh[i], low));
+                }
+            } else {
+                int shift = Long.SIZE - length;
+                for (long prefix = fromHigh[i] >>> shift, n = ipv6PrefixSpan(fromHigh[i], toHigh[i], length); n >= 0; prefix++, n--) {
+                    filter.add(ipv6Key(prefix, length));
+                }
+            }
+        }
+        return filter;
+    }
+
+    private static int ipv6PrefixLength(long fromHigh, long fromLow, long toHigh, long toLow) {
+        if (fromHigh == toHigh && Long.compareUnsigned(toLow - fromLow, MAX_PREFIXES_PER_RANGE) < 0) {
+            return Long.SIZE * 2;
+        }
+        for (int i = 1; i < IPV6_PREFIX_LENGTHS.length; i++) {
+            int length = IPV6_PREFIX_LENGTHS[i];
+            if (Long.compareUnsigned(ipv6PrefixSpan(fromHigh, toHigh, length), MAX_PREFIXES_PER_RANGE) < 0) {
+                return length;
+            }
+        }
+        return -1;
+    }
+
+    // returns the number of prefixes minus one, to prevent overflow for length 64
+    private static long ipv6PrefixSpan(long fromHigh, long toHigh, int length) {
+        int shift = Long.SIZE - length;
+        return (toHigh >>> shift) - (fromHigh >>> shift);
+    }
+
+    private static PrefixFilter create(long keyCount, double falsePositiveRate, long maxBytes, int[] allPrefixLengths, int[] usedPrefixLengths) {
+        // optimal number of bits: -n * ln(p) / ln(2)^2, rounded up to whole blocks, but at least one block and not more than the budget
+        double optimalBits = -keyCount * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long maxBlocks = Math.max(1, Math.min(maxBytes * Byte.SIZE / BLOCK_BITS, Integer.MAX_VALUE / BLOCK_LONGS));
+        long blocks = Math.max(1, Math.min(maxBlocks, (long) Math.ceil(optimalBits / BLOCK_BITS)));
+        long[] bits = new long[(int) blocks * BLOCK_LONGS];
+
+        // optimal number of hash functions: m / n * ln(2)
+        int hashCount = (int) Math.round((double) blocks * BLOCK_BITS / Math.max(1, keyCount) * Math.log(2));
+        hashCount = Math.max(1, Math.min(MAX_HASH_COUNT, hashCount));
+
+        int[] prefixLengths = Arrays.stream(allPrefixLengths)
+                .filter(length -> contains(usedPrefixLengths, length))
+                .toArray();
+
+        return new PrefixFilter(bits, hashCount, prefixLengths);
+    }
+
+    private static boolean contains(int[] array, int value) {
+        for (int element : array) {
+            if (element == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long ipv4Key(long prefix, int length) {
+        return mix(prefix | (long) length << Integer.SIZE);
+    }
+
+    private static long ipv6Key(long prefix, int length) {
+        return mix(prefix ^ mix(length));
+    }
+
+    private static long ipv6Key(long high, long low) {
+        return mix(high ^ mix(low ^ Long.SIZE * 2));
+    }
+
+    // the finalizer of SplitMix64
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void add(long key) {
+        int offset = blockOffset(key);
+        int position = (int) key;
+        int step = (int) (key >>> Integer.SIZE) | 1;
+        for (int i = 0; i < hashCount; i++, position += step) {
+            int bit = position & (BLOCK_BITS - 1);
+            bits[offset + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private boolean mightContain(long key) {
+        int offset = blockOffset(key);
+        int position = (int) key;
+        int step = (int) (key >>> Integer.SIZE) | 1;
+        for (int i = 0; i < hashCount; i++, position += step) {
+            int bit = position & (BLOCK_BITS - 1);
+            if ((bits[offset + (bit >>> 6)] & 1L << bit) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int blockOffset(long key) {
+        // use different bits than the bit positions within the block, and map these to [0, blockCount) without division
+        long hash = mix(key) >>> Integer.SIZE;
+        return (int) ((hash * blockCount) >>> Integer.SIZE) * BLOCK_LONGS;
+    }
+
+    /**
+     * Returns whether or not an IPv4 address might be contained in any of the IPv4 ranges of this filter.
+     *
+     * @param address The IPv4 address, as returned by {@link com.github.robtimus.net.ip.IPv4Address#toInt()}.
+     * @return {@code false} if the given IPv4 address is definitely not contained in any of the IPv4 ranges of this filter,
+     *         or {@code true} if it might be.
+     */
+    boolean mightContainIPv4(int address) {
+        long unsigned = address & 0xFFFF_FFFFL;
+        for (int length : prefixLengths) {
+            if (mightContain(ipv4Key(unsigned >>> (Integer.SIZE - length), length))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether or not an IPv6 address might be contained in any of the IPv6 ranges of this filter.
+     *
+     * @param highAddress The 64 highest order bits of the IPv6 address.
+     * @param lowAddress The 64 lowest order bits of the IPv6 address.
+     * @return {@code false} if the given IPv6 address is definitely not contained in any of the IPv6 ranges of this filter,
+     *         or {@code true} if it might be.
+     */
+    boolean mightContainIPv6(long highAddress, long lowAddress) {
+        for (int length : prefixLengths) {
+            long key = length == Long.SIZE * 2
+                    ? ipv6Key(highAddress, lowAddress)
+                    : ipv6Key(highAddress >>> (Long.SIZE - length), length);
+            if (mightContain(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long byteSize() {
+        return (long) bits.length * Long.BYTES;
+    }
+}
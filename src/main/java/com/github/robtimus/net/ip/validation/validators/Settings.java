@@ -0,0 +1,87 @@
+/*
+ * Settings.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.function.Function;
+
+/**
+ * Process-wide settings that control how and when IP ranges are compiled and how violations are reported. These are read from system properties once.
+ *
+ * @author Rob Spoor
+ */
+final class Settings {
+
+    private static final String PREFIX = "com.github.robtimus.net.ip.validation."; //$NON-NLS-1$
+
+    static final int OFF_HEAP_THRESHOLD = intProperty("offHeapThreshold", Integer.MAX_VALUE); //$NON-NLS-1$
+
+    static final int PREFILTER_THRESHOLD = intProperty("prefilter.threshold", Integer.MAX_VALUE); //$NON-NLS-1$
+    static final double PREFILTER_FALSE_POSITIVE_RATE = doubleProperty("prefilter.falsePositiveRate", 0.01); //$NON-NLS-1$
+    static final long PREFILTER_MAX_BYTES = longProperty("prefilter.maxBytes", 4L * 1024 * 1024); //$NON-NLS-1$
+
+    static final int LOOKUP_TABLE_THRESHOLD = intProperty("ipv4LookupTable.threshold", Integer.MAX_VALUE); //$NON-NLS-1$
+
+    static final int TRIE_THRESHOLD = intProperty("ipv6Trie.threshold", Integer.MAX_VALUE); //$NON-NLS-1$
+
+    static final int ADAPTIVE_ORDER_MAX_RANGES = intProperty("adaptiveOrder.maxRanges", 0); //$NON-NLS-1$
+
+    static final boolean PRECOMPUTED_MESSAGES = booleanProperty("precomputedMessages", false); //$NON-NLS-1$
+
+    static final boolean LAZY_COMPILATION = booleanProperty("lazyCompilation", false); //$NON-NLS-1$
+
+    static final int CACHE_MAX_SIZE = intProperty("cache.maxSize", 1024); //$NON-NLS-1$
+
+    // the java.management module is an optional dependency
+    static final boolean JMX = booleanProperty("jmx", false) && isModuleAvailable("java.management"); //$NON-NLS-1$ //$NON-NLS-2$
+
+    private Settings() {
+        throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
+    }
+
+    private static boolean isModuleAvailable(String name) {
+        return ModuleLayer.boot().findModule(name).isPresent();
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return (int) property(name, Integer::parseInt, defaultValue);
+    }
+
+    private static long longProperty(String name, long defaultValue) {
+        return property(name, Long::parseLong, defaultValue);
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return property(name, Double::parseDouble, defaultValue);
+    }
+
+    private static boolean booleanProperty(String name, boolean defaultValue) {
+        return property(name, Boolean::parseBoolean, defaultValue);
+    }
+
+    private static <T> T property(String name, Function<String, T> parser, T defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return parser.apply(value.trim());
+        } catch (@SuppressWarnings("unused") NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * ViolationMessages.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * The violation messages of a single constraint.
+ * <p>
+ * If {@link Settings#PRECOMPUTED_MESSAGES} is enabled, message templates are resolved and interpolated once, and the result
+ * is passed to the validation provider as a template without any parameters or expressions.
+ * This prevents the validation provider from having to resolve and interpolate the same message template each time validation fails.
+ * <p>
+ * Messages are only precomputed for the default locale, as it is when a message is first needed. The Jakarta Validation API does not
+ * expose the locale that the validation provider resolves for a violation, so any locale resolution of the provider is bypassed.
+ *
+ * @author Rob Spoor
+ */
+final class ViolationMessages {
+
+    private static final String BUNDLE_NAME = "ValidationMessages"; //$NON-NLS-1$
+
+    private final boolean useMessageTemplates;
+    private final Map<String, ?> parameters;
+    // null if messages are not precomputed
+    private final ConcurrentMap<String, String> precomputed;
+
+    private ViolationMessages(boolean useMessageTemplates, Map<String, ?> parameters, boolean precompute) {
+        this.useMessageTemplates = useMessageTemplates;
+        this.parameters = parameters;
+        this.precomputed = precompute && useMessageTemplates ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Creates the violation messages for a constraint.
+     *
+     * @param message The message of the constraint.
+     * @param defaultMessage The default message of the constraint. Only if the constraint uses this message,
+     *                           violations will get a more specific message template.
+     * @param parameters The constraint attributes that can be used in message templates.
+     *                       String arrays are formatted like the validation provider does, using {@link Arrays#toString(Object[])}.
+     * @param precompute {@code true} to precompute messages, or {@code false} to let the validation provider interpolate them.
+     * @return The created violation messages.
+     */
+    static ViolationMessages of(String message, String defaultMessage, Map<String, ?> parameters, boolean precompute) {
+        return new ViolationMessages(defaultMessage.equals(message), parameters, precompute);
+    }
+
+    /**
+     * Prepares a message template. If messages are not precomputed, this method does nothing.
+     *
+     * @param messageTemplate The message template to prepare.
+     */
+    void prepare(String messageTemplate) {
+        if (precomputed != null) {
+            message(messageTemplate);
+        }
+    }
+
+    /**
+     * Adds a violation with a specific message template, unless the constraint uses a custom message.
+     *
+     * @param messageTemplate The message template to use.
+     * @param context The context to add the violation to, or {@code null} if violations are not reported.
+     */
+    void addViolation(String messageTemplate, ConstraintValidatorContext context) {
+        if (useMessageTemplates && context != null) {
+            String template = precomputed != null ? message(messageTemplate) : messageTemplate;
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(template)
+                    .addConstraintViolation();
+        }
+    }
+
+    String message(String messageTemplate) {
+        return precomputed.computeIfAbsent(messageTemplate, t -> interpolate(t, Locale.getDefault()));
+    }
+
+    private String interpolate(String messageTemplate, Locale locale) {
+        String key = messageTemplate.substring(1, messageTemplate.length() - 1);
+        String message;
+        try {
+            message = ResourceBundle.getBundle(BUNDLE_NAME, locale).getString(key);
+        } catch (@SuppressWarnings("unused") MissingResourceException e) {
+            // let the validation provider handle it
+            return messageTemplate;
+        }
+
+        StringBuilder result = new StringBuilder(message.length() * 2);
+        int index = 0;
+        while (index < message.length()) {
+            int start = message.indexOf('{', index);
+            int end = start == -1 ? -1 : message.indexOf('}', start);
+            if (end == -1) {
+                escape(message, index, message.length(), result);
+                break;
+            }
+            escape(message, index, start, result);
+            Object value = parameters.get(message.substring(start + 1, end));
+            if (value != null) {
+                String formatted = value instanceof String[] ? Arrays.toString((String[]) value) : value.toString();
+                escape(formatted, 0, formatted.length(), result);
+            } else {
+                escape(message, start, end + 1, result);
+            }
+            index = end + 1;
+        }
+        return result.toString();
+    }
+
+    private static void escape(String value, int start, int end, StringBuilder result) {
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '{' || c == '}' || c == '$' || c == '\\') {
+                result.append('\\');
+            }
+            result.append(c);
+        }
+    }
+}
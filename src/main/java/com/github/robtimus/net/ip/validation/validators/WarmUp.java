@@ -0,0 +1,484 @@
+/*
+ * WarmUp.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Predicate;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.ValidatorFactory;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import com.github.robtimus.net.ip.Subnet;
+import com.github.robtimus.net.ip.validation.IPAddressList;
+import com.github.robtimus.net.ip.validation.IPSocketAddress;
+import com.github.robtimus.net.ip.validation.IPSubnet;
+
+/**
+ * Warms up the validators of this library, so the code that parses IP addresses and matches them against IP ranges is compiled by the
+ * JIT compiler before the first values are validated.
+ * <p>
+ * Warming up validates synthetic values against sample constraints of each kind, and against the compiled constraints of an
+ * {@link IPConstraintValidatorFactory}. These values include valid and invalid IP addresses, subnets, IP ranges, socket addresses and lists
+ * of IP addresses, and values in the IP ranges of the constraints. Warming up uses validator instances of its own, so it uses the same code
+ * as the validators of a validator factory, without adding any constraints to its cache. No violations are reported, no statistics are
+ * collected, and afterwards no state of the warm-up is left behind in the current thread.
+ * <p>
+ * Constraints of an {@link IPConstraintValidatorFactory} are only included if they are already compiled. To include all constraints,
+ * call {@link jakarta.validation.Validator#getConstraintsForClass(Class)} or validate a bean of each class first, and do not enable lazy
+ * compilation.
+ *
+ * @author Rob Spoor
+ */
+public final class WarmUp {
+
+    private static final String[] INVALID_VALUES = {
+            "256.1.2.3", //$NON-NLS-1$
+            "1.2.3", //$NON-NLS-1$
+            "1.2.3.4.5", //$NON-NLS-1$
+            "1..2.3", //$NON-NLS-1$
+            "::g", //$NON-NLS-1$
+            "1:2:3:4:5:6:7:8:9", //$NON-NLS-1$
+            "[::1", //$NON-NLS-1$
+            "192.168.0.1/33", //$NON-NLS-1$
+            "[192.168.0.1...::1]", //$NON-NLS-1$
+            "192.168.0.1:65536", //$NON-NLS-1$
+            "192.168.0.1,,::1", //$NON-NLS-1$
+            "not an IP address", //$NON-NLS-1$
+            "", //$NON-NLS-1$
+    };
+
+    // the maximum number of IP ranges per constraint to take IP addresses from
+    private static final int MAX_SAMPLED_RANGES = 16;
+
+    private static final int IPV4_BITS = 32;
+    private static final int IPV6_BITS = 128;
+
+    private static final int MAX_PORT = 65535;
+
+    private WarmUp() {
+        throw new IllegalStateException("cannot create instances of " + getClass().getName()); //$NON-NLS-1$
+    }
+
+    /**
+     * Warms up the validators of this library for a validator factory. If the validator factory uses an {@link IPConstraintValidatorFactory},
+     * this method is equivalent to calling {@link #warmUp(IPConstraintValidatorFactory, int, Duration)}. Otherwise, only sample constraints
+     * are used.
+     *
+     * @param validatorFactory The validator factory to warm up the validators for.
+     * @param iterations The maximum number of iterations.
+     * @param timeout The maximum time to spend warming up.
+     * @return The number of iterations that were performed. This is less than the given number of iterations if the timeout expired first.
+     * @throws NullPointerException If the given validator factory or timeout is {@code null}.
+     * @throws IllegalArgumentException If the given number of iterations or timeout is negative.
+     */
+    public static int warmUp(ValidatorFactory validatorFactory, int iterations, Duration timeout) {
+        ConstraintValidatorFactory constraintValidatorFactory = validatorFactory.getConstraintValidatorFactory();
+        CompiledConstraintCache cache = constraintValidatorFactory instanceof IPConstraintValidatorFactory
+                ? ((IPConstraintValidatorFactory) constraintValidatorFactory).cache()
+                : CompiledConstraintCache.NONE;
+        return warmUp(cache, iterations, timeout);
+    }
+
+    /**
+     * Warms up the validators of this library for a constraint validator factory.
+     *
+     * @param constraintValidatorFactory The constraint validator factory to warm up the validators for.
+     * @param iterations The maximum number of iterations.
+     * @param timeout The maximum time to spend warming up.
+     * @return The number of iterations that were performed. This is less than the given number of iterations if the timeout expired first.
+     * @throws NullPointerException If the given constraint validator factory or timeout is {@code null}.
+     * @throws IllegalArgumentException If the given number of iterations or timeout is negative.
+     */
+    public static int warmUp(IPConstraintValidatorFactory constraintValidatorFactory, int iterations, Duration timeout) {
+        return warmUp(constraintValidatorFactory.cache(), iterations, timeout);
+    }
+
+    static int warmUp(CompiledConstraintCache cache, int iterations, Duration timeout) {
+        Objects.requireNonNull(timeout);
+        if (iterations < 0) {
+            throw new IllegalArgumentException(Messages.WarmUp.invalidIterations(iterations));
+        }
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException(Messages.WarmUp.invalidTimeout(timeout));
+        }
+
+        List<Target> targets = targets(cache);
+        // a fixed seed, so each warm-up exercises the same code paths
+        Random random = new Random(0);
+        long timeoutNanos = toNanos(timeout);
+        long start = System.nanoTime();
+        int iteration = 0;
+        try {
+            while (iteration < iterations && System.nanoTime() - start < timeoutNanos) {
+                runIteration(iteration, targets, random);
+                iteration++;
+            }
+        } finally {
+            // otherwise the next value the current thread validates could be compared to the last synthetic value
+            ParseMemo.reset();
+        }
+        return iteration;
+    }
+
+    private static long toNanos(Duration timeout) {
+        try {
+            return timeout.toNanos();
+        } catch (@SuppressWarnings("unused") ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static List<Target> targets(CompiledConstraintCache cache) {
+        CompiledConstraintCache warmUpCache = cache.forWarmUp();
+        List<Target> targets = new ArrayList<>();
+        for (Field field : Samples.class.getDeclaredFields()) {
+            for (Annotation constraintAnnotation : field.getAnnotations()) {
+                targets.add(Target.of(constraintAnnotation, warmUpCache));
+            }
+        }
+        cache.forEach((constraintAnnotation, holder) -> {
+            if (holder.getIfCompiled() != null) {
+                targets.add(Target.of(constraintAnnotation, warmUpCache));
+            }
+        });
+        return targets;
+    }
+
+    private static void runIteration(int iteration, List<Target> targets, Random random) {
+        long ipv6High = random.nextLong();
+        long ipv6Low = random.nextLong();
+        IPv4Address ipv4Address = IPv4Address.valueOf(random.nextInt());
+        IPv6Address ipv6Address = IPv6Address.valueOf(ipv6High, ipv6Low);
+        IPv4Subnet ipv4Subnet = ipv4Subnet(ipv4Address.toInt(), random.nextInt(IPV4_BITS + 1));
+        IPv6Subnet ipv6Subnet = ipv6Subnet(ipv6High, ipv6Low, random.nextInt(IPV6_BITS + 1));
+        int port = random.nextInt(MAX_PORT + 1);
+        String invalidValue = INVALID_VALUES[iteration % INVALID_VALUES.length];
+
+        for (Target target : targets) {
+            target.validate(ipv4Address, ipv4Subnet, port);
+            target.validate(ipv6Address, ipv6Subnet, port);
+            target.validate(invalidValue, null);
+            if (target.sampleTexts.length > 0) {
+                int index = iteration % target.sampleTexts.length;
+                target.validate(target.sampleTexts[index], target.sampleObjects[index]);
+            }
+        }
+
+        // the parsing of IP ranges when constraints are compiled
+        IPRangeParser.parseIPRange(Form.SUBNET.text(ipv4Address, ipv4Subnet, port, ','));
+        IPRangeParser.parseIPRange(Form.RANGE.text(ipv6Address, ipv6Subnet, port, ','));
+    }
+
+    private static IPv4Subnet ipv4Subnet(int address, int prefixLength) {
+        int mask = prefixLength == 0 ? 0 : -1 << (IPV4_BITS - prefixLength);
+        return IPv4Subnet.valueOf(IPv4Address.valueOf(address & mask), prefixLength);
+    }
+
+    private static IPv6Subnet ipv6Subnet(long highAddress, long lowAddress, int prefixLength) {
+        long highMask;
+        if (prefixLength == 0) {
+            highMask = 0;
+        } else {
+            highMask = prefixLength >= Long.SIZE ? -1L : -1L << (Long.SIZE - prefixLength);
+        }
+        long lowMask = prefixLength <= Long.SIZE ? 0 : -1L << (IPV6_BITS - prefixLength);
+        return IPv6Subnet.valueOf(IPv6Address.valueOf(highAddress & highMask, lowAddress & lowMask), prefixLength);
+    }
+
+    /**
+     * The form of the values that a constraint validates.
+     */
+    private enum Form {
+        ADDRESS {
+            @Override
+            String text(IPAddress<?> address, IPRange<?> ipRange, int port, char separator) {
+                return address.toString();
+            }
+
+            @Override
+            Object object(IPAddress<?> address, IPRange<?> ipRange) {
+                return address;
+            }
+        },
+        SUBNET {
+            @Override
+            String text(IPAddress<?> address, IPRange<?> ipRange, int port, char separator) {
+                return subnet(ipRange).toString();
+            }
+
+            @Override
+            Object object(IPAddress<?> address, IPRange<?> ipRange) {
+                return subnet(ipRange);
+            }
+
+            private Subnet<?> subnet(IPRange<?> ipRange) {
+                if (ipRange instanceof Subnet<?>) {
+                    return (Subnet<?>) ipRange;
+                }
+                // IP ranges that are not subnets contain at least the subnet of their first IP address
+                IPAddress<?> from = ipRange.from();
+                return from instanceof IPv4Address
+                        ? IPv4Subnet.valueOf((IPv4Address) from, IPV4_BITS)
+                        : IPv6Subnet.valueOf((IPv6Address) from, IPV6_BITS);
+            }
+        },
+        RANGE {
+            @Override
+            String text(IPAddress<?> address, IPRange<?> ipRange, int port, char separator) {
+                return "[" + ipRange.from() + "..." + ipRange.to() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            }
+
+            @Override
+            Object object(IPAddress<?> address, IPRange<?> ipRange) {
+                return ipRange;
+            }
+        },
+        SOCKET_ADDRESS {
+            @Override
+            String text(IPAddress<?> address, IPRange<?> ipRange, int port, char separator) {
+                return address instanceof IPv6Address
+                        ? "[" + address + "]:" + port //$NON-NLS-1$ //$NON-NLS-2$
+                        : address + ":" + port; //$NON-NLS-1$
+            }
+
+            @Override
+            Object object(IPAddress<?> address, IPRange<?> ipRange) {
+                return null;
+            }
+        },
+        LIST {
+            @Override
+            String text(IPAddress<?> address, IPRange<?> ipRange, int port, char separator) {
+                return address.toString() + separator + ipRange.from() + separator + ipRange.to();
+            }
+
+            @Override
+            Object object(IPAddress<?> address, IPRange<?> ipRange) {
+                return null;
+            }
+        };
+
+        abstract String text(IPAddress<?> address, IPRange<?> ipRange, int port, char separator);
+
+        abstract Object object(IPAddress<?> address, IPRange<?> ipRange);
+    }
+
+    private interface SubSequenceValidator {
+
+        boolean isValid(CharSequence value, int start, int end);
+    }
+
+    /**
+     * A constraint annotation with the validators that the validators of this library use for it.
+     */
+    private static final class Target {
+
+        private final Form form;
+        private final char separator;
+        private final Predicate<CharSequence> textValidator;
+        // null if the constraint has no validator for sub sequences
+        private final SubSequenceValidator subSequenceValidator;
+        // null if the constraint has no validator for objects
+        private final Predicate<Object> objectValidator;
+        // values in the IP ranges of the constraint, so validating them finds a range
+        private final String[] sampleTexts;
+        private final Object[] sampleObjects;
+
+        private Target(Form form, char separator, CompiledConstraint compiled, Predicate<CharSequence> textValidator,
+                SubSequenceValidator subSequenceValidator, Predicate<Object> objectValidator) {
+
+            this.form = form;
+            this.separator = separator;
+            this.textValidator = textValidator;
+            this.subSequenceValidator = subSequenceValidator;
+            this.objectValidator = objectValidator;
+
+            List<IPRange<?>> ipRanges = sampledIPRanges(compiled.ipRanges().index());
+            this.sampleTexts = new String[ipRanges.size()];
+            this.sampleObjects = new Object[ipRanges.size()];
+            for (int i = 0; i < sampleTexts.length; i++) {
+                IPRange<?> ipRange = ipRanges.get(i);
+                sampleTexts[i] = form.text(ipRange.from(), ipRange, MAX_PORT, separator);
+                sampleObjects[i] = form.object(ipRange.from(), ipRange);
+            }
+        }
+
+        private static List<IPRange<?>> sampledIPRanges(IPRangeIndex index) {
+            List<IPRange<?>> ipRanges = new ArrayList<>();
+            IPv4RangeIndex ipv4 = index.ipv4();
+            for (int i = 0, count = Math.min(ipv4.size(), MAX_SAMPLED_RANGES); i < count; i++) {
+                ipRanges.add(ipv4.get(i));
+            }
+            IPv6RangeIndex ipv6 = index.ipv6();
+            for (int i = 0, count = Math.min(ipv6.size(), MAX_SAMPLED_RANGES); i < count; i++) {
+                ipRanges.add(ipv6.get(i));
+            }
+            return ipRanges;
+        }
+
+        private static Target of(Annotation constraintAnnotation, CompiledConstraintCache cache) {
+            if (constraintAnnotation instanceof com.github.robtimus.net.ip.validation.IPAddress) {
+                return ofIPAddress((com.github.robtimus.net.ip.validation.IPAddress) constraintAnnotation, cache);
+            }
+            if (constraintAnnotation instanceof com.github.robtimus.net.ip.validation.IPv4Address) {
+                return ofIPv4Address((com.github.robtimus.net.ip.validation.IPv4Address) constraintAnnotation, cache);
+            }
+            if (constraintAnnotation instanceof com.github.robtimus.net.ip.validation.IPv6Address) {
+                return ofIPv6Address((com.github.robtimus.net.ip.validation.IPv6Address) constraintAnnotation, cache);
+            }
+            if (constraintAnnotation instanceof IPSubnet) {
+                return ofIPSubnet((IPSubnet) constraintAnnotation, cache);
+            }
+            if (constraintAnnotation instanceof com.github.robtimus.net.ip.validation.IPRange) {
+                return ofIPRange((com.github.robtimus.net.ip.validation.IPRange) constraintAnnotation, cache);
+            }
+            if (constraintAnnotation instanceof IPSocketAddress) {
+                return ofIPSocketAddress((IPSocketAddress) constraintAnnotation, cache);
+            }
+            return ofIPAddressList((IPAddressList) constraintAnnotation, cache);
+        }
+
+        private static Target ofIPAddress(com.github.robtimus.net.ip.validation.IPAddress constraintAnnotation, CompiledConstraintCache cache) {
+            CharSequenceIPAddressValidator textValidator = new CharSequenceIPAddressValidator(cache);
+            textValidator.initialize(constraintAnnotation);
+            IPAddressIPAddressValidator objectValidator = new IPAddressIPAddressValidator(cache);
+            objectValidator.initialize(constraintAnnotation);
+            return new Target(Form.ADDRESS, ',', cache.get(constraintAnnotation, IPAddressValidator::compile).get(),
+                    v -> textValidator.isValid(v, null), textValidator::isValid, v -> objectValidator.isValid((IPAddress<?>) v, null));
+        }
+
+        private static Target ofIPv4Address(com.github.robtimus.net.ip.validation.IPv4Address constraintAnnotation,
+                CompiledConstraintCache cache) {
+
+            CharSequenceIPv4AddressValidator textValidator = new CharSequenceIPv4AddressValidator(cache);
+            textValidator.initialize(constraintAnnotation);
+            IPAddressIPv4AddressValidator objectValidator = new IPAddressIPv4AddressValidator(cache);
+            objectValidator.initialize(constraintAnnotation);
+            return new Target(Form.ADDRESS, ',', cache.get(constraintAnnotation, IPv4AddressValidator::compile).get(),
+                    v -> textValidator.isValid(v, null), textValidator::isValid, v -> objectValidator.isValid((IPAddress<?>) v, null));
+        }
+
+        private static Target ofIPv6Address(com.github.robtimus.net.ip.validation.IPv6Address constraintAnnotation,
+                CompiledConstraintCache cache) {
+
+            CharSequenceIPv6AddressValidator textValidator = new CharSequenceIPv6AddressValidator(cache);
+            textValidator.initialize(constraintAnnotation);
+            IPAddressIPv6AddressValidator objectValidator = new IPAddressIPv6AddressValidator(cache);
+            objectValidator.initialize(constraintAnnotation);
+            return new Target(Form.ADDRESS, ',', cache.get(constraintAnnotation, IPv6AddressValidator::compile).get(),
+                    v -> textValidator.isValid(v, null), textValidator::isValid, v -> objectValidator.isValid((IPAddress<?>) v, null));
+        }
+
+        private static Target ofIPSubnet(IPSubnet constraintAnnotation, CompiledConstraintCache cache) {
+            CharSequenceIPSubnetValidator textValidator = new CharSequenceIPSubnetValidator(cache);
+            textValidator.initialize(constraintAnnotation);
+            SubnetIPSubnetValidator objectValidator = new SubnetIPSubnetValidator(cache);
+            objectValidator.initialize(constraintAnnotation);
+            return new Target(Form.SUBNET, ',', cache.get(constraintAnnotation, IPSubnetValidator::compile).get(),
+                    v -> textValidator.isValid(v, null), null, v -> objectValidator.isValid((Subnet<?>) v, null));
+        }
+
+        private static Target ofIPRange(com.github.robtimus.net.ip.validation.IPRange constraintAnnotation, CompiledConstraintCache cache) {
+            CharSequenceIPRangeValidator textValidator = new CharSequenceIPRangeValidator(cache);
+            textValidator.initialize(constraintAnnotation);
+            IPRangeIPRangeValidator objectValidator = new IPRangeIPRangeValidator(cache);
+            objectValidator.initialize(constraintAnnotation);
+            return new Target(Form.RANGE, ',', cache.get(constraintAnnotation, IPRangeValidator::compile).get(),
+                    v -> textValidator.isValid(v, null), null, v -> objectValidator.isValid((IPRange<?>) v, null));
+        }
+
+        private static Target ofIPSocketAddress(IPSocketAddress constraintAnnotation, CompiledConstraintCache cache) {
+            CharSequenceIPSocketAddressValidator textValidator = new CharSequenceIPSocketAddressValidator(cache);
+            textValidator.initialize(constraintAnnotation);
+            return new Target(Form.SOCKET_ADDRESS, ',', cache.get(constraintAnnotation, IPSocketAddressValidator::compile).get(),
+                    v -> textValidator.isValid(v, null), null, null);
+        }
+
+        private static Target ofIPAddressList(IPAddressList constraintAnnotation, CompiledConstraintCache cache) {
+            CharSequenceIPAddressListValidator textValidator = new CharSequenceIPAddressListValidator(cache);
+            textValidator.initialize(constraintAnnotation);
+            return new Target(Form.LIST, constraintAnnotation.separator(), cache.get(constraintAnnotation, IPAddressListValidator::compile).get(),
+                    v -> textValidator.isValid(v, null), null, null);
+        }
+
+        private void validate(IPAddress<?> address, IPRange<?> ipRange, int port) {
+            validate(form.text(address, ipRange, port, separator), form.object(address, ipRange));
+        }
+
+        private void validate(String text, Object object) {
+            textValidator.test(text);
+            if (subSequenceValidator != null) {
+                subSequenceValidator.isValid(text, 0, text.length());
+            }
+            if (objectValidator != null && object != null) {
+                objectValidator.test(object);
+            }
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Samples {
+
+        @com.github.robtimus.net.ip.validation.IPAddress
+        private Object ipAddress;
+
+        @com.github.robtimus.net.ip.validation.IPAddress(
+                ipRanges = { "10.0.0.0/8", "[192.168.0.1...192.168.0.100]", "2001:db8::/32" },
+                excludedIPRanges = { "10.1.0.0/16", "2001:db8:1::/48" })
+        private Object ipAddressWithIPRanges;
+
+        @com.github.robtimus.net.ip.validation.IPv4Address
+        private Object ipv4Address;
+
+        @com.github.robtimus.net.ip.validation.IPv4Address(
+                ipRanges = { "10.0.0.0/8", "172.16.0.0/12", "[192.168.0.1...192.168.0.100]" },
+                excludedIPRanges = "10.1.0.0/16",
+                allowIPv4Mapped = true)
+        private Object ipv4AddressWithIPRanges;
+
+        @com.github.robtimus.net.ip.validation.IPv6Address
+        private Object ipv6Address;
+
+        @com.github.robtimus.net.ip.validation.IPv6Address(
+                ipRanges = { "2001:db8::/32", "fc00::/7", "[::1...::ff]" },
+                excludedIPRanges = "2001:db8:1::/48")
+        private Object ipv6AddressWithIPRanges;
+
+        @IPSubnet(ipRanges = { "10.0.0.0/8", "2001:db8::/32" })
+        private Object subnet;
+
+        @com.github.robtimus.net.ip.validation.IPRange(ipRanges = { "10.0.0.0/8", "2001:db8::/32" })
+        private Object ipRange;
+
+        @IPSocketAddress(ipRanges = { "10.0.0.0/8", "2001:db8::/32" }, minPort = 1024)
+        private Object socketAddress;
+
+        @IPAddressList(ipRanges = { "10.0.0.0/8", "2001:db8::/32" }, elements = IPAddressList.Elements.FIRST)
+        private Object ipAddressList;
+    }
+}
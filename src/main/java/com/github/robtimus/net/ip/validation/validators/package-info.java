@@ -17,5 +17,69 @@
 
 /**
  * Contains validators for the IP address validation constraints.
+ * <p>
+ * How IP ranges are stored after they have been compiled can be tuned using the following system properties:
+ * <ul>
+ *   <li>{@code com.github.robtimus.net.ip.validation.offHeapThreshold}: lists of IPv6 ranges with at least this many IPv6 ranges are stored
+ *       outside of the Java heap. On Java 22 and up this uses {@code java.lang.foreign.MemorySegment}; on older Java versions it uses direct
+ *       {@link java.nio.ByteBuffer ByteBuffers}, which are limited to 2GB each. The default is to never store IPv6 ranges outside of the
+ *       Java heap.</li>
+ *   <li>{@code com.github.robtimus.net.ip.validation.prefilter.threshold}: lists of IPv4 or IPv6 ranges with at least this many ranges of
+ *       that version get a bloom filter that rejects most IP addresses that are not contained in any of the ranges, before the compiled
+ *       ranges themselves are searched. This pays off for large lists where most validated IP addresses are not contained in any range.
+ *       The default is to never create such a filter.</li>
+ *   <li>{@code com.github.robtimus.net.ip.validation.prefilter.falsePositiveRate}: the target rate at which the bloom filter lets through
+ *       IP addresses that are not contained in any range. The default is {@code 0.01}.</li>
+ *   <li>{@code com.github.robtimus.net.ip.validation.prefilter.maxBytes}: the maximum size of a single bloom filter, in bytes. If the target
+ *       false positive rate requires more memory, the actual false positive rate will be higher. The default is 4MB.</li>
+ *   <li>{@code com.github.robtimus.net.ip.validation.ipv4LookupTable.threshold}: lists of IPv4 ranges with at least this many IPv4 ranges
+ *       are stored in a two-level lookup table, that finds the IPv4 range that contains an IPv4 address in at most two memory reads,
+ *       regardless of the number of IPv4 ranges. Such a table takes at least 64MB, so this only pays off for very large lists, like
+ *       exported routing tables. Lists that get such a table do not get a bloom filter. Such a table is built from scratch each time the
+ *       IP ranges are compiled, which includes each time IP ranges are registered in the
+ *       {@link com.github.robtimus.net.ip.validation.validators.IPRangeRegistry IPRangeRegistry}. Building it can take several hundreds of
+ *       milliseconds, and replacing registered IP ranges briefly keeps both the old and the new table in memory.
+ *       The default is to never create such a table.</li>
+ *   <li>{@code com.github.robtimus.net.ip.validation.ipv6Trie.threshold}: lists of IPv6 ranges with at least this many IPv6 ranges are
+ *       stored in a compressed multibit trie, that finds the IPv6 range that contains an IPv6 address in a number of steps that depends on
+ *       the prefix lengths of the IPv6 ranges, not on their number. This pays off for large lists of IPv6 subnets; IPv6 ranges that are not
+ *       subnets can need up to 19 steps. Lists that are stored outside of the Java heap never get such a trie.
+ *       The default is to never create such a trie.</li>
+ *   <li>{@code com.github.robtimus.net.ip.validation.adaptiveOrder.maxRanges}: lists of IPv4 or IPv6 ranges with at most this many
+ *       ranges of that version are scanned linearly, starting with the ranges that most often contain validated IP addresses.
+ *       A sample of the matches is counted, and the scan order is periodically recomputed from these counts. This pays off for small lists
+ *       where most validated IP addresses are contained in the same few ranges, especially if these are declared last.
+ *       The default is to never scan lists in adaptive order.</li>
+ * </ul>
+ * How violations are reported can be tuned using the following system property:
+ * <ul>
+ *   <li>{@code com.github.robtimus.net.ip.validation.precomputedMessages}: if {@code true}, the message of a violation for an IP address
+ *       that is not in the allowed IP ranges, or that is in the excluded IP ranges, is resolved and interpolated once per constraint,
+ *       and passed to the validation provider without any parameters. This makes repeated violations cheaper.
+ *       Messages are resolved from the {@code ValidationMessages} resource bundle of this library for the default locale only; the locale
+ *       resolution of the validation provider is bypassed. This should therefore only be enabled if these messages are not overridden,
+ *       and if all messages should use the default locale.
+ *       Constraints with a custom message are not affected. The default is {@code false}.</li>
+ * </ul>
+ * When IP ranges are compiled can be tuned using the following system property:
+ * <ul>
+ *   <li>{@code com.github.robtimus.net.ip.validation.lazyCompilation}: if {@code true}, the IP ranges of a constraint are not compiled
+ *       when the constraint is initialized, but when the first value is validated. The compiled IP ranges are then only softly referenced,
+ *       which means that they can be reclaimed if memory is low, and are compiled again when needed. This reduces startup time and memory
+ *       usage if there are many constraints that are seldom used. Invalid IP ranges are only reported when the first value is validated.
+ *       The default is {@code false}.</li>
+ *   <li>{@code com.github.robtimus.net.ip.validation.cache.maxSize}: the maximum number of distinct constraint annotations for which an
+ *       {@link com.github.robtimus.net.ip.validation.validators.IPConstraintValidatorFactory IPConstraintValidatorFactory} shares the
+ *       compiled IP ranges. The default is {@code 1024}.</li>
+ * </ul>
+ * Whether statistics are collected can be tuned using the following system property:
+ * <ul>
+ *   <li>{@code com.github.robtimus.net.ip.validation.jmx}: if {@code true}, an MXBean is registered in the platform MBean server for each
+ *       distinct constraint annotation, that shows the memory footprint of its compiled IP ranges, how many values were valid or not,
+ *       and how long it took to parse values. See {@link com.github.robtimus.net.ip.validation.validators.ConstraintStatisticsMXBean}
+ *       for more information. If {@code false}, or if the {@code java.management} module is not available, validators do not collect any
+ *       statistics. The default is {@code false}.</li>
+ * </ul>
+ * These system properties are read once, when IP ranges are first compiled or the first constraint is initialized.
  */
 package com.github.robtimus.net.ip.validation.validators;
@@ -21,6 +21,8 @@
 module com.github.robtimus.ip.validation {
     requires transitive com.github.robtimus.ip.utils;
     requires transitive jakarta.validation;
+    requires static java.management;
+    requires static org.hibernate.validator;
 
     exports com.github.robtimus.net.ip.validation;
     exports com.github.robtimus.net.ip.validation.validators;
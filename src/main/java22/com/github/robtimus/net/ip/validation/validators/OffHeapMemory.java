@@ -0,0 +1,69 @@
+/*
+ * OffHeapMemory.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * A block of memory outside of the Java heap. It is released when the {@code OffHeapMemory} instance is garbage collected.
+ * <p>
+ * This implementation uses a {@link MemorySegment} allocated from an automatic {@link Arena}.
+ *
+ * @author Rob Spoor
+ */
+final class OffHeapMemory {
+
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED;
+
+    private final MemorySegment segment;
+
+    private OffHeapMemory(MemorySegment segment) {
+        this.segment = segment;
+    }
+
+    static long maxByteSize() {
+        return Long.MAX_VALUE;
+    }
+
+    static OffHeapMemory allocate(long byteSize) {
+        return new OffHeapMemory(Arena.ofAuto().allocate(byteSize, Long.BYTES));
+    }
+
+    long byteSize() {
+        return segment.byteSize();
+    }
+
+    long getLong(long offset) {
+        return segment.get(LONG, offset);
+    }
+
+    void putLong(long offset, long value) {
+        segment.set(LONG, offset, value);
+    }
+
+    int getInt(long offset) {
+        return segment.get(INT, offset);
+    }
+
+    void putInt(long offset, int value) {
+        segment.set(INT, offset, value);
+    }
+}
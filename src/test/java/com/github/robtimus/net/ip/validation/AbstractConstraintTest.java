@@ -22,14 +22,9 @@ import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import java.lang.annotation.Annotation;
-import java.lang.annotation.ElementType;
 import java.util.Comparator;
 import java.util.List;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Path;
-import jakarta.validation.Path.Node;
-import jakarta.validation.TraversableResolver;
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
 import org.junit.jupiter.api.AfterAll;
@@ -47,10 +42,7 @@ abstract class AbstractConstraintTest {
 
     @BeforeAll
     static void setup() {
-        validatorFactory = Validation.byDefaultProvider()
-                .configure()
-                .traversableResolver(new SimpleTraversableResolver())
-                .buildValidatorFactory();
+        validatorFactory = ValidatorFactories.validatorFactory();
 
         validator = validatorFactory.getValidator();
     }
@@ -71,21 +63,4 @@ abstract class AbstractConstraintTest {
         assertNotNull(violation.getConstraintDescriptor().getAnnotation());
         assertEquals(annotationType, violation.getConstraintDescriptor().getAnnotation().annotationType());
     }
-
-    private static final class SimpleTraversableResolver implements TraversableResolver {
-
-        @Override
-        public boolean isReachable(Object traversableObject, Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject,
-                ElementType elementType) {
-
-            return true;
-        }
-
-        @Override
-        public boolean isCascadable(Object traversableObject, Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject,
-                ElementType elementType) {
-
-            return true;
-        }
-    }
 }
@@ -0,0 +1,170 @@
+/*
+ * IPAddressListTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import java.util.Collections;
+import java.util.List;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import com.github.robtimus.net.ip.validation.IPAddressList.Elements;
+
+@SuppressWarnings("nls")
+class IPAddressListTest extends AbstractConstraintTest {
+
+    @Test
+    void testNull() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddresses", null);
+        assertEquals(Collections.emptyList(), violations);
+    }
+
+    @TestFactory
+    DynamicTest[] testInvalidIPAddressList() {
+        return new DynamicTest[] {
+                testInvalidIPAddressList(""),
+                testInvalidIPAddressList(" "),
+                testInvalidIPAddressList("192.168.0.1,"),
+                testInvalidIPAddressList(",192.168.0.1"),
+                testInvalidIPAddressList("192.168.0.1,,192.168.0.2"),
+                testInvalidIPAddressList("192.168.0.1 192.168.0.2"),
+                testInvalidIPAddressList("192.168.0.1;192.168.0.2"),
+                testInvalidIPAddressList("192.168.0.1, unknown"),
+                testInvalidIPAddressList("192.168.0.1, [::1]"),
+                testInvalidIPAddressList("192.168.0.1:80"),
+        };
+    }
+
+    private DynamicTest testInvalidIPAddressList(String value) {
+        return dynamicTest(value, () -> {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddresses", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<TestClass> violation = violations.get(0);
+            assertAnnotation(violation, IPAddressList.class);
+            assertEquals("must be a list of valid IP addresses", violation.getMessage());
+        });
+    }
+
+    @TestFactory
+    DynamicTest[] testValidIPAddressList() {
+        return new DynamicTest[] {
+                testValidIPAddressList("192.168.0.1"),
+                testValidIPAddressList("::1"),
+                testValidIPAddressList("192.168.0.1,::1"),
+                testValidIPAddressList(" 192.168.0.1 ,\t::1 , 10.0.0.1 "),
+        };
+    }
+
+    private DynamicTest testValidIPAddressList(String value) {
+        return dynamicTest(value, () -> {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddresses", value);
+            assertEquals(Collections.emptyList(), violations);
+        });
+    }
+
+    @Test
+    void testMaxElements() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressesWithMaxElements", "10.0.0.1, 10.0.0.2");
+        assertEquals(Collections.emptyList(), violations);
+
+        violations = validate(TestClass.class, "ipAddressesWithMaxElements", "10.0.0.1, 10.0.0.2, 10.0.0.3");
+        assertEquals(1, violations.size());
+
+        ConstraintViolation<TestClass> violation = violations.get(0);
+        assertAnnotation(violation, IPAddressList.class);
+        assertEquals("must be a list of at most 2 IP addresses", violation.getMessage());
+    }
+
+    @TestFactory
+    DynamicTest[] testWithIPRanges() {
+        return new DynamicTest[] {
+                testWithIPRanges("ipAddressesWithIPRanges", "10.0.0.1, 1234::1", true),
+                testWithIPRanges("ipAddressesWithIPRanges", "10.0.0.1, 192.168.0.1", false),
+                testWithIPRanges("ipAddressesWithIPRanges", "192.168.0.1, 10.0.0.1", false),
+                testWithIPRanges("firstIPAddressWithIPRanges", "10.0.0.1, 192.168.0.1", true),
+                testWithIPRanges("firstIPAddressWithIPRanges", "192.168.0.1, 10.0.0.1", false),
+                testWithIPRanges("lastIPAddressWithIPRanges", "192.168.0.1, 10.0.0.1", true),
+                testWithIPRanges("lastIPAddressWithIPRanges", "10.0.0.1, 192.168.0.1", false),
+        };
+    }
+
+    private DynamicTest testWithIPRanges(String field, String value, boolean expectValid) {
+        return dynamicTest(field + ": " + value, () -> {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, field, value);
+            if (expectValid) {
+                assertEquals(Collections.emptyList(), violations);
+            } else {
+                assertEquals(1, violations.size());
+
+                ConstraintViolation<TestClass> violation = violations.get(0);
+                assertAnnotation(violation, IPAddressList.class);
+                assertEquals("must be a list of IP addresses in one of [10.0.0.0/8, 1234::/16]", violation.getMessage());
+            }
+        });
+    }
+
+    @Test
+    void testWithExcludedIPRanges() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressesWithExcludedIPRanges", "10.0.0.1;192.168.0.1");
+        assertEquals(Collections.emptyList(), violations);
+
+        violations = validate(TestClass.class, "ipAddressesWithExcludedIPRanges", "10.0.0.1;127.0.0.1");
+        assertEquals(1, violations.size());
+
+        ConstraintViolation<TestClass> violation = violations.get(0);
+        assertAnnotation(violation, IPAddressList.class);
+        assertEquals("must be a list of IP addresses not in any of [127.0.0.0/8]", violation.getMessage());
+    }
+
+    @Test
+    void testWithCustomMessage() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressesWithCustomMessage", "10.0.0.1, 10.0.0.2");
+        assertEquals(1, violations.size());
+
+        ConstraintViolation<TestClass> violation = violations.get(0);
+        assertAnnotation(violation, IPAddressList.class);
+        assertEquals("custom", violation.getMessage());
+    }
+
+    private static final class TestClass {
+
+        @IPAddressList
+        private CharSequence ipAddresses;
+
+        @IPAddressList(maxElements = 2)
+        private CharSequence ipAddressesWithMaxElements;
+
+        @IPAddressList(ipRanges = { "10.0.0.0/8", "1234::/16" })
+        private CharSequence ipAddressesWithIPRanges;
+
+        @IPAddressList(ipRanges = { "10.0.0.0/8", "1234::/16" }, elements = Elements.FIRST)
+        private CharSequence firstIPAddressWithIPRanges;
+
+        @IPAddressList(ipRanges = { "10.0.0.0/8", "1234::/16" }, elements = Elements.LAST)
+        private CharSequence lastIPAddressWithIPRanges;
+
+        @IPAddressList(excludedIPRanges = "127.0.0.0/8", elements = Elements.LAST, separator = ';')
+        private CharSequence ipAddressesWithExcludedIPRanges;
+
+        @IPAddressList(maxElements = 1, message = "custom")
+        private CharSequence ipAddressesWithCustomMessage;
+    }
+}
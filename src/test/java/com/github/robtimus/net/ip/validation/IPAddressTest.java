@@ -26,6 +26,7 @@ import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import com.github.robtimus.net.ip.validation.validators.IPRangeRegistry;
 
 @SuppressWarnings("nls")
 class IPAddressTest extends AbstractConstraintTest {
@@ -91,6 +92,101 @@ class IPAddressTest extends AbstractConstraintTest {
             };
         }
 
+        @TestFactory
+        DynamicTest[] testValidWithNamedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contains", () -> {
+                        IPRangeRegistry.register("ip-test", "192.168.20.0/24");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "192.168.20.13");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("doesn't contain", () -> {
+                        IPRangeRegistry.register("ip-test", "192.168.20.0/24");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "192.168.40.1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPAddress.class);
+                        assertEquals("must be an IP address in one of the IP ranges registered as [ip-test]", violation.getMessage());
+                    }),
+                    dynamicTest("replaced", () -> {
+                        IPRangeRegistry.register("ip-test", "192.168.20.0/24");
+                        IPRangeRegistry.register("ip-test", "[1234:30::10...1234:30::13]");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "1234:30::11");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "192.168.20.13");
+                        assertEquals(1, violations.size());
+                    }),
+                    dynamicTest("unregistered", () -> {
+                        IPRangeRegistry.register("ip-test", "192.168.20.0/24");
+                        IPRangeRegistry.unregister("ip-test");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "192.168.20.13");
+                        assertEquals(1, violations.size());
+                    }),
+                    dynamicTest("combined with IP ranges", () -> {
+                        IPRangeRegistry.register("ip-test", "192.168.20.0/24");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithAllIPRanges", "192.168.20.13");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithAllIPRanges", "192.168.40.1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPAddress.class);
+                        assertEquals("must be an IP address in one of [192.168.0.0/24] or in one of the IP ranges registered as [ip-test]",
+                                violation.getMessage());
+                    }),
+            };
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithExcludedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contains", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges",
+                                "192.168.20.1");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contains excluded", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges",
+                                "192.168.10.1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPAddress.class);
+                        assertEquals("must be an IP address not in any of [192.168.10.0/24]", violation.getMessage());
+                    }),
+                    dynamicTest("doesn't contain", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges", "10.0.0.1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPAddress.class);
+                        assertEquals("must be an IP address in one of [192.168.0.0/16]", violation.getMessage());
+                    }),
+                    dynamicTest("named", () -> {
+                        IPRangeRegistry.register("ip-excluded-test", "10.0.0.0/8");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedNamedIPRanges",
+                                "11.0.0.1");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithExcludedNamedIPRanges", "10.1.2.3");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPAddress.class);
+                        assertEquals("must be an IP address not in any of the IP ranges registered as [ip-excluded-test]", violation.getMessage());
+                    }),
+            };
+        }
+
         @TestFactory
         DynamicTest[] testInvalidWithCustomMessage() {
             return new DynamicTest[] {
@@ -165,6 +261,26 @@ class IPAddressTest extends AbstractConstraintTest {
             };
         }
 
+        @TestFactory
+        DynamicTest[] testValidWithExcludedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contains", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressWithExcludedIPRanges",
+                                ip("192.168.20.1"));
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contains excluded", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressWithExcludedIPRanges",
+                                ip("192.168.10.1"));
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPAddress.class);
+                        assertEquals("must be an IP address not in any of [192.168.10.0/24]", violation.getMessage());
+                    }),
+            };
+        }
+
         @TestFactory
         DynamicTest[] testInvalidWithCustomMessage() {
             return new DynamicTest[] {
@@ -199,6 +315,18 @@ class IPAddressTest extends AbstractConstraintTest {
         @IPAddress(ipRanges = { "192.168.0.0/24", "[192.168.10.10...192.168.10.13]" }, message = "custom")
         private CharSequence charSequenceWithCustomMessage;
 
+        @IPAddress(namedIPRanges = "ip-test")
+        private CharSequence charSequenceWithNamedIPRanges;
+
+        @IPAddress(ipRanges = "192.168.0.0/24", namedIPRanges = "ip-test")
+        private CharSequence charSequenceWithAllIPRanges;
+
+        @IPAddress(ipRanges = "192.168.0.0/16", excludedIPRanges = "192.168.10.0/24")
+        private CharSequence charSequenceWithExcludedIPRanges;
+
+        @IPAddress(excludedNamedIPRanges = "ip-excluded-test")
+        private CharSequence charSequenceWithExcludedNamedIPRanges;
+
         @IPAddress
         private com.github.robtimus.net.ip.IPAddress<?> ipAddress;
 
@@ -210,5 +338,8 @@ class IPAddressTest extends AbstractConstraintTest {
 
         @IPAddress(ipRanges = { "192.168.0.0/24", "[192.168.10.10...192.168.10.13]" }, message = "custom")
         private com.github.robtimus.net.ip.IPAddress<?> ipAddressWithCustomMessage;
+
+        @IPAddress(ipRanges = "192.168.0.0/16", excludedIPRanges = "192.168.10.0/24")
+        private com.github.robtimus.net.ip.IPAddress<?> ipAddressWithExcludedIPRanges;
     }
 }
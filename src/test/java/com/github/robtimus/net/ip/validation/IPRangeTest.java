@@ -0,0 +1,266 @@
+/*
+ * IPRangeTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import java.util.Collections;
+import java.util.List;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.validation.validators.IPRangeRegistry;
+
+@SuppressWarnings("nls")
+class IPRangeTest extends AbstractConstraintTest {
+
+    @Nested
+    class ForCharSequence {
+
+        @Test
+        void testNull() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequence", null);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @TestFactory
+        DynamicTest[] testInvalidIPRange() {
+            return new DynamicTest[] {
+                    testInvalidIPRange(""),
+                    testInvalidIPRange("[]"),
+                    testInvalidIPRange("[...]"),
+                    testInvalidIPRange("192.168.0.1...192.168.0.2"),
+                    testInvalidIPRange("[192.168.0.1..192.168.0.2]"),
+                    testInvalidIPRange("[192.168.0.1....192.168.0.2]"),
+                    testInvalidIPRange("[192.168.0.2...192.168.0.1]"),
+                    testInvalidIPRange("[192.168.0.256...192.168.1.0]"),
+                    testInvalidIPRange("[192.168.0.1...::1]"),
+                    testInvalidIPRange("[::1...192.168.0.1]"),
+                    testInvalidIPRange("[::2...::1]"),
+                    testInvalidIPRange("[:1...::2]"),
+                    testInvalidIPRange("[::1...::2:]"),
+                    testInvalidIPRange("[1:::2...1::3]"),
+                    testInvalidIPRange("[1::2::3...1::4]"),
+                    testInvalidIPRange("[1:2:3:4:5:6:7...1::]"),
+                    testInvalidIPRange("[1:2:3:4:5:6:7:8:9...1::]"),
+                    testInvalidIPRange("[12345::...12345::1]"),
+                    testInvalidIPRange("[1:2:3:4:5:6:7:1.2.3.4...1::]"),
+            };
+        }
+
+        private DynamicTest testInvalidIPRange(String value) {
+            return dynamicTest(value, () -> {
+                List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequence", value);
+                assertEquals(1, violations.size());
+
+                ConstraintViolation<TestClass> violation = violations.get(0);
+                assertAnnotation(violation, IPRange.class);
+                assertEquals("must be a valid IP range in format [from...to]", violation.getMessage());
+            });
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithoutIPRanges() {
+            return new DynamicTest[] {
+                    testValidWithoutIPRanges("[192.168.0.1...192.168.0.1]"),
+                    testValidWithoutIPRanges("[0.0.0.0...255.255.255.255]"),
+                    testValidWithoutIPRanges("[::...::]"),
+                    testValidWithoutIPRanges("[::...ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff]"),
+                    testValidWithoutIPRanges("[1234::...1234::1]"),
+                    testValidWithoutIPRanges("[1234:0:0:0:0:0:0:1...1234::1]"),
+                    testValidWithoutIPRanges("[::ffff:192.168.0.1...::FFFF:192.168.0.2]"),
+            };
+        }
+
+        private DynamicTest testValidWithoutIPRanges(String value) {
+            return dynamicTest(value, () -> {
+                List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequence", value);
+                assertEquals(Collections.emptyList(), violations);
+            });
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contained", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithIPRanges",
+                                "[10.20.0.10...10.20.0.20]");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contained in adjacent IP ranges", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithIPRanges",
+                                "[10.20.255.0...10.21.0.255]");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contained IPv6", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithIPRanges",
+                                "[1234::...1234::ffff]");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("partially contained", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithIPRanges",
+                                "[10.21.255.0...10.22.0.255]");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPRange.class);
+                        assertEquals("must be an IP range within [10.20.0.0/16, 10.21.0.0/16, 1234::/16]", violation.getMessage());
+                    }),
+                    dynamicTest("not contained IPv6", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithIPRanges",
+                                "[1235::...1235::1]");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPRange.class);
+                        assertEquals("must be an IP range within [10.20.0.0/16, 10.21.0.0/16, 1234::/16]", violation.getMessage());
+                    }),
+                    dynamicTest("named", () -> {
+                        IPRangeRegistry.register("ip-range-test", "192.168.0.0/16");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges",
+                                "[192.168.10.0...192.168.20.0]");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "[192.168.10.0...192.169.0.0]");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPRange.class);
+                        assertEquals("must be an IP range within the IP ranges registered as [ip-range-test]", violation.getMessage());
+                    }),
+            };
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithExcludedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("no overlap", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges",
+                                "[10.20.129.0...10.20.130.0]");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("overlap", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges",
+                                "[10.20.127.0...10.20.128.0]");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPRange.class);
+                        assertEquals("must be an IP range that does not overlap with any of [10.20.128.0/24]", violation.getMessage());
+                    }),
+            };
+        }
+
+        @Test
+        void testInvalidWithCustomMessage() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithCustomMessage",
+                    "[10.22.0.0...10.22.0.1]");
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<TestClass> violation = violations.get(0);
+            assertAnnotation(violation, IPRange.class);
+            assertEquals("custom", violation.getMessage());
+        }
+    }
+
+    @Nested
+    class ForIPRange {
+
+        @Test
+        void testNull() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipRange", null);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @Test
+        void testValidWithoutIPRanges() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipRange",
+                    IPv4Address.valueOf("10.20.0.10").to(IPv4Address.valueOf("10.20.0.20")));
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contained", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipRangeWithIPRanges",
+                                IPv4Address.valueOf("10.20.255.0").to(IPv4Address.valueOf("10.21.0.255")));
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contained IPv6", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipRangeWithIPRanges",
+                                IPv6Address.valueOf("1234::").to(IPv6Address.valueOf("1234::ffff")));
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("not contained", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipRangeWithIPRanges",
+                                IPv4Address.valueOf("10.22.0.0").to(IPv4Address.valueOf("10.22.0.1")));
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPRange.class);
+                        assertEquals("must be an IP range within [10.20.0.0/16, 10.21.0.0/16, 1234::/16]", violation.getMessage());
+                    }),
+            };
+        }
+
+        @Test
+        void testValidWithExcludedIPRanges() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipRangeWithExcludedIPRanges",
+                    IPv6Address.valueOf("1234:5678::").to(IPv6Address.valueOf("1234:5678:9abc::1")));
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<TestClass> violation = violations.get(0);
+            assertAnnotation(violation, IPRange.class);
+            assertEquals("must be an IP range that does not overlap with any of [[1234:5678:9abc::1...1234:5678:9abc::ff]]",
+                    violation.getMessage());
+        }
+    }
+
+    private static final class TestClass {
+
+        @IPRange
+        private CharSequence charSequence;
+
+        @IPRange(ipRanges = { "10.20.0.0/16", "10.21.0.0/16", "1234::/16" })
+        private CharSequence charSequenceWithIPRanges;
+
+        @IPRange(namedIPRanges = "ip-range-test")
+        private CharSequence charSequenceWithNamedIPRanges;
+
+        @IPRange(ipRanges = "10.20.0.0/16", excludedIPRanges = "10.20.128.0/24")
+        private CharSequence charSequenceWithExcludedIPRanges;
+
+        @IPRange(ipRanges = "10.20.0.0/16", message = "custom")
+        private CharSequence charSequenceWithCustomMessage;
+
+        @IPRange
+        private com.github.robtimus.net.ip.IPRange<?> ipRange;
+
+        @IPRange(ipRanges = { "10.20.0.0/16", "10.21.0.0/16", "1234::/16" })
+        private com.github.robtimus.net.ip.IPRange<?> ipRangeWithIPRanges;
+
+        @IPRange(excludedIPRanges = "[1234:5678:9abc::1...1234:5678:9abc::ff]")
+        private com.github.robtimus.net.ip.IPRange<?> ipRangeWithExcludedIPRanges;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * IPSocketAddressTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import java.util.Collections;
+import java.util.List;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import com.github.robtimus.net.ip.validation.validators.IPRangeRegistry;
+
+@SuppressWarnings("nls")
+class IPSocketAddressTest extends AbstractConstraintTest {
+
+    @Test
+    void testNull() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddress", null);
+        assertEquals(Collections.emptyList(), violations);
+    }
+
+    @TestFactory
+    DynamicTest[] testInvalidSocketAddress() {
+        return new DynamicTest[] {
+                testInvalidSocketAddress(""),
+                testInvalidSocketAddress("192.168.0.1"),
+                testInvalidSocketAddress("192.168.0.1:"),
+                testInvalidSocketAddress(":80"),
+                testInvalidSocketAddress("192.168.0.1:65536"),
+                testInvalidSocketAddress("192.168.0.1:123456"),
+                testInvalidSocketAddress("1.2.3.4:000080"),
+                testInvalidSocketAddress("[::1]:000443"),
+                testInvalidSocketAddress("[::1]:"),
+                testInvalidSocketAddress(":"),
+                testInvalidSocketAddress("192.168.0.1:8o"),
+                testInvalidSocketAddress("192.168.0.256:80"),
+                testInvalidSocketAddress("localhost:80"),
+                testInvalidSocketAddress("::1:80"),
+                testInvalidSocketAddress("[::1]80"),
+                testInvalidSocketAddress("[::1:80"),
+                testInvalidSocketAddress("[]:80"),
+                testInvalidSocketAddress("[192.168.0.1]:80"),
+        };
+    }
+
+    private DynamicTest testInvalidSocketAddress(String value) {
+        return dynamicTest(value, () -> {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddress", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<TestClass> violation = violations.get(0);
+            assertAnnotation(violation, IPSocketAddress.class);
+            assertEquals("must be a valid IP socket address", violation.getMessage());
+        });
+    }
+
+    @TestFactory
+    DynamicTest[] testValidSocketAddress() {
+        return new DynamicTest[] {
+                testValidSocketAddress("192.168.0.1:0"),
+                testValidSocketAddress("192.168.0.1:80"),
+                testValidSocketAddress("192.168.0.1:65535"),
+                testValidSocketAddress("192.168.0.1:00080"),
+                testValidSocketAddress("[::1]:00443"),
+                testValidSocketAddress("[::1]:80"),
+                testValidSocketAddress("[1234:5678::9ABC]:8080"),
+                testValidSocketAddress("[::ffff:192.168.0.1]:8080"),
+        };
+    }
+
+    private DynamicTest testValidSocketAddress(String value) {
+        return dynamicTest(value, () -> {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddress", value);
+            assertEquals(Collections.emptyList(), violations);
+        });
+    }
+
+    @TestFactory
+    DynamicTest[] testPortRange() {
+        return new DynamicTest[] {
+                testPortRange("192.168.0.1:1024", true),
+                testPortRange("192.168.0.1:49151", true),
+                testPortRange("[::1]:8080", true),
+                testPortRange("192.168.0.1:1023", false),
+                testPortRange("192.168.0.1:49152", false),
+                testPortRange("[::1]:80", false),
+        };
+    }
+
+    private DynamicTest testPortRange(String value, boolean expectValid) {
+        return dynamicTest(value, () -> {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddressWithPortRange", value);
+            if (expectValid) {
+                assertEquals(Collections.emptyList(), violations);
+            } else {
+                assertEquals(1, violations.size());
+
+                ConstraintViolation<TestClass> violation = violations.get(0);
+                assertAnnotation(violation, IPSocketAddress.class);
+                assertEquals("must be an IP socket address with a port between 1024 and 49151", violation.getMessage());
+            }
+        });
+    }
+
+    @TestFactory
+    DynamicTest[] testWithIPRanges() {
+        return new DynamicTest[] {
+                dynamicTest("in IP range", () -> {
+                    List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddressWithIPRanges", "192.168.0.1:80");
+                    assertEquals(Collections.emptyList(), violations);
+                }),
+                dynamicTest("in IPv6 IP range", () -> {
+                    List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddressWithIPRanges", "[1234::1]:80");
+                    assertEquals(Collections.emptyList(), violations);
+                }),
+                dynamicTest("not in IP range", () -> {
+                    List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddressWithIPRanges", "192.168.1.1:80");
+                    assertEquals(1, violations.size());
+
+                    ConstraintViolation<TestClass> violation = violations.get(0);
+                    assertAnnotation(violation, IPSocketAddress.class);
+                    assertEquals("must be an IP socket address with an IP address in one of [192.168.0.0/24, 1234::/16]", violation.getMessage());
+                }),
+                dynamicTest("not in IPv6 IP range", () -> {
+                    List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddressWithIPRanges", "[::1]:80");
+                    assertEquals(1, violations.size());
+
+                    ConstraintViolation<TestClass> violation = violations.get(0);
+                    assertAnnotation(violation, IPSocketAddress.class);
+                    assertEquals("must be an IP socket address with an IP address in one of [192.168.0.0/24, 1234::/16]", violation.getMessage());
+                }),
+                dynamicTest("named", () -> {
+                    IPRangeRegistry.register("socket-address-test", "10.0.0.0/8");
+
+                    List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddressWithNamedIPRanges", "10.1.2.3:443");
+                    assertEquals(Collections.emptyList(), violations);
+
+                    violations = validate(TestClass.class, "socketAddressWithNamedIPRanges", "11.1.2.3:443");
+                    assertEquals(1, violations.size());
+
+                    ConstraintViolation<TestClass> violation = violations.get(0);
+                    assertAnnotation(violation, IPSocketAddress.class);
+                    assertEquals("must be an IP socket address with an IP address in one of the IP ranges registered as [socket-address-test]",
+                            violation.getMessage());
+                }),
+        };
+    }
+
+    @Test
+    void testWithExcludedIPRanges() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddressWithExcludedIPRanges", "192.168.0.1:80");
+        assertEquals(Collections.emptyList(), violations);
+
+        violations = validate(TestClass.class, "socketAddressWithExcludedIPRanges", "[::1]:80");
+        assertEquals(1, violations.size());
+
+        ConstraintViolation<TestClass> violation = violations.get(0);
+        assertAnnotation(violation, IPSocketAddress.class);
+        assertEquals("must be an IP socket address with an IP address not in any of [::1/128]", violation.getMessage());
+    }
+
+    @Test
+    void testWithCustomMessage() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "socketAddressWithCustomMessage", "192.168.0.1:80");
+        assertEquals(1, violations.size());
+
+        ConstraintViolation<TestClass> violation = violations.get(0);
+        assertAnnotation(violation, IPSocketAddress.class);
+        assertEquals("custom", violation.getMessage());
+    }
+
+    private static final class TestClass {
+
+        @IPSocketAddress
+        private CharSequence socketAddress;
+
+        @IPSocketAddress(minPort = 1024, maxPort = 49151)
+        private CharSequence socketAddressWithPortRange;
+
+        @IPSocketAddress(ipRanges = { "192.168.0.0/24", "1234::/16" })
+        private CharSequence socketAddressWithIPRanges;
+
+        @IPSocketAddress(namedIPRanges = "socket-address-test")
+        private CharSequence socketAddressWithNamedIPRanges;
+
+        @IPSocketAddress(excludedIPRanges = "::1/128")
+        private CharSequence socketAddressWithExcludedIPRanges;
+
+        @IPSocketAddress(minPort = 443, maxPort = 443, message = "custom")
+        private CharSequence socketAddressWithCustomMessage;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * IPSubnetTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import java.util.Collections;
+import java.util.List;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import com.github.robtimus.net.ip.Subnet;
+import com.github.robtimus.net.ip.validation.validators.IPRangeRegistry;
+
+@SuppressWarnings("nls")
+class IPSubnetTest extends AbstractConstraintTest {
+
+    @Nested
+    class ForCharSequence {
+
+        @Test
+        void testNull() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequence", null);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @TestFactory
+        DynamicTest[] testInvalidSubnet() {
+            return new DynamicTest[] {
+                    testInvalidSubnet("10.20.0.0"),
+                    testInvalidSubnet("10.20.0.0/"),
+                    testInvalidSubnet("10.20.0.0/33"),
+                    testInvalidSubnet("10.20.0.1/16"),
+                    testInvalidSubnet("10.20.0/16"),
+                    testInvalidSubnet("::1/127"),
+                    testInvalidSubnet("::/129"),
+                    testInvalidSubnet("1234::/16/16"),
+                    testInvalidSubnet("1234::5678::/32"),
+                    testInvalidSubnet("12345::/16"),
+                    testInvalidSubnet("1234:/16"),
+                    testInvalidSubnet("/16:1234::"),
+            };
+        }
+
+        private DynamicTest testInvalidSubnet(String value) {
+            return dynamicTest(value, () -> {
+                List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequence", value);
+                assertEquals(1, violations.size());
+
+                ConstraintViolation<TestClass> violation = violations.get(0);
+                assertAnnotation(violation, IPSubnet.class);
+                assertEquals("must be a valid subnet in CIDR notation", violation.getMessage());
+            });
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithoutIPRanges() {
+            return new DynamicTest[] {
+                    testValidWithoutIPRanges("10.20.0.0/16"),
+                    testValidWithoutIPRanges("0.0.0.0/0"),
+                    testValidWithoutIPRanges("10.20.0.1/32"),
+                    testValidWithoutIPRanges("1234:5678::/32"),
+                    testValidWithoutIPRanges("::/0"),
+                    testValidWithoutIPRanges("::1/128"),
+                    testValidWithoutIPRanges("1234:5678:0:0:0:0:0:0/32"),
+                    testValidWithoutIPRanges("::ffff:10.20.0.0/112"),
+            };
+        }
+
+        private DynamicTest testValidWithoutIPRanges(String value) {
+            return dynamicTest(value, () -> {
+                List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequence", value);
+                assertEquals(Collections.emptyList(), violations);
+            });
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contained", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithIPRanges", "10.20.0.0/16");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contained in adjacent IP ranges", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithIPRanges", "10.20.0.0/15");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contained IPv6", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithIPRanges", "1234:5678::/32");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("partially contained", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithIPRanges", "10.20.0.0/14");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPSubnet.class);
+                        assertEquals("must be a subnet within [10.20.0.0/16, 10.21.0.0/16, 1234::/16]", violation.getMessage());
+                    }),
+                    dynamicTest("not contained IPv6", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithIPRanges", "1235::/16");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPSubnet.class);
+                        assertEquals("must be a subnet within [10.20.0.0/16, 10.21.0.0/16, 1234::/16]", violation.getMessage());
+                    }),
+                    dynamicTest("named", () -> {
+                        IPRangeRegistry.register("subnet-test", "192.168.0.0/16");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges",
+                                "192.168.10.0/24");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "192.168.0.0/15");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPSubnet.class);
+                        assertEquals("must be a subnet within the IP ranges registered as [subnet-test]", violation.getMessage());
+                    }),
+            };
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithExcludedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("no overlap", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges",
+                                "10.20.129.0/24");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("overlap", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges",
+                                "10.20.128.0/17");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPSubnet.class);
+                        assertEquals("must be a subnet that does not overlap with any of [10.20.128.0/24]", violation.getMessage());
+                    }),
+            };
+        }
+
+        @Test
+        void testInvalidWithCustomMessage() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithCustomMessage", "10.22.0.0/16");
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<TestClass> violation = violations.get(0);
+            assertAnnotation(violation, IPSubnet.class);
+            assertEquals("custom", violation.getMessage());
+        }
+    }
+
+    @Nested
+    class ForSubnet {
+
+        @Test
+        void testNull() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "subnet", null);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @Test
+        void testValidWithoutIPRanges() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "subnet", Subnet.valueOf("10.20.0.0/16"));
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contained", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "subnetWithIPRanges",
+                                Subnet.valueOf("10.20.0.0/15"));
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contained IPv6", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "subnetWithIPRanges",
+                                Subnet.valueOf("1234:5678::/32"));
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("not contained", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "subnetWithIPRanges",
+                                Subnet.valueOf("10.22.0.0/16"));
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPSubnet.class);
+                        assertEquals("must be a subnet within [10.20.0.0/16, 10.21.0.0/16, 1234::/16]", violation.getMessage());
+                    }),
+            };
+        }
+
+        @Test
+        void testValidWithExcludedIPRanges() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "subnetWithExcludedIPRanges",
+                    Subnet.valueOf("1234:5678::/32"));
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<TestClass> violation = violations.get(0);
+            assertAnnotation(violation, IPSubnet.class);
+            assertEquals("must be a subnet that does not overlap with any of [1234:5678:9abc::/48]", violation.getMessage());
+        }
+    }
+
+    private static final class TestClass {
+
+        @IPSubnet
+        private CharSequence charSequence;
+
+        @IPSubnet(ipRanges = { "10.20.0.0/16", "10.21.0.0/16", "1234::/16" })
+        private CharSequence charSequenceWithIPRanges;
+
+        @IPSubnet(namedIPRanges = "subnet-test")
+        private CharSequence charSequenceWithNamedIPRanges;
+
+        @IPSubnet(ipRanges = "10.20.0.0/16", excludedIPRanges = "10.20.128.0/24")
+        private CharSequence charSequenceWithExcludedIPRanges;
+
+        @IPSubnet(ipRanges = "10.20.0.0/16", message = "custom")
+        private CharSequence charSequenceWithCustomMessage;
+
+        @IPSubnet
+        private Subnet<?> subnet;
+
+        @IPSubnet(ipRanges = { "10.20.0.0/16", "10.21.0.0/16", "1234::/16" })
+        private Subnet<?> subnetWithIPRanges;
+
+        @IPSubnet(excludedIPRanges = "1234:5678:9abc::/48")
+        private Subnet<?> subnetWithExcludedIPRanges;
+    }
+}
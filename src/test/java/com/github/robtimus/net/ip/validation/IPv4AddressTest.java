@@ -26,6 +26,7 @@ import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import com.github.robtimus.net.ip.validation.validators.IPRangeRegistry;
 
 @SuppressWarnings("nls")
 class IPv4AddressTest extends AbstractConstraintTest {
@@ -91,6 +92,140 @@ class IPv4AddressTest extends AbstractConstraintTest {
             };
         }
 
+        @TestFactory
+        DynamicTest[] testValidWithNamedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contains", () -> {
+                        IPRangeRegistry.register("ipv4-test", "192.168.20.0/24");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "192.168.20.13");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("doesn't contain", () -> {
+                        IPRangeRegistry.register("ipv4-test", "192.168.20.0/24");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "192.168.40.1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv4Address.class);
+                        assertEquals("must be an IPv4 address in one of the IP ranges registered as [ipv4-test]", violation.getMessage());
+                    }),
+                    dynamicTest("replaced", () -> {
+                        IPRangeRegistry.register("ipv4-test", "192.168.20.0/24");
+                        IPRangeRegistry.register("ipv4-test", "[192.168.30.10...192.168.30.13]");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "192.168.30.11");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "192.168.20.13");
+                        assertEquals(1, violations.size());
+                    }),
+                    dynamicTest("unregistered", () -> {
+                        IPRangeRegistry.register("ipv4-test", "192.168.20.0/24");
+                        IPRangeRegistry.unregister("ipv4-test");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "192.168.20.13");
+                        assertEquals(1, violations.size());
+                    }),
+                    dynamicTest("combined with IP ranges", () -> {
+                        IPRangeRegistry.register("ipv4-test", "192.168.20.0/24");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithAllIPRanges", "192.168.20.13");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithAllIPRanges", "192.168.40.1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv4Address.class);
+                        assertEquals("must be an IPv4 address in one of [192.168.0.0/24] or in one of the IP ranges registered as [ipv4-test]",
+                                violation.getMessage());
+                    }),
+            };
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithExcludedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contains", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges",
+                                "192.168.20.1");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contains excluded", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges",
+                                "192.168.10.1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv4Address.class);
+                        assertEquals("must be an IPv4 address not in any of [192.168.10.0/24]", violation.getMessage());
+                    }),
+                    dynamicTest("doesn't contain", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges", "10.0.0.1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv4Address.class);
+                        assertEquals("must be an IPv4 address in one of [192.168.0.0/16]", violation.getMessage());
+                    }),
+                    dynamicTest("named", () -> {
+                        IPRangeRegistry.register("ipv4-excluded-test", "10.0.0.0/8");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedNamedIPRanges",
+                                "11.0.0.1");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithExcludedNamedIPRanges", "10.1.2.3");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv4Address.class);
+                        assertEquals("must be an IPv4 address not in any of the IP ranges registered as [ipv4-excluded-test]",
+                                violation.getMessage());
+                    }),
+            };
+        }
+
+        @TestFactory
+        DynamicTest[] testEmbeddedIPv4Address() {
+            return new DynamicTest[] {
+                    dynamicTest("IPv4-mapped", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithEmbeddedIPv4Address",
+                                "::ffff:192.168.0.13");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("NAT64", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithEmbeddedIPv4Address",
+                                "64:ff9b::c0a8:d");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("IPv4-mapped not contained", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithEmbeddedIPv4Address",
+                                "::ffff:192.168.1.13");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv4Address.class);
+                        assertEquals("must be an IPv4 address in one of [192.168.0.0/24]", violation.getMessage());
+                    }),
+                    dynamicTest("not embedded", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithEmbeddedIPv4Address",
+                                "::1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv4Address.class);
+                        assertEquals("must be an IPv4 address", violation.getMessage());
+                    }),
+                    dynamicTest("not allowed", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithSubnet", "::ffff:192.168.0.13");
+                        assertEquals(1, violations.size());
+                    }),
+            };
+        }
+
         @TestFactory
         DynamicTest[] testInvalidWithCustomMessage() {
             return new DynamicTest[] {
@@ -175,6 +310,46 @@ class IPv4AddressTest extends AbstractConstraintTest {
             };
         }
 
+        @TestFactory
+        DynamicTest[] testValidWithExcludedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contains", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressWithExcludedIPRanges",
+                                ip("192.168.20.1"));
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contains excluded", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressWithExcludedIPRanges",
+                                ip("192.168.10.1"));
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv4Address.class);
+                        assertEquals("must be an IPv4 address not in any of [192.168.10.0/24]", violation.getMessage());
+                    }),
+            };
+        }
+
+        @TestFactory
+        DynamicTest[] testEmbeddedIPv4Address() {
+            return new DynamicTest[] {
+                    dynamicTest("IPv4-mapped", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressWithEmbeddedIPv4Address",
+                                ip("::ffff:c0a8:d"));
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("NAT64 not allowed", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressWithEmbeddedIPv4Address",
+                                ip("64:ff9b::c0a8:d"));
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv4Address.class);
+                        assertEquals("must be an IPv4 address", violation.getMessage());
+                    }),
+            };
+        }
+
         @TestFactory
         DynamicTest[] testInvalidWithCustomMessage() {
             return new DynamicTest[] {
@@ -209,6 +384,21 @@ class IPv4AddressTest extends AbstractConstraintTest {
         @IPv4Address(ipRanges = { "192.168.0.0/24", "[192.168.10.10...192.168.10.13]" }, message = "custom")
         private CharSequence charSequenceWithCustomMessage;
 
+        @IPv4Address(namedIPRanges = "ipv4-test")
+        private CharSequence charSequenceWithNamedIPRanges;
+
+        @IPv4Address(ipRanges = "192.168.0.0/24", namedIPRanges = "ipv4-test")
+        private CharSequence charSequenceWithAllIPRanges;
+
+        @IPv4Address(ipRanges = "192.168.0.0/16", excludedIPRanges = "192.168.10.0/24")
+        private CharSequence charSequenceWithExcludedIPRanges;
+
+        @IPv4Address(excludedNamedIPRanges = "ipv4-excluded-test")
+        private CharSequence charSequenceWithExcludedNamedIPRanges;
+
+        @IPv4Address(ipRanges = "192.168.0.0/24", allowIPv4Mapped = true, allowNAT64 = true)
+        private CharSequence charSequenceWithEmbeddedIPv4Address;
+
         @IPv4Address
         private com.github.robtimus.net.ip.IPAddress<?> ipAddress;
 
@@ -220,5 +410,11 @@ class IPv4AddressTest extends AbstractConstraintTest {
 
         @IPv4Address(ipRanges = { "192.168.0.0/24", "[192.168.10.10...192.168.10.13]" }, message = "custom")
         private com.github.robtimus.net.ip.IPAddress<?> ipAddressWithCustomMessage;
+
+        @IPv4Address(ipRanges = "192.168.0.0/16", excludedIPRanges = "192.168.10.0/24")
+        private com.github.robtimus.net.ip.IPAddress<?> ipAddressWithExcludedIPRanges;
+
+        @IPv4Address(ipRanges = "192.168.0.0/24", allowIPv4Mapped = true)
+        private com.github.robtimus.net.ip.IPAddress<?> ipAddressWithEmbeddedIPv4Address;
     }
 }
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import com.github.robtimus.net.ip.validation.validators.IPRangeRegistry;
 
 @SuppressWarnings("nls")
 class IPv6AddressTest extends AbstractConstraintTest {
@@ -91,6 +92,101 @@ class IPv6AddressTest extends AbstractConstraintTest {
             };
         }
 
+        @TestFactory
+        DynamicTest[] testValidWithNamedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contains", () -> {
+                        IPRangeRegistry.register("ipv6-test", "1234:20::/32");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "1234:20::13");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("doesn't contain", () -> {
+                        IPRangeRegistry.register("ipv6-test", "1234:20::/32");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "1234:40::1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv6Address.class);
+                        assertEquals("must be an IPv6 address in one of the IP ranges registered as [ipv6-test]", violation.getMessage());
+                    }),
+                    dynamicTest("replaced", () -> {
+                        IPRangeRegistry.register("ipv6-test", "1234:20::/32");
+                        IPRangeRegistry.register("ipv6-test", "[1234:30::10...1234:30::13]");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "1234:30::11");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "1234:20::13");
+                        assertEquals(1, violations.size());
+                    }),
+                    dynamicTest("unregistered", () -> {
+                        IPRangeRegistry.register("ipv6-test", "1234:20::/32");
+                        IPRangeRegistry.unregister("ipv6-test");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithNamedIPRanges", "1234:20::13");
+                        assertEquals(1, violations.size());
+                    }),
+                    dynamicTest("combined with IP ranges", () -> {
+                        IPRangeRegistry.register("ipv6-test", "1234:20::/32");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithAllIPRanges", "1234:20::13");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithAllIPRanges", "1234:40::1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv6Address.class);
+                        assertEquals("must be an IPv6 address in one of [1234:abcd::/32] or in one of the IP ranges registered as [ipv6-test]",
+                                violation.getMessage());
+                    }),
+            };
+        }
+
+        @TestFactory
+        DynamicTest[] testValidWithExcludedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contains", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges", "1234:1::1");
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contains excluded", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges",
+                                "1234:abcd::1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv6Address.class);
+                        assertEquals("must be an IPv6 address not in any of [1234:abcd::/32]", violation.getMessage());
+                    }),
+                    dynamicTest("doesn't contain", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedIPRanges", "4321::1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv6Address.class);
+                        assertEquals("must be an IPv6 address in one of [1234::/16]", violation.getMessage());
+                    }),
+                    dynamicTest("named", () -> {
+                        IPRangeRegistry.register("ipv6-excluded-test", "4321::/16");
+
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "charSequenceWithExcludedNamedIPRanges",
+                                "4322::1");
+                        assertEquals(Collections.emptyList(), violations);
+
+                        violations = validate(TestClass.class, "charSequenceWithExcludedNamedIPRanges", "4321:1::1");
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv6Address.class);
+                        assertEquals("must be an IPv6 address not in any of the IP ranges registered as [ipv6-excluded-test]",
+                                violation.getMessage());
+                    }),
+            };
+        }
+
         @TestFactory
         DynamicTest[] testInvalidWithCustomMessage() {
             return new DynamicTest[] {
@@ -175,6 +271,25 @@ class IPv6AddressTest extends AbstractConstraintTest {
             };
         }
 
+        @TestFactory
+        DynamicTest[] testValidWithExcludedIPRanges() {
+            return new DynamicTest[] {
+                    dynamicTest("contains", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressWithExcludedIPRanges", ip("1234:1::1"));
+                        assertEquals(Collections.emptyList(), violations);
+                    }),
+                    dynamicTest("contains excluded", () -> {
+                        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "ipAddressWithExcludedIPRanges",
+                                ip("1234:abcd::1"));
+                        assertEquals(1, violations.size());
+
+                        ConstraintViolation<TestClass> violation = violations.get(0);
+                        assertAnnotation(violation, IPv6Address.class);
+                        assertEquals("must be an IPv6 address not in any of [1234:abcd::/32]", violation.getMessage());
+                    }),
+            };
+        }
+
         @TestFactory
         DynamicTest[] testInvalidWithCustomMessage() {
             return new DynamicTest[] {
@@ -209,6 +324,18 @@ class IPv6AddressTest extends AbstractConstraintTest {
         @IPv6Address(ipRanges = { "1234:abcd::/32", "[1234:5678::10...1234:5678::13]" }, message = "custom")
         private CharSequence charSequenceWithCustomMessage;
 
+        @IPv6Address(namedIPRanges = "ipv6-test")
+        private CharSequence charSequenceWithNamedIPRanges;
+
+        @IPv6Address(ipRanges = "1234:abcd::/32", namedIPRanges = "ipv6-test")
+        private CharSequence charSequenceWithAllIPRanges;
+
+        @IPv6Address(ipRanges = "1234::/16", excludedIPRanges = "1234:abcd::/32")
+        private CharSequence charSequenceWithExcludedIPRanges;
+
+        @IPv6Address(excludedNamedIPRanges = "ipv6-excluded-test")
+        private CharSequence charSequenceWithExcludedNamedIPRanges;
+
         @IPv6Address
         private com.github.robtimus.net.ip.IPAddress<?> ipAddress;
 
@@ -220,5 +347,8 @@ class IPv6AddressTest extends AbstractConstraintTest {
 
         @IPv6Address(ipRanges = { "1234:abcd::/32", "[1234:5678::10...1234:5678::13]" }, message = "custom")
         private com.github.robtimus.net.ip.IPAddress<?> ipAddressWithCustomMessage;
+
+        @IPv6Address(ipRanges = "1234::/16", excludedIPRanges = "1234:abcd::/32")
+        private com.github.robtimus.net.ip.IPAddress<?> ipAddressWithExcludedIPRanges;
     }
 }
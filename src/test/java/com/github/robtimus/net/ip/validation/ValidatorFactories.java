@@ -0,0 +1,64 @@
+/*
+ * ValidatorFactories.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation;
+
+import java.lang.annotation.ElementType;
+import jakarta.validation.Configuration;
+import jakarta.validation.Path;
+import jakarta.validation.Path.Node;
+import jakarta.validation.TraversableResolver;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Creates validator factories with the setup that tests and benchmarks share.
+ *
+ * @author Rob Spoor
+ */
+final class ValidatorFactories {
+
+    private ValidatorFactories() {
+    }
+
+    static ValidatorFactory validatorFactory() {
+        return configuration().buildValidatorFactory();
+    }
+
+    static Configuration<?> configuration() {
+        return Validation.byDefaultProvider()
+                .configure()
+                .traversableResolver(new SimpleTraversableResolver());
+    }
+
+    private static final class SimpleTraversableResolver implements TraversableResolver {
+
+        @Override
+        public boolean isReachable(Object traversableObject, Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject,
+                ElementType elementType) {
+
+            return true;
+        }
+
+        @Override
+        public boolean isCascadable(Object traversableObject, Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject,
+                ElementType elementType) {
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * AdaptiveOrderTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import com.github.robtimus.net.ip.IPv6Subnet;
+
+@SuppressWarnings("nls")
+class AdaptiveOrderTest {
+
+    @Test
+    void testInitialOrder() {
+        AdaptiveOrder order = new AdaptiveOrder(3);
+
+        assertArrayEquals(new int[] { 0, 1, 2 }, order.order());
+
+        order.reorder();
+
+        assertArrayEquals(new int[] { 0, 1, 2 }, order.order());
+    }
+
+    @Test
+    void testReorder() {
+        AdaptiveOrder order = new AdaptiveOrder(3);
+
+        recordHits(order, 2, 100_000);
+        recordHits(order, 1, 1_000);
+        order.reorder();
+
+        assertArrayEquals(new int[] { 2, 1, 0 }, order.order());
+
+        // previous hits are decayed, so the order follows changes in traffic
+        for (int i = 0; i < 5; i++) {
+            recordHits(order, 0, 100_000);
+            order.reorder();
+        }
+
+        assertEquals(0, order.order()[0]);
+    }
+
+    @Test
+    void testIPv4RangeIndex() {
+        List<IPv4Range> ipRanges = Arrays.asList(
+                IPv4Subnet.valueOf("10.0.0.0/8"),
+                IPv4Subnet.valueOf("172.16.0.0/12"),
+                IPv4Subnet.valueOf("192.168.0.0/16"));
+        IPv4RangeIndex index = IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, ipRanges.size());
+
+        assertTrue(index.hasAdaptiveOrder());
+        int address = IPv4Address.valueOf("192.168.1.1").toInt();
+        for (int i = 0; i < 1_000_000; i++) {
+            assertTrue(index.contains(address));
+        }
+        // reorder explicitly, so the test does not depend on which hits are sampled
+        index.adaptiveOrder().reorder();
+        assertEquals(2, index.adaptiveOrder().order()[0]);
+
+        assertTrue(index.contains(IPv4Address.valueOf("10.0.0.1")));
+        assertTrue(index.contains(IPv4Address.valueOf("172.31.255.255")));
+        assertFalse(index.contains(IPv4Address.valueOf("172.32.0.0")));
+        assertFalse(index.contains(IPv4Address.valueOf("255.255.255.255")));
+
+        assertFalse(IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, ipRanges.size() - 1).hasAdaptiveOrder());
+    }
+
+    @Test
+    void testIPv6RangeIndex() {
+        List<IPv6Range> ipRanges = Arrays.asList(
+                IPv6Subnet.valueOf("1234::/16"),
+                IPv6Subnet.valueOf("2001:db8::/32"),
+                IPv6Address.valueOf("::1").to(IPv6Address.valueOf("::1")));
+        IPv6RangeIndex index = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, ipRanges.size());
+
+        assertTrue(index.hasAdaptiveOrder());
+        IPv6Address address = IPv6Address.valueOf("::1");
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(index.contains(address));
+        }
+        index.adaptiveOrder().reorder();
+        assertEquals(2, index.adaptiveOrder().order()[0]);
+
+        assertTrue(index.contains(IPv6Address.valueOf("1234:ffff::")));
+        assertTrue(index.contains(IPv6Address.valueOf("2001:db8::1")));
+        assertFalse(index.contains(IPv6Address.valueOf("::2")));
+        assertFalse(index.contains(IPv6Address.valueOf("2001:db9::")));
+
+        assertFalse(IPv6RangeIndex.of(ipRanges, ipRanges.size(), Integer.MAX_VALUE, Integer.MAX_VALUE, ipRanges.size()).hasAdaptiveOrder());
+    }
+
+    private void recordHits(AdaptiveOrder order, int index, int count) {
+        for (int i = 0; i < count; i++) {
+            order.recordHit(index);
+        }
+    }
+}
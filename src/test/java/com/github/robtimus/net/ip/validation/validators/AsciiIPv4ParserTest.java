@@ -0,0 +1,104 @@
+/*
+ * AsciiIPv4ParserTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class AsciiIPv4ParserTest {
+
+    private static final String[] VALUES = {
+            "0.0.0.0",
+            "1.2.3.4",
+            "12.34.56.78",
+            "192.168.0.1",
+            "255.255.255.255",
+            "010.001.000.009",
+            "256.0.0.0",
+            "0.0.0.256",
+            "999.1.1.1",
+            "1.2.3",
+            "1.2.3.",
+            ".1.2.3",
+            "1..2.3",
+            "1.2.3.4.",
+            "1.2.3.4.5",
+            "1234.1.1.1",
+            "1.1.1.1234",
+            "1.2.3.a",
+            "1.2.3.4 ",
+            " 1.2.3.4",
+            "1.2.3.:",
+            "1.2.3./",
+            "::ffff:1.2.3.4",
+            "1.2.3.4/24",
+    };
+
+    @Test
+    void testParseIPv4Address() {
+        for (String value : VALUES) {
+            long expected = IPRangeParser.parseIPv4Address(value, 0, value.length());
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+            // exactly sized, so words cannot be read
+            assertEquals(expected, AsciiIPv4Parser.parseIPv4Address(bytes, 0, bytes.length), value);
+            assertEquals(expected, AsciiIPv4Parser.parseIPv4Address(ByteBuffer.wrap(bytes), 0, bytes.length), value);
+
+            // surrounded by other content, so words are read
+            byte[] padded = ("xx" + value + "yyyyyyyyyyyyyyyy").getBytes(StandardCharsets.US_ASCII);
+            assertEquals(expected, AsciiIPv4Parser.parseIPv4Address(padded, 2, bytes.length + 2), value);
+            ByteBuffer direct = ByteBuffer.allocateDirect(padded.length).put(padded).flip();
+            assertEquals(expected, AsciiIPv4Parser.parseIPv4Address(direct, 2, bytes.length + 2), value);
+
+            AsciiSequence sequence = AsciiSequence.of(padded);
+            assertEquals(expected, IPRangeParser.parseIPv4Address(sequence, 2, bytes.length + 2), value);
+            sequence.release();
+        }
+    }
+
+    @Test
+    void testParseIPv4AddressWithNonAsciiBytes() {
+        byte[] bytes = "1.2.3.4".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] copy = bytes.clone();
+            // '0' to '9' and '.' with the high bit set
+            copy[i] = (byte) (copy[i] | 0x80);
+            assertEquals(-1, AsciiIPv4Parser.parseIPv4Address(copy, 0, copy.length));
+        }
+    }
+
+    @Test
+    void testParseIPv4AddressWithRandomValues() {
+        Random random = new Random(0);
+        byte[] alphabet = "0123456789./:-a".getBytes(StandardCharsets.US_ASCII);
+        byte[] bytes = new byte[32];
+        for (int i = 0; i < 100_000; i++) {
+            int length = 7 + random.nextInt(9);
+            for (int j = 0; j < length; j++) {
+                bytes[j] = alphabet[random.nextInt(random.nextBoolean() ? 11 : alphabet.length)];
+            }
+            String value = new String(bytes, 0, length, StandardCharsets.US_ASCII);
+
+            assertEquals(IPRangeParser.parseIPv4Address(value, 0, length), AsciiIPv4Parser.parseIPv4Address(bytes, 0, length), value);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * CompiledConstraintHolderTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.validation.IPv4Address;
+
+@SuppressWarnings("nls")
+class CompiledConstraintHolderTest {
+
+    @Test
+    void testEager() throws ReflectiveOperationException {
+        IPv4Address constraintAnnotation = annotation("valid");
+        AtomicInteger compilations = new AtomicInteger();
+
+        CompiledConstraintHolder holder = CompiledConstraintHolder.of(constraintAnnotation, a -> {
+            compilations.incrementAndGet();
+            return IPv4AddressValidator.compile(a);
+        }, false);
+
+        assertFalse(holder.isLazy());
+        assertEquals(1, compilations.get());
+        assertSame(holder.get(), holder.get());
+        assertEquals(1, compilations.get());
+    }
+
+    @Test
+    void testLazy() throws ReflectiveOperationException {
+        IPv4Address constraintAnnotation = annotation("valid");
+        AtomicInteger compilations = new AtomicInteger();
+
+        CompiledConstraintHolder holder = CompiledConstraintHolder.of(constraintAnnotation, a -> {
+            compilations.incrementAndGet();
+            return IPv4AddressValidator.compile(a);
+        }, true);
+
+        assertTrue(holder.isLazy());
+        assertEquals(0, compilations.get());
+        CompiledConstraint compiled = holder.get();
+        assertEquals(1, compilations.get());
+        assertFalse(compiled.allowsAll());
+        assertSame(compiled, holder.get());
+        assertEquals(1, compilations.get());
+    }
+
+    @Test
+    void testLazyValidator() throws ReflectiveOperationException {
+        CharSequenceIPv4AddressValidator validator = new CharSequenceIPv4AddressValidator(new CompiledConstraintCache(true));
+        // initialization must not fail, as the invalid IP ranges are not yet compiled
+        validator.initialize(annotation("invalid"));
+
+        assertThrows(IllegalArgumentException.class, () -> validator.isValid("192.168.0.1", null));
+    }
+
+    @Test
+    void testEagerValidator() throws ReflectiveOperationException {
+        CharSequenceIPv4AddressValidator validator = new CharSequenceIPv4AddressValidator(new CompiledConstraintCache(false));
+        IPv4Address constraintAnnotation = annotation("invalid");
+
+        assertThrows(IllegalArgumentException.class, () -> validator.initialize(constraintAnnotation));
+    }
+
+    private static IPv4Address annotation(String fieldName) throws ReflectiveOperationException {
+        return TestClass.class.getDeclaredField(fieldName).getAnnotation(IPv4Address.class);
+    }
+
+    private static final class TestClass {
+
+        @IPv4Address(ipRanges = "192.168.0.0/24")
+        private CharSequence valid;
+
+        @IPv4Address(ipRanges = "192.168.0.0/33")
+        private CharSequence invalid;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * CompiledConstraintTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintValidatorContext.ConstraintViolationBuilder;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv4Address;
+
+@SuppressWarnings("nls")
+class CompiledConstraintTest {
+
+    private static final String[] NONE = {};
+
+    @Test
+    void testAllowsAll() {
+        CompiledConstraint constraint = constraint(NONE, NONE, NONE, NONE);
+        List<String> templates = new ArrayList<>();
+
+        assertTrue(constraint.allowsAll());
+        assertTrue(constraint.allowsIPv4Address(ipv4("192.168.0.1"), context(templates)));
+        assertTrue(constraint.allowsIPv6Address(0, 1, context(templates)));
+        assertTrue(constraint.allowsIPv4Range(0, -1, context(templates)));
+        assertEquals(Collections.emptyList(), templates);
+    }
+
+    @Test
+    void testMessageWithIPRanges() {
+        assertViolation(".withIPRanges", constraint(new String[] { "10.0.0.0/8" }, NONE, NONE, NONE), "192.168.0.1");
+        assertViolation(".withNamedIPRanges", constraint(NONE, new String[] { "compiled-constraint" }, NONE, NONE), "192.168.0.1");
+        assertViolation(".withIPRangesAndNamedIPRanges", constraint(new String[] { "10.0.0.0/8" }, new String[] { "compiled-constraint" },
+                NONE, NONE), "192.168.0.1");
+    }
+
+    @Test
+    void testMessageWithExcludedIPRanges() {
+        assertViolation(".withExcludedIPRanges", constraint(NONE, NONE, new String[] { "192.168.0.0/16" }, NONE), "192.168.0.1");
+        IPRangeRegistry.register("compiled-constraint-excluded", "192.168.0.0/16");
+        assertViolation(".withExcludedNamedIPRanges", constraint(NONE, NONE, NONE, new String[] { "compiled-constraint-excluded" }),
+                "192.168.0.1");
+        assertViolation(".withExcludedIPRangesAndExcludedNamedIPRanges", constraint(NONE, NONE, new String[] { "10.0.0.0/8" },
+                new String[] { "compiled-constraint-excluded" }), "192.168.0.1");
+    }
+
+    @Test
+    void testAllowsIPv4Range() {
+        CompiledConstraint constraint = constraint(new String[] { "10.0.0.0/8" }, NONE, new String[] { "10.1.0.0/16" }, NONE);
+        List<String> templates = new ArrayList<>();
+
+        assertTrue(constraint.allowsIPv4Range(ipv4("10.0.0.0"), ipv4("10.0.255.255"), context(templates)));
+        assertFalse(constraint.allowsIPv4Range(ipv4("10.0.0.0"), ipv4("11.0.0.0"), context(templates)));
+        assertFalse(constraint.allowsIPv4Range(ipv4("10.0.0.0"), ipv4("10.1.0.0"), context(templates)));
+        assertEquals(List.of(template(".withIPRanges"), template(".withExcludedIPRanges")), templates);
+    }
+
+    private static void assertViolation(String suffix, CompiledConstraint constraint, String ipAddress) {
+        List<String> templates = new ArrayList<>();
+
+        assertFalse(constraint.allowsIPv4Address(ipv4(ipAddress), context(templates)));
+        assertFalse(constraint.allowsIPAddress(IPAddress.valueOf(ipAddress), context(templates)));
+        assertEquals(List.of(template(suffix), template(suffix)), templates);
+    }
+
+    private static CompiledConstraint constraint(String[] ipRanges, String[] namedIPRanges, String[] excludedIPRanges,
+            String[] excludedNamedIPRanges) {
+
+        return new CompiledConstraint("IPAddress", template(""),
+                IPRanges.of(IPRangeParser.parseIPRanges(ipRanges), namedIPRanges),
+                IPRanges.of(IPRangeParser.parseIPRanges(excludedIPRanges), excludedNamedIPRanges),
+                CompiledConstraint.parameters(ipRanges, namedIPRanges, excludedIPRanges, excludedNamedIPRanges), EmbeddedIPv4.NONE);
+    }
+
+    private static String template(String suffix) {
+        return "{com.github.robtimus.net.ip.validation.IPAddress.message" + suffix + "}";
+    }
+
+    private static int ipv4(String ipAddress) {
+        return IPv4Address.valueOf(ipAddress).toInt();
+    }
+
+    private static ConstraintValidatorContext context(List<String> templates) {
+        ConstraintViolationBuilder builder = (ConstraintViolationBuilder) Proxy.newProxyInstance(CompiledConstraintTest.class.getClassLoader(),
+                new Class<?>[] { ConstraintViolationBuilder.class }, (proxy, method, args) -> null);
+        return (ConstraintValidatorContext) Proxy.newProxyInstance(CompiledConstraintTest.class.getClassLoader(),
+                new Class<?>[] { ConstraintValidatorContext.class }, (proxy, method, args) -> {
+                    if ("buildConstraintViolationWithTemplate".equals(method.getName())) {
+                        templates.add((String) args[0]);
+                        return builder;
+                    }
+                    return null;
+                });
+    }
+}
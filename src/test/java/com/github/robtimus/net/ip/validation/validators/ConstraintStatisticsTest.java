@@ -0,0 +1,194 @@
+/*
+ * ConstraintStatisticsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.validation.IPv4Address;
+
+@SuppressWarnings("nls")
+class ConstraintStatisticsTest {
+
+    @Test
+    void testWithoutStatistics() throws ReflectiveOperationException {
+        CompiledConstraintHolder holder = CompiledConstraintHolder.of(annotation("subnet"), IPv4AddressValidator::compile, false, null);
+
+        assertNull(holder.statistics());
+        assertTrue(holder.record(true));
+    }
+
+    @Test
+    void testRecord() throws ReflectiveOperationException {
+        IPv4Address constraintAnnotation = annotation("subnet");
+        ConstraintStatistics statistics = new ConstraintStatistics(constraintAnnotation);
+        CompiledConstraintHolder holder = CompiledConstraintHolder.of(constraintAnnotation, IPv4AddressValidator::compile, false, statistics);
+
+        assertSame(statistics, holder.statistics());
+        assertEquals(constraintAnnotation.toString(), statistics.getConstraint());
+        assertEquals(1, statistics.getRangeCount());
+        assertTrue(statistics.getHeapBytes() > 0);
+        assertEquals(0, statistics.getOffHeapBytes());
+        assertEquals(0, statistics.getHitRate());
+        assertEquals(0, statistics.getAverageParseTimeNanos());
+
+        assertTrue(holder.record(true));
+        assertTrue(holder.record(true));
+        assertTrue(holder.record(true));
+        assertEquals(false, holder.record(false));
+        ParseMemo.tryParse(new String("192.168.0.1"), ParseMemo.Format.IPV4, statistics);
+        ParseMemo.tryParse(new String("192.168.0.2"), ParseMemo.Format.IPV4, statistics);
+
+        assertEquals(4, statistics.getLookupCount());
+        assertEquals(3, statistics.getHitCount());
+        assertEquals(1, statistics.getRejectionCount());
+        assertEquals(0.75, statistics.getHitRate());
+        assertEquals(0.25, statistics.getRejectionRate());
+        assertTrue(statistics.getAverageParseTimeNanos() > 0);
+
+        statistics.resetStatistics();
+
+        assertEquals(0, statistics.getLookupCount());
+        assertEquals(0, statistics.getHitCount());
+        assertEquals(0, statistics.getRejectionCount());
+        assertEquals(0, statistics.getAverageParseTimeNanos());
+        assertEquals(1, statistics.getRangeCount());
+    }
+
+    @Test
+    void testLazyNotCompiled() throws ReflectiveOperationException {
+        IPv4Address constraintAnnotation = annotation("subnet");
+        ConstraintStatistics statistics = new ConstraintStatistics(constraintAnnotation);
+        CompiledConstraintHolder holder = CompiledConstraintHolder.of(constraintAnnotation, IPv4AddressValidator::compile, true, statistics);
+
+        assertEquals(0, statistics.getRangeCount());
+        assertEquals(0, statistics.getHeapBytes());
+
+        holder.get();
+
+        assertEquals(1, statistics.getRangeCount());
+    }
+
+    @Test
+    void testRegister() throws ReflectiveOperationException, JMException {
+        IPv4Address constraintAnnotation = annotation("subnet");
+        ConstraintStatistics statistics = new ConstraintStatistics(constraintAnnotation);
+        CompiledConstraintHolder holder = CompiledConstraintHolder.of(constraintAnnotation, IPv4AddressValidator::compile, false, statistics);
+        holder.record(true);
+        holder.record(false);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = statistics.objectName();
+        statistics.register();
+        try {
+            assertEquals("com.github.robtimus.net.ip.validation", objectName.getDomain());
+            assertEquals("Constraint", objectName.getKeyProperty("type"));
+            assertEquals(constraintAnnotation.toString(), ObjectName.unquote(objectName.getKeyProperty("name")));
+
+            assertEquals(1, server.getAttribute(objectName, "RangeCount"));
+            assertEquals(2L, server.getAttribute(objectName, "LookupCount"));
+            assertEquals(0.5, server.getAttribute(objectName, "HitRate"));
+
+            server.invoke(objectName, "resetStatistics", new Object[0], new String[0]);
+
+            assertEquals(0L, server.getAttribute(objectName, "LookupCount"));
+        } finally {
+            server.unregisterMBean(objectName);
+        }
+    }
+
+    @Test
+    void testRegisterTwice() throws ReflectiveOperationException, JMException {
+        IPv4Address constraintAnnotation = annotation("subnet");
+        ConstraintStatistics statistics = new ConstraintStatistics(constraintAnnotation);
+        ConstraintStatistics other = new ConstraintStatistics(constraintAnnotation);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        statistics.register();
+        try {
+            // the object name is already in use, but that's not fatal
+            assertSame(other, other.register());
+
+            assertTrue(statistics.isRegistered());
+            assertFalse(other.isRegistered());
+
+            other.unregister();
+
+            assertTrue(server.isRegistered(statistics.objectName()));
+        } finally {
+            statistics.unregister();
+        }
+
+        assertFalse(statistics.isRegistered());
+        assertFalse(server.isRegistered(statistics.objectName()));
+    }
+
+    @Test
+    void testForConstraintAndRelease() throws ReflectiveOperationException, JMException {
+        IPv4Address constraintAnnotation = annotation("subnet");
+        ConstraintStatistics statistics = ConstraintStatistics.forConstraint(constraintAnnotation);
+        CompiledConstraintHolder holder = CompiledConstraintHolder.of(constraintAnnotation, IPv4AddressValidator::compile, false, statistics);
+        CompiledConstraintHolder otherHolder = CompiledConstraintHolder.of(constraintAnnotation, IPv4AddressValidator::compile, false,
+                ConstraintStatistics.forConstraint(constraintAnnotation));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = statistics.objectName();
+
+        assertSame(statistics, otherHolder.statistics());
+        assertTrue(statistics.isRegistered());
+        assertTrue(server.isRegistered(objectName));
+
+        holder.release();
+
+        // the statistics are still used by the other holder
+        assertTrue(server.isRegistered(objectName));
+        assertSame(statistics, ConstraintStatistics.forConstraint(constraintAnnotation));
+
+        statistics.release();
+        otherHolder.release();
+
+        assertFalse(statistics.isRegistered());
+        assertFalse(server.isRegistered(objectName));
+
+        ConstraintStatistics newStatistics = ConstraintStatistics.forConstraint(constraintAnnotation);
+        try {
+            assertNotSame(statistics, newStatistics);
+            assertTrue(server.isRegistered(objectName));
+        } finally {
+            newStatistics.release();
+        }
+    }
+
+    private static IPv4Address annotation(String fieldName) throws ReflectiveOperationException {
+        return TestClass.class.getDeclaredField(fieldName).getAnnotation(IPv4Address.class);
+    }
+
+    private static final class TestClass {
+
+        @IPv4Address(ipRanges = "192.168.0.0/24")
+        private CharSequence subnet;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * EmbeddedIPv4Test.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPv6Address;
+
+class EmbeddedIPv4Test {
+
+    private static final long IPV4_MAPPED_HIGH = 0L;
+    private static final long IPV4_MAPPED_LOW = 0x0000_FFFF_C0A8_000DL;
+    private static final long NAT64_HIGH = 0x0064_FF9B_0000_0000L;
+    private static final long NAT64_LOW = 0x0000_0000_C0A8_000DL;
+
+    @Test
+    void testFlags() {
+        assertEquals(EmbeddedIPv4.NONE, EmbeddedIPv4.flags(false, false));
+        assertEquals(EmbeddedIPv4.IPV4_MAPPED, EmbeddedIPv4.flags(true, false));
+        assertEquals(EmbeddedIPv4.NAT64, EmbeddedIPv4.flags(false, true));
+        assertEquals(EmbeddedIPv4.IPV4_MAPPED | EmbeddedIPv4.NAT64, EmbeddedIPv4.flags(true, true));
+    }
+
+    @Test
+    void testExtractIPv4Mapped() {
+        assertEquals(0xC0A8_000DL, EmbeddedIPv4.extract(IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW, EmbeddedIPv4.IPV4_MAPPED));
+        assertEquals(0xC0A8_000DL, EmbeddedIPv4.extract(IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW, EmbeddedIPv4.IPV4_MAPPED | EmbeddedIPv4.NAT64));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW, EmbeddedIPv4.NAT64));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW, EmbeddedIPv4.NONE));
+    }
+
+    @Test
+    void testExtractNAT64() {
+        assertEquals(0xC0A8_000DL, EmbeddedIPv4.extract(NAT64_HIGH, NAT64_LOW, EmbeddedIPv4.NAT64));
+        assertEquals(0xC0A8_000DL, EmbeddedIPv4.extract(NAT64_HIGH, NAT64_LOW, EmbeddedIPv4.IPV4_MAPPED | EmbeddedIPv4.NAT64));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(NAT64_HIGH, NAT64_LOW, EmbeddedIPv4.IPV4_MAPPED));
+    }
+
+    @Test
+    void testExtractNotEmbedded() {
+        int flags = EmbeddedIPv4.IPV4_MAPPED | EmbeddedIPv4.NAT64;
+        // ::1
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(0L, 1L, flags));
+        // ::c0a8:d, the deprecated IPv4-compatible format
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(0L, 0xC0A8_000DL, flags));
+        // ::1:ffff:c0a8:d
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW | 1L << 48, flags));
+        // 64:ff9b:1::c0a8:d, the local-use NAT64 prefix
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(NAT64_HIGH | 1L << 16, NAT64_LOW, flags));
+    }
+
+    @Test
+    void testExtractFromIPv6Address() {
+        IPv6Address address = IPv6Address.valueOf(IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW);
+
+        assertEquals(0xC0A8_000DL, EmbeddedIPv4.extract(address, EmbeddedIPv4.IPV4_MAPPED));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(address, EmbeddedIPv4.NONE));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(address, EmbeddedIPv4.NAT64));
+
+        int flags = EmbeddedIPv4.IPV4_MAPPED | EmbeddedIPv4.NAT64;
+        assertEquals(0xC0A8_000DL, EmbeddedIPv4.extract(IPv6Address.valueOf(NAT64_HIGH, NAT64_LOW), flags));
+        assertEquals(0L, EmbeddedIPv4.extract(IPv6Address.valueOf(NAT64_HIGH, 0L), flags));
+        assertEquals(0xFFFF_FFFFL, EmbeddedIPv4.extract(IPv6Address.valueOf(IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW | 0xFFFF_FFFFL), flags));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(IPv6Address.valueOf(0L, 0xC0A8_000DL), flags));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(IPv6Address.valueOf(IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW | 1L << 48), flags));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, EmbeddedIPv4.extract(IPv6Address.valueOf(NAT64_HIGH, NAT64_LOW | 1L << 32), flags));
+    }
+
+    @Test
+    @SuppressWarnings("nls")
+    void testExtractFromCharSequence() {
+        int flags = EmbeddedIPv4.IPV4_MAPPED | EmbeddedIPv4.NAT64;
+
+        assertEquals(0xC0A8_000DL, extract("::ffff:192.168.0.13", flags));
+        assertEquals(0xC0A8_000DL, extract("::ffff:c0a8:d", flags));
+        assertEquals(0xC0A8_000DL, extract("[0:0:0:0:0:ffff:c0a8:000d]", flags));
+        assertEquals(0xC0A8_000DL, extract("64:ff9b::192.168.0.13", flags));
+        assertEquals(0xC0A8_000DL, extract("x[64:ff9b::c0a8:d]x", 1, 18, flags));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, extract("::ffff:192.168.0.13", EmbeddedIPv4.NAT64));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, extract("::ffff:192.168.0.13", EmbeddedIPv4.NONE));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, extract("::192.168.0.13", flags));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, extract("::ffff:192.168.0.256", flags));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, extract("[::ffff:192.168.0.13", flags));
+        assertEquals(EmbeddedIPv4.NOT_EMBEDDED, extract("192.168.0.13", flags));
+    }
+
+    private static long extract(String value, int flags) {
+        return extract(value, 0, value.length(), flags);
+    }
+
+    private static long extract(String value, int start, int end, int flags) {
+        return EmbeddedIPv4.extract(value, start, end, flags);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * HostSetTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class HostSetTest {
+
+    private static final int COUNT = 10_000;
+
+    @Test
+    void testCapacity() {
+        assertEquals(2, IPv4HostSet.capacity(0));
+        assertEquals(2, IPv4HostSet.capacity(1));
+        assertEquals(4, IPv4HostSet.capacity(2));
+        assertEquals(8, IPv4HostSet.capacity(3));
+        assertEquals(8, IPv4HostSet.capacity(4));
+        assertEquals(16, IPv4HostSet.capacity(5));
+    }
+
+    @Nested
+    class IPv4 {
+
+        @Test
+        void testIndexOf() {
+            int[] addresses = new int[COUNT];
+            int[] indexes = new int[COUNT];
+            for (int i = 0; i < COUNT; i++) {
+                // consecutive /24 networks, to get addresses that only differ in a few bits
+                addresses[i] = 0xC0A8_0001 + (i << 8);
+                indexes[i] = 2 * i;
+            }
+            // a duplicate, which should be ignored
+            addresses[COUNT - 1] = addresses[0];
+
+            IPv4HostSet hosts = IPv4HostSet.of(addresses, indexes, COUNT);
+
+            assertEquals(0, hosts.indexOf(addresses[0]));
+            for (int i = 1; i < COUNT - 1; i++) {
+                assertEquals(2 * i, hosts.indexOf(addresses[i]));
+                assertEquals(-1, hosts.indexOf(addresses[i] + 1));
+            }
+            assertEquals(-1, hosts.indexOf(0));
+            assertEquals(-1, hosts.indexOf(-1));
+        }
+    }
+
+    @Nested
+    class IPv6 {
+
+        @Test
+        void testIndexOf() {
+            testIndexOf(false);
+        }
+
+        @Test
+        void testIndexOfOffHeap() {
+            testIndexOf(true);
+        }
+
+        private void testIndexOf(boolean offHeap) {
+            long[] highAddresses = new long[COUNT];
+            long[] lowAddresses = new long[COUNT];
+            int[] indexes = new int[COUNT];
+            for (int i = 0; i < COUNT; i++) {
+                // alternate between addresses that only differ in the high or the low bits
+                highAddresses[i] = 0x2001_0DB8_0000_0000L + (i % 2 == 0 ? i : 0);
+                lowAddresses[i] = i % 2 == 0 ? 0L : i;
+                indexes[i] = 2 * i;
+            }
+            // a duplicate, which should be ignored
+            highAddresses[COUNT - 1] = highAddresses[0];
+            lowAddresses[COUNT - 1] = lowAddresses[0];
+
+            IPv6HostSet hosts = IPv6HostSet.of(highAddresses, lowAddresses, indexes, COUNT, offHeap);
+
+            assertEquals(offHeap, hosts.isOffHeap());
+            assertEquals(0, hosts.indexOf(highAddresses[0], lowAddresses[0]));
+            for (int i = 1; i < COUNT - 1; i++) {
+                assertEquals(2 * i, hosts.indexOf(highAddresses[i], lowAddresses[i]));
+                assertEquals(-1, hosts.indexOf(highAddresses[i], lowAddresses[i] + COUNT));
+            }
+            assertEquals(-1, hosts.indexOf(0L, 0L));
+            assertEquals(-1, hosts.indexOf(-1L, -1L));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * IPConstraintMappingContributorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.lang.annotation.Annotation;
+import java.util.Set;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.validation.IPAddress;
+import com.github.robtimus.net.ip.validation.IPAddressList;
+import com.github.robtimus.net.ip.validation.IPRange;
+import com.github.robtimus.net.ip.validation.IPSocketAddress;
+import com.github.robtimus.net.ip.validation.IPSubnet;
+import com.github.robtimus.net.ip.validation.IPv4Address;
+import com.github.robtimus.net.ip.validation.IPv6Address;
+
+@SuppressWarnings("nls")
+class IPConstraintMappingContributorTest {
+
+    @Test
+    void testRegister() {
+        HibernateValidatorConfiguration configuration = Validation.byProvider(HibernateValidator.class).configure();
+        IPConstraintMappingContributor.register(configuration);
+
+        assertValidation(configuration);
+    }
+
+    @Test
+    void testConfigurationProperty() {
+        HibernateValidatorConfiguration configuration = Validation.byProvider(HibernateValidator.class).configure()
+                .addProperty(HibernateValidatorConfiguration.CONSTRAINT_MAPPING_CONTRIBUTORS, IPConstraintMappingContributor.class.getName());
+
+        assertValidation(configuration);
+    }
+
+    private static void assertValidation(HibernateValidatorConfiguration configuration) {
+        IPConstraintValidatorFactory constraintValidatorFactory = new IPConstraintValidatorFactory(
+                configuration.getDefaultConstraintValidatorFactory());
+        try (ValidatorFactory validatorFactory = configuration.constraintValidatorFactory(constraintValidatorFactory).buildValidatorFactory()) {
+            Validator validator = validatorFactory.getValidator();
+
+            assertEquals(Set.of(), violatedConstraints(validator.validate(TestClass.valid())));
+            assertEquals(Set.of(IPAddress.class, IPv4Address.class, IPv6Address.class, IPSubnet.class, IPRange.class, IPSocketAddress.class,
+                    IPAddressList.class), violatedConstraints(validator.validate(TestClass.invalid())));
+
+            // the validators were created by the constraint validator factory
+            assertEquals(9, constraintValidatorFactory.getMemoryFootprints().size());
+        }
+    }
+
+    private static Set<Class<? extends Annotation>> violatedConstraints(Set<ConstraintViolation<TestClass>> violations) {
+        return violations.stream()
+                .map(v -> v.getConstraintDescriptor().getAnnotation().annotationType())
+                .collect(toSet());
+    }
+
+    @SuppressWarnings("unused")
+    private static final class TestClass {
+
+        @IPAddress(ipRanges = "10.0.0.0/8")
+        private final String ipAddress;
+
+        @IPv4Address(ipRanges = "10.0.0.0/8")
+        private final String ipv4Address;
+
+        @IPv6Address(ipRanges = "2001:db8::/32")
+        private final String ipv6Address;
+
+        @IPv4Address(ipRanges = "192.168.0.0/16")
+        private final com.github.robtimus.net.ip.IPAddress<?> ipv4AddressObject;
+
+        @IPv6Address(ipRanges = "fc00::/7")
+        private final com.github.robtimus.net.ip.IPAddress<?> ipv6AddressObject;
+
+        @IPSubnet(ipRanges = "10.0.0.0/8")
+        private final String subnet;
+
+        @IPRange(ipRanges = "10.0.0.0/8")
+        private final String ipRange;
+
+        @IPSocketAddress(ipRanges = "10.0.0.0/8")
+        private final String socketAddress;
+
+        @IPAddressList(ipRanges = "10.0.0.0/8")
+        private final String ipAddressList;
+
+        private TestClass(String prefix, String ipv6Prefix) {
+            this.ipAddress = prefix + "1";
+            this.ipv4Address = prefix + "2";
+            this.ipv6Address = ipv6Prefix + "1";
+            this.ipv4AddressObject = com.github.robtimus.net.ip.IPv4Address.valueOf("192.168.0.1");
+            this.ipv6AddressObject = com.github.robtimus.net.ip.IPv6Address.valueOf("fc00::1");
+            this.subnet = prefix + "0/24";
+            this.ipRange = "[" + prefix + "1..." + prefix + "9]";
+            this.socketAddress = prefix + "1:80";
+            this.ipAddressList = prefix + "1," + prefix + "2";
+        }
+
+        private static TestClass valid() {
+            return new TestClass("10.0.0.", "2001:db8::");
+        }
+
+        private static TestClass invalid() {
+            return new TestClass("192.168.1.", "2001:db9::");
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * IPConstraintValidatorFactoryTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintValidatorFactory;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.validation.IPv4Address;
+import com.github.robtimus.net.ip.validation.IPv6Address;
+
+@SuppressWarnings("nls")
+class IPConstraintValidatorFactoryTest {
+
+    @Test
+    void testNullDelegate() {
+        assertThrows(NullPointerException.class, () -> new IPConstraintValidatorFactory(null));
+    }
+
+    @Test
+    void testGetInstance() {
+        RecordingFactory delegate = new RecordingFactory();
+        IPConstraintValidatorFactory factory = new IPConstraintValidatorFactory(delegate);
+
+        assertEquals(CharSequenceIPAddressValidator.class, factory.getInstance(CharSequenceIPAddressValidator.class).getClass());
+        assertEquals(CharSequenceIPv4AddressValidator.class, factory.getInstance(CharSequenceIPv4AddressValidator.class).getClass());
+        assertEquals(CharSequenceIPv6AddressValidator.class, factory.getInstance(CharSequenceIPv6AddressValidator.class).getClass());
+        assertEquals(IPAddressIPAddressValidator.class, factory.getInstance(IPAddressIPAddressValidator.class).getClass());
+        assertEquals(IPAddressIPv4AddressValidator.class, factory.getInstance(IPAddressIPv4AddressValidator.class).getClass());
+        assertEquals(IPAddressIPv6AddressValidator.class, factory.getInstance(IPAddressIPv6AddressValidator.class).getClass());
+        assertEquals(CharSequenceIPSubnetValidator.class, factory.getInstance(CharSequenceIPSubnetValidator.class).getClass());
+        assertEquals(SubnetIPSubnetValidator.class, factory.getInstance(SubnetIPSubnetValidator.class).getClass());
+        assertEquals(CharSequenceIPRangeValidator.class, factory.getInstance(CharSequenceIPRangeValidator.class).getClass());
+        assertEquals(IPRangeIPRangeValidator.class, factory.getInstance(IPRangeIPRangeValidator.class).getClass());
+        assertEquals(CharSequenceIPSocketAddressValidator.class, factory.getInstance(CharSequenceIPSocketAddressValidator.class).getClass());
+        assertEquals(CharSequenceIPAddressListValidator.class, factory.getInstance(CharSequenceIPAddressListValidator.class).getClass());
+        assertEquals(List.of(), delegate.created);
+
+        OtherValidator other = factory.getInstance(OtherValidator.class);
+        assertEquals(List.of(other), delegate.created);
+    }
+
+    @Test
+    void testReleaseInstance() {
+        RecordingFactory delegate = new RecordingFactory();
+        IPConstraintValidatorFactory factory = new IPConstraintValidatorFactory(delegate);
+
+        factory.releaseInstance(factory.getInstance(CharSequenceIPv4AddressValidator.class));
+        assertEquals(List.of(), delegate.released);
+
+        OtherValidator other = factory.getInstance(OtherValidator.class);
+        factory.releaseInstance(other);
+        assertEquals(List.of(other), delegate.released);
+    }
+
+    @Test
+    void testSharedCompiledConstraints() throws ReflectiveOperationException {
+        IPConstraintValidatorFactory factory = new IPConstraintValidatorFactory(new RecordingFactory());
+
+        IPv4Address subnet1 = annotation("subnet1", IPv4Address.class);
+        IPv4Address subnet2 = annotation("subnet2", IPv4Address.class);
+        IPv4Address other = annotation("other", IPv4Address.class);
+        IPv6Address ipv6 = annotation("ipv6", IPv6Address.class);
+
+        CharSequenceIPv4AddressValidator validator1 = factory.getInstance(CharSequenceIPv4AddressValidator.class);
+        validator1.initialize(subnet1);
+        IPAddressIPv4AddressValidator validator2 = factory.getInstance(IPAddressIPv4AddressValidator.class);
+        validator2.initialize(subnet2);
+
+        assertEquals(1, factory.cache().size());
+        assertSame(factory.cache().get(subnet1, a -> null), factory.cache().get(subnet2, a -> null));
+
+        factory.getInstance(CharSequenceIPv4AddressValidator.class).initialize(other);
+        factory.getInstance(CharSequenceIPv6AddressValidator.class).initialize(ipv6);
+
+        assertEquals(3, factory.cache().size());
+
+        assertTrue(validator1.isValid("192.168.0.1", null));
+        assertTrue(validator2.isValid(com.github.robtimus.net.ip.IPv4Address.valueOf("192.168.0.1"), null));
+    }
+
+    @Test
+    void testGetMemoryFootprints() throws ReflectiveOperationException {
+        IPConstraintValidatorFactory factory = new IPConstraintValidatorFactory(new RecordingFactory());
+
+        IPv4Address subnet1 = annotation("subnet1", IPv4Address.class);
+        IPv6Address ipv6 = annotation("ipv6", IPv6Address.class);
+
+        assertEquals(Map.of(), factory.getMemoryFootprints());
+
+        factory.getInstance(CharSequenceIPv4AddressValidator.class).initialize(subnet1);
+        factory.getInstance(CharSequenceIPv6AddressValidator.class).initialize(ipv6);
+
+        Map<Annotation, MemoryFootprint> footprints = factory.getMemoryFootprints();
+        assertEquals(Set.of(subnet1, ipv6), footprints.keySet());
+        assertEquals(1, footprints.get(subnet1).rangeCount(MemoryFootprint.Structure.SEGMENTS));
+        assertEquals(1, footprints.get(ipv6).rangeCount(MemoryFootprint.Structure.SEGMENTS));
+        assertTrue(footprints.get(ipv6).heapBytes() > 0);
+    }
+
+    @Test
+    void testBoundedCache() throws ReflectiveOperationException {
+        CompiledConstraintCache cache = new CompiledConstraintCache(false, 2);
+
+        IPv4Address subnet1 = annotation("subnet1", IPv4Address.class);
+        IPv4Address other = annotation("other", IPv4Address.class);
+        IPv6Address ipv6 = annotation("ipv6", IPv6Address.class);
+
+        CompiledConstraintHolder holder = cache.get(subnet1, IPv4AddressValidator::compile);
+        assertSame(holder, cache.get(subnet1, IPv4AddressValidator::compile));
+        cache.get(other, IPv4AddressValidator::compile);
+        assertEquals(2, cache.size());
+
+        cache.get(ipv6, IPv6AddressValidator::compile);
+        assertEquals(2, cache.size());
+
+        // existing holders remain usable
+        assertTrue(holder.get().allowsIPv4Address(com.github.robtimus.net.ip.IPv4Address.valueOf("192.168.0.1").toInt(), null));
+    }
+
+    @Test
+    void testNoSharingWithoutFactory() throws ReflectiveOperationException {
+        IPv4Address subnet = annotation("subnet1", IPv4Address.class);
+
+        assertEquals(0, CompiledConstraintCache.NONE.size());
+        CompiledConstraintHolder constraint1 = CompiledConstraintCache.NONE.get(subnet, IPv4AddressValidator::compile);
+        CompiledConstraintHolder constraint2 = CompiledConstraintCache.NONE.get(subnet, IPv4AddressValidator::compile);
+        assertFalse(constraint1 == constraint2);
+        assertEquals(0, CompiledConstraintCache.NONE.size());
+    }
+
+    @Test
+    void testWarmUpCache() throws ReflectiveOperationException {
+        CompiledConstraintCache cache = new CompiledConstraintCache(false);
+
+        IPv4Address subnet = annotation("subnet1", IPv4Address.class);
+        IPv6Address ipv6 = annotation("ipv6", IPv6Address.class);
+
+        CompiledConstraintHolder holder = cache.get(subnet, IPv4AddressValidator::compile);
+
+        CompiledConstraintCache warmUpCache = cache.forWarmUp();
+        CompiledConstraintHolder warmUpHolder = warmUpCache.get(subnet, IPv4AddressValidator::compile);
+
+        // the compiled constraint is shared, but the holder is not
+        assertNotSame(holder, warmUpHolder);
+        assertSame(holder.get(), warmUpHolder.get());
+        assertNull(warmUpHolder.statistics());
+
+        // constraint annotations that are not cached are compiled separately, and not added to the cache
+        assertNotNull(warmUpCache.get(ipv6, IPv6AddressValidator::compile).get());
+        assertEquals(1, cache.size());
+        assertEquals(0, warmUpCache.size());
+    }
+
+    private static <A extends Annotation> A annotation(String fieldName, Class<A> annotationType) throws ReflectiveOperationException {
+        return TestClass.class.getDeclaredField(fieldName).getAnnotation(annotationType);
+    }
+
+    private static final class RecordingFactory implements ConstraintValidatorFactory {
+
+        private final List<ConstraintValidator<?, ?>> created = new ArrayList<>();
+        private final List<ConstraintValidator<?, ?>> released = new ArrayList<>();
+
+        @Override
+        public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+            try {
+                T instance = key.getDeclaredConstructor().newInstance();
+                created.add(instance);
+                return instance;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void releaseInstance(ConstraintValidator<?, ?> instance) {
+            released.add(instance);
+        }
+    }
+
+    static final class OtherValidator implements ConstraintValidator<IPv4Address, Object> {
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            return true;
+        }
+    }
+
+    private static final class TestClass {
+
+        @IPv4Address(ipRanges = "192.168.0.0/24")
+        private CharSequence subnet1;
+
+        @IPv4Address(ipRanges = "192.168.0.0/24")
+        private com.github.robtimus.net.ip.IPAddress<?> subnet2;
+
+        @IPv4Address(ipRanges = "192.168.0.0/24", message = "custom")
+        private CharSequence other;
+
+        @IPv6Address(ipRanges = "1234::/16")
+        private CharSequence ipv6;
+    }
+}
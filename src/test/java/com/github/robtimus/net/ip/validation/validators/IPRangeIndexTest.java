@@ -0,0 +1,562 @@
+/*
+ * IPRangeIndexTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv4Subnet;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import com.github.robtimus.net.ip.IPv6Subnet;
+
+@SuppressWarnings("nls")
+class IPRangeIndexTest {
+
+    @Nested
+    class IPv4 {
+
+        @Test
+        void testEmpty() {
+            IPv4RangeIndex index = IPv4RangeIndex.of(Collections.emptyList());
+
+            assertSame(IPv4RangeIndex.EMPTY, index);
+            assertTrue(index.isEmpty());
+            assertFalse(index.contains(IPv4Address.valueOf("192.168.0.1")));
+        }
+
+        @Test
+        void testIndexOf() {
+            IPv4RangeIndex index = IPv4RangeIndex.of(ipRanges(), Integer.MAX_VALUE);
+
+            assertFalse(index.hasPrefilter());
+            assertIndexOf(index);
+        }
+
+        @Test
+        void testIndexOfWithPrefilter() {
+            List<IPv4Range> ipRanges = ipRanges();
+            IPv4RangeIndex index = IPv4RangeIndex.of(ipRanges, ipRanges.size());
+
+            assertTrue(index.hasPrefilter());
+            assertIndexOf(index);
+        }
+
+        @Test
+        void testIndexOfWithHosts() {
+            List<IPv4Range> ipRanges = Arrays.asList(
+                    IPv4Subnet.valueOf("192.168.0.0/16"),
+                    host("192.168.10.10"),
+                    IPv4Subnet.valueOf("10.0.0.1/32"),
+                    IPv4Address.valueOf("192.168.10.10").to(IPv4Address.valueOf("192.168.10.11")),
+                    host("192.168.10.10"),
+                    host("255.255.255.255"));
+
+            IPv4RangeIndex index = IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE);
+
+            assertEquals(6, index.size());
+            assertEquals(-1, indexOf(index, "10.0.0.0"));
+            assertEquals(2, indexOf(index, "10.0.0.1"));
+            assertEquals(-1, indexOf(index, "10.0.0.2"));
+            assertEquals(0, indexOf(index, "192.168.10.9"));
+            assertEquals(1, indexOf(index, "192.168.10.10"));
+            assertEquals(3, indexOf(index, "192.168.10.11"));
+            assertEquals(0, indexOf(index, "192.168.10.12"));
+            assertEquals(-1, indexOf(index, "255.255.255.254"));
+            assertEquals(5, indexOf(index, "255.255.255.255"));
+        }
+
+        @Test
+        void testIndexOfWithLookupTable() {
+            IPv4RangeIndex index = IPv4RangeIndex.of(ipRanges(), 0, 0);
+
+            assertTrue(index.hasLookupTable());
+            assertFalse(index.hasPrefilter());
+            assertIndexOf(index);
+        }
+
+        @Test
+        void testIndexOfWithHostsAndLookupTable() {
+            List<IPv4Range> ipRanges = Arrays.asList(
+                    IPv4Subnet.valueOf("192.168.0.0/16"),
+                    host("192.168.10.10"),
+                    IPv4Subnet.valueOf("10.0.0.1/32"),
+                    IPv4Address.valueOf("192.168.10.10").to(IPv4Address.valueOf("192.168.10.11")),
+                    host("192.168.10.10"),
+                    host("255.255.255.255"));
+
+            IPv4RangeIndex index = IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE, 0);
+
+            assertTrue(index.hasLookupTable());
+            assertEquals(-1, indexOf(index, "10.0.0.0"));
+            assertEquals(2, indexOf(index, "10.0.0.1"));
+            assertEquals(-1, indexOf(index, "10.0.0.2"));
+            assertEquals(0, indexOf(index, "192.168.10.9"));
+            assertEquals(1, indexOf(index, "192.168.10.10"));
+            assertEquals(3, indexOf(index, "192.168.10.11"));
+            assertEquals(0, indexOf(index, "192.168.10.12"));
+            assertEquals(-1, indexOf(index, "255.255.255.254"));
+            assertEquals(5, indexOf(index, "255.255.255.255"));
+        }
+
+        @Test
+        void testIndexOfWithLookupTableMatchesSegments() {
+            Random random = new Random(0);
+            List<IPv4Range> ipRanges = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                // ranges of up to 65536 addresses, with most boundaries not aligned to multiples of 256
+                long from = random.nextInt() & 0xFFFF_FFFFL;
+                long to = Math.min(0xFFFF_FFFFL, from + random.nextInt(i % 4 == 0 ? 1 : 65_536));
+                ipRanges.add(IPv4Address.valueOf((int) from).to(IPv4Address.valueOf((int) to)));
+            }
+
+            IPv4RangeIndex segments = IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            IPv4RangeIndex table = IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE, 0);
+
+            assertFalse(segments.hasLookupTable());
+            assertTrue(table.hasLookupTable());
+            for (IPv4Range ipRange : ipRanges) {
+                int from = ipRange.from().toInt();
+                int to = ipRange.to().toInt();
+                for (int address : new int[] { from - 1, from, from + 1, to - 1, to, to + 1, random.nextInt() }) {
+                    assertEquals(segments.indexOf(address), table.indexOf(address));
+                }
+            }
+        }
+
+        @Test
+        void testRangeOf() {
+            List<IPv4Range> ipRanges = ipRanges();
+            IPv4RangeIndex index = IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE, 0);
+
+            assertSame(ipRanges.get(2), index.rangeOf(IPv4Address.valueOf("192.168.10.10").toInt()));
+            assertSame(ipRanges.get(0), index.rangeOf(IPv4Address.valueOf("192.168.0.1").toInt()));
+            assertNull(index.rangeOf(IPv4Address.valueOf("10.0.0.1").toInt()));
+        }
+
+        @Test
+        void testContainsAllAndOverlaps() {
+            List<IPv4Range> ipRanges = Arrays.asList(
+                    IPv4Subnet.valueOf("10.0.0.0/24"),
+                    IPv4Subnet.valueOf("10.0.1.0/24"),
+                    host("10.0.2.0"),
+                    IPv4Address.valueOf("10.0.0.128").to(IPv4Address.valueOf("10.0.0.200")),
+                    IPv4Subnet.valueOf("192.168.0.0/16"),
+                    IPv4Subnet.valueOf("255.255.255.0/24"));
+
+            IPv4RangeIndex index = IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE);
+
+            // 10.0.0.0 - 10.0.2.0 is one interval, as the first three IPv4 ranges are adjacent
+            assertTrue(containsAll(index, "10.0.0.0", "10.0.2.0"));
+            assertTrue(containsAll(index, "10.0.0.255", "10.0.1.0"));
+            assertFalse(containsAll(index, "10.0.0.0", "10.0.2.1"));
+            assertFalse(containsAll(index, "9.255.255.255", "10.0.0.0"));
+            assertTrue(containsAll(index, "192.168.10.0", "192.168.10.255"));
+            assertFalse(containsAll(index, "192.168.0.0", "192.169.0.0"));
+            assertTrue(containsAll(index, "255.255.255.255", "255.255.255.255"));
+            assertFalse(containsAll(index, "0.0.0.0", "255.255.255.255"));
+
+            assertTrue(overlaps(index, "9.0.0.0", "10.0.0.0"));
+            assertTrue(overlaps(index, "10.0.2.0", "10.0.3.0"));
+            assertFalse(overlaps(index, "10.0.2.1", "10.0.3.0"));
+            assertFalse(overlaps(index, "0.0.0.0", "9.255.255.255"));
+            assertTrue(overlaps(index, "11.0.0.0", "192.168.0.0"));
+            assertFalse(overlaps(index, "192.169.0.0", "255.255.254.255"));
+            assertTrue(overlaps(index, "0.0.0.0", "255.255.255.255"));
+
+            assertFalse(containsAll(IPv4RangeIndex.EMPTY, "10.0.0.0", "10.0.0.0"));
+            assertFalse(overlaps(IPv4RangeIndex.EMPTY, "0.0.0.0", "255.255.255.255"));
+        }
+
+        private List<IPv4Range> ipRanges() {
+            return Arrays.asList(
+                    IPv4Subnet.valueOf("192.168.0.0/16"),
+                    IPv4Subnet.valueOf("192.168.10.0/24"),
+                    IPv4Address.valueOf("192.168.10.10").to(IPv4Address.valueOf("192.168.10.13")),
+                    IPv4Address.valueOf("192.168.10.12").to(IPv4Address.valueOf("192.168.11.12")),
+                    IPv4Subnet.valueOf("255.255.255.0/24"));
+        }
+
+        private IPv4Range host(String address) {
+            IPv4Address ipAddress = IPv4Address.valueOf(address);
+            return ipAddress.to(ipAddress);
+        }
+
+        private void assertIndexOf(IPv4RangeIndex index) {
+            assertEquals(5, index.size());
+            assertEquals(-1, indexOf(index, "0.0.0.0"));
+            assertEquals(-1, indexOf(index, "192.167.255.255"));
+            assertEquals(0, indexOf(index, "192.168.0.0"));
+            assertEquals(0, indexOf(index, "192.168.9.255"));
+            assertEquals(1, indexOf(index, "192.168.10.0"));
+            assertEquals(1, indexOf(index, "192.168.10.9"));
+            assertEquals(2, indexOf(index, "192.168.10.10"));
+            assertEquals(2, indexOf(index, "192.168.10.13"));
+            assertEquals(1, indexOf(index, "192.168.10.14"));
+            assertEquals(3, indexOf(index, "192.168.11.0"));
+            assertEquals(3, indexOf(index, "192.168.11.12"));
+            assertEquals(0, indexOf(index, "192.168.11.13"));
+            assertEquals(0, indexOf(index, "192.168.255.255"));
+            assertEquals(-1, indexOf(index, "192.169.0.0"));
+            assertEquals(-1, indexOf(index, "255.255.254.255"));
+            assertEquals(4, indexOf(index, "255.255.255.0"));
+            assertEquals(4, indexOf(index, "255.255.255.255"));
+        }
+
+        private int indexOf(IPv4RangeIndex index, String address) {
+            return index.indexOf(IPv4Address.valueOf(address).toInt());
+        }
+
+        private boolean containsAll(IPv4RangeIndex index, String from, String to) {
+            return index.containsAll(IPv4Address.valueOf(from).toInt(), IPv4Address.valueOf(to).toInt());
+        }
+
+        private boolean overlaps(IPv4RangeIndex index, String from, String to) {
+            return index.overlaps(IPv4Address.valueOf(from).toInt(), IPv4Address.valueOf(to).toInt());
+        }
+    }
+
+    @Nested
+    class IPv6 {
+
+        @Test
+        void testEmpty() {
+            IPv6RangeIndex index = IPv6RangeIndex.of(Collections.emptyList());
+
+            assertSame(IPv6RangeIndex.EMPTY, index);
+            assertTrue(index.isEmpty());
+            assertFalse(index.contains(IPv6Address.valueOf("::1")));
+        }
+
+        @Test
+        void testIndexOf() {
+            IPv6RangeIndex index = IPv6RangeIndex.of(ipRanges(), Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+            assertFalse(index.isOffHeap());
+            assertFalse(index.hasPrefilter());
+            assertIndexOf(index);
+        }
+
+        @Test
+        void testIndexOfWithPrefilter() {
+            List<IPv6Range> ipRanges = ipRanges();
+            IPv6RangeIndex index = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, ipRanges.size());
+
+            assertFalse(index.isOffHeap());
+            assertTrue(index.hasPrefilter());
+            assertIndexOf(index);
+        }
+
+        @Test
+        void testIndexOfOffHeap() {
+            List<IPv6Range> ipRanges = ipRanges();
+            IPv6RangeIndex index = IPv6RangeIndex.of(ipRanges, ipRanges.size(), Integer.MAX_VALUE);
+
+            assertTrue(index.isOffHeap());
+            assertIndexOf(index);
+
+            for (int i = 0; i < ipRanges.size(); i++) {
+                assertEquals(ipRanges.get(i).from(), index.get(i).from());
+                assertEquals(ipRanges.get(i).to(), index.get(i).to());
+            }
+        }
+
+        @Test
+        void testIndexOfWithTrie() {
+            IPv6RangeIndex index = IPv6RangeIndex.of(ipRanges(), Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+
+            assertTrue(index.hasTrie());
+            assertIndexOf(index);
+        }
+
+        @Test
+        void testIndexOfOffHeapWithoutTrie() {
+            List<IPv6Range> ipRanges = ipRanges();
+            IPv6RangeIndex index = IPv6RangeIndex.of(ipRanges, ipRanges.size(), Integer.MAX_VALUE, 0);
+
+            assertTrue(index.isOffHeap());
+            assertFalse(index.hasTrie());
+            assertIndexOf(index);
+        }
+
+        @Test
+        void testRangeOf() {
+            List<IPv6Range> ipRanges = ipRanges();
+            IPv6RangeIndex index = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            IPv6RangeIndex trie = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+            IPv6RangeIndex offHeap = IPv6RangeIndex.of(ipRanges, ipRanges.size(), Integer.MAX_VALUE);
+
+            assertSame(ipRanges.get(2), rangeOf(index, "1234:abcd::10"));
+            assertSame(ipRanges.get(0), rangeOf(index, "1234::1"));
+            assertNull(rangeOf(index, "::1"));
+
+            assertSame(ipRanges.get(2), rangeOf(trie, "1234:abcd::10"));
+            assertSame(ipRanges.get(0), rangeOf(trie, "1234::1"));
+            assertNull(rangeOf(trie, "::1"));
+
+            assertEquals(ipRanges.get(2), rangeOf(offHeap, "1234:abcd::10"));
+            assertEquals(ipRanges.get(0), rangeOf(offHeap, "1234::1"));
+            assertNull(rangeOf(offHeap, "::1"));
+        }
+
+        @Test
+        void testIndexOfWithTrieMatchesSegments() {
+            Random random = new Random(0);
+            List<IPv6Range> ipRanges = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                long high = random.nextLong();
+                long low = random.nextLong();
+                if (i % 8 == 0) {
+                    // an arbitrary range of up to 2^20 addresses
+                    long to = low + random.nextInt(1 << 20);
+                    if (Long.compareUnsigned(to, low) >= 0) {
+                        ipRanges.add(IPv6Address.valueOf(high, low).to(IPv6Address.valueOf(high, to)));
+                    }
+                } else {
+                    // a subnet with a prefix length between 16 and 64, or 128
+                    int prefixLength = i % 8 == 1 ? 128 : 16 + random.nextInt(49);
+                    long mask = prefixLength >= 64 ? -1L : -1L << (64 - prefixLength);
+                    ipRanges.add(IPv6Subnet.valueOf(IPv6Address.valueOf(high & mask, prefixLength == 128 ? low : 0L), prefixLength));
+                }
+            }
+
+            IPv6RangeIndex segments = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            IPv6RangeIndex trie = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+
+            assertFalse(segments.hasTrie());
+            assertTrue(trie.hasTrie());
+            for (IPv6Range ipRange : ipRanges) {
+                long fromHigh = IPv6RangeIndex.high(ipRange.from());
+                long fromLow = IPv6RangeIndex.low(ipRange.from());
+                long toHigh = IPv6RangeIndex.high(ipRange.to());
+                long toLow = IPv6RangeIndex.low(ipRange.to());
+                long[][] addresses = {
+                        { fromLow == 0 ? fromHigh - 1 : fromHigh, fromLow - 1 },
+                        { fromHigh, fromLow },
+                        { toHigh, toLow },
+                        { toLow == -1L ? toHigh + 1 : toHigh, toLow + 1 },
+                        { fromHigh, random.nextLong() },
+                        { random.nextLong(), random.nextLong() },
+                };
+                for (long[] address : addresses) {
+                    assertEquals(segments.indexOf(address[0], address[1]), trie.indexOf(address[0], address[1]));
+                }
+            }
+        }
+
+        @Test
+        void testIndexOfWithHosts() {
+            List<IPv6Range> ipRanges = Arrays.asList(
+                    IPv6Subnet.valueOf("1234::/16"),
+                    host("1234::10"),
+                    IPv6Subnet.valueOf("::1/128"),
+                    IPv6Address.valueOf("1234::10").to(IPv6Address.valueOf("1234::11")),
+                    host("1234::10"),
+                    host("ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+
+            IPv6RangeIndex onHeap = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            IPv6RangeIndex offHeap = IPv6RangeIndex.of(ipRanges, ipRanges.size(), Integer.MAX_VALUE);
+            IPv6RangeIndex withTrie = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+
+            assertTrue(withTrie.hasTrie());
+            for (IPv6RangeIndex index : Arrays.asList(onHeap, offHeap, withTrie)) {
+                assertEquals(6, index.size());
+                assertEquals(-1, indexOf(index, "::"));
+                assertEquals(2, indexOf(index, "::1"));
+                assertEquals(-1, indexOf(index, "::2"));
+                assertEquals(0, indexOf(index, "1234::f"));
+                assertEquals(1, indexOf(index, "1234::10"));
+                assertEquals(3, indexOf(index, "1234::11"));
+                assertEquals(0, indexOf(index, "1234::12"));
+                assertEquals(-1, indexOf(index, "ffff:ffff:ffff:ffff:ffff:ffff:ffff:fffe"));
+                assertEquals(5, indexOf(index, "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+            }
+        }
+
+        @Test
+        void testContainsAllAndOverlaps() {
+            List<IPv6Range> ipRanges = Arrays.asList(
+                    IPv6Address.valueOf("1234::").to(IPv6Address.valueOf("1234::ffff:ffff:ffff:ffff")),
+                    IPv6Subnet.valueOf("1234:0:0:1::/64"),
+                    host("1234:0:0:2::"),
+                    IPv6Subnet.valueOf("abcd::/16"),
+                    IPv6Subnet.valueOf("ffff::/16"));
+
+            IPv6RangeIndex onHeap = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            IPv6RangeIndex offHeap = IPv6RangeIndex.of(ipRanges, ipRanges.size(), Integer.MAX_VALUE);
+
+            for (IPv6RangeIndex index : Arrays.asList(onHeap, offHeap)) {
+                // 1234:: - 1234:0:0:2:: is one interval, as the first three IPv6 ranges are adjacent, with a carry into the high bits
+                assertTrue(containsAll(index, "1234::", "1234:0:0:2::"));
+                assertTrue(containsAll(index, "1234::ffff:ffff:ffff:ffff", "1234:0:0:1::"));
+                assertFalse(containsAll(index, "1234::", "1234:0:0:2::1"));
+                assertFalse(containsAll(index, "1233:ffff:ffff:ffff:ffff:ffff:ffff:ffff", "1234::"));
+                assertTrue(containsAll(index, "abcd:1::", "abcd:1::ffff"));
+                assertTrue(containsAll(index, "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff", "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+                assertFalse(containsAll(index, "::", "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+
+                assertTrue(overlaps(index, "1233::", "1234::"));
+                assertTrue(overlaps(index, "1234:0:0:2::", "1234:0:0:3::"));
+                assertFalse(overlaps(index, "1234:0:0:2::1", "1234:0:0:3::"));
+                assertFalse(overlaps(index, "::", "1233:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+                assertTrue(overlaps(index, "2000::", "abcd::"));
+                assertFalse(overlaps(index, "abce::", "fffe:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+                assertTrue(overlaps(index, "::", "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+            }
+
+            assertFalse(containsAll(IPv6RangeIndex.EMPTY, "::", "::"));
+            assertFalse(overlaps(IPv6RangeIndex.EMPTY, "::", "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+        }
+
+        @Test
+        void testUnionWithTrie() {
+            Random random = new Random(0);
+            List<IPv6Range> ipRanges = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                long high = random.nextInt(16);
+                long from = random.nextInt(1_000);
+                long to = i % 4 == 0 ? from : from + random.nextInt(50);
+                ipRanges.add(IPv6Address.valueOf(high, from).to(IPv6Address.valueOf(high, to)));
+            }
+            ipRanges.add(IPv6Address.valueOf(-1L, -2L).to(IPv6Address.MAX_VALUE));
+
+            IPv6RangeIndex segments = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            IPv6RangeIndex trie = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+
+            // the trie index does not keep its segments, so its union is created from the ranges
+            assertTrue(trie.hasTrie());
+
+            for (int i = 0; i < 1_000; i++) {
+                long high = random.nextInt(16);
+                long from = random.nextInt(1_100);
+                long to = from + random.nextInt(100);
+                assertEquals(segments.containsAll(high, from, high, to), trie.containsAll(high, from, high, to));
+                assertEquals(segments.overlaps(high, from, high, to), trie.overlaps(high, from, high, to));
+            }
+            assertTrue(trie.containsAll(-1L, -2L, -1L, -1L));
+            assertFalse(trie.containsAll(-1L, -3L, -1L, -1L));
+            assertTrue(trie.overlaps(-1L, -3L, -1L, -1L));
+        }
+
+        @Test
+        void testUnionOffHeap() {
+            Random random = new Random(0);
+            List<IPv6Range> ipRanges = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                long high = random.nextInt(16);
+                long from = random.nextInt(1_000);
+                long to = i % 4 == 0 ? from : from + random.nextInt(50);
+                ipRanges.add(IPv6Address.valueOf(high, from).to(IPv6Address.valueOf(high, to)));
+            }
+
+            IPv6RangeIndex onHeap = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            IPv6RangeIndex offHeap = IPv6RangeIndex.of(ipRanges, ipRanges.size(), Integer.MAX_VALUE);
+            long heapBytes = offHeap.memoryFootprint().heapBytes();
+            long offHeapBytes = offHeap.memoryFootprint().offHeapBytes();
+
+            for (int i = 0; i < 1_000; i++) {
+                long high = random.nextInt(16);
+                long from = random.nextInt(1_100);
+                long to = from + random.nextInt(100);
+                boolean expectedContainsAll = true;
+                boolean expectedOverlaps = false;
+                for (long low = from; low <= to; low++) {
+                    boolean contained = onHeap.indexOf(high, low) != -1;
+                    expectedContainsAll &= contained;
+                    expectedOverlaps |= contained;
+                }
+                assertEquals(expectedContainsAll, onHeap.containsAll(high, from, high, to));
+                assertEquals(expectedContainsAll, offHeap.containsAll(high, from, high, to));
+                assertEquals(expectedOverlaps, onHeap.overlaps(high, from, high, to));
+                assertEquals(expectedOverlaps, offHeap.overlaps(high, from, high, to));
+            }
+
+            // the union of an off-heap index is stored off-heap as well
+            assertEquals(heapBytes, offHeap.memoryFootprint().heapBytes());
+            assertTrue(offHeap.memoryFootprint().offHeapBytes() > offHeapBytes);
+        }
+
+        private List<IPv6Range> ipRanges() {
+            return Arrays.asList(
+                    IPv6Subnet.valueOf("1234::/16"),
+                    IPv6Subnet.valueOf("1234:abcd::/32"),
+                    IPv6Address.valueOf("1234:abcd::10").to(IPv6Address.valueOf("1234:abcd::13")),
+                    IPv6Address.valueOf("1234:abcd::ffff:ffff:ffff:fffe").to(IPv6Address.valueOf("1234:abcd:0:1::1")),
+                    IPv6Subnet.valueOf("ffff::/16"));
+        }
+
+        private IPv6Range host(String address) {
+            IPv6Address ipAddress = IPv6Address.valueOf(address);
+            return ipAddress.to(ipAddress);
+        }
+
+        private void assertIndexOf(IPv6RangeIndex index) {
+            assertEquals(5, index.size());
+            assertEquals(-1, indexOf(index, "::"));
+            assertEquals(-1, indexOf(index, "1233:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+            assertEquals(0, indexOf(index, "1234::"));
+            assertEquals(1, indexOf(index, "1234:abcd::"));
+            assertEquals(2, indexOf(index, "1234:abcd::10"));
+            assertEquals(2, indexOf(index, "1234:abcd::13"));
+            assertEquals(1, indexOf(index, "1234:abcd::14"));
+            assertEquals(3, indexOf(index, "1234:abcd::ffff:ffff:ffff:ffff"));
+            assertEquals(3, indexOf(index, "1234:abcd:0:1::"));
+            assertEquals(3, indexOf(index, "1234:abcd:0:1::1"));
+            assertEquals(1, indexOf(index, "1234:abcd:0:1::2"));
+            assertEquals(0, indexOf(index, "1234:abce::"));
+            assertEquals(-1, indexOf(index, "1235::"));
+            assertEquals(4, indexOf(index, "ffff::"));
+            assertEquals(4, indexOf(index, "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+        }
+
+        private int indexOf(IPv6RangeIndex index, String address) {
+            IPv6Address ipAddress = IPv6Address.valueOf(address);
+            return index.indexOf(IPv6RangeIndex.high(ipAddress), IPv6RangeIndex.low(ipAddress));
+        }
+
+        private IPv6Range rangeOf(IPv6RangeIndex index, String address) {
+            IPv6Address ipAddress = IPv6Address.valueOf(address);
+            return index.rangeOf(IPv6RangeIndex.high(ipAddress), IPv6RangeIndex.low(ipAddress));
+        }
+
+        private boolean containsAll(IPv6RangeIndex index, String from, String to) {
+            IPv6Address fromAddress = IPv6Address.valueOf(from);
+            IPv6Address toAddress = IPv6Address.valueOf(to);
+            return index.containsAll(IPv6RangeIndex.high(fromAddress), IPv6RangeIndex.low(fromAddress),
+                    IPv6RangeIndex.high(toAddress), IPv6RangeIndex.low(toAddress));
+        }
+
+        private boolean overlaps(IPv6RangeIndex index, String from, String to) {
+            IPv6Address fromAddress = IPv6Address.valueOf(from);
+            IPv6Address toAddress = IPv6Address.valueOf(to);
+            return index.overlaps(IPv6RangeIndex.high(fromAddress), IPv6RangeIndex.low(fromAddress),
+                    IPv6RangeIndex.high(toAddress), IPv6RangeIndex.low(toAddress));
+        }
+    }
+}
@@ -18,10 +18,13 @@
 package com.github.robtimus.net.ip.validation.validators;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import com.github.robtimus.net.ip.IPRange;
 import com.github.robtimus.net.ip.IPv4Address;
@@ -178,4 +181,80 @@ class IPRangeParserTest {
             assertNotEquals(Messages.IPAddress.invalidIPRange(ipRange), exception.getMessage());
         });
     }
+
+    @Test
+    void testParsePrefixLength() {
+        assertEquals(0, IPRangeParser.parsePrefixLength("10.0.0.0/0", 9, 32));
+        assertEquals(24, IPRangeParser.parsePrefixLength("10.0.0.0/24", 9, 32));
+        assertEquals(32, IPRangeParser.parsePrefixLength("10.0.0.0/32", 9, 32));
+        assertEquals(128, IPRangeParser.parsePrefixLength("::/128", 3, 128));
+        assertEquals(-1, IPRangeParser.parsePrefixLength("10.0.0.0/33", 9, 32));
+        assertEquals(-1, IPRangeParser.parsePrefixLength("::/129", 3, 128));
+        assertEquals(-1, IPRangeParser.parsePrefixLength("10.0.0.0/", 9, 32));
+        assertEquals(-1, IPRangeParser.parsePrefixLength("10.0.0.0/0024", 9, 32));
+        assertEquals(-1, IPRangeParser.parsePrefixLength("10.0.0.0/2a", 9, 32));
+        assertEquals(-1, IPRangeParser.parsePrefixLength("10.0.0.0/-1", 9, 32));
+    }
+
+    @Test
+    void testParseIPv4Address() {
+        assertEquals(0xC0A8_0A0DL, IPRangeParser.parseIPv4Address("192.168.10.13", 0, 13));
+        assertEquals(0xC0A8_0A0DL, IPRangeParser.parseIPv4Address("192.168.10.13/32", 0, 13));
+        assertEquals(0L, IPRangeParser.parseIPv4Address("0.0.0.0", 0, 7));
+        assertEquals(0xFFFF_FFFFL, IPRangeParser.parseIPv4Address("255.255.255.255", 0, 15));
+        assertEquals(-1L, IPRangeParser.parseIPv4Address("", 0, 0));
+        assertEquals(-1L, IPRangeParser.parseIPv4Address("192.168.10", 0, 10));
+        assertEquals(-1L, IPRangeParser.parseIPv4Address("192.168.10.", 0, 11));
+        assertEquals(-1L, IPRangeParser.parseIPv4Address("192.168..13", 0, 11));
+        assertEquals(-1L, IPRangeParser.parseIPv4Address("192.168.10.13.1", 0, 15));
+        assertEquals(-1L, IPRangeParser.parseIPv4Address("192.168.10.256", 0, 14));
+        assertEquals(-1L, IPRangeParser.parseIPv4Address("192.168.10.1000", 0, 15));
+        assertEquals(-1L, IPRangeParser.parseIPv4Address("192.168.10.a", 0, 12));
+    }
+
+    @Test
+    void testParseIPv6Address() {
+        long[] address = new long[4];
+        assertTrue(IPRangeParser.parseIPv6Address("[::1]:80", 1, 4, address, 2));
+        assertEquals(0L, address[2]);
+        assertEquals(1L, address[3]);
+
+        assertTrue(IPRangeParser.parseIPv6Address("1234:5678:9abc:def0:1234:5678:9ABC:DEF0", 0, 39, address, 0));
+        assertEquals(0x1234_5678_9ABC_DEF0L, address[0]);
+        assertEquals(0x1234_5678_9ABC_DEF0L, address[1]);
+
+        assertTrue(IPRangeParser.parseIPv6Address("1234::", 0, 6, address, 0));
+        assertEquals(0x1234_0000_0000_0000L, address[0]);
+        assertEquals(0L, address[1]);
+
+        assertTrue(IPRangeParser.parseIPv6Address("1234:5678::9abc", 0, 15, address, 0));
+        assertEquals(0x1234_5678_0000_0000L, address[0]);
+        assertEquals(0x9ABCL, address[1]);
+
+        assertTrue(IPRangeParser.parseIPv6Address("1:2:3:4:5::", 0, 11, address, 0));
+        assertEquals(0x0001_0002_0003_0004L, address[0]);
+        assertEquals(0x0005_0000_0000_0000L, address[1]);
+
+        assertTrue(IPRangeParser.parseIPv6Address("::ffff:192.168.10.13", 0, 20, address, 0));
+        assertEquals(0L, address[0]);
+        assertEquals(0xFFFF_C0A8_0A0DL, address[1]);
+
+        assertTrue(IPRangeParser.parseIPv6Address("::", 0, 2, address, 0));
+        assertEquals(0L, address[0]);
+        assertEquals(0L, address[1]);
+
+        assertFalse(IPRangeParser.parseIPv6Address("", 0, 0, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address(":1", 0, 2, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address("1:", 0, 2, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address(":::1", 0, 4, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address("1::2::3", 0, 7, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address("1:2:3:4:5:6:7", 0, 13, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address("1:2:3:4:5:6:7:8:9", 0, 17, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address("1:2:3:4::5:6:7:8", 0, 16, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address("12345::", 0, 7, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address("::g", 0, 3, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address("1:2:3:4:5:6:7:192.168.10.13", 0, 27, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address("::192.168.10", 0, 12, address, 0));
+        assertFalse(IPRangeParser.parseIPv6Address("192.168.10.13", 0, 13, address, 0));
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * IPRangeRegistryTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.Subnet;
+
+@SuppressWarnings("nls")
+class IPRangeRegistryTest {
+
+    @Test
+    void testRegisterCollection() {
+        List<IPRange<?>> ipRanges = Arrays.asList(Subnet.valueOf("192.168.0.0/24"), Subnet.valueOf("1234:abcd::/32"));
+
+        IPRangeRegistry.register("collection", ipRanges);
+
+        assertEquals(ipRanges, IPRangeRegistry.getIPRanges("collection"));
+
+        IPRangeIndex index = IPRangeRegistry.index("collection");
+        assertTrue(index.contains(IPAddress.valueOf("192.168.0.13")));
+        assertFalse(index.contains(IPAddress.valueOf("192.168.1.13")));
+        assertTrue(index.contains(IPAddress.valueOf("1234:abcd::1")));
+        assertFalse(index.contains(IPAddress.valueOf("1234:abce::1")));
+    }
+
+    @Test
+    void testGetMemoryFootprint() {
+        IPv4Address host = IPv4Address.valueOf("192.168.10.10");
+        IPRangeRegistry.register("footprint", Arrays.asList(Subnet.valueOf("192.168.0.0/24"), host.to(host), Subnet.valueOf("1234:abcd::/32")));
+
+        try {
+            MemoryFootprint footprint = IPRangeRegistry.getMemoryFootprint("footprint");
+            assertEquals(3, footprint.rangeCount());
+            assertTrue(footprint.heapBytes() > 0);
+        } finally {
+            IPRangeRegistry.unregister("footprint");
+        }
+
+        assertEquals(0, IPRangeRegistry.getMemoryFootprint("unknown").rangeCount());
+        assertThrows(NullPointerException.class, () -> IPRangeRegistry.getMemoryFootprint(null));
+    }
+
+    @Test
+    void testRegisterStrings() {
+        IPRangeRegistry.register("strings", "192.168.0.0/24", "[192.168.10.10...192.168.10.13]");
+
+        List<IPRange<?>> expected = Arrays.asList(Subnet.valueOf("192.168.0.0/24"),
+                IPv4Address.valueOf("192.168.10.10").to(IPv4Address.valueOf("192.168.10.13")));
+        assertEquals(expected, IPRangeRegistry.getIPRanges("strings"));
+    }
+
+    @Test
+    void testRegisterInvalid() {
+        IPRangeRegistry.register("invalid", "192.168.0.0/24");
+
+        assertThrows(IllegalArgumentException.class, () -> IPRangeRegistry.register("invalid", "192.168.0.0/24", "[192.168.10.10...::1]"));
+
+        assertEquals(Collections.singletonList(Subnet.valueOf("192.168.0.0/24")), IPRangeRegistry.getIPRanges("invalid"));
+    }
+
+    @Test
+    void testReplace() {
+        IPRanges ipRanges = IPRanges.of(Collections.emptyList(), new String[] { "replace" });
+        assertFalse(ipRanges.contains(IPAddress.valueOf("192.168.0.13")));
+
+        IPRangeRegistry.register("replace", "192.168.0.0/24");
+        assertTrue(ipRanges.contains(IPAddress.valueOf("192.168.0.13")));
+
+        IPRangeRegistry.register("replace", "[::1...::2]");
+        assertFalse(ipRanges.contains(IPAddress.valueOf("192.168.0.13")));
+        assertTrue(ipRanges.contains(IPv6Address.valueOf("::2")));
+    }
+
+    @Test
+    void testUnregister() {
+        IPRanges ipRanges = IPRanges.of(Collections.emptyList(), new String[] { "unregister" });
+
+        IPRangeRegistry.register("unregister", "192.168.0.0/24");
+        assertTrue(ipRanges.contains(IPAddress.valueOf("192.168.0.13")));
+
+        IPRangeRegistry.unregister("unregister");
+
+        assertEquals(Collections.emptyList(), IPRangeRegistry.getIPRanges("unregister"));
+        assertSame(IPRangeIndex.EMPTY, IPRangeRegistry.index("unregister"));
+        assertFalse(ipRanges.contains(IPAddress.valueOf("192.168.0.13")));
+    }
+
+    @Test
+    void testUnregistered() {
+        assertEquals(Collections.emptyList(), IPRangeRegistry.getIPRanges("unregistered"));
+        assertSame(IPRangeIndex.EMPTY, IPRangeRegistry.index("unregistered"));
+        assertFalse(IPRanges.of(Collections.emptyList(), new String[] { "unregistered" }).contains(IPAddress.valueOf("192.168.0.13")));
+    }
+
+    @Test
+    void testRangeOf() {
+        List<IPRange<?>> ipRanges = Arrays.asList(Subnet.valueOf("192.168.0.0/16"), Subnet.valueOf("192.168.10.0/24"),
+                Subnet.valueOf("1234::/16"), Subnet.valueOf("1234:abcd::/32"));
+
+        IPRangeRegistry.register("range-of", ipRanges);
+        try {
+            assertEquals(Optional.of(ipRanges.get(1)), IPRangeRegistry.rangeOf("range-of", IPAddress.valueOf("192.168.10.13")));
+            assertEquals(Optional.of(ipRanges.get(0)), IPRangeRegistry.rangeOf("range-of", IPAddress.valueOf("192.168.11.13")));
+            assertEquals(Optional.empty(), IPRangeRegistry.rangeOf("range-of", IPAddress.valueOf("10.0.0.1")));
+            assertEquals(Optional.of(ipRanges.get(3)), IPRangeRegistry.rangeOf("range-of", IPAddress.valueOf("1234:abcd::1")));
+            assertEquals(Optional.of(ipRanges.get(2)), IPRangeRegistry.rangeOf("range-of", IPAddress.valueOf("1234::1")));
+            assertEquals(Optional.empty(), IPRangeRegistry.rangeOf("range-of", IPAddress.valueOf("::1")));
+        } finally {
+            // the registry is shared by the entire process, so don't let the IP ranges leak into other tests
+            IPRangeRegistry.unregister("range-of");
+        }
+
+        assertEquals(Optional.empty(), IPRangeRegistry.rangeOf("range-of-unregistered", IPAddress.valueOf("192.168.10.13")));
+    }
+
+    @Test
+    void testNullName() {
+        assertThrows(NullPointerException.class, () -> IPRangeRegistry.register(null, "192.168.0.0/24"));
+        assertThrows(NullPointerException.class, () -> IPRangeRegistry.register(null, Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> IPRangeRegistry.unregister(null));
+        assertThrows(NullPointerException.class, () -> IPRangeRegistry.getIPRanges(null));
+        assertThrows(NullPointerException.class, () -> IPRangeRegistry.rangeOf(null, IPAddress.valueOf("192.168.0.1")));
+        assertThrows(NullPointerException.class, () -> IPRangeRegistry.rangeOf("range-of", null));
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * MemoryFootprintTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPRange;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv4Range;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.IPv6Range;
+import com.github.robtimus.net.ip.IPv6Subnet;
+import com.github.robtimus.net.ip.validation.validators.MemoryFootprint.Structure;
+
+// These tests check the estimates against the budgets that MemoryFootprint documents, based on the sizes of the structures that are
+// actually created. They do not measure the heap itself, so they do not verify the assumptions behind the estimates, like compressed
+// object pointers or the size of IP range objects.
+@SuppressWarnings("nls")
+class MemoryFootprintTest {
+
+    private static final int COUNT = 10_000;
+    // every tenth IP range is a single IP address
+    private static final int HOST_COUNT = COUNT / 10;
+
+    // the segments, owners and union of lists with a single IP range
+    private static final long FIXED_BYTES = 64;
+
+    private static final long IPV4_RANGE_OBJECT_BYTES = 60;
+    private static final long IPV6_RANGE_OBJECT_BYTES = 92;
+
+    @Test
+    void testEmpty() {
+        MemoryFootprint footprint = IPRangeIndex.EMPTY.memoryFootprint();
+
+        assertEquals(0, footprint.rangeCount());
+        assertEquals(0, footprint.heapBytes());
+        assertEquals(0, footprint.offHeapBytes());
+    }
+
+    @Test
+    void testPlus() {
+        MemoryFootprint footprint = MemoryFootprint.of(Structure.SEGMENTS, 2, 100, 0)
+                .plus(MemoryFootprint.of(Structure.OFF_HEAP_SEGMENTS, 3, 10, 200))
+                .plus(MemoryFootprint.of(Structure.SEGMENTS, 1, 50, 0));
+
+        assertEquals(6, footprint.rangeCount());
+        assertEquals(3, footprint.rangeCount(Structure.SEGMENTS));
+        assertEquals(3, footprint.rangeCount(Structure.OFF_HEAP_SEGMENTS));
+        assertEquals(0, footprint.rangeCount(Structure.TRIE));
+        assertEquals(160, footprint.heapBytes());
+        assertEquals(200, footprint.offHeapBytes());
+        assertEquals("MemoryFootprint[rangeCount=6, SEGMENTS=3, OFF_HEAP_SEGMENTS=3, heapBytes=160, offHeapBytes=200]", footprint.toString());
+    }
+
+    @Test
+    void testIPv4Segments() {
+        IPv4RangeIndex index = IPv4RangeIndex.of(ipv4Ranges(), Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+        MemoryFootprint footprint = index.memoryFootprint();
+
+        assertEquals(COUNT, footprint.rangeCount(Structure.SEGMENTS));
+        assertBudget((COUNT - HOST_COUNT) * (IPV4_RANGE_OBJECT_BYTES + 16) + HOST_COUNT * (IPV4_RANGE_OBJECT_BYTES + 32),
+                footprint.heapBytes());
+        assertEquals(0, footprint.offHeapBytes());
+
+        // creating the union adds at most 8 bytes per IPv4 range
+        index.containsAll(0, 0);
+        assertBudget((COUNT - HOST_COUNT) * (IPV4_RANGE_OBJECT_BYTES + 16 + 8) + HOST_COUNT * (IPV4_RANGE_OBJECT_BYTES + 32 + 8),
+                index.memoryFootprint().heapBytes());
+    }
+
+    @Test
+    void testIPv4LookupTable() {
+        MemoryFootprint table = IPv4RangeIndex.of(ipv4Ranges(), Integer.MAX_VALUE, 0, 0).memoryFootprint();
+
+        assertEquals(COUNT, table.rangeCount(Structure.LOOKUP_TABLE));
+        // the table replaces the segments and the host set, so it only comes on top of the IP range objects
+        assertTrue(table.heapBytes() >= 64L * 1024 * 1024 + COUNT * IPV4_RANGE_OBJECT_BYTES);
+        assertBudget(64L * 1024 * 1024 + COUNT * (IPV4_RANGE_OBJECT_BYTES + 2048), table.heapBytes());
+    }
+
+    @Test
+    void testIPv4AdaptiveOrder() {
+        List<IPv4Range> ipRanges = ipv4Ranges();
+        MemoryFootprint segments = IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, 0).memoryFootprint();
+        MemoryFootprint adaptiveOrder = IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, COUNT).memoryFootprint();
+
+        assertEquals(COUNT, adaptiveOrder.rangeCount(Structure.ADAPTIVE_ORDER));
+        assertBudget(COUNT * 56L, adaptiveOrder.heapBytes() - segments.heapBytes());
+    }
+
+    @Test
+    void testIPv4Prefilter() {
+        List<IPv4Range> ipRanges = ipv4Ranges();
+        IPv4RangeIndex segments = IPv4RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+        IPv4RangeIndex filtered = IPv4RangeIndex.of(ipRanges, 0, Integer.MAX_VALUE, 0);
+
+        assertTrue(filtered.hasPrefilter());
+        assertTrue(filtered.memoryFootprint().heapBytes() > segments.memoryFootprint().heapBytes());
+    }
+
+    @Test
+    void testIPv6Segments() {
+        MemoryFootprint footprint = IPv6RangeIndex.of(ipv6Ranges(), Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 0)
+                .memoryFootprint();
+
+        assertEquals(COUNT, footprint.rangeCount(Structure.SEGMENTS));
+        assertBudget((COUNT - HOST_COUNT) * (IPV6_RANGE_OBJECT_BYTES + 40) + HOST_COUNT * (IPV6_RANGE_OBJECT_BYTES + 96),
+                footprint.heapBytes());
+        assertEquals(0, footprint.offHeapBytes());
+    }
+
+    @Test
+    void testIPv6OffHeapSegments() {
+        IPv6RangeIndex index = IPv6RangeIndex.of(ipv6Ranges(), 0, Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+        MemoryFootprint footprint = index.memoryFootprint();
+
+        assertTrue(index.isOffHeap());
+        assertEquals(COUNT, footprint.rangeCount(Structure.OFF_HEAP_SEGMENTS));
+        assertEquals(0, footprint.heapBytes());
+        assertBudget((COUNT - HOST_COUNT) * 72L + HOST_COUNT * 96L, footprint.offHeapBytes());
+    }
+
+    @Test
+    void testIPv6Trie() {
+        List<IPv6Range> ipRanges = ipv6Subnets();
+        MemoryFootprint trie = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, 0, 0).memoryFootprint();
+
+        assertEquals(COUNT, trie.rangeCount(Structure.TRIE));
+        // the trie replaces the segments, so it only comes on top of the IP range objects
+        assertTrue(trie.heapBytes() >= 256L * 1024 + COUNT * IPV6_RANGE_OBJECT_BYTES);
+        assertBudget(256L * 1024 + COUNT * (IPV6_RANGE_OBJECT_BYTES + 256), trie.heapBytes());
+    }
+
+    @Test
+    void testIPv6AdaptiveOrder() {
+        List<IPv6Range> ipRanges = ipv6Ranges();
+        MemoryFootprint segments = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 0).memoryFootprint();
+        MemoryFootprint adaptiveOrder = IPv6RangeIndex.of(ipRanges, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, COUNT)
+                .memoryFootprint();
+
+        assertEquals(COUNT, adaptiveOrder.rangeCount(Structure.ADAPTIVE_ORDER));
+        assertBudget(COUNT * 80L, adaptiveOrder.heapBytes() - segments.heapBytes());
+    }
+
+    @Test
+    void testIPRangeIndex() {
+        List<IPRange<?>> ipRanges = new ArrayList<>();
+        ipRanges.addAll(ipv4Ranges());
+        ipRanges.addAll(ipv6Ranges());
+        IPRangeIndex index = IPRangeIndex.of(ipRanges);
+        MemoryFootprint footprint = index.memoryFootprint();
+
+        assertEquals(2 * COUNT, footprint.rangeCount());
+        assertEquals(index.ipv4().memoryFootprint().heapBytes() + index.ipv6().memoryFootprint().heapBytes(), footprint.heapBytes());
+
+        MemoryFootprint total = MemoryFootprint.total();
+        assertTrue(total.rangeCount() >= footprint.rangeCount());
+        assertTrue(total.heapBytes() >= footprint.heapBytes());
+    }
+
+    private static void assertBudget(long budget, long actual) {
+        assertTrue(actual <= budget + FIXED_BYTES, "expected at most " + budget + " bytes, was " + actual);
+    }
+
+    private static List<IPv4Range> ipv4Ranges() {
+        Random random = new Random(0);
+        List<IPv4Range> ipRanges = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            long from = random.nextInt() & 0xFFFF_FFFFL;
+            long to = i % 10 == 0 ? from : Math.min(0xFFFF_FFFFL, from + 1 + random.nextInt(65_536));
+            ipRanges.add(IPv4Address.valueOf((int) from).to(IPv4Address.valueOf((int) to)));
+        }
+        return ipRanges;
+    }
+
+    private static List<IPv6Range> ipv6Ranges() {
+        Random random = new Random(0);
+        List<IPv6Range> ipRanges = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            long high = random.nextLong();
+            long from = random.nextLong() & ~0xF_FFFFL;
+            long to = i % 10 == 0 ? from : from + 1 + random.nextInt(0xF_FFFF);
+            ipRanges.add(IPv6Address.valueOf(high, from).to(IPv6Address.valueOf(high, to)));
+        }
+        return ipRanges;
+    }
+
+    private static List<IPv6Range> ipv6Subnets() {
+        Random random = new Random(0);
+        List<IPv6Range> ipRanges = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            int prefixLength = 16 + random.nextInt(49);
+            long mask = -1L << (64 - prefixLength);
+            ipRanges.add(IPv6Subnet.valueOf(IPv6Address.valueOf(random.nextLong() & mask, 0L), prefixLength));
+        }
+        return ipRanges;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * ParseMemoTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.IPAddress;
+import com.github.robtimus.net.ip.IPv4Address;
+import com.github.robtimus.net.ip.IPv6Address;
+import com.github.robtimus.net.ip.validation.validators.ParseMemo.Format;
+
+@SuppressWarnings("nls")
+class ParseMemoTest {
+
+    @Test
+    void testSameString() {
+        String value = new String("192.168.0.1");
+
+        Optional<? extends IPAddress<?>> result = ParseMemo.tryParse(value, Format.ANY_VERSION);
+
+        assertEquals(Optional.of(IPv4Address.valueOf("192.168.0.1")), result);
+        assertSame(result, ParseMemo.tryParse(value, Format.ANY_VERSION));
+    }
+
+    @Test
+    void testSameStringInvalid() {
+        String value = new String("192.168.0.256");
+
+        Optional<? extends IPAddress<?>> result = ParseMemo.tryParse(value, Format.ANY_VERSION);
+
+        assertFalse(result.isPresent());
+        assertSame(result, ParseMemo.tryParse(value, Format.ANY_VERSION));
+    }
+
+    @Test
+    void testAnyVersionReusedForIPv4() {
+        String value = new String("192.168.0.1");
+
+        Optional<? extends IPAddress<?>> result = ParseMemo.tryParse(value, Format.ANY_VERSION);
+
+        assertSame(result, ParseMemo.tryParse(value, Format.IPV4));
+        assertFalse(ParseMemo.tryParse(value, Format.IPV6).isPresent());
+    }
+
+    @Test
+    void testAnyVersionReusedForIPv6() {
+        String value = new String("::1");
+
+        Optional<? extends IPAddress<?>> result = ParseMemo.tryParse(value, Format.ANY_VERSION);
+
+        assertEquals(Optional.of(IPv6Address.valueOf("::1")), result);
+        assertSame(result, ParseMemo.tryParse(value, Format.IPV6));
+        assertFalse(ParseMemo.tryParse(value, Format.IPV4).isPresent());
+    }
+
+    @Test
+    void testIPv4ReusedForAnyVersion() {
+        String value = new String("192.168.0.1");
+
+        Optional<? extends IPAddress<?>> result = ParseMemo.tryParse(value, Format.IPV4);
+
+        assertSame(result, ParseMemo.tryParse(value, Format.ANY_VERSION));
+    }
+
+    @Test
+    void testInvalidIPv4NotReusedForAnyVersion() {
+        String value = new String("::1");
+
+        assertFalse(ParseMemo.tryParse(value, Format.IPV4).isPresent());
+        assertEquals(Optional.of(IPv6Address.valueOf("::1")), ParseMemo.tryParse(value, Format.ANY_VERSION));
+    }
+
+    @Test
+    void testEqualString() {
+        Optional<? extends IPAddress<?>> result = ParseMemo.tryParse(new String("192.168.0.1"), Format.IPV4);
+
+        // strings with the same content are matched as well
+        assertSame(result, ParseMemo.tryParse(new String("192.168.0.1"), Format.IPV4));
+    }
+
+    @Test
+    void testLongString() {
+        Optional<? extends IPAddress<?>> result = ParseMemo.tryParse("192.168.0.1", Format.IPV4);
+
+        String value = "1".repeat(ParseMemo.MAX_LENGTH + 1);
+
+        assertFalse(ParseMemo.tryParse(value, Format.IPV4).isPresent());
+        assertFalse(ParseMemo.tryParse(new StringBuilder(value), Format.IPV4).isPresent());
+
+        // long values are not memoized, so the last short value is still matched
+        assertSame(result, ParseMemo.tryParse(new String("192.168.0.1"), Format.IPV4));
+    }
+
+    @Test
+    void testReset() {
+        Optional<? extends IPAddress<?>> result = ParseMemo.tryParse("192.168.0.1", Format.IPV4);
+
+        ParseMemo.reset();
+
+        Optional<? extends IPAddress<?>> newResult = ParseMemo.tryParse(new String("192.168.0.1"), Format.IPV4);
+        assertEquals(result, newResult);
+        assertNotSame(result, newResult);
+    }
+
+    @Test
+    void testMutableCharSequence() {
+        StringBuilder value = new StringBuilder("192.168.0.1");
+
+        Optional<? extends IPAddress<?>> result = ParseMemo.tryParse(value, Format.IPV4);
+
+        assertEquals(Optional.of(IPv4Address.valueOf("192.168.0.1")), result);
+        assertSame(result, ParseMemo.tryParse(value, Format.IPV4));
+
+        value.setLength(value.length() - 1);
+        value.append('2');
+
+        assertEquals(Optional.of(IPv4Address.valueOf("192.168.0.2")), ParseMemo.tryParse(value, Format.IPV4));
+    }
+}
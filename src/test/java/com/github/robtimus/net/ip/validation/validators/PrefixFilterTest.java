@@ -0,0 +1,150 @@
+/*
+ * PrefixFilterTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PrefixFilterTest {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MAX_BYTES = 1024 * 1024;
+
+    @Nested
+    class IPv4 {
+
+        @Test
+        void testNoFalseNegatives() {
+            // 192.168.0.0/24, 10.0.0.1-10.0.0.5 and 172.16.0.0-172.16.15.255
+            long[] from = { 0xC0A8_0000L, 0x0A00_0001L, 0xAC10_0000L };
+            long[] to = { 0xC0A8_00FFL, 0x0A00_0005L, 0xAC10_0FFFL };
+
+            PrefixFilter filter = PrefixFilter.forIPv4(from, to, FALSE_POSITIVE_RATE, MAX_BYTES);
+
+            assertNotNull(filter);
+            for (int i = 0; i < from.length; i++) {
+                for (long address = from[i]; address <= to[i]; address++) {
+                    assertTrue(filter.mightContainIPv4((int) address));
+                }
+            }
+        }
+
+        @Test
+        void testRejectsMostOtherAddresses() {
+            long[] from = { 0xC0A8_0000L };
+            long[] to = { 0xC0A8_00FFL };
+
+            PrefixFilter filter = PrefixFilter.forIPv4(from, to, FALSE_POSITIVE_RATE, MAX_BYTES);
+
+            assertNotNull(filter);
+            int rejected = 0;
+            for (int i = 1; i <= 1000; i++) {
+                if (!filter.mightContainIPv4(0xC0A8_0000 + (i << 8))) {
+                    rejected++;
+                }
+            }
+            assertTrue(rejected > 900, "rejected: " + rejected);
+        }
+
+        @Test
+        void testRangeTooLarge() {
+            long[] from = { 0L };
+            long[] to = { 0xFFFF_FFFFL };
+
+            assertNull(PrefixFilter.forIPv4(from, to, FALSE_POSITIVE_RATE, MAX_BYTES));
+        }
+
+        @Test
+        void testMaxBytes() {
+            long[] from = new long[10_000];
+            long[] to = new long[from.length];
+            for (int i = 0; i < from.length; i++) {
+                from[i] = (long) i << 8;
+                to[i] = from[i] + 0xFF;
+            }
+
+            PrefixFilter filter = PrefixFilter.forIPv4(from, to, FALSE_POSITIVE_RATE, 128);
+
+            assertNotNull(filter);
+            assertEquals(128, filter.byteSize());
+            for (long address : from) {
+                assertTrue(filter.mightContainIPv4((int) address));
+            }
+        }
+    }
+
+    @Nested
+    class IPv6 {
+
+        @Test
+        void testNoFalseNegatives() {
+            // 2001:db8::/48, 2001:db8:1::10-2001:db8:1::1f, and ::ffff:ffff:ffff:fffe-0:0:0:1::1 which crosses the 64-bit boundary
+            long[] fromHigh = { 0x2001_0DB8_0000_0000L, 0x2001_0DB8_0001_0000L, 0L };
+            long[] fromLow = { 0L, 0x10L, 0xFFFF_FFFF_FFFF_FFFEL };
+            long[] toHigh = { 0x2001_0DB8_0000_FFFFL, 0x2001_0DB8_0001_0000L, 1L };
+            long[] toLow = { 0xFFFF_FFFF_FFFF_FFFFL, 0x1FL, 1L };
+
+            PrefixFilter filter = PrefixFilter.forIPv6(fromHigh, fromLow, toHigh, toLow, FALSE_POSITIVE_RATE, MAX_BYTES);
+
+            assertNotNull(filter);
+            for (int i = 0; i < fromHigh.length; i++) {
+                assertTrue(filter.mightContainIPv6(fromHigh[i], fromLow[i]));
+                assertTrue(filter.mightContainIPv6(toHigh[i], toLow[i]));
+            }
+            for (long low = 0x10L; low <= 0x1FL; low++) {
+                assertTrue(filter.mightContainIPv6(0x2001_0DB8_0001_0000L, low));
+            }
+            assertTrue(filter.mightContainIPv6(0x2001_0DB8_0000_1234L, 0x5678L));
+        }
+
+        @Test
+        void testRejectsMostOtherAddresses() {
+            long[] fromHigh = { 0x2001_0DB8_0000_0000L };
+            long[] fromLow = { 0L };
+            long[] toHigh = { 0x2001_0DB8_0000_FFFFL };
+            long[] toLow = { 0xFFFF_FFFF_FFFF_FFFFL };
+
+            PrefixFilter filter = PrefixFilter.forIPv6(fromHigh, fromLow, toHigh, toLow, FALSE_POSITIVE_RATE, MAX_BYTES);
+
+            assertNotNull(filter);
+            int rejected = 0;
+            for (long i = 1; i <= 1000; i++) {
+                if (!filter.mightContainIPv6(0x2001_0DB8_0000_0000L + (i << 16), 0L)) {
+                    rejected++;
+                }
+            }
+            assertTrue(rejected > 900, "rejected: " + rejected);
+            assertFalse(filter.mightContainIPv6(0L, 1L) && filter.mightContainIPv6(0L, 2L) && filter.mightContainIPv6(0L, 3L));
+        }
+
+        @Test
+        void testRangeTooLarge() {
+            long[] fromHigh = { 0L };
+            long[] fromLow = { 0L };
+            long[] toHigh = { -1L };
+            long[] toLow = { -1L };
+
+            assertNull(PrefixFilter.forIPv6(fromHigh, fromLow, toHigh, toLow, FALSE_POSITIVE_RATE, MAX_BYTES));
+        }
+    }
+}
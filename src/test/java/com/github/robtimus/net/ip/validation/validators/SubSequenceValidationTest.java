@@ -0,0 +1,302 @@
+/*
+ * SubSequenceValidationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiPredicate;
+import jakarta.validation.ConstraintValidatorContext;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.validation.IPAddress;
+import com.github.robtimus.net.ip.validation.IPv4Address;
+import com.github.robtimus.net.ip.validation.IPv6Address;
+
+@SuppressWarnings("nls")
+class SubSequenceValidationTest {
+
+    private static final String BUFFER = "src=192.168.0.1 dst=[1234::1] via=::ffff:10.0.0.1 bad=192.168.0.256";
+    private static final byte[] BYTES = BUFFER.getBytes(StandardCharsets.US_ASCII);
+
+    @Nested
+    class ForIPAddress {
+
+        @Test
+        void testIsValid() throws ReflectiveOperationException {
+            CharSequenceIPAddressValidator validator = new CharSequenceIPAddressValidator();
+            validator.initialize(TestClass.class.getDeclaredField("ipAddress").getAnnotation(IPAddress.class));
+
+            assertTrue(validator.isValid(BUFFER, 4, 15));
+            assertTrue(validator.isValid(BUFFER, 20, 29));
+            assertTrue(validator.isValid(BUFFER, 21, 28));
+            assertFalse(validator.isValid(BUFFER, 34, 49));
+            assertFalse(validator.isValid(BUFFER, 54, 67));
+            assertFalse(validator.isValid(BUFFER, 0, 15));
+            assertFalse(validator.isValid(BUFFER, 4, 4));
+
+            assertTrue(validator.isValid(BUFFER.toCharArray(), 4, 15));
+            assertTrue(validator.isValid(CharBuffer.wrap(BUFFER), 20, 29));
+
+            assertTrue(validator.isValid(BYTES, 4, 15));
+            assertTrue(validator.isValid(BYTES, 20, 29));
+            assertFalse(validator.isValid(BYTES, 54, 67));
+            assertTrue(validator.isValid(ByteBuffer.wrap(BYTES), 4, 15));
+            assertTrue(validator.isValid(ByteBuffer.allocateDirect(BYTES.length).put(BYTES).flip(), 21, 28));
+        }
+
+        @Test
+        void testIsValidWithInvalidIndexes() throws ReflectiveOperationException {
+            CharSequenceIPAddressValidator validator = new CharSequenceIPAddressValidator();
+            validator.initialize(TestClass.class.getDeclaredField("ipAddress").getAnnotation(IPAddress.class));
+
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.isValid(BUFFER, -1, 15));
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.isValid(BUFFER, 15, 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.isValid(BUFFER, 4, BUFFER.length() + 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.isValid(BUFFER.toCharArray(), 4, BUFFER.length() + 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.isValid(BYTES, 4, BYTES.length + 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.isValid(ByteBuffer.wrap(BYTES).limit(10), 4, 15));
+        }
+    }
+
+    @Nested
+    class ForIPv4Address {
+
+        @Test
+        void testIsValid() throws ReflectiveOperationException {
+            CharSequenceIPv4AddressValidator validator = new CharSequenceIPv4AddressValidator();
+            validator.initialize(TestClass.class.getDeclaredField("ipv4Address").getAnnotation(IPv4Address.class));
+
+            assertTrue(validator.isValid(BUFFER, 4, 15));
+            assertFalse(validator.isValid(BUFFER, 21, 28));
+            assertFalse(validator.isValid(BUFFER, 54, 67));
+
+            assertTrue(validator.isValid(BUFFER.toCharArray(), 4, 15));
+
+            assertTrue(validator.isValid(BYTES, 4, 15));
+            assertFalse(validator.isValid(BYTES, 54, 67));
+            // the last 15 bytes are read without reading whole words
+            assertFalse(validator.isValid(ByteBuffer.wrap(BYTES), BYTES.length - 13, BYTES.length));
+            assertTrue(validator.isValid(ByteBuffer.wrap(BYTES.clone()).put(BYTES.length - 1, (byte) '5'), BYTES.length - 13, BYTES.length));
+        }
+
+        @Test
+        void testIsValidWithEmbeddedIPv4Address() throws ReflectiveOperationException {
+            CharSequenceIPv4AddressValidator validator = new CharSequenceIPv4AddressValidator();
+            validator.initialize(TestClass.class.getDeclaredField("ipv4AddressWithEmbeddedIPv4Address").getAnnotation(IPv4Address.class));
+
+            assertFalse(validator.isValid(BUFFER, 4, 15));
+            assertTrue(validator.isValid(BUFFER, 34, 49));
+            assertFalse(validator.isValid(BUFFER, 21, 28));
+        }
+    }
+
+    @Nested
+    class ForIPv6Address {
+
+        @Test
+        void testIsValid() throws ReflectiveOperationException {
+            CharSequenceIPv6AddressValidator validator = new CharSequenceIPv6AddressValidator();
+            validator.initialize(TestClass.class.getDeclaredField("ipv6Address").getAnnotation(IPv6Address.class));
+
+            assertTrue(validator.isValid(BUFFER, 20, 29));
+            assertTrue(validator.isValid(BUFFER, 21, 28));
+            assertFalse(validator.isValid(BUFFER, 34, 49));
+            assertFalse(validator.isValid(BUFFER, 4, 15));
+
+            assertTrue(validator.isValid(BUFFER.toCharArray(), 21, 28));
+
+            assertTrue(validator.isValid(BYTES, 20, 29));
+            assertTrue(validator.isValid(ByteBuffer.wrap(BYTES), 21, 28));
+            assertFalse(validator.isValid(BYTES, 4, 15));
+        }
+    }
+
+    // isValid(CharSequence, ConstraintValidatorContext) parses using ip-utils, the other isValid methods parse using IPRangeParser
+    @Nested
+    class SameSyntax {
+
+        private final String[] validIPv4Addresses = {
+                "192.168.0.1",
+                "0.0.0.0",
+                "255.255.255.255",
+                "010.001.000.001",
+        };
+
+        private final String[] validIPv6Addresses = {
+                "::1",
+                "::",
+                "[::1]",
+                "1234::5678",
+                "1234:5678:9abc:def0:1234:5678:9ABC:DEF0",
+                "0000:0000:0000:0000:0000:0000:0000:0001",
+                "::ffff:192.168.0.1",
+                "[::ffff:192.168.0.1]",
+                "64:ff9b::10.0.0.1",
+                "1:2:3:4:5:6:1.2.3.4",
+        };
+
+        private final String[] invalidIPAddresses = {
+                "",
+                "192.168.0.256",
+                "192.168.0",
+                "192.168.0.1.",
+                "192.168..1",
+                " 192.168.0.1",
+                "192.168.0.1 ",
+                "[192.168.0.1]",
+                "fe80::1%eth0",
+                "fe80::1%1",
+                "[fe80::1%eth0]",
+                "[::1",
+                "::1]",
+                "[[::1]]",
+                "[]",
+                "1::2::3",
+                "12345::",
+                "1:2:3:4:5:6:7:8:9",
+                "1:2:3:4:5:6:7:1.2.3.4",
+                "::ffff:192.168.0",
+                "::ffff:192.168.0.256",
+                "1.2.3.4::",
+                ":1::",
+                "1::2:",
+                "g::1",
+        };
+
+        @Test
+        void testIPAddress() throws ReflectiveOperationException {
+            CharSequenceIPAddressValidator validator = new CharSequenceIPAddressValidator();
+            validator.initialize(TestClass.class.getDeclaredField("anyIPAddress").getAnnotation(IPAddress.class));
+
+            for (String value : validIPv4Addresses) {
+                assertSameResult(true, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+            for (String value : validIPv6Addresses) {
+                assertSameResult(true, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+            for (String value : invalidIPAddresses) {
+                assertSameResult(false, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+        }
+
+        @Test
+        void testIPv4Address() throws ReflectiveOperationException {
+            CharSequenceIPv4AddressValidator validator = new CharSequenceIPv4AddressValidator();
+            validator.initialize(TestClass.class.getDeclaredField("anyIPv4Address").getAnnotation(IPv4Address.class));
+
+            for (String value : validIPv4Addresses) {
+                assertSameResult(true, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+            for (String value : validIPv6Addresses) {
+                assertSameResult(false, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+            for (String value : invalidIPAddresses) {
+                assertSameResult(false, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+        }
+
+        @Test
+        void testIPv4AddressWithEmbeddedIPv4Address() throws ReflectiveOperationException {
+            CharSequenceIPv4AddressValidator validator = new CharSequenceIPv4AddressValidator();
+            validator.initialize(TestClass.class.getDeclaredField("anyIPv4AddressWithEmbeddedIPv4Address").getAnnotation(IPv4Address.class));
+
+            for (String value : validIPv4Addresses) {
+                assertSameResult(true, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+            for (String value : new String[] { "::ffff:192.168.0.1", "[::ffff:192.168.0.1]", "::ffff:c0a8:1", "64:ff9b::10.0.0.1" }) {
+                assertSameResult(true, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+            for (String value : new String[] { "::1", "::192.168.0.1", "1:2:3:4:5:6:1.2.3.4" }) {
+                assertSameResult(false, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+            for (String value : invalidIPAddresses) {
+                assertSameResult(false, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+        }
+
+        @Test
+        void testIPv6Address() throws ReflectiveOperationException {
+            CharSequenceIPv6AddressValidator validator = new CharSequenceIPv6AddressValidator();
+            validator.initialize(TestClass.class.getDeclaredField("anyIPv6Address").getAnnotation(IPv6Address.class));
+
+            for (String value : validIPv4Addresses) {
+                assertSameResult(false, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+            for (String value : validIPv6Addresses) {
+                assertSameResult(true, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+            for (String value : invalidIPAddresses) {
+                assertSameResult(false, value, validator::isValid, validator::isValid, validator::isValid, validator::isValid);
+            }
+        }
+
+        private void assertSameResult(boolean expected, String value,
+                BiPredicate<CharSequence, ConstraintValidatorContext> validator,
+                SubSequenceValidator<CharSequence> charSequenceValidator,
+                SubSequenceValidator<char[]> charArrayValidator,
+                SubSequenceValidator<byte[]> byteArrayValidator) {
+
+            // embed the value in a larger buffer, to make sure that only the given part is validated
+            String buffer = "::" + value + "::";
+            int start = 2;
+            int end = start + value.length();
+
+            assertEquals(expected, validator.test(new String(value), null), value);
+            assertEquals(expected, charSequenceValidator.isValid(buffer, start, end), value);
+            assertEquals(expected, charArrayValidator.isValid(buffer.toCharArray(), start, end), value);
+            assertEquals(expected, byteArrayValidator.isValid(buffer.getBytes(StandardCharsets.US_ASCII), start, end), value);
+        }
+    }
+
+    private interface SubSequenceValidator<T> {
+
+        boolean isValid(T value, int start, int end);
+    }
+
+    private static final class TestClass {
+
+        @IPAddress(ipRanges = { "0.0.0.0/0", "::/0" })
+        private CharSequence anyIPAddress;
+
+        @IPv4Address(ipRanges = "0.0.0.0/0")
+        private CharSequence anyIPv4Address;
+
+        @IPv4Address(ipRanges = "0.0.0.0/0", allowIPv4Mapped = true, allowNAT64 = true)
+        private CharSequence anyIPv4AddressWithEmbeddedIPv4Address;
+
+        @IPv6Address(ipRanges = "::/0")
+        private CharSequence anyIPv6Address;
+
+        @IPAddress(ipRanges = { "192.168.0.0/24", "1234::/16" })
+        private CharSequence ipAddress;
+
+        @IPv4Address(ipRanges = "192.168.0.0/24")
+        private CharSequence ipv4Address;
+
+        @IPv4Address(ipRanges = "10.0.0.0/8", allowIPv4Mapped = true)
+        private CharSequence ipv4AddressWithEmbeddedIPv4Address;
+
+        @IPv6Address(ipRanges = "1234::/16")
+        private CharSequence ipv6Address;
+    }
+}
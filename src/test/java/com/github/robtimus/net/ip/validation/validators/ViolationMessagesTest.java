@@ -0,0 +1,85 @@
+/*
+ * ViolationMessagesTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class ViolationMessagesTest {
+
+    private static final String DEFAULT_MESSAGE = "{com.github.robtimus.net.ip.validation.IPv4Address.message}";
+
+    @Test
+    void testMessage() {
+        Map<String, String[]> parameters = Map.of(
+                "ipRanges", new String[] { "192.168.0.0/24", "[192.168.10.10...192.168.10.13]" },
+                "namedIPRanges", new String[] { "ipv4-test" });
+        ViolationMessages messages = ViolationMessages.of(DEFAULT_MESSAGE, DEFAULT_MESSAGE, parameters, true);
+
+        assertEquals("must be an IPv4 address in one of [192.168.0.0/24, [192.168.10.10...192.168.10.13]]",
+                messages.message("{com.github.robtimus.net.ip.validation.IPv4Address.message.withIPRanges}"));
+        assertEquals("must be an IPv4 address in one of [192.168.0.0/24, [192.168.10.10...192.168.10.13]] "
+                + "or in one of the IP ranges registered as [ipv4-test]",
+                messages.message("{com.github.robtimus.net.ip.validation.IPv4Address.message.withIPRangesAndNamedIPRanges}"));
+    }
+
+    @Test
+    void testMessageWithNonArrayParameters() {
+        Map<String, Object> parameters = Map.of("minPort", 1024, "maxPort", 49151);
+        ViolationMessages messages = ViolationMessages.of(DEFAULT_MESSAGE, DEFAULT_MESSAGE, parameters, true);
+
+        assertEquals("must be an IP socket address with a port between 1024 and 49151",
+                messages.message("{com.github.robtimus.net.ip.validation.IPSocketAddress.message.withPortRange}"));
+    }
+
+    @Test
+    void testMessageIsCached() {
+        Map<String, String[]> parameters = Map.of("ipRanges", new String[] { "192.168.0.0/24" });
+        ViolationMessages messages = ViolationMessages.of(DEFAULT_MESSAGE, DEFAULT_MESSAGE, parameters, true);
+
+        String messageTemplate = "{com.github.robtimus.net.ip.validation.IPv4Address.message.withIPRanges}";
+        assertSame(messages.message(messageTemplate), messages.message(messageTemplate));
+    }
+
+    @Test
+    void testMessageIsEscaped() {
+        Map<String, String[]> parameters = Map.of("namedIPRanges", new String[] { "${1 + 1}", "{x}", "\\" });
+        ViolationMessages messages = ViolationMessages.of(DEFAULT_MESSAGE, DEFAULT_MESSAGE, parameters, true);
+
+        assertEquals("must be an IPv4 address in one of the IP ranges registered as [\\$\\{1 + 1\\}, \\{x\\}, \\\\]",
+                messages.message("{com.github.robtimus.net.ip.validation.IPv4Address.message.withNamedIPRanges}"));
+    }
+
+    @Test
+    void testMessageWithUnknownParameter() {
+        ViolationMessages messages = ViolationMessages.of(DEFAULT_MESSAGE, DEFAULT_MESSAGE, Map.of(), true);
+
+        assertEquals("must be an IPv4 address in one of \\{ipRanges\\}",
+                messages.message("{com.github.robtimus.net.ip.validation.IPv4Address.message.withIPRanges}"));
+    }
+
+    @Test
+    void testMessageWithUnknownKey() {
+        ViolationMessages messages = ViolationMessages.of(DEFAULT_MESSAGE, DEFAULT_MESSAGE, Map.of(), true);
+
+        assertEquals("{unknown}", messages.message("{unknown}"));
+    }
+}
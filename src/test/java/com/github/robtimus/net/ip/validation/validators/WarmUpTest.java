@@ -0,0 +1,154 @@
+/*
+ * WarmUpTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.net.ip.validation.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.net.ip.validation.IPAddress;
+import com.github.robtimus.net.ip.validation.IPAddressList;
+import com.github.robtimus.net.ip.validation.IPRange;
+import com.github.robtimus.net.ip.validation.IPSocketAddress;
+import com.github.robtimus.net.ip.validation.IPSubnet;
+import com.github.robtimus.net.ip.validation.IPv4Address;
+import com.github.robtimus.net.ip.validation.IPv6Address;
+
+@SuppressWarnings("nls")
+class WarmUpTest {
+
+    @Test
+    void testWarmUpWithIterations() {
+        IPConstraintValidatorFactory factory = new IPConstraintValidatorFactory(new SimpleFactory());
+
+        assertEquals(100, WarmUp.warmUp(factory, 100, Duration.ofMinutes(1)));
+        assertEquals(0, WarmUp.warmUp(factory, 0, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void testWarmUpWithTimeout() {
+        IPConstraintValidatorFactory factory = new IPConstraintValidatorFactory(new SimpleFactory());
+
+        assertEquals(0, WarmUp.warmUp(factory, 100, Duration.ZERO));
+
+        long start = System.nanoTime();
+        int iterations = WarmUp.warmUp(factory, Integer.MAX_VALUE, Duration.ofMillis(200));
+        long duration = System.nanoTime() - start;
+
+        assertTrue(iterations > 0, "expected at least one iteration");
+        assertTrue(iterations < Integer.MAX_VALUE, "expected the timeout to expire");
+        assertTrue(duration < Duration.ofSeconds(10).toNanos(), "expected the timeout to be respected, took " + duration + " ns");
+    }
+
+    @Test
+    void testWarmUpWithMaxTimeout() {
+        IPConstraintValidatorFactory factory = new IPConstraintValidatorFactory(new SimpleFactory());
+
+        assertEquals(10, WarmUp.warmUp(factory, 10, Duration.ofSeconds(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testWarmUpWithCompiledConstraints() throws ReflectiveOperationException {
+        IPConstraintValidatorFactory factory = new IPConstraintValidatorFactory(new SimpleFactory());
+
+        factory.getInstance(CharSequenceIPAddressValidator.class).initialize(annotation("ipAddress", IPAddress.class));
+        factory.getInstance(CharSequenceIPv4AddressValidator.class).initialize(annotation("ipv4Address", IPv4Address.class));
+        factory.getInstance(CharSequenceIPv6AddressValidator.class).initialize(annotation("ipv6Address", IPv6Address.class));
+        factory.getInstance(CharSequenceIPSubnetValidator.class).initialize(annotation("subnet", IPSubnet.class));
+        factory.getInstance(CharSequenceIPRangeValidator.class).initialize(annotation("ipRange", IPRange.class));
+        factory.getInstance(CharSequenceIPSocketAddressValidator.class).initialize(annotation("socketAddress", IPSocketAddress.class));
+        factory.getInstance(CharSequenceIPAddressListValidator.class).initialize(annotation("ipAddressList", IPAddressList.class));
+
+        assertEquals(100, WarmUp.warmUp(factory, 100, Duration.ofMinutes(1)));
+        // warming up does not add any constraints
+        assertEquals(7, factory.getMemoryFootprints().size());
+    }
+
+    @Test
+    void testWarmUpWithValidatorFactory() {
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            assertEquals(100, WarmUp.warmUp(validatorFactory, 100, Duration.ofMinutes(1)));
+        }
+    }
+
+    @Test
+    void testWarmUpWithInvalidArguments() {
+        IPConstraintValidatorFactory factory = new IPConstraintValidatorFactory(new SimpleFactory());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> WarmUp.warmUp(factory, -1, Duration.ZERO));
+        assertEquals(Messages.WarmUp.invalidIterations(-1), exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> WarmUp.warmUp(factory, 1, Duration.ofMillis(-1)));
+        assertEquals(Messages.WarmUp.invalidTimeout(Duration.ofMillis(-1)), exception.getMessage());
+
+        assertThrows(NullPointerException.class, () -> WarmUp.warmUp(factory, 1, null));
+    }
+
+    private static <A extends java.lang.annotation.Annotation> A annotation(String fieldName, Class<A> annotationType)
+            throws ReflectiveOperationException {
+
+        return TestClass.class.getDeclaredField(fieldName).getAnnotation(annotationType);
+    }
+
+    private static final class SimpleFactory implements ConstraintValidatorFactory {
+
+        @Override
+        public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+            try {
+                return key.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void releaseInstance(ConstraintValidator<?, ?> instance) {
+            // does nothing
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class TestClass {
+
+        @IPAddress(ipRanges = { "192.168.0.0/16", "[2001:db8::1...2001:db8::ff]" })
+        private String ipAddress;
+
+        @IPv4Address(ipRanges = "10.0.0.0/8", excludedIPRanges = "10.1.0.0/16")
+        private String ipv4Address;
+
+        @IPv6Address(ipRanges = "fc00::/7")
+        private String ipv6Address;
+
+        @IPSubnet(ipRanges = "10.0.0.0/8")
+        private String subnet;
+
+        @IPRange(ipRanges = "2001:db8::/32")
+        private String ipRange;
+
+        @IPSocketAddress(ipRanges = "192.168.0.0/16", maxPort = 1023)
+        private String socketAddress;
+
+        @IPAddressList(ipRanges = { "10.0.0.0/8", "fc00::/7" }, separator = ';')
+        private String ipAddressList;
+    }
+}